@@ -2,14 +2,14 @@ package io.openems.backend.alerting.handler;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
+
 import io.openems.backend.alerting.Handler;
 import io.openems.backend.alerting.message.OfflineEdgeMessage;
 import io.openems.backend.alerting.scheduler.MessageScheduler;
@@ -26,9 +26,8 @@ import io.openems.common.utils.JsonUtils;
 
 public class OfflineEdgeHandler implements Handler<OfflineEdgeMessage> {
 
-	// Definition of unrealistically high values for messages sent simultaneously
-	public static final int MAX_SIMULTANEOUS_MSGS = 500;
-	public static final int MAX_SIMULTANEOUS_EDGES = 1000;
+	// Maximum number of messages sent with one mail; larger batches are split
+	public static final int MAX_MSGS_PER_MAIL = 500;
 	public static final int EDGE_REBOOT_MINUTES = 5;
 
 	private final Logger log = LoggerFactory.getLogger(OfflineEdgeHandler.class);
@@ -74,9 +73,10 @@ public class OfflineEdgeHandler implements Handler<OfflineEdgeMessage> {
 			return;
 		}
 
-		final var params = JsonUtils.generateJsonArray(pack, OfflineEdgeMessage::getParams);
-
-		this.mailer.sendMail(sentAt, OfflineEdgeMessage.TEMPLATE, params);
+		for (var batch : Lists.partition(pack, MAX_MSGS_PER_MAIL)) {
+			final var params = JsonUtils.generateJsonArray(batch, OfflineEdgeMessage::getParams);
+			this.mailer.sendMail(sentAt, OfflineEdgeMessage.TEMPLATE, params);
+		}
 
 		final var logStr = new StringBuilder(pack.size() * 64);
 		pack.forEach(msg -> {
@@ -100,37 +100,23 @@ public class OfflineEdgeHandler implements Handler<OfflineEdgeMessage> {
 	private void checkMetadata() {
 		this.log.info("[OfflineEdgeHandler] check Metadata for Offline Edges");
 
-		final var msgs = new LinkedList<OfflineEdgeMessage>();
-		final var count = new AtomicInteger();
-		final var validOfflineEges = this.metadata.getAllOfflineEdges().stream() //
-				.filter(this::isValidEdge) //
-				.toList();
-
-		if (validOfflineEges.size() > OfflineEdgeHandler.MAX_SIMULTANEOUS_EDGES) {
-			this.log.error(
-					"[OfflineEdgeHandler] Canceled checkMetadata(); tried to schedule msgs for {} Offline-Edges at once!!",
-					OfflineEdgeHandler.MAX_SIMULTANEOUS_EDGES);
-			return;
-		}
-
-		for (var edge : validOfflineEges) {
+		// Messages of many Edges going offline at once (e.g. on a network outage) are
+		// all scheduled; they are sent in one batch per minute, skipping Edges that
+		// came back online in the meantime
+		var count = 0;
+		for (var edge : this.metadata.getAllOfflineEdges()) {
+			if (!this.isValidEdge(edge)) {
+				continue;
+			}
 			final var msg = this.getEdgeMessage(edge);
 			if (msg == null) {
 				continue;
 			}
-
-			final var completeCnt = count.addAndGet(msg.getMessageCount());
-			if (completeCnt > OfflineEdgeHandler.MAX_SIMULTANEOUS_MSGS) {
-				this.log.error(
-						"[OfflineEdgeHandler] Canceled checkMetadata(); tried to schedule over {} EdgeOffline Messages at once!!",
-						OfflineEdgeHandler.MAX_SIMULTANEOUS_MSGS);
-				return;
-			}
-
-			msgs.add(msg);
+			this.msgScheduler.schedule(msg);
+			count++;
 		}
 
-		msgs.forEach(this.msgScheduler::schedule);
+		this.log.info("[OfflineEdgeHandler] scheduled OfflineEdgeMsgs for {} Edges", count);
 	}
 
 	/**
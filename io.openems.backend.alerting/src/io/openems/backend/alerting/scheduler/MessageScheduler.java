@@ -1,10 +1,7 @@
 package io.openems.backend.alerting.scheduler;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.TreeMap;
+import java.util.List;
 import java.util.function.Predicate;
 
 import io.openems.backend.alerting.Handler;
@@ -12,24 +9,29 @@ import io.openems.backend.alerting.Message;
 
 /**
  * Schedules one or more {@link Message} for type {@link T} to a specific time.
- * 
+ *
  * <p>
  * After the specified time is reached, the scheduler sends the Messages to
- * their {@link Handler} and removes them from itself.
+ * their {@link Handler} and removes them from itself. All Messages due at one
+ * call of {@link #handle(ZonedDateTime)} are sent as one batch.
+ * </p>
+ *
+ * <p>
+ * Messages are kept in a {@link TimingWheel}, so scheduling, removing and
+ * checking a Message by its id does not depend on the number of scheduled
+ * Messages.
  * </p>
  *
  * @param <T> type of Message
  */
 public class MessageScheduler<T extends Message> {
-	private final Map<String, T> messageForId;
-	private final PriorityQueue<T> queue;
+	private final TimingWheel<T> wheel;
 
 	private final Handler<T> handler;
 
 	public MessageScheduler(Handler<T> handler) {
 		this.handler = handler;
-		this.queue = new PriorityQueue<>();
-		this.messageForId = new TreeMap<>();
+		this.wheel = new TimingWheel<>();
 	}
 
 	/**
@@ -42,10 +44,7 @@ public class MessageScheduler<T extends Message> {
 			return;
 		}
 		synchronized (this) {
-			this.messageForId.computeIfAbsent(msg.getId(), (key) -> {
-				this.queue.add(msg);
-				return msg;
-			});
+			this.wheel.add(msg);
 		}
 	}
 
@@ -60,11 +59,7 @@ public class MessageScheduler<T extends Message> {
 			return null;
 		}
 		synchronized (this) {
-			var msg = this.messageForId.remove(msgId);
-			if (msg != null) {
-				this.queue.remove(msg);
-			}
-			return msg;
+			return this.wheel.remove(msgId);
 		}
 	}
 
@@ -75,17 +70,27 @@ public class MessageScheduler<T extends Message> {
 	 * @return true if is scheduled
 	 */
 	public boolean isScheduled(Message msg) {
-		return this.queue.contains(msg);
+		if (msg == null) {
+			return false;
+		}
+		synchronized (this) {
+			return this.wheel.contains(msg.getId());
+		}
 	}
 
 	/**
 	 * Get if a message fitting the {@link Predicate} is scheduled.
 	 *
+	 * <p>
+	 * Tests every scheduled message; prefer {@link #isScheduled(Message)}.
+	 *
 	 * @param find ;filter to use
 	 * @return true if is scheduled
 	 */
 	public boolean isScheduled(Predicate<T> find) {
-		return this.queue.stream().anyMatch(find);
+		synchronized (this) {
+			return this.wheel.stream().anyMatch(find);
+		}
 	}
 
 	public Class<T> getGeneric() {
@@ -98,7 +103,9 @@ public class MessageScheduler<T extends Message> {
 	 * @return size of message queue
 	 */
 	public int size() {
-		return this.queue.size();
+		synchronized (this) {
+			return this.wheel.size();
+		}
 	}
 
 	/**
@@ -107,35 +114,15 @@ public class MessageScheduler<T extends Message> {
 	 * @param now TimeStamp on call
 	 */
 	public void handle(ZonedDateTime now) {
-		var msgs = new ArrayList<T>();
-		while (this.hasTimeElapsed(now, this.peek())) {
-			msgs.add(this.poll());
+		final List<T> msgs;
+		synchronized (this) {
+			msgs = this.wheel.advance(now);
 		}
 		if (!msgs.isEmpty()) {
 			this.handler.send(now, msgs);
 		}
 	}
 
-	private boolean hasTimeElapsed(ZonedDateTime now, T msg) {
-		return msg != null && now.isAfter(msg.getNotifyStamp());
-	}
-
-	private T poll() {
-		synchronized (this) {
-			final var msg = this.queue.poll();
-			if (msg != null) {
-				this.messageForId.remove(msg.getId());
-			}
-			return msg;
-		}
-	}
-
-	private T peek() {
-		synchronized (this) {
-			return this.queue.peek();
-		}
-	}
-
 	/**
 	 * Check if this MessageScheduler handles messages for given handler.
 	 *
@@ -0,0 +1,230 @@
+package io.openems.backend.alerting.scheduler;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.openems.backend.alerting.Message;
+
+/**
+ * Hashed hierarchical timing wheel with a resolution of one minute, holding
+ * {@link Message Messages} by their {@link Message#getNotifyStamp()}.
+ *
+ * <p>
+ * Every level has {@link #SLOTS} slots, a slot of level n spans 64^n minutes,
+ * so four levels cover more than 30 years. A Message is put into the lowest
+ * level whose range contains its notify minute and moves down a level whenever
+ * the wheel reaches its slot. Adding and removing a Message by its id is O(1);
+ * advancing costs O(1) per minute plus the number of moved Messages.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> type of Message
+ */
+class TimingWheel<T extends Message> {
+
+	private static final int SLOT_BITS = 6;
+	protected static final int SLOTS = 1 << SLOT_BITS;
+	protected static final int LEVELS = 4;
+
+	// Index of the list of Messages to be checked on the next advance
+	private static final int READY = LEVELS * SLOTS;
+
+	private static final class Entry<T> {
+		private final T message;
+		private final long minute;
+		private int list = -1;
+		private Entry<T> prev;
+		private Entry<T> next;
+
+		private Entry(T message, long minute) {
+			this.message = message;
+			this.minute = minute;
+		}
+	}
+
+	private final Map<String, Entry<T>> entries = new HashMap<>();
+	private final List<Entry<T>> heads = new ArrayList<>(Collections.nCopies(READY + 1, null));
+
+	// The minute the wheel is at; Long.MIN_VALUE before the first advance
+	private long current = Long.MIN_VALUE;
+
+	/**
+	 * Adds a {@link Message}, if no Message with the same id exists.
+	 *
+	 * @param message the {@link Message}
+	 * @return true if it was added
+	 */
+	public boolean add(T message) {
+		if (this.entries.containsKey(message.getId())) {
+			return false;
+		}
+		final var entry = new Entry<>(message, toMinute(message.getNotifyStamp()));
+		this.entries.put(message.getId(), entry);
+		this.place(entry);
+		return true;
+	}
+
+	/**
+	 * Removes the {@link Message} with the given id.
+	 *
+	 * @param id the id of the {@link Message}
+	 * @return the removed {@link Message}; null if none was found
+	 */
+	public T remove(String id) {
+		final var entry = this.entries.remove(id);
+		if (entry == null) {
+			return null;
+		}
+		this.unlink(entry);
+		return entry.message;
+	}
+
+	/**
+	 * Gets if a {@link Message} with the given id exists.
+	 *
+	 * @param id the id of the {@link Message}
+	 * @return true if it exists
+	 */
+	public boolean contains(String id) {
+		return this.entries.containsKey(id);
+	}
+
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Streams all {@link Message Messages} in no particular order.
+	 *
+	 * @return a {@link Stream} of the Messages
+	 */
+	public Stream<T> stream() {
+		return this.entries.values().stream().map(e -> e.message);
+	}
+
+	/**
+	 * Advances the wheel to the given time and removes all {@link Message
+	 * Messages} whose notify stamp is before it.
+	 *
+	 * @param now the current time
+	 * @return the due Messages, sorted by their notify stamp
+	 */
+	public List<T> advance(ZonedDateTime now) {
+		final var nowMinute = toMinute(now);
+		if (this.current == Long.MIN_VALUE || this.entries.isEmpty()) {
+			// all Messages are ready or there are none; no need to turn the wheel
+			this.current = nowMinute;
+		}
+		while (this.current < nowMinute) {
+			this.moveToReady(slotOf(0, this.current));
+			this.current++;
+			for (var level = LEVELS - 1; level > 0; level--) {
+				if ((this.current & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+					this.cascade(slotOf(level, this.current));
+				}
+			}
+		}
+
+		final var result = new ArrayList<T>();
+		this.collectDue(READY, now, result);
+		this.collectDue(slotOf(0, this.current), now, result);
+		Collections.sort(result);
+		return result;
+	}
+
+	private void collectDue(int list, ZonedDateTime now, List<T> result) {
+		var entry = this.detach(list);
+		while (entry != null) {
+			final var next = entry.next;
+			entry.prev = entry.next = null;
+			entry.list = -1;
+			if (now.isAfter(entry.message.getNotifyStamp())) {
+				this.entries.remove(entry.message.getId());
+				result.add(entry.message);
+			} else {
+				this.place(entry);
+			}
+			entry = next;
+		}
+	}
+
+	private void cascade(int list) {
+		var entry = this.detach(list);
+		while (entry != null) {
+			final var next = entry.next;
+			entry.prev = entry.next = null;
+			entry.list = -1;
+			this.place(entry);
+			entry = next;
+		}
+	}
+
+	private void moveToReady(int list) {
+		var entry = this.detach(list);
+		while (entry != null) {
+			final var next = entry.next;
+			entry.prev = entry.next = null;
+			this.link(entry, READY);
+			entry = next;
+		}
+	}
+
+	private void place(Entry<T> entry) {
+		if (this.current == Long.MIN_VALUE || entry.minute < this.current) {
+			this.link(entry, READY);
+			return;
+		}
+		final var delta = entry.minute - this.current;
+		var level = 0;
+		while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+			level++;
+		}
+		// beyond the range of the highest level the Message is placed again on every
+		// turn of that level
+		this.link(entry, slotOf(level, entry.minute));
+	}
+
+	private void link(Entry<T> entry, int list) {
+		final var head = this.heads.get(list);
+		entry.list = list;
+		entry.prev = null;
+		entry.next = head;
+		if (head != null) {
+			head.prev = entry;
+		}
+		this.heads.set(list, entry);
+	}
+
+	private void unlink(Entry<T> entry) {
+		if (entry.prev != null) {
+			entry.prev.next = entry.next;
+		} else if (entry.list >= 0) {
+			this.heads.set(entry.list, entry.next);
+		}
+		if (entry.next != null) {
+			entry.next.prev = entry.prev;
+		}
+		entry.prev = entry.next = null;
+		entry.list = -1;
+	}
+
+	private Entry<T> detach(int list) {
+		final var head = this.heads.get(list);
+		this.heads.set(list, null);
+		return head;
+	}
+
+	private static int slotOf(int level, long minute) {
+		return level * SLOTS + (int) ((minute >> (SLOT_BITS * level)) & (SLOTS - 1));
+	}
+
+	private static long toMinute(ZonedDateTime time) {
+		return Math.floorDiv(time.toEpochSecond(), 60L);
+	}
+}
@@ -101,7 +101,7 @@ public class TestOfflineEdgeHandler {
 	}
 
 	@Test
-	public void checkMetadataEmergencyStop() {
+	public void checkMetadataMassOffline() {
 		final var msgMeta = new Utility.ToManyMsgsMetadata();
 		final var msgMsgsch = new MessageSchedulerServiceImpl();
 		final var msgCount = new AtomicInteger();
@@ -115,27 +115,41 @@ public class TestOfflineEdgeHandler {
 		});
 
 		assertTrue(msgCount.get() + " are Not enought mails to trigger",
-				msgCount.get() > OfflineEdgeHandler.MAX_SIMULTANEOUS_MSGS);
+				msgCount.get() > OfflineEdgeHandler.MAX_MSGS_PER_MAIL);
 
 		final var handler = new OfflineEdgeHandler(msgMsgsch, timer, null, msgMeta, 0);
 
-		assertEquals(0, msgMsgsch.find(handler).size());
+		assertEquals(msgMeta.getAllOfflineEdges().size(), msgMsgsch.find(handler).size());
 
 		//
 
 		final var edgeMeta = new Utility.ToManyEdgesMetadata();
 		final var edgeMsgsch = new MessageSchedulerServiceImpl();
-		final var edgeCount = new AtomicInteger();
-		edgeMeta.getAllOfflineEdges().stream().map(e -> edgeMeta.getEdgeOfflineAlertingSettings(e.getId()))
-				.forEach(e -> {
-					edgeCount.getAndIncrement();
-				});
+		final var edgeHandler = new OfflineEdgeHandler(edgeMsgsch, timer, null, edgeMeta, 0);
 
-		assertTrue("Not enought mails to trigger", edgeCount.get() > OfflineEdgeHandler.MAX_SIMULTANEOUS_EDGES);
+		assertEquals(Utility.MASS_OFFLINE_EDGES, edgeMsgsch.find(edgeHandler).size());
+	}
 
-		final var edgeHandler = new OfflineEdgeHandler(edgeMsgsch, timer, null, edgeMeta, 0);
+	@Test
+	public void sendInBatches() {
+		final var mailer = new MailerImpl();
+		final var metadata = new AlertingMetadataImpl();
+		final var edges = new ArrayList<Edge>();
+		final var msgs = new ArrayList<OfflineEdgeMessage>();
+		for (var i = 0; i < OfflineEdgeHandler.MAX_MSGS_PER_MAIL * 2 + 1; i++) {
+			final var edge = Utility.getTestEdge(metadata, "edge" + i, Utility.now, false);
+			edges.add(edge);
+			final var msg = new OfflineEdgeMessage(edge.getId(), Utility.now.minusMinutes(1));
+			msg.addRecipient(new OfflineEdgeAlertingSetting(edge.getId(), "user1", 1, null));
+			msgs.add(msg);
+		}
+		metadata.initializeOffline(edges, Map.of());
+		final var handler = new OfflineEdgeHandler(new MessageSchedulerServiceImpl(),
+				new MinuteTimer(Clock.systemUTC()), mailer, metadata, 1);
+
+		handler.send(Utility.now, msgs);
 
-		assertEquals(0, edgeMsgsch.find(edgeHandler).size());
+		assertEquals(3, mailer.getMailsCount());
 	}
 
 	@Test
@@ -167,6 +181,7 @@ public class TestOfflineEdgeHandler {
 	private static class Utility {
 
 		private static final ZonedDateTime now = ZonedDateTime.now();
+		private static final int MASS_OFFLINE_EDGES = 10_000;
 
 		private static AlertingMetadataImpl getTestMetadata() {
 			final var metadata = new AlertingMetadataImpl();
@@ -220,7 +235,7 @@ public class TestOfflineEdgeHandler {
 
 			@Override
 			public Collection<Edge> getAllOfflineEdges() {
-				var toMany = OfflineEdgeHandler.MAX_SIMULTANEOUS_MSGS / (this.userList.size() - 2);
+				var toMany = OfflineEdgeHandler.MAX_MSGS_PER_MAIL / (this.userList.size() - 2);
 
 				var edges = new ArrayList<Edge>(toMany);
 				for (var i = 0; i < toMany; i++) {
@@ -246,9 +261,8 @@ public class TestOfflineEdgeHandler {
 
 			@Override
 			public Collection<Edge> getAllOfflineEdges() {
-				var toMany = OfflineEdgeHandler.MAX_SIMULTANEOUS_EDGES + 20;
-				var edges = new ArrayList<Edge>(toMany);
-				for (var i = 0; i < toMany; i++) {
+				var edges = new ArrayList<Edge>(MASS_OFFLINE_EDGES);
+				for (var i = 0; i < MASS_OFFLINE_EDGES; i++) {
 					edges.add(new Edge(null, "edge" + i, null, null, null, this.now));
 				}
 				return edges;
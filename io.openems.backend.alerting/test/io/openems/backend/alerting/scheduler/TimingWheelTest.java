@@ -0,0 +1,111 @@
+package io.openems.backend.alerting.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+import io.openems.backend.alerting.Message;
+
+public class TimingWheelTest {
+
+	private static final ZonedDateTime START = ZonedDateTime.of(2024, 1, 1, 0, 0, 30, 0, ZoneOffset.UTC);
+
+	@Test
+	public void testAddRemove() {
+		final var wheel = new TimingWheel<DummyMessage>();
+		final var msg = new DummyMessage("0", START.plusMinutes(10));
+
+		assertTrue(wheel.add(msg));
+		assertFalse(wheel.add(new DummyMessage("0", START)));
+		assertTrue(wheel.contains("0"));
+		assertEquals(1, wheel.size());
+
+		assertEquals(msg, wheel.remove("0"));
+		assertNull(wheel.remove("0"));
+		assertFalse(wheel.contains("0"));
+		assertTrue(wheel.advance(START.plusMinutes(20)).isEmpty());
+	}
+
+	@Test
+	public void testAdvance() {
+		final var wheel = new TimingWheel<DummyMessage>();
+		// before the first advance
+		wheel.add(new DummyMessage("past", START.minusDays(3)));
+		wheel.add(new DummyMessage("sameMinute", START.minusSeconds(10)));
+		wheel.add(new DummyMessage("laterInMinute", START.plusSeconds(10)));
+
+		assertEquals(List.of("past", "sameMinute"), ids(wheel.advance(START)));
+
+		// one Message per level
+		final var offsets = List.of(2L, 100L, 5_000L, 300_000L, 20_000_000L);
+		for (var offset : offsets) {
+			wheel.add(new DummyMessage(String.valueOf(offset), START.plusMinutes(offset)));
+		}
+		assertEquals(List.of("laterInMinute"), ids(wheel.advance(START.plusSeconds(20))));
+
+		final var sent = new ArrayList<String>();
+		for (var offset : offsets) {
+			// nothing is sent early, even if minutes are skipped
+			sent.addAll(ids(wheel.advance(START.plusMinutes(offset).minusSeconds(1))));
+			assertFalse(sent.contains(String.valueOf(offset)));
+
+			sent.addAll(ids(wheel.advance(START.plusMinutes(offset).plusSeconds(1))));
+			assertTrue(sent.contains(String.valueOf(offset)));
+		}
+		assertEquals(offsets.size(), sent.size());
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	public void testAdvanceEveryMinute() {
+		final var wheel = new TimingWheel<DummyMessage>();
+		wheel.advance(START);
+		for (var i = 0; i < 5_000; i += 7) {
+			wheel.add(new DummyMessage(String.valueOf(i), START.plusMinutes(i)));
+		}
+
+		for (var minute = 1; minute < 5_010; minute++) {
+			for (var msg : wheel.advance(START.plusMinutes(minute))) {
+				// notify stamp and now are both at second 30
+				assertEquals(minute - 1, msg.minute);
+			}
+		}
+		assertEquals(0, wheel.size());
+	}
+
+	private static List<String> ids(List<DummyMessage> messages) {
+		return messages.stream().map(Message::getId).toList();
+	}
+
+	private static class DummyMessage extends Message {
+		private final ZonedDateTime notifyStamp;
+		private final long minute;
+
+		public DummyMessage(String id, ZonedDateTime notifyStamp) {
+			super(id);
+			this.notifyStamp = notifyStamp;
+			this.minute = Duration.between(START, notifyStamp).toMinutes();
+		}
+
+		@Override
+		public ZonedDateTime getNotifyStamp() {
+			return this.notifyStamp;
+		}
+
+		@Override
+		public JsonObject getParams() {
+			return new JsonObject();
+		}
+	}
+}
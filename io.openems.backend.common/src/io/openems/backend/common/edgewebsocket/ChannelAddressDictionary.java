@@ -0,0 +1,59 @@
+package io.openems.backend.common.edgewebsocket;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maps Channel-Addresses to dense int ids, so that each Channel-Address String
+ * is held only once for all Edges.
+ *
+ * <p>
+ * Ids are never released: the dictionary grows with the number of distinct
+ * Channel-Addresses of all Edges, which is small compared to the number of
+ * Edges times their Channels.
+ */
+public final class ChannelAddressDictionary {
+
+	/**
+	 * The dictionary shared by all {@link EdgeCache EdgeCaches}.
+	 */
+	public static final ChannelAddressDictionary INSTANCE = new ChannelAddressDictionary();
+
+	private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+	private final AtomicInteger nextId = new AtomicInteger();
+
+	/**
+	 * Gets the id of a Channel-Address; assigns a new id if it is not yet known.
+	 *
+	 * @param address the Channel-Address
+	 * @return the id
+	 */
+	public int intern(String address) {
+		final var id = this.ids.get(address);
+		if (id != null) {
+			return id;
+		}
+		return this.ids.computeIfAbsent(address, a -> this.nextId.getAndIncrement());
+	}
+
+	/**
+	 * Gets the id of a Channel-Address without assigning a new one.
+	 *
+	 * @param address the Channel-Address
+	 * @return the id; -1 if the Channel-Address is not known
+	 */
+	public int lookup(String address) {
+		final var id = this.ids.get(address);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Gets the number of known Channel-Addresses.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return this.ids.size();
+	}
+
+}
@@ -1,6 +1,6 @@
 package io.openems.backend.common.edgewebsocket;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
@@ -9,33 +9,99 @@ import java.util.TreeSet;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 
+/**
+ * Caches the latest Channel values of one Edge.
+ *
+ * <p>
+ * Channel-Addresses are interned in a {@link ChannelAddressDictionary} that is
+ * shared by all Edges; values are kept in primitive columns with a type tag per
+ * Channel. Only values that cannot be stored losslessly as number or boolean,
+ * e.g. Strings, are kept as {@link JsonElement}.
+ */
 public class EdgeCache {
 
-	private final ChannelDataCache current = new ChannelDataCache();
-	private final ChannelDataCache aggregated = new ChannelDataCache();
+	private final ChannelAddressDictionary dictionary;
+	private final ChannelDataCache current;
+	private final ChannelDataCache aggregated;
 
 	public static record Pair<A, B>(A a, B b) {
 
 	}
 
+	/**
+	 * The memory footprint of an {@link EdgeCache}.
+	 *
+	 * @param channels the number of cached values
+	 * @param elements the number of values kept as {@link JsonElement}
+	 * @param bytes    the estimated heap usage in bytes, without the values kept
+	 *                 as {@link JsonElement} and without the shared
+	 *                 {@link ChannelAddressDictionary}
+	 */
+	public static record Footprint(int channels, int elements, long bytes) {
+
+		private Footprint plus(Footprint other) {
+			return new Footprint(this.channels + other.channels, this.elements + other.elements,
+					this.bytes + other.bytes);
+		}
+	}
+
 	private static class ChannelDataCache {
+
+		// Type tags of the values
+		private static final byte ABSENT = 0;
+		private static final byte NULL = 1;
+		private static final byte LONG = 2;
+		private static final byte DOUBLE = 3;
+		private static final byte BOOLEAN = 4;
+		private static final byte ELEMENT = 5;
+
+		private static final int OBJECT_HEADER_BYTES = 16;
+		private static final int REFERENCE_BYTES = 4;
+
+		private final ChannelAddressDictionary dictionary;
+
 		private long timestamp = 0L;
-		private final HashMap<String, JsonElement> data = new HashMap<>();
+
+		// Open addressing hash table: dictionary id + 1 (0 = empty) => slot
+		private int[] ids = new int[16];
+		private int[] slots = new int[16];
+		private int size = 0;
+
+		// Value columns by slot
+		private byte[] types = new byte[8];
+		private long[] values = new long[8];
+		// only allocated if a value is kept as JsonElement
+		private JsonElement[] elements = null;
+
+		private ChannelDataCache(ChannelAddressDictionary dictionary) {
+			this.dictionary = dictionary;
+		}
 
 		/**
 		 * Gets the channel value from cache.
 		 *
-		 * @param address the Channel-Address of the channel
-		 * @return the value; {@link JsonNull} if it is not in cache
+		 * @param id the id of the Channel-Address in the
+		 *           {@link ChannelAddressDictionary}
+		 * @return the value; null if it is not in cache
 		 */
-		public final JsonElement getChannelValue(String address) {
-			synchronized (this) {
-				return this.data.get(address);
+		public final synchronized JsonElement getChannelValue(int id) {
+			final var slot = this.find(id);
+			if (slot < 0) {
+				return null;
 			}
+			return switch (this.types[slot]) {
+			case NULL -> JsonNull.INSTANCE;
+			case LONG -> new JsonPrimitive(this.values[slot]);
+			case DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(this.values[slot]));
+			case BOOLEAN -> new JsonPrimitive(this.values[slot] != 0L);
+			case ELEMENT -> this.elements[slot];
+			default -> null;
+			};
 		}
 
 		/**
@@ -43,7 +109,7 @@ public class EdgeCache {
 		 *
 		 * @param incomingDatas the incoming data
 		 */
-		public void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
+		public synchronized void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
 			for (var entry : incomingDatas.entrySet()) {
 				var incomingTimestamp = entry.getKey();
 				var incomingData = entry.getValue();
@@ -56,20 +122,180 @@ public class EdgeCache {
 					// Incoming data is more recent than cache
 
 					if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
-						// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
-						synchronized (this) {
-							this.data.clear();
+						// Cache is not anymore valid (elder than 15 minutes) -> clear Cache; the slots
+						// are kept as the same Channels are expected again
+						Arrays.fill(this.types, 0, this.size, ABSENT);
+						if (this.elements != null) {
+							Arrays.fill(this.elements, 0, this.size, null);
 						}
 					}
 
 					// update cache
 					this.timestamp = incomingTimestamp;
-					synchronized (this) {
-						this.data.putAll(incomingData);
+					for (var data : incomingData.entrySet()) {
+						this.set(this.findOrInsert(this.dictionary.intern(data.getKey())), data.getValue());
 					}
 				}
 			}
 		}
+
+		private void set(int slot, JsonElement value) {
+			if (this.elements != null) {
+				this.elements[slot] = null;
+			}
+			if (value == null) {
+				this.types[slot] = ABSENT;
+			} else if (value.isJsonNull()) {
+				this.types[slot] = NULL;
+			} else if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isBoolean()) {
+				this.types[slot] = BOOLEAN;
+				this.values[slot] = value.getAsBoolean() ? 1L : 0L;
+			} else if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber()) {
+				this.setNumber(slot, value);
+			} else {
+				this.setElement(slot, value);
+			}
+		}
+
+		private void setNumber(int slot, JsonElement value) {
+			final var number = value.getAsNumber();
+			if (number instanceof Integer || number instanceof Long || number instanceof Short
+					|| number instanceof Byte) {
+				this.types[slot] = LONG;
+				this.values[slot] = number.longValue();
+				return;
+			}
+			if (number instanceof Double) {
+				this.types[slot] = DOUBLE;
+				this.values[slot] = Double.doubleToRawLongBits(number.doubleValue());
+				return;
+			}
+
+			// e.g. parsed from JSON; only store it as primitive if that is lossless
+			final var string = number.toString();
+			try {
+				this.values[slot] = Long.parseLong(string);
+				this.types[slot] = LONG;
+				return;
+			} catch (NumberFormatException e) {
+				// not an integer
+			}
+			try {
+				final var doubleValue = Double.parseDouble(string);
+				if (Double.toString(doubleValue).equals(string)) {
+					this.values[slot] = Double.doubleToRawLongBits(doubleValue);
+					this.types[slot] = DOUBLE;
+					return;
+				}
+			} catch (NumberFormatException e) {
+				// not a double
+			}
+			this.setElement(slot, value);
+		}
+
+		private void setElement(int slot, JsonElement value) {
+			if (this.elements == null) {
+				this.elements = new JsonElement[this.types.length];
+			}
+			this.types[slot] = ELEMENT;
+			this.elements[slot] = value;
+		}
+
+		private int find(int id) {
+			if (id < 0) {
+				return -1;
+			}
+			final var mask = this.ids.length - 1;
+			for (var i = hash(id) & mask;; i = (i + 1) & mask) {
+				final var key = this.ids[i];
+				if (key == 0) {
+					return -1;
+				}
+				if (key == id + 1) {
+					return this.slots[i];
+				}
+			}
+		}
+
+		private int findOrInsert(int id) {
+			if ((this.size + 1) * 2 > this.ids.length) {
+				this.rehash(this.ids.length * 2);
+			}
+			final var mask = this.ids.length - 1;
+			for (var i = hash(id) & mask;; i = (i + 1) & mask) {
+				final var key = this.ids[i];
+				if (key == id + 1) {
+					return this.slots[i];
+				}
+				if (key == 0) {
+					final var slot = this.size++;
+					if (slot == this.types.length) {
+						final var length = this.types.length * 2;
+						this.types = Arrays.copyOf(this.types, length);
+						this.values = Arrays.copyOf(this.values, length);
+						if (this.elements != null) {
+							this.elements = Arrays.copyOf(this.elements, length);
+						}
+					}
+					this.ids[i] = id + 1;
+					this.slots[i] = slot;
+					return slot;
+				}
+			}
+		}
+
+		private void rehash(int length) {
+			final var oldIds = this.ids;
+			final var oldSlots = this.slots;
+			this.ids = new int[length];
+			this.slots = new int[length];
+			final var mask = length - 1;
+			for (var j = 0; j < oldIds.length; j++) {
+				if (oldIds[j] == 0) {
+					continue;
+				}
+				var i = hash(oldIds[j] - 1) & mask;
+				while (this.ids[i] != 0) {
+					i = (i + 1) & mask;
+				}
+				this.ids[i] = oldIds[j];
+				this.slots[i] = oldSlots[j];
+			}
+		}
+
+		private synchronized Footprint getFootprint() {
+			var channels = 0;
+			var elements = 0;
+			for (var i = 0; i < this.size; i++) {
+				if (this.types[i] != ABSENT) {
+					channels++;
+				}
+				if (this.types[i] == ELEMENT) {
+					elements++;
+				}
+			}
+			final long bytes = OBJECT_HEADER_BYTES * 5L //
+					+ Integer.BYTES * 2L * this.ids.length //
+					+ this.types.length //
+					+ Long.BYTES * (long) this.values.length //
+					+ (this.elements == null ? 0 : OBJECT_HEADER_BYTES + REFERENCE_BYTES * (long) this.elements.length);
+			return new Footprint(channels, elements, bytes);
+		}
+
+		private static int hash(int id) {
+			final var h = id * 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+	}
+
+	public EdgeCache() {
+		this(ChannelAddressDictionary.INSTANCE);
+	}
+
+	public EdgeCache(ChannelAddressDictionary dictionary) {
+		this.dictionary = dictionary;
+		this.current = new ChannelDataCache(dictionary);
+		this.aggregated = new ChannelDataCache(dictionary);
 	}
 
 	/**
@@ -79,11 +305,12 @@ public class EdgeCache {
 	 * @return the value; {@link JsonNull} if it is not in cache
 	 */
 	public final JsonElement getChannelValue(String address) {
-		final var result = this.current.getChannelValue(address);
+		final var id = this.dictionary.lookup(address);
+		final var result = this.current.getChannelValue(id);
 		if (result != null) {
 			return result;
 		}
-		final var aggregatedResult = this.aggregated.getChannelValue(address);
+		final var aggregatedResult = this.aggregated.getChannelValue(id);
 		if (aggregatedResult != null) {
 			return aggregatedResult;
 		}
@@ -102,12 +329,13 @@ public class EdgeCache {
 		final var result = new TreeMap<String, JsonElement>();
 		final var aggregatedChannelValues = new TreeSet<String>();
 		for (var address : addresses) {
-			final var value = this.current.getChannelValue(address);
+			final var id = this.dictionary.lookup(address);
+			final var value = this.current.getChannelValue(id);
 			if (value != null) {
 				result.put(address, value);
 				continue;
 			}
-			final var aggregatedValue = this.aggregated.getChannelValue(address);
+			final var aggregatedValue = this.aggregated.getChannelValue(id);
 			if (aggregatedValue != null) {
 				result.put(address, aggregatedValue);
 				aggregatedChannelValues.add(address);
@@ -136,4 +364,14 @@ public class EdgeCache {
 		this.aggregated.update(notification.getData().rowMap());
 	}
 
+	/**
+	 * Gets the memory footprint of this cache, i.e. of current and aggregated
+	 * data.
+	 *
+	 * @return the {@link Footprint}
+	 */
+	public Footprint getFootprint() {
+		return this.current.getFootprint().plus(this.aggregated.getFootprint());
+	}
+
 }
@@ -1,9 +1,12 @@
 package io.openems.backend.common.edgewebsocket;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.junit.Test;
@@ -11,9 +14,11 @@ import org.junit.Test;
 import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.ChannelAddress;
 
@@ -51,6 +56,60 @@ public class EdgeCacheTest {
 		assertEquals("value3", cache.getChannelValue(CHANNEL3).getAsString());
 	}
 
+	@Test
+	public void testValueTypes() throws OpenemsNamedException {
+		final var dictionary = new ChannelAddressDictionary();
+		final var cache1 = new EdgeCache(dictionary);
+		final var cache2 = new EdgeCache(dictionary);
+
+		final var values = List.<JsonElement>of(//
+				JsonNull.INSTANCE, //
+				new JsonPrimitive(true), //
+				new JsonPrimitive(42), //
+				new JsonPrimitive(-1.5), //
+				JsonParser.parseString("1234"), //
+				JsonParser.parseString("0.1"), //
+				JsonParser.parseString("1e3"), //
+				new JsonPrimitive("text"), //
+				JsonParser.parseString("[1,2]"));
+		final var table = TreeBasedTable.<Long, String, JsonElement>create();
+		for (var i = 0; i < values.size(); i++) {
+			table.put(0L, "foo/bar" + i, values.get(i));
+		}
+		cache1.updateCurrentData(new TimestampedDataNotification(table));
+		cache2.updateCurrentData(new TimestampedDataNotification(table));
+
+		for (var i = 0; i < values.size(); i++) {
+			assertEquals(values.get(i), cache1.getChannelValue("foo/bar" + i));
+			assertEquals(values.get(i).toString(), cache2.getChannelValue("foo/bar" + i).toString());
+		}
+		assertEquals(JsonNull.INSTANCE, cache1.getChannelValue("foo/unknown"));
+		assertEquals(values.size(), dictionary.size());
+
+		final var footprint = cache1.getFootprint();
+		assertEquals(values.size(), footprint.channels());
+		assertEquals(3, footprint.elements());
+		assertTrue(footprint.bytes() > 0);
+	}
+
+	@Test
+	public void testManyChannels() throws OpenemsNamedException {
+		final var cache = new EdgeCache(new ChannelAddressDictionary());
+		final var table = TreeBasedTable.<Long, String, JsonElement>create();
+		for (var i = 0; i < 5_000; i++) {
+			table.put(0L, "foo/bar" + i, new JsonPrimitive(i));
+		}
+		cache.updateCurrentData(new TimestampedDataNotification(table));
+		cache.updateAggregatedData(new AggregatedDataNotification());
+
+		final var result = cache.getChannelValues(Set.of("foo/bar0", "foo/bar4999", "foo/unknown"));
+		assertEquals(new JsonPrimitive(0), result.a().get("foo/bar0"));
+		assertEquals(new JsonPrimitive(4999), result.a().get("foo/bar4999"));
+		assertEquals(JsonNull.INSTANCE, result.a().get("foo/unknown"));
+		assertTrue(result.b().isEmpty());
+		assertEquals(5_000, cache.getFootprint().channels());
+	}
+
 	private static TimestampedDataNotification buildData(long timestamp, String channel, String value)
 			throws OpenemsNamedException {
 		var data = new TreeMap<Long, Map<String, JsonElement>>();
@@ -14,5 +14,8 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Compression", description = "Allow compressed messages from OpenEMS Edge (permessage-deflate)")
+	boolean compression() default true;
+
 	String webconsole_configurationFactory_nameHint() default "Edge Websocket";
 }
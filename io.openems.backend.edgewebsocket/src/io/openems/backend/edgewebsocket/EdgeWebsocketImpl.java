@@ -50,6 +50,7 @@ import io.openems.common.jsonrpc.request.AuthenticatedRpcRequest;
 import io.openems.common.jsonrpc.request.SubscribeSystemLogRequest;
 import io.openems.common.jsonrpc.response.AuthenticatedRpcResponse;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.websocket.PerMessageDeflate;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
@@ -110,7 +111,11 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 	 */
 	private synchronized void startServer() {
 		if (this.server == null) {
-			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize());
+			final var compression = this.config.compression() //
+					? PerMessageDeflate.Config.SERVER_DEFAULT //
+					: PerMessageDeflate.Config.DISABLED;
+			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize(),
+					compression);
 			this.server.start();
 		}
 	}
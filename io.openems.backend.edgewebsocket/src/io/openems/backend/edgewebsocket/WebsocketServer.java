@@ -1,5 +1,9 @@
 package io.openems.backend.edgewebsocket;
 
+import static io.openems.common.websocket.WebsocketUtils.generateWsDataString;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -8,15 +12,27 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
 
+import io.openems.backend.common.edgewebsocket.ChannelAddressDictionary;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.BinaryDataNotificationCodec;
+import io.openems.common.websocket.JsonrpcStreamParser;
+import io.openems.common.websocket.PerMessageDeflate;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
+	private final Logger log = LoggerFactory.getLogger(WebsocketServer.class);
 	private final EdgeWebsocketImpl parent;
 	private final OnOpen onOpen;
 	private final OnRequest onRequest;
@@ -24,8 +40,9 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize) {
-		super(name, port, poolSize);
+	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize,
+			PerMessageDeflate.Config compression) {
+		super(name, port, poolSize, compression);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(//
@@ -41,6 +58,42 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		return new WsData(ws);
 	}
 
+	@Override
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+		// Accept binary data notifications if the Edge supports them
+		if (BinaryDataNotificationCodec.isSupported(request.getFieldValue(BinaryDataNotificationCodec.HTTP_HEADER))) {
+			response.put(BinaryDataNotificationCodec.HTTP_HEADER, BinaryDataNotificationCodec.getHttpHeaderValue());
+		}
+	}
+
+	@Override
+	protected void onBinaryMessage(WebSocket ws, ByteBuffer message) {
+		if (!(ws.getAttachment() instanceof WsData wsData)) {
+			return;
+		}
+		// Decode synchronously, as frames depend on their predecessors
+		final AbstractDataNotification notification;
+		try {
+			notification = wsData.binaryDataDecoder.decode(message);
+		} catch (OpenemsException e) {
+			this.logWarn(this.log, "[" + wsData.getEdgeId().orElse("NOT AUTHENTICATED") + "] " + e.getMessage());
+			return;
+		}
+		this.execute(() -> {
+			try {
+				this.onNotification.accept(ws, notification);
+			} catch (Throwable t) {
+				this.handleInternalError(t, generateWsDataString(ws));
+			}
+		});
+	}
+
+	@Override
+	protected JsonrpcMessage parseMessage(String message) throws OpenemsNamedException {
+		// Data notifications are the bulk of the traffic; stream them into their table
+		return JsonrpcStreamParser.parse(message);
+	}
+
 	/**
 	 * Is the given Edge online?.
 	 *
@@ -93,6 +146,24 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		this.parent.logError(log, message);
 	}
 
+	@Override
+	public Map<String, Number> debugMetrics() {
+		final var metrics = super.debugMetrics();
+		var channels = 0L;
+		var bytes = 0L;
+		for (var ws : this.getConnections()) {
+			if (ws.getAttachment() instanceof WsData wsData) {
+				final var footprint = wsData.edgeCache.getFootprint();
+				channels += footprint.channels();
+				bytes += footprint.bytes();
+			}
+		}
+		metrics.put("EdgeCacheChannels", channels);
+		metrics.put("EdgeCacheBytes", bytes);
+		metrics.put("ChannelAddressDictionary", ChannelAddressDictionary.INSTANCE.size());
+		return metrics;
+	}
+
 	/**
 	 * Gets the current cached date of the given edge and given channels.
 	 * 
@@ -13,6 +13,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.utils.StringUtils;
+import io.openems.common.websocket.BinaryDataNotificationCodec;
 
 public class WsData extends io.openems.common.websocket.WsData {
 
@@ -24,6 +25,7 @@ public class WsData extends io.openems.common.websocket.WsData {
 
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
 	public final EdgeCache edgeCache = new EdgeCache();
+	public final BinaryDataNotificationCodec.Decoder binaryDataDecoder = new BinaryDataNotificationCodec.Decoder();
 
 	public WsData(WebSocket ws) {
 		super(ws);
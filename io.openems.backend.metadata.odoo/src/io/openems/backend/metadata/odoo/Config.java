@@ -47,6 +47,12 @@ public @interface Config {
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the maximum number of concurrent connections")
 	int pgConnectionPoolSize() default 40;
 
+	@AttributeDefinition(name = "Session Cache TTL [s]", description = "How long authenticated sessions and Edge-Roles are cached; '0' disables the cache")
+	int sessionCacheTtl() default 60;
+
+	@AttributeDefinition(name = "Session Cache Size", description = "The maximum number of cached sessions and Edge-Roles")
+	int sessionCacheSize() default 10_000;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	DebugMode debugMode() default DebugMode.OFF;
 
@@ -8,12 +8,13 @@ import static io.openems.common.utils.JsonUtils.getAsOptionalJsonArray;
 import static io.openems.common.utils.JsonUtils.getAsOptionalString;
 import static io.openems.common.utils.JsonUtils.getAsString;
 import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
-import static java.util.stream.Collectors.toUnmodifiableMap;
 
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -112,6 +113,7 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 
 	protected OdooHandler odooHandler = null;
 	protected PostgresHandler postgresHandler = null;
+	protected SessionCache sessionCache = new SessionCache(0, 0);
 	private DebugMode debugMode = DebugMode.OFF;
 
 	public MetadataOdoo() {
@@ -130,6 +132,7 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 				+ "Database [" + config.database() + "]");
 
 		this.debugMode = config.debugMode();
+		this.sessionCache = new SessionCache(config.sessionCacheTtl(), config.sessionCacheSize());
 		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(config.poolSize(),
 				new ThreadFactoryBuilder().setNameFormat("Metadata.Odoo-%d").build());
 		this.odooHandler = new OdooHandler(this, this.edgeCache, config);
@@ -161,7 +164,8 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 	 */
 	@Override
 	public User authenticate(String sessionId) throws OpenemsNamedException {
-		var result = this.odooHandler.authenticateSession(sessionId);
+		var result = this.sessionCache.getSession(sessionId, //
+				() -> this.odooHandler.authenticateSession(sessionId));
 
 		// Parse Result
 		var jUser = getAsJsonObject(result, "user");
@@ -191,6 +195,8 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 	@Override
 	public void logout(User user) {
 		this.users.remove(user.getId());
+		this.sessionCache.invalidateSession(user.getToken());
+		this.sessionCache.invalidateUser(user.getId());
 		this.odooHandler.logout(user.getToken());
 	}
 
@@ -264,6 +270,7 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 	public void addEdgeToUser(User user, Edge edge) throws OpenemsNamedException {
 		this.odooHandler.assignEdgeToUser((MyUser) user, (MyEdge) edge, OdooUserRole.INSTALLER);
 		user.setRole(edge.getId(), Role.INSTALLER);
+		this.sessionCache.invalidateUser(user.getId());
 	}
 
 	@Override
@@ -274,6 +281,7 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 	@Override
 	public void setUserInformation(User user, JsonObject jsonObject) throws OpenemsNamedException {
 		this.odooHandler.setUserInformation((MyUser) user, jsonObject);
+		this.sessionCache.invalidateSession(user.getToken());
 	}
 
 	@Override
@@ -308,6 +316,7 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 	@Override
 	public void updateUserLanguage(User user, Language language) throws OpenemsNamedException {
 		this.odooHandler.updateUserLanguage((MyUser) user, language);
+		this.sessionCache.invalidateSession(user.getToken());
 	}
 
 	@Override
@@ -580,7 +589,8 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 			final User user, //
 			final PaginationOptions paginationOptions //
 	) throws OpenemsNamedException {
-		var result = this.odooHandler.getEdges((MyUser) user, paginationOptions);
+		var result = this.sessionCache.getPage(user.getId(), paginationOptions, //
+				() -> this.odooHandler.getEdges((MyUser) user, paginationOptions));
 		final var jsonArray = getAsJsonArray(result, "devices");
 		final var resultMetadata = new ArrayList<EdgeMetadata>(jsonArray.size());
 		for (var jElement : jsonArray) {
@@ -591,7 +601,9 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 
 	@Override
 	public EdgeMetadata getEdgeMetadataForUser(User user, String edgeId) throws OpenemsNamedException {
-		return this.convertToEdgeMetadata(user, this.odooHandler.getEdgeWithRole(user, edgeId));
+		var result = this.sessionCache.getEdge(user.getId(), edgeId, //
+				() -> this.odooHandler.getEdgeWithRole(user, edgeId));
+		return this.convertToEdgeMetadata(user, result);
 	}
 
 	private EdgeMetadata convertToEdgeMetadata(User user, JsonElement jDevice) throws OpenemsNamedException {
@@ -651,6 +663,7 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 	@Override
 	public void updateUserSettings(User user, JsonObject settings) throws OpenemsNamedException {
 		this.odooHandler.updateUserSettings(user, settings);
+		this.sessionCache.invalidateSession(user.getToken());
 	}
 
 	/**
@@ -701,11 +714,14 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return ThreadPoolUtils.debugMetrics(this.executor).entrySet().stream() //
-				.collect(toUnmodifiableMap(//
-						// TODO implement getId()
-						e -> "metadata0/" + e.getKey(), //
-						e -> new JsonPrimitive(e.getValue())));
+		// TODO implement getId()
+		final var prefix = "metadata0/";
+		var result = new HashMap<String, JsonElement>();
+		ThreadPoolUtils.debugMetrics(this.executor).forEach((key, value) -> {
+			result.put(prefix + key, new JsonPrimitive(value));
+		});
+		result.putAll(this.sessionCache.debugMetrics(prefix));
+		return Collections.unmodifiableMap(result);
 	}
 
 }
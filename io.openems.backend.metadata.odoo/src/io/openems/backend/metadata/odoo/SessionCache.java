@@ -0,0 +1,197 @@
+package io.openems.backend.metadata.odoo;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.jsonrpc.request.GetEdgesRequest.PaginationOptions;
+
+/**
+ * Caches the Odoo responses that are requested on every UI (re)connect: the
+ * authentication of a Session-ID, the Edges of a User and the Edge of a User
+ * with its Role.
+ *
+ * <p>
+ * Entries expire after a TTL; the number of entries per cache is bounded.
+ * Concurrent lookups of the same key are coalesced into one Odoo request
+ * (single-flight). Errors, e.g. for invalid sessions, are cached as well, but
+ * only for {@link #NEGATIVE_TTL_SECONDS}.
+ */
+public class SessionCache {
+
+	/** Failed lookups are repeated after this time at the latest. */
+	protected static final int NEGATIVE_TTL_SECONDS = 5;
+
+	private record EdgeKey(String userId, String edgeId) {
+	}
+
+	private record PageKey(String userId, int page, int limit, String query,
+			PaginationOptions.SearchParams searchParams) {
+	}
+
+	/**
+	 * The result of a lookup; either a value or an error.
+	 */
+	private record Result(JsonObject value, OpenemsNamedException error, long createdAt) {
+	}
+
+	private final Ticker ticker;
+	private final Cache<String, Result> sessions;
+	private final Cache<EdgeKey, Result> edges;
+	private final Cache<PageKey, Result> pages;
+
+	public SessionCache(int ttlSeconds, int maxSize) {
+		this(ttlSeconds, maxSize, Ticker.systemTicker());
+	}
+
+	protected SessionCache(int ttlSeconds, int maxSize, Ticker ticker) {
+		this.ticker = ticker;
+		this.sessions = buildCache(ttlSeconds, maxSize, ticker);
+		this.edges = buildCache(ttlSeconds, maxSize, ticker);
+		this.pages = buildCache(ttlSeconds, maxSize, ticker);
+	}
+
+	private static <K> Cache<K, Result> buildCache(int ttlSeconds, int maxSize, Ticker ticker) {
+		return CacheBuilder.newBuilder() //
+				.expireAfterWrite(Math.max(0, ttlSeconds), SECONDS) //
+				.maximumSize(Math.max(0, maxSize)) //
+				.ticker(ticker) //
+				.recordStats() //
+				.build();
+	}
+
+	/**
+	 * Gets the authentication of a Session-ID.
+	 *
+	 * @param sessionId the Session-ID
+	 * @param loader    the Odoo request
+	 * @return the cached or loaded result
+	 * @throws OpenemsNamedException on error, e.g. invalid session
+	 */
+	public JsonObject getSession(String sessionId, ThrowingSupplier<JsonObject, OpenemsNamedException> loader)
+			throws OpenemsNamedException {
+		return this.get(this.sessions, sessionId, loader);
+	}
+
+	/**
+	 * Gets an Edge with the Role of a User.
+	 *
+	 * @param userId the User-ID
+	 * @param edgeId the Edge-ID
+	 * @param loader the Odoo request
+	 * @return the cached or loaded result
+	 * @throws OpenemsNamedException on error
+	 */
+	public JsonObject getEdge(String userId, String edgeId,
+			ThrowingSupplier<JsonObject, OpenemsNamedException> loader) throws OpenemsNamedException {
+		return this.get(this.edges, new EdgeKey(userId, edgeId), loader);
+	}
+
+	/**
+	 * Gets a page of the Edges of a User.
+	 *
+	 * @param userId            the User-ID
+	 * @param paginationOptions the {@link PaginationOptions}
+	 * @param loader            the Odoo request
+	 * @return the cached or loaded result
+	 * @throws OpenemsNamedException on error
+	 */
+	public JsonObject getPage(String userId, PaginationOptions paginationOptions,
+			ThrowingSupplier<JsonObject, OpenemsNamedException> loader) throws OpenemsNamedException {
+		var key = new PageKey(userId, paginationOptions.getPage(), paginationOptions.getLimit(),
+				paginationOptions.getQuery(), paginationOptions.getSearchParams());
+		return this.get(this.pages, key, loader);
+	}
+
+	/**
+	 * Invalidates the authentication of a Session-ID, e.g. on logout or if the
+	 * User information changed.
+	 *
+	 * @param sessionId the Session-ID
+	 */
+	public void invalidateSession(String sessionId) {
+		if (sessionId != null) {
+			this.sessions.invalidate(sessionId);
+		}
+	}
+
+	/**
+	 * Invalidates the Edges and Roles of a User, e.g. on logout or if a Role
+	 * changed.
+	 *
+	 * @param userId the User-ID
+	 */
+	public void invalidateUser(String userId) {
+		this.edges.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+		this.pages.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+	}
+
+	/**
+	 * Gets the hit/miss metrics of the caches.
+	 *
+	 * @param prefix the prefix for the metric keys
+	 * @return a map of metrics
+	 */
+	public Map<String, JsonElement> debugMetrics(String prefix) {
+		var result = new HashMap<String, JsonElement>();
+		addMetrics(result, prefix + "SessionCache", this.sessions);
+		addMetrics(result, prefix + "EdgeCache", this.edges);
+		addMetrics(result, prefix + "PageCache", this.pages);
+		return result;
+	}
+
+	private static void addMetrics(Map<String, JsonElement> result, String prefix, Cache<?, ?> cache) {
+		var stats = cache.stats();
+		result.put(prefix + "/Size", new JsonPrimitive(cache.size()));
+		result.put(prefix + "/Hits", new JsonPrimitive(stats.hitCount()));
+		result.put(prefix + "/Misses", new JsonPrimitive(stats.missCount()));
+		result.put(prefix + "/Evictions", new JsonPrimitive(stats.evictionCount()));
+	}
+
+	private <K> JsonObject get(Cache<K, Result> cache, K key,
+			ThrowingSupplier<JsonObject, OpenemsNamedException> loader) throws OpenemsNamedException {
+		var result = this.load(cache, key, loader);
+		if (result.error() != null
+				&& this.ticker.read() - result.createdAt() >= SECONDS.toNanos(NEGATIVE_TTL_SECONDS)) {
+			// Negative result is outdated; remove it unless another thread already did
+			cache.asMap().remove(key, result);
+			result = this.load(cache, key, loader);
+		}
+		if (result.error() != null) {
+			throw result.error();
+		}
+		return result.value();
+	}
+
+	private <K> Result load(Cache<K, Result> cache, K key,
+			ThrowingSupplier<JsonObject, OpenemsNamedException> loader) throws OpenemsNamedException {
+		try {
+			// Cache.get() blocks concurrent callers for the same key until loaded
+			return cache.get(key, () -> {
+				try {
+					return new Result(loader.get(), null, this.ticker.read());
+				} catch (OpenemsNamedException e) {
+					return new Result(null, e, this.ticker.read());
+				}
+			});
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			var cause = e.getCause() != null ? e.getCause() : e;
+			// Do not log the key; it might contain a Session-ID
+			throw new OpenemsException("Unable to load from Odoo: " + cause.getMessage());
+		}
+	}
+
+}
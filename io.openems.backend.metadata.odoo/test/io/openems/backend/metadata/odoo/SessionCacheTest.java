@@ -0,0 +1,169 @@
+package io.openems.backend.metadata.odoo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+
+public class SessionCacheTest {
+
+	private static class DummyTicker extends Ticker {
+		private final AtomicLong nanos = new AtomicLong();
+
+		@Override
+		public long read() {
+			return this.nanos.get();
+		}
+
+		private void advance(long seconds) {
+			this.nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+		}
+	}
+
+	@Test
+	public void testSession() throws Exception {
+		final var ticker = new DummyTicker();
+		final var sut = new SessionCache(60, 100, ticker);
+		final var calls = new AtomicInteger();
+		final var json = new JsonObject();
+
+		// Second lookup is served from cache
+		assertSame(json, sut.getSession("session0", () -> {
+			calls.incrementAndGet();
+			return json;
+		}));
+		assertSame(json, sut.getSession("session0", () -> {
+			calls.incrementAndGet();
+			return json;
+		}));
+		assertEquals(1, calls.get());
+
+		var metrics = sut.debugMetrics("metadata0/");
+		assertEquals(new JsonPrimitive(1L), metrics.get("metadata0/SessionCache/Hits"));
+		assertEquals(new JsonPrimitive(1L), metrics.get("metadata0/SessionCache/Misses"));
+
+		// Invalidated on logout
+		sut.invalidateSession("session0");
+		sut.getSession("session0", () -> {
+			calls.incrementAndGet();
+			return json;
+		});
+		assertEquals(2, calls.get());
+
+		// Expires after TTL
+		ticker.advance(60);
+		sut.getSession("session0", () -> {
+			calls.incrementAndGet();
+			return json;
+		});
+		assertEquals(3, calls.get());
+	}
+
+	@Test
+	public void testInvalidSession() throws Exception {
+		final var ticker = new DummyTicker();
+		final var sut = new SessionCache(60, 100, ticker);
+		final var calls = new AtomicInteger();
+
+		// Errors are cached for a short time
+		for (var i = 0; i < 2; i++) {
+			assertThrows(OpenemsException.class, () -> sut.getSession("invalid", () -> {
+				calls.incrementAndGet();
+				throw new OpenemsException("Session is invalid");
+			}));
+		}
+		assertEquals(1, calls.get());
+
+		ticker.advance(SessionCache.NEGATIVE_TTL_SECONDS);
+		assertThrows(OpenemsException.class, () -> sut.getSession("invalid", () -> {
+			calls.incrementAndGet();
+			throw new OpenemsException("Session is invalid");
+		}));
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	public void testSingleFlight() throws Exception {
+		final var sut = new SessionCache(60, 100);
+		final var calls = new AtomicInteger();
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var json = new JsonObject();
+
+		var thread = new Thread(() -> {
+			try {
+				sut.getSession("session0", () -> {
+					calls.incrementAndGet();
+					started.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						throw new OpenemsException(e.getMessage());
+					}
+					return json;
+				});
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});
+		thread.start();
+		started.await();
+
+		// Waits for the running lookup instead of starting another one
+		new Thread(() -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				// ignore
+			}
+			release.countDown();
+		}).start();
+		assertSame(json, sut.getSession("session0", () -> {
+			calls.incrementAndGet();
+			return new JsonObject();
+		}));
+		thread.join();
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	public void testInvalidateUser() throws Exception {
+		final var sut = new SessionCache(60, 100);
+		final var calls = new AtomicInteger();
+
+		sut.getEdge("user0", "edge0", () -> {
+			calls.incrementAndGet();
+			return new JsonObject();
+		});
+		sut.getEdge("user1", "edge0", () -> {
+			calls.incrementAndGet();
+			return new JsonObject();
+		});
+		assertEquals(2, calls.get());
+
+		// Only the Edges of the given User are invalidated
+		sut.invalidateUser("user0");
+		sut.getEdge("user0", "edge0", () -> {
+			calls.incrementAndGet();
+			return new JsonObject();
+		});
+		sut.getEdge("user1", "edge0", () -> {
+			calls.incrementAndGet();
+			return new JsonObject();
+		});
+		assertEquals(3, calls.get());
+	}
+
+}
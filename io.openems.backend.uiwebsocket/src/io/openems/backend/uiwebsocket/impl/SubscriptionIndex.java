@@ -0,0 +1,120 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the open UI sessions by their Websocket-ID and by their subscribed
+ * Edge-IDs.
+ *
+ * <p>
+ * Maintained on open, on SubscribeEdgesRequest, on logout and on close, so
+ * fan-out of Edge data only visits the sessions that actually subscribed the
+ * Edge instead of all open connections.
+ */
+public class SubscriptionIndex {
+
+	private final Map<UUID, WsData> sessions = new ConcurrentHashMap<>();
+	private final Map<String, Set<WsData>> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Adds a new UI session.
+	 *
+	 * @param wsData the {@link WsData}
+	 */
+	public void add(WsData wsData) {
+		this.sessions.put(wsData.getId(), wsData);
+	}
+
+	/**
+	 * Removes a UI session and all its subscriptions.
+	 *
+	 * @param wsData  the {@link WsData}
+	 * @param edgeIds the currently subscribed Edge-IDs
+	 */
+	public void remove(WsData wsData, Set<String> edgeIds) {
+		this.sessions.remove(wsData.getId());
+		for (var edgeId : edgeIds) {
+			this.unsubscribe(edgeId, wsData);
+		}
+	}
+
+	/**
+	 * Updates the subscribed Edge-IDs of a UI session.
+	 *
+	 * @param wsData   the {@link WsData}
+	 * @param previous the previously subscribed Edge-IDs
+	 * @param next     the now subscribed Edge-IDs
+	 */
+	public void update(WsData wsData, Set<String> previous, Set<String> next) {
+		for (var edgeId : previous) {
+			if (!next.contains(edgeId)) {
+				this.unsubscribe(edgeId, wsData);
+			}
+		}
+		for (var edgeId : next) {
+			if (!previous.contains(edgeId)) {
+				this.subscribe(edgeId, wsData);
+			}
+		}
+	}
+
+	private void subscribe(String edgeId, WsData wsData) {
+		this.subscribers.compute(edgeId, (key, set) -> {
+			if (set == null) {
+				set = ConcurrentHashMap.newKeySet();
+			}
+			set.add(wsData);
+			return set;
+		});
+	}
+
+	private void unsubscribe(String edgeId, WsData wsData) {
+		this.subscribers.computeIfPresent(edgeId, (key, set) -> {
+			set.remove(wsData);
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	/**
+	 * Gets the UI sessions that subscribed the given Edge-ID.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link WsData}s; empty if there are none
+	 */
+	public Set<WsData> getSubscribers(String edgeId) {
+		return this.subscribers.getOrDefault(edgeId, Collections.emptySet());
+	}
+
+	/**
+	 * Gets the UI session with the given Websocket-ID.
+	 *
+	 * @param websocketId the Websocket-ID
+	 * @return the {@link WsData}; null if there is none
+	 */
+	public WsData getSession(UUID websocketId) {
+		return this.sessions.get(websocketId);
+	}
+
+	/**
+	 * Gets the number of open UI sessions.
+	 *
+	 * @return the number of sessions
+	 */
+	public int getNumberOfSessions() {
+		return this.sessions.size();
+	}
+
+	/**
+	 * Gets the number of Edges with at least one subscribed UI session.
+	 *
+	 * @return the number of Edges
+	 */
+	public int getNumberOfSubscribedEdges() {
+		return this.subscribers.size();
+	}
+
+}
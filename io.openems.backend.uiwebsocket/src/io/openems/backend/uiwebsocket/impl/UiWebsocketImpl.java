@@ -2,8 +2,7 @@ package io.openems.backend.uiwebsocket.impl;
 
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -58,6 +57,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	protected WebsocketServer server = null;
 
+	protected final SubscriptionIndex subscriptionIndex = new SubscriptionIndex();
+
 	@Reference
 	protected volatile JsonRpcRequestHandler jsonRpcRequestHandler;
 
@@ -155,9 +156,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var wsDatas = this.getWsDatasForEdgeId(edgeId);
-		for (WsData wsData : wsDatas) {
-			if (!wsData.isEdgeSubscribed(edgeId)) {
+		for (var wsData : this.subscriptionIndex.getSubscribers(edgeId)) {
+			if (!this.hasAccess(wsData, edgeId)) {
 				continue;
 			}
 			wsData.send(notification);
@@ -175,48 +175,32 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			throw new OpenemsException("Server is not yet fully initialized");
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData.getId().equals(websocketId)) {
-				return wsData;
-			}
+		var wsData = this.subscriptionIndex.getSession(websocketId);
+		if (wsData != null) {
+			return wsData;
 		}
 		throw OpenemsError.BACKEND_NO_UI_WITH_TOKEN.exception(websocketId);
 	}
 
 	/**
-	 * Gets the WebSocket connection attachments of all connections accessing an
-	 * Edge-ID.
+	 * Checks if the User of a WebSocket connection has access to an Edge-ID.
 	 *
+	 * @param wsData the WebSocket attachment
 	 * @param edgeId the Edge-ID
-	 * @return the WsDatas; empty list if there are none
+	 * @return true if the User has a Role for the Edge-ID
 	 */
-	private List<WsData> getWsDatasForEdgeId(String edgeId) {
-		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData == null) {
-				continue;
-			}
-			// get attachment User-ID
-			var userIdOpt = wsData.getUserId();
-			if (userIdOpt.isPresent()) {
-				var userId = userIdOpt.get();
-				// get User for User-ID
-				var userOpt = this.metadata.getUser(userId);
-				if (userOpt.isPresent()) {
-					var user = userOpt.get();
-					var edgeRoleOpt = user.getRole(edgeId);
-					if (edgeRoleOpt.isPresent()) {
-						// User has access to this Edge-ID
-						result.add(wsData);
-					}
-				}
-			}
+	private boolean hasAccess(WsData wsData, String edgeId) {
+		// get attachment User-ID
+		var userIdOpt = wsData.getUserId();
+		if (userIdOpt.isEmpty()) {
+			return false;
 		}
-		return result;
+		// get User for User-ID
+		var userOpt = this.metadata.getUser(userIdOpt.get());
+		if (userOpt.isEmpty()) {
+			return false;
+		}
+		return userOpt.get().getRole(edgeId).isPresent();
 	}
 
 	@Override
@@ -233,12 +217,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
-				wsData.sendSubscribedChannels(edgeId, edgeCache);
-			}
+		for (var wsData : this.subscriptionIndex.getSubscribers(edgeId)) {
+			wsData.sendSubscribedChannels(edgeId, edgeCache);
 		}
 	}
 
@@ -285,7 +265,10 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 			return null;
 		}
 
-		return this.server.debugMetrics().entrySet().stream() //
+		var metrics = new HashMap<String, Number>(this.server.debugMetrics());
+		metrics.put("Sessions", this.subscriptionIndex.getNumberOfSessions());
+		metrics.put("SubscribedEdges", this.subscriptionIndex.getNumberOfSubscribedEdges());
+		return metrics.entrySet().stream() //
 				.collect(toUnmodifiableMap(//
 						e -> this.getId() + "/" + e.getKey(), //
 						e -> new JsonPrimitive(e.getValue())));
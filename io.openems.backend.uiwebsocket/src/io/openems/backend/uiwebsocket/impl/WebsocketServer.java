@@ -24,7 +24,9 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
 	@Override
 	protected WsData createWsData(WebSocket ws) {
-		return new WsData(ws);
+		var wsData = new WsData(ws, this.parent.subscriptionIndex);
+		this.parent.subscriptionIndex.add(wsData);
+		return wsData;
 	}
 
 	@Override
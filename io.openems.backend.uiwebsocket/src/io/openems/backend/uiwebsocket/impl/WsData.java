@@ -2,12 +2,12 @@ package io.openems.backend.uiwebsocket.impl;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.java_websocket.WebSocket;
 
@@ -69,10 +69,23 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private Optional<String> userId = Optional.empty();
 	private Optional<String> token = Optional.empty();
 
-	private Set<String> subscribedEdges = new HashSet<>();
+	private final SubscriptionIndex subscriptionIndex;
+	private volatile Set<String> subscribedEdges = Collections.emptySet();
+	private boolean isDisposed = false;
+
+	/**
+	 * Edge-ID -> Channel values that are waiting to be sent.
+	 */
+	private final Map<String, Map<String, JsonElement>> pendingChannelValues = new HashMap<>();
+	private final AtomicBoolean isSendingChannelValues = new AtomicBoolean(false);
 
 	public WsData(WebSocket ws) {
+		this(ws, new SubscriptionIndex());
+	}
+
+	public WsData(WebSocket ws, SubscriptionIndex subscriptionIndex) {
 		super(ws);
+		this.subscriptionIndex = subscriptionIndex;
 	}
 
 	/**
@@ -82,6 +95,15 @@ public class WsData extends io.openems.common.websocket.WsData {
 		this.unsetToken();
 		this.unsetUserId();
 		this.subscribedChannels.dispose();
+		this.handleSubscribeEdgesRequest(Collections.emptySet());
+	}
+
+	@Override
+	public synchronized void dispose() {
+		super.dispose();
+		this.isDisposed = true;
+		this.subscriptionIndex.remove(this, this.subscribedEdges);
+		this.subscribedEdges = Collections.emptySet();
 	}
 
 	public synchronized void setUserId(String userId) {
@@ -176,18 +198,31 @@ public class WsData extends io.openems.common.websocket.WsData {
 	}
 
 	/**
-	 * Applies a SubscribeEdgesRequest.
+	 * Applies a SubscribeEdgesRequest. Ignored once this {@link WsData} was
+	 * disposed, so a late request does not add it to the {@link SubscriptionIndex}
+	 * again.
 	 * 
 	 * @param edgeIds the edges to subscribe
 	 */
-	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+	public synchronized void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+		if (this.isDisposed) {
+			return;
+		}
 		// TODO maybe only add and remove on explicit request
-		this.subscribedEdges = edgeIds;
+		var previous = this.subscribedEdges;
+		var next = Set.copyOf(edgeIds);
+		this.subscribedEdges = next;
+		this.subscriptionIndex.update(this, previous, next);
 	}
 
 	/**
 	 * Sends the subscribed Channels to the UI session.
 	 * 
+	 * <p>
+	 * Updates that arrive while another Thread is sending to this session are
+	 * coalesced: only the latest value per Channel is sent, in one notification
+	 * per Edge.
+	 * 
 	 * @param edgeId    the Edge-ID
 	 * @param edgeCache the {@link EdgeCache} for the Edge-ID
 	 */
@@ -199,9 +234,39 @@ public class WsData extends io.openems.common.websocket.WsData {
 		if (values.isEmpty()) {
 			return;
 		}
-		this.send(//
-				new EdgeRpcNotification(edgeId, //
-						new CurrentDataNotification(values)));
+		synchronized (this.pendingChannelValues) {
+			this.pendingChannelValues.computeIfAbsent(edgeId, e -> new HashMap<>()) //
+					.putAll(values);
+		}
+		this.sendPendingChannelValues();
+	}
+
+	private void sendPendingChannelValues() {
+		while (this.isSendingChannelValues.compareAndSet(false, true)) {
+			try {
+				while (true) {
+					final Map<String, Map<String, JsonElement>> pending;
+					synchronized (this.pendingChannelValues) {
+						if (this.pendingChannelValues.isEmpty()) {
+							break;
+						}
+						pending = new HashMap<>(this.pendingChannelValues);
+						this.pendingChannelValues.clear();
+					}
+					pending.forEach((edgeId, values) -> this.send(//
+							new EdgeRpcNotification(edgeId, //
+									new CurrentDataNotification(values))));
+				}
+			} finally {
+				this.isSendingChannelValues.set(false);
+			}
+			// Values might have been added after the last check
+			synchronized (this.pendingChannelValues) {
+				if (this.pendingChannelValues.isEmpty()) {
+					return;
+				}
+			}
+		}
 	}
 
 	/**
@@ -214,6 +279,15 @@ public class WsData extends io.openems.common.websocket.WsData {
 		return this.subscribedEdges.contains(edgeId);
 	}
 
+	/**
+	 * Gets the Edge-IDs subscribed by this UI session.
+	 * 
+	 * @return the Edge-IDs
+	 */
+	public Set<String> getSubscribedEdges() {
+		return this.subscribedEdges;
+	}
+
 	public UUID getId() {
 		return this.id;
 	}
@@ -0,0 +1,55 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+public class SubscriptionIndexTest {
+
+	@Test
+	public void test() {
+		var sut = new SubscriptionIndex();
+		var ws0 = new WsData(null, sut);
+		var ws1 = new WsData(null, sut);
+		sut.add(ws0);
+		sut.add(ws1);
+		assertEquals(2, sut.getNumberOfSessions());
+		assertSame(ws0, sut.getSession(ws0.getId()));
+
+		ws0.handleSubscribeEdgesRequest(Set.of("edge0", "edge1"));
+		ws1.handleSubscribeEdgesRequest(Set.of("edge1"));
+		assertEquals(Set.of(ws0), sut.getSubscribers("edge0"));
+		assertEquals(Set.of(ws0, ws1), sut.getSubscribers("edge1"));
+		assertTrue(sut.getSubscribers("edge2").isEmpty());
+		assertEquals(2, sut.getNumberOfSubscribedEdges());
+
+		// Change subscription
+		ws0.handleSubscribeEdgesRequest(Set.of("edge2"));
+		assertTrue(sut.getSubscribers("edge0").isEmpty());
+		assertEquals(Set.of(ws1), sut.getSubscribers("edge1"));
+		assertEquals(Set.of(ws0), sut.getSubscribers("edge2"));
+
+		// Logout
+		ws1.logout();
+		assertTrue(sut.getSubscribers("edge1").isEmpty());
+		assertEquals(1, sut.getNumberOfSubscribedEdges());
+
+		// Close
+		ws0.dispose();
+		assertTrue(sut.getSubscribers("edge2").isEmpty());
+		assertNull(sut.getSession(ws0.getId()));
+		assertEquals(1, sut.getNumberOfSessions());
+		assertEquals(0, sut.getNumberOfSubscribedEdges());
+
+		// Late request after close is ignored
+		ws0.handleSubscribeEdgesRequest(Set.of("edge0"));
+		assertTrue(sut.getSubscribers("edge0").isEmpty());
+		assertEquals(0, sut.getNumberOfSubscribedEdges());
+	}
+
+}
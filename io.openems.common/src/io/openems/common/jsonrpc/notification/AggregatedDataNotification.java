@@ -34,6 +34,10 @@ public class AggregatedDataNotification extends AbstractDataNotification {
 	 * @throws OpenemsNamedException on error
 	 */
 	public static AggregatedDataNotification from(JsonrpcNotification notification) throws OpenemsNamedException {
+		if (notification instanceof AggregatedDataNotification n) {
+			// e.g. decoded from a binary frame
+			return n;
+		}
 		return new AggregatedDataNotification(parseParams(notification.getParams()));
 	}
 
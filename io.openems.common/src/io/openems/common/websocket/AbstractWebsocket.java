@@ -4,11 +4,14 @@ import static io.openems.common.utils.JsonrpcUtils.simplifyJsonrpcMessage;
 import static io.openems.common.utils.StringUtils.toShortString;
 import static io.openems.common.websocket.WebsocketUtils.generateWsDataString;
 
+import java.nio.ByteBuffer;
+
 import org.java_websocket.WebSocket;
 import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 
 public abstract class AbstractWebsocket<T extends WsData> {
@@ -117,7 +120,11 @@ public abstract class AbstractWebsocket<T extends WsData> {
 		}
 
 		try {
-			ws.send(message.toString());
+			// Frames must be written in the order they were compressed
+			// (permessage-deflate context takeover)
+			synchronized (ws) {
+				ws.send(message.toString());
+			}
 			return true;
 
 		} catch (WebsocketNotConnectedException e) {
@@ -127,6 +134,57 @@ public abstract class AbstractWebsocket<T extends WsData> {
 		}
 	}
 
+	/**
+	 * Sends a binary message to the {@link WebSocket}. Returns true if sending was
+	 * successful, otherwise false.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the binary message
+	 * @return true if sending was successful
+	 */
+	protected final boolean sendBinary(WebSocket ws, byte[] message) {
+		if (!ws.isOpen()) {
+			return false;
+		}
+
+		try {
+			synchronized (ws) {
+				ws.send(message);
+			}
+			return true;
+
+		} catch (WebsocketNotConnectedException e) {
+			// Fallback for race condition if Connection was closed inbetween
+			return false;
+		}
+	}
+
+	/**
+	 * Handles a binary message. Called synchronously in the order the messages
+	 * were received.
+	 *
+	 * <p>
+	 * By default binary messages are not supported and dropped.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the binary message
+	 */
+	protected void onBinaryMessage(WebSocket ws, ByteBuffer message) {
+		this.logWarn(this.log, "Unhandled binary message [" + message.remaining() + " bytes]");
+	}
+
+	/**
+	 * Parses a text message to a {@link JsonrpcMessage}. Called on the executor
+	 * thread before the message is handled.
+	 *
+	 * @param message the text message
+	 * @return the {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException on error
+	 */
+	protected JsonrpcMessage parseMessage(String message) throws OpenemsNamedException {
+		return JsonrpcMessage.from(message);
+	}
+
 	private void sendMessageFailedLog(WebSocket ws, JsonrpcMessage message) {
 		final var b = new StringBuilder();
 
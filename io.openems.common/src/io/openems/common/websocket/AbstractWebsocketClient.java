@@ -2,6 +2,7 @@ package io.openems.common.websocket;
 
 import java.net.Proxy;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -9,8 +10,6 @@ import java.util.concurrent.CompletableFuture;
 import org.java_websocket.WebSocket;
 import org.java_websocket.client.WebSocketClient;
 import org.java_websocket.drafts.Draft;
-import org.java_websocket.drafts.Draft_6455;
-import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
 import org.java_websocket.framing.CloseFrame;
 import org.java_websocket.handshake.ServerHandshake;
 import org.slf4j.Logger;
@@ -30,31 +29,36 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 
 	public static final Map<String, String> NO_HTTP_HEADERS = new HashMap<>();
 	public static final Proxy NO_PROXY = null;
-	public static final Draft DEFAULT_DRAFT = new Draft_6455(new PerMessageDeflateExtension());
 
 	protected final WebSocketClient ws;
 
 	private final Logger log = LoggerFactory.getLogger(AbstractWebsocketClient.class);
 	private final URI serverUri;
 	private final ClientReconnectorWorker reconnectorWorker;
+	private final PerMessageDeflate.Metrics compressionMetrics;
 
 	protected AbstractWebsocketClient(String name, URI serverUri) {
-		this(name, serverUri, AbstractWebsocketClient.DEFAULT_DRAFT, AbstractWebsocketClient.NO_HTTP_HEADERS,
-				AbstractWebsocketClient.NO_PROXY);
+		this(name, serverUri, AbstractWebsocketClient.NO_HTTP_HEADERS, AbstractWebsocketClient.NO_PROXY);
 	}
 
 	protected AbstractWebsocketClient(String name, URI serverUri, Map<String, String> httpHeaders) {
-		this(name, serverUri, AbstractWebsocketClient.DEFAULT_DRAFT, httpHeaders, AbstractWebsocketClient.NO_PROXY);
+		this(name, serverUri, httpHeaders, AbstractWebsocketClient.NO_PROXY);
 	}
 
 	protected AbstractWebsocketClient(String name, URI serverUri, Map<String, String> httpHeaders, Proxy proxy) {
-		this(name, serverUri, AbstractWebsocketClient.DEFAULT_DRAFT, httpHeaders, proxy);
+		this(name, serverUri, httpHeaders, proxy, PerMessageDeflate.Config.CLIENT_DEFAULT);
+	}
+
+	protected AbstractWebsocketClient(String name, URI serverUri, Map<String, String> httpHeaders, Proxy proxy,
+			PerMessageDeflate.Config compression) {
+		this(name, serverUri, PerMessageDeflate.clientDraft(compression), httpHeaders, proxy);
 	}
 
 	protected AbstractWebsocketClient(String name, URI serverUri, Draft draft, Map<String, String> httpHeaders,
 			Proxy proxy) {
 		super(name);
 		this.serverUri = serverUri;
+		this.compressionMetrics = PerMessageDeflate.getMetrics(draft);
 		this.ws = new WebSocketClient(serverUri, draft, httpHeaders) {
 
 			private void logInfo(String message) {
@@ -74,6 +78,7 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 			public void onMessage(String message) {
 				AbstractWebsocketClient.this.execute(new OnMessageHandler(//
 						AbstractWebsocketClient.this.ws, message, //
+						AbstractWebsocketClient.this::parseMessage, //
 						AbstractWebsocketClient.this.getOnRequest(), //
 						AbstractWebsocketClient.this.getOnNotification(), //
 						AbstractWebsocketClient.this::sendMessage, //
@@ -81,6 +86,11 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 						AbstractWebsocketClient.this::logWarn));
 			}
 
+			@Override
+			public void onMessage(ByteBuffer message) {
+				AbstractWebsocketClient.this.onBinaryMessage(AbstractWebsocketClient.this.ws, message);
+			}
+
 			@Override
 			public void onError(Exception ex) {
 				AbstractWebsocketClient.this.execute(new OnErrorHandler(//
@@ -163,6 +173,15 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 		return this.sendMessage(this.ws, message);
 	}
 
+	/**
+	 * Gets the permessage-deflate compression metrics of this client.
+	 *
+	 * @return the {@link PerMessageDeflate.Metrics}
+	 */
+	public PerMessageDeflate.Metrics getCompressionMetrics() {
+		return this.compressionMetrics;
+	}
+
 	@Override
 	protected OnInternalError getOnInternalError() {
 		return (t, wsDataString) -> {
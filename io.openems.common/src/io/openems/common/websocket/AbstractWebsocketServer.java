@@ -4,6 +4,7 @@ import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTerminatio
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -14,7 +15,10 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.exceptions.InvalidDataException;
 import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.java_websocket.server.WebSocketServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +39,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	private final int port;
 	private final WebSocketServer ws;
 	private final Collection<WebSocket> connections = ConcurrentHashMap.newKeySet();
+	private final PerMessageDeflate.Metrics compressionMetrics = new PerMessageDeflate.Metrics();
 
 	/**
 	 * Construct an {@link AbstractWebsocketServer}.
@@ -44,6 +49,18 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 * @param poolSize number of threads dedicated to handle the tasks
 	 */
 	protected AbstractWebsocketServer(String name, int port, int poolSize) {
+		this(name, port, poolSize, PerMessageDeflate.Config.SERVER_DEFAULT);
+	}
+
+	/**
+	 * Construct an {@link AbstractWebsocketServer}.
+	 *
+	 * @param name        to identify this server
+	 * @param port        to listen on
+	 * @param poolSize    number of threads dedicated to handle the tasks
+	 * @param compression the permessage-deflate {@link PerMessageDeflate.Config}
+	 */
+	protected AbstractWebsocketServer(String name, int port, int poolSize, PerMessageDeflate.Config compression) {
 		super(name);
 		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize,
 				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
@@ -51,7 +68,8 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		this.port = port;
 		this.ws = new WebSocketServer(new InetSocketAddress(port),
 				/* AVAILABLE_PROCESSORS */ Runtime.getRuntime().availableProcessors(), //
-				/* drafts, no filter */ List.of(new MyDraft6455()), //
+				/* drafts, no filter */ List.of(
+						new MyDraft6455(PerMessageDeflate.extensions(compression, this.compressionMetrics))), //
 				this.connections) {
 
 			@Override
@@ -73,6 +91,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 			public void onMessage(WebSocket ws, String message) {
 				AbstractWebsocketServer.this.execute(new OnMessageHandler(//
 						ws, message, //
+						AbstractWebsocketServer.this::parseMessage, //
 						AbstractWebsocketServer.this.getOnRequest(), //
 						AbstractWebsocketServer.this.getOnNotification(), //
 						AbstractWebsocketServer.this::sendMessage, //
@@ -80,6 +99,19 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 						AbstractWebsocketServer.this::logWarn));
 			}
 
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer message) {
+				AbstractWebsocketServer.this.onBinaryMessage(ws, message);
+			}
+
+			@Override
+			public ServerHandshakeBuilder onWebsocketHandshakeReceivedAsServer(WebSocket ws, Draft draft,
+					ClientHandshake request) throws InvalidDataException {
+				var response = super.onWebsocketHandshakeReceivedAsServer(ws, draft, request);
+				AbstractWebsocketServer.this.onHandshake(request, response);
+				return response;
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				AbstractWebsocketServer.this.execute(new OnErrorHandler(//
@@ -135,6 +167,16 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		this.ws.setReuseAddr(true);
 	}
 
+	/**
+	 * Called on the handshake of a new connection, before it is opened. Allows to
+	 * add HTTP headers to the handshake response.
+	 *
+	 * @param request  the {@link ClientHandshake}
+	 * @param response the {@link ServerHandshakeBuilder}
+	 */
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+	}
+
 	/**
 	 * Returns a debug log of the current websocket state.
 	 * 
@@ -156,6 +198,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		final var metrics = new HashMap<String, Number>();
 		metrics.putAll(ThreadPoolUtils.debugMetrics(this.executor));
 		metrics.put("Connections", this.connections.size());
+		metrics.putAll(this.compressionMetrics.debugMetrics());
 		return metrics;
 	}
 
@@ -0,0 +1,534 @@
+package io.openems.common.websocket;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Compact binary wire format for {@link TimestampedDataNotification} and
+ * {@link AggregatedDataNotification}, sent in binary websocket frames.
+ *
+ * <p>
+ * Both sides of a connection keep the same state: a dictionary of
+ * Channel-Addresses and the last value per Channel. A frame only carries the
+ * Channel-Addresses that are new to the dictionary; Channels are referenced by
+ * their index. Integer values are sent as zigzag-varint delta to the last
+ * value of the Channel and values that did not change are only marked in a
+ * bitset. The format is used only if both sides announce it with the
+ * {@link #HTTP_HEADER} during the websocket handshake; otherwise the
+ * notifications are sent as JSON.
+ *
+ * <pre>
+ * frame   = VERSION, flags, varint #additions, { varint length, UTF-8 address },
+ *           varint #rows, { row }
+ * flags   = bit 0: reset; bit 1: timestamped data; bit 2: aggregated data
+ * row     = zigzag-varint timestamp delta, varint #channels, channels, unchanged-bitset, { value }
+ * channels = 0, { varint index delta } | 1, dictionary-bitset
+ * value   = tag, payload
+ * </pre>
+ *
+ * <p>
+ * The {@link Encoder} starts every new state, e.g. after a reconnect or an
+ * {@link io.openems.common.jsonrpc.notification.EdgeConfigNotification}, with
+ * a frame that has the reset flag set, so the {@link Decoder} never
+ * depends on the order of JSON and binary messages.
+ */
+public final class BinaryDataNotificationCodec {
+
+	/**
+	 * HTTP header to announce support of this format; the value is the
+	 * {@link #VERSION}.
+	 */
+	public static final String HTTP_HEADER = "openems-binary-data";
+
+	public static final byte VERSION = 1;
+
+	private static final int FLAG_RESET = 0x01;
+	private static final int KIND_TIMESTAMPED = 0x02;
+	private static final int KIND_AGGREGATED = 0x04;
+	private static final int KIND_MASK = 0x06;
+
+	private static final byte CHANNELS_LIST = 0;
+	private static final byte CHANNELS_BITSET = 1;
+
+	// Value tags
+	private static final byte ABSENT = -1;
+	private static final byte NULL = 0;
+	private static final byte FALSE = 1;
+	private static final byte TRUE = 2;
+	private static final byte LONG = 3;
+	private static final byte DOUBLE = 4;
+	private static final byte FLOAT = 5;
+	private static final byte STRING = 6;
+	private static final byte JSON = 7;
+
+	private BinaryDataNotificationCodec() {
+	}
+
+	/**
+	 * Gets the header value to announce support of this format.
+	 *
+	 * @return the header value
+	 */
+	public static String getHttpHeaderValue() {
+		return String.valueOf(VERSION);
+	}
+
+	/**
+	 * Checks if the given header value announces support of this format.
+	 *
+	 * @param value the header value; possibly null or empty
+	 * @return true if supported
+	 */
+	public static boolean isSupported(String value) {
+		return getHttpHeaderValue().equals(value);
+	}
+
+	/**
+	 * The last value of every Channel, by dictionary index, for one kind of
+	 * notification.
+	 */
+	private static final class Values {
+
+		private byte[] tags = new byte[0];
+		private long[] bits = new long[0];
+		private String[] texts = new String[0];
+		private long timestamp = 0L;
+
+		private void ensureCapacity(int size) {
+			if (size <= this.tags.length) {
+				return;
+			}
+			final var length = Math.max(size, this.tags.length * 2);
+			final var oldLength = this.tags.length;
+			this.tags = Arrays.copyOf(this.tags, length);
+			Arrays.fill(this.tags, oldLength, length, ABSENT);
+			this.bits = Arrays.copyOf(this.bits, length);
+			this.texts = Arrays.copyOf(this.texts, length);
+		}
+
+		private boolean equals(int index, byte tag, long bits, String text) {
+			return this.tags[index] == tag && this.bits[index] == bits
+					&& (text == null ? this.texts[index] == null : text.equals(this.texts[index]));
+		}
+
+		private void set(int index, byte tag, long bits, String text) {
+			this.tags[index] = tag;
+			this.bits[index] = bits;
+			this.texts[index] = text;
+		}
+
+		private long lastLong(int index) {
+			return this.tags[index] == LONG ? this.bits[index] : 0L;
+		}
+
+		private void clear() {
+			this.tags = new byte[0];
+			this.bits = new long[0];
+			this.texts = new String[0];
+			this.timestamp = 0L;
+		}
+	}
+
+	/**
+	 * Encodes data notifications for one connection.
+	 *
+	 * <p>
+	 * Frames have to be sent in the order they were encoded; callers synchronize
+	 * encoding and sending. If sending a frame fails, {@link #reset()} has to be
+	 * called.
+	 */
+	public static final class Encoder {
+
+		private final Map<String, Integer> dictionary = new HashMap<>();
+		private final Values timestamped = new Values();
+		private final Values aggregated = new Values();
+		private boolean reset = true;
+
+		/**
+		 * Discards dictionary and last values; the next frame starts a new state.
+		 */
+		public synchronized void reset() {
+			this.dictionary.clear();
+			this.timestamped.clear();
+			this.aggregated.clear();
+			this.reset = true;
+		}
+
+		/**
+		 * Encodes a {@link TimestampedDataNotification} or an
+		 * {@link AggregatedDataNotification}.
+		 *
+		 * @param notification the notification
+		 * @return the binary frame
+		 */
+		public synchronized byte[] encode(AbstractDataNotification notification) {
+			final int kind;
+			final Values values;
+			if (notification instanceof AggregatedDataNotification) {
+				kind = KIND_AGGREGATED;
+				values = this.aggregated;
+			} else {
+				kind = KIND_TIMESTAMPED;
+				values = this.timestamped;
+			}
+
+			final var rows = notification.getData().rowMap();
+			final var additions = new ArrayList<String>();
+			final var body = new ByteArrayOutputStream();
+			writeVarint(body, rows.size());
+			for (var row : rows.entrySet()) {
+				writeVarint(body, zigzag(row.getKey() - values.timestamp));
+				values.timestamp = row.getKey();
+				this.encodeRow(body, row.getValue(), values, additions);
+			}
+
+			final var frame = new ByteArrayOutputStream(body.size() + 16);
+			frame.write(VERSION);
+			frame.write(kind | (this.reset ? FLAG_RESET : 0));
+			writeVarint(frame, additions.size());
+			for (var address : additions) {
+				writeString(frame, address);
+			}
+			frame.writeBytes(body.toByteArray());
+			this.reset = false;
+			return frame.toByteArray();
+		}
+
+		private void encodeRow(ByteArrayOutputStream out, Map<String, JsonElement> data, Values values,
+				List<String> additions) {
+			// Sort by index; upper 32 bits: index, lower 32 bits: position in 'elements'
+			final var elements = new JsonElement[data.size()];
+			final var order = new long[data.size()];
+			var i = 0;
+			for (var entry : data.entrySet()) {
+				var index = this.dictionary.get(entry.getKey());
+				if (index == null) {
+					index = this.dictionary.size();
+					this.dictionary.put(entry.getKey(), index);
+					additions.add(entry.getKey());
+				}
+				elements[i] = entry.getValue();
+				order[i] = (long) index << 32 | i;
+				i++;
+			}
+			Arrays.sort(order);
+			values.ensureCapacity(this.dictionary.size());
+
+			// Channels
+			writeVarint(out, order.length);
+			final var list = new ByteArrayOutputStream();
+			var previous = -1;
+			for (var o : order) {
+				final var index = (int) (o >>> 32);
+				writeVarint(list, index - previous - 1);
+				previous = index;
+			}
+			final var bitsetLength = (this.dictionary.size() + 7) / 8;
+			if (list.size() <= bitsetLength) {
+				out.write(CHANNELS_LIST);
+				out.writeBytes(list.toByteArray());
+			} else {
+				final var bitset = new byte[bitsetLength];
+				for (var o : order) {
+					final var index = (int) (o >>> 32);
+					bitset[index >>> 3] = (byte) (bitset[index >>> 3] | (1 << (index & 7)));
+				}
+				out.write(CHANNELS_BITSET);
+				out.writeBytes(bitset);
+			}
+
+			// Unchanged values and changed values
+			final var unchanged = new byte[(order.length + 7) / 8];
+			final var changed = new ByteArrayOutputStream();
+			for (var j = 0; j < order.length; j++) {
+				final var index = (int) (order[j] >>> 32);
+				final var value = elements[(int) order[j]];
+				final var tag = tagOf(value);
+				final var text = textOf(tag, value);
+				final var bits = bitsOf(tag, value);
+				if (values.equals(index, tag, bits, text)) {
+					unchanged[j >>> 3] = (byte) (unchanged[j >>> 3] | (1 << (j & 7)));
+					continue;
+				}
+				changed.write(tag);
+				switch (tag) {
+				case LONG -> writeVarint(changed, zigzag(bits - values.lastLong(index)));
+				case DOUBLE -> writeLong(changed, bits, Long.BYTES);
+				case FLOAT -> writeLong(changed, bits, Integer.BYTES);
+				case STRING, JSON -> writeString(changed, text);
+				default -> {
+				}
+				}
+				values.set(index, tag, bits, text);
+			}
+			out.writeBytes(unchanged);
+			out.writeBytes(changed.toByteArray());
+		}
+
+		private static byte tagOf(JsonElement value) {
+			if (value == null || value.isJsonNull()) {
+				return NULL;
+			}
+			if (!value.isJsonPrimitive()) {
+				return JSON;
+			}
+			final var primitive = value.getAsJsonPrimitive();
+			if (primitive.isBoolean()) {
+				return primitive.getAsBoolean() ? TRUE : FALSE;
+			}
+			if (primitive.isString()) {
+				return STRING;
+			}
+			return switch (primitive.getAsNumber()) {
+			case Integer i -> LONG;
+			case Long l -> LONG;
+			case Short s -> LONG;
+			case Byte b -> LONG;
+			case Double d -> DOUBLE;
+			case Float f -> FLOAT;
+			// e.g. parsed from JSON; keep the exact representation
+			default -> JSON;
+			};
+		}
+
+		private static long bitsOf(byte tag, JsonElement value) {
+			return switch (tag) {
+			case LONG -> value.getAsLong();
+			case DOUBLE -> Double.doubleToRawLongBits(value.getAsDouble());
+			case FLOAT -> Float.floatToRawIntBits(value.getAsFloat()) & 0xFFFFFFFFL;
+			default -> 0L;
+			};
+		}
+
+		private static String textOf(byte tag, JsonElement value) {
+			return switch (tag) {
+			case STRING -> value.getAsString();
+			case JSON -> value.toString();
+			default -> null;
+			};
+		}
+	}
+
+	/**
+	 * Decodes binary frames of one connection to data notifications.
+	 *
+	 * <p>
+	 * Frames have to be decoded in the order they were received. After an error
+	 * all frames are rejected until the next frame with the reset flag.
+	 */
+	public static final class Decoder {
+
+		private final List<String> dictionary = new ArrayList<>();
+		private final Values timestamped = new Values();
+		private final Values aggregated = new Values();
+		private boolean valid = false;
+
+		/**
+		 * Decodes a binary frame.
+		 *
+		 * @param frame the binary frame
+		 * @return a {@link TimestampedDataNotification} or an
+		 *         {@link AggregatedDataNotification}
+		 * @throws OpenemsException on error
+		 */
+		public synchronized AbstractDataNotification decode(ByteBuffer frame) throws OpenemsException {
+			try {
+				return this.decodeFrame(frame);
+			} catch (OpenemsException e) {
+				this.valid = false;
+				throw e;
+			} catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException
+					| JsonParseException e) {
+				this.valid = false;
+				throw new OpenemsException("Invalid binary data frame: " + e.getClass().getSimpleName());
+			}
+		}
+
+		private AbstractDataNotification decodeFrame(ByteBuffer in) throws OpenemsException {
+			final var version = in.get();
+			if (version != VERSION) {
+				throw new OpenemsException("Unsupported binary data version [" + version + "]");
+			}
+			final var flags = in.get();
+			if ((flags & FLAG_RESET) != 0) {
+				this.dictionary.clear();
+				this.timestamped.clear();
+				this.aggregated.clear();
+				this.valid = true;
+			} else if (!this.valid) {
+				throw new OpenemsException("Binary data frame without prior reset");
+			}
+
+			final AbstractDataNotification notification;
+			final Values values;
+			switch (flags & KIND_MASK) {
+			case KIND_TIMESTAMPED -> {
+				notification = new TimestampedDataNotification();
+				values = this.timestamped;
+			}
+			case KIND_AGGREGATED -> {
+				notification = new AggregatedDataNotification();
+				values = this.aggregated;
+			}
+			default -> throw new OpenemsException("Unknown binary data kind [" + flags + "]");
+			}
+
+			final var additions = readCount(in, in.remaining());
+			for (var i = 0; i < additions; i++) {
+				this.dictionary.add(readString(in));
+			}
+			values.ensureCapacity(this.dictionary.size());
+
+			final var rows = readCount(in, in.remaining());
+			for (var r = 0; r < rows; r++) {
+				values.timestamp += unzigzag(readLong(in));
+				this.decodeRow(in, notification, values);
+			}
+			return notification;
+		}
+
+		private void decodeRow(ByteBuffer in, AbstractDataNotification notification, Values values) {
+			final var count = readCount(in, this.dictionary.size());
+			final var indexes = new int[count];
+			switch (in.get()) {
+			case CHANNELS_LIST -> {
+				var previous = -1;
+				for (var i = 0; i < count; i++) {
+					previous += readVarint(in) + 1;
+					indexes[i] = previous;
+				}
+			}
+			case CHANNELS_BITSET -> {
+				final var bitset = new byte[(this.dictionary.size() + 7) / 8];
+				in.get(bitset);
+				var i = 0;
+				for (var index = 0; index < this.dictionary.size() && i < count; index++) {
+					if ((bitset[index >>> 3] & 1 << (index & 7)) != 0) {
+						indexes[i++] = index;
+					}
+				}
+				if (i != count) {
+					throw new IllegalArgumentException();
+				}
+			}
+			default -> throw new IllegalArgumentException();
+			}
+
+			final var unchanged = new byte[(count + 7) / 8];
+			in.get(unchanged);
+			for (var j = 0; j < count; j++) {
+				final var index = indexes[j];
+				final var address = this.dictionary.get(index);
+				if ((unchanged[j >>> 3] & 1 << (j & 7)) == 0) {
+					final var tag = in.get();
+					switch (tag) {
+					case NULL, FALSE, TRUE -> values.set(index, tag, 0L, null);
+					case LONG -> values.set(index, tag, values.lastLong(index) + unzigzag(readLong(in)), null);
+					case DOUBLE -> values.set(index, tag, in.getLong(), null);
+					case FLOAT -> values.set(index, tag, in.getInt() & 0xFFFFFFFFL, null);
+					case STRING, JSON -> values.set(index, tag, 0L, readString(in));
+					default -> throw new IllegalArgumentException();
+					}
+				}
+				notification.add(values.timestamp, address, toJson(values, index));
+			}
+		}
+
+		private static JsonElement toJson(Values values, int index) {
+			final var bits = values.bits[index];
+			return switch (values.tags[index]) {
+			case NULL -> JsonNull.INSTANCE;
+			case FALSE -> new JsonPrimitive(false);
+			case TRUE -> new JsonPrimitive(true);
+			case LONG -> new JsonPrimitive(bits);
+			case DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(bits));
+			case FLOAT -> new JsonPrimitive(Float.intBitsToFloat((int) bits));
+			case STRING -> new JsonPrimitive(values.texts[index]);
+			case JSON -> JsonParser.parseString(values.texts[index]);
+			default -> throw new IllegalArgumentException();
+			};
+		}
+	}
+
+	private static long zigzag(long value) {
+		return value << 1 ^ value >> 63;
+	}
+
+	private static long unzigzag(long value) {
+		return value >>> 1 ^ -(value & 1);
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) (value & 0x7F | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readLong(ByteBuffer in) {
+		var result = 0L;
+		for (var shift = 0; shift < 64; shift += 7) {
+			final var b = in.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IllegalArgumentException();
+	}
+
+	private static int readVarint(ByteBuffer in) {
+		final var value = readLong(in);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException();
+		}
+		return (int) value;
+	}
+
+	private static int readCount(ByteBuffer in, int max) {
+		final var value = readVarint(in);
+		if (value > max) {
+			// more elements than the frame could possibly describe
+			throw new IllegalArgumentException();
+		}
+		return value;
+	}
+
+	private static void writeLong(ByteArrayOutputStream out, long value, int bytes) {
+		for (var i = bytes - 1; i >= 0; i--) {
+			out.write((int) (value >>> (8 * i)));
+		}
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) {
+		final var bytes = value.getBytes(UTF_8);
+		writeVarint(out, bytes.length);
+		out.writeBytes(bytes);
+	}
+
+	private static String readString(ByteBuffer in) {
+		final var bytes = new byte[readCount(in, in.remaining())];
+		in.get(bytes);
+		return new String(bytes, UTF_8);
+	}
+}
@@ -0,0 +1,130 @@
+package io.openems.common.websocket;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.utils.StringUtils;
+
+/**
+ * Parses JSON-RPC messages with a {@link JsonReader}.
+ *
+ * <p>
+ * The "params" of {@link TimestampedDataNotification}s and
+ * {@link AggregatedDataNotification}s are read directly into the
+ * {@link TreeBasedTable} of the notification, without building the
+ * intermediate {@link JsonObject} tree and copying it afterwards. All other
+ * messages are parsed like {@link JsonrpcMessage#from(String)}.
+ */
+public final class JsonrpcStreamParser {
+
+	private JsonrpcStreamParser() {
+	}
+
+	/**
+	 * Parses a JSON String to a {@link JsonrpcMessage}.
+	 *
+	 * @param json the JSON String
+	 * @return the {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static JsonrpcMessage parse(String json) throws OpenemsNamedException {
+		try {
+			return parse(new JsonReader(new StringReader(json)));
+
+		} catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+			throw OpenemsError.JSON_PARSE_FAILED.exception(e.getMessage(), StringUtils.toShortString(json, 100));
+		}
+	}
+
+	private static JsonrpcMessage parse(JsonReader reader) throws IOException, OpenemsNamedException {
+		reader.setStrictness(Strictness.LENIENT);
+		var j = new JsonObject();
+		String method = null;
+		AbstractDataNotification data = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			var name = reader.nextName();
+			if (name.equals("method") && reader.peek() == JsonToken.STRING) {
+				method = reader.nextString();
+				j.addProperty(name, method);
+
+			} else if (name.equals("params") && reader.peek() == JsonToken.BEGIN_OBJECT //
+					&& isDataNotification(method)) {
+				data = method.equals(TimestampedDataNotification.METHOD) //
+						? new TimestampedDataNotification() //
+						: new AggregatedDataNotification();
+				readData(reader, data.getData());
+
+			} else {
+				// "params" before "method", requests, responses,...
+				j.add(name, JsonParser.parseReader(reader));
+			}
+		}
+		reader.endObject();
+		if (reader.peek() != JsonToken.END_DOCUMENT) {
+			throw new JsonParseException("Did not consume the entire document");
+		}
+
+		if (data == null) {
+			return JsonrpcMessage.from(j);
+		}
+		if (j.has("id") || j.has("result") || j.has("error")) {
+			// Not a notification; let the generic parser decide
+			j.add("params", data.getParams());
+			return JsonrpcMessage.from(j);
+		}
+		return data;
+	}
+
+	private static boolean isDataNotification(String method) {
+		return TimestampedDataNotification.METHOD.equals(method) || AggregatedDataNotification.METHOD.equals(method);
+	}
+
+	/**
+	 * Reads "params" of an {@link AbstractDataNotification}.
+	 *
+	 * <pre>
+	 * {
+	 *   [timestamp: epoch in milliseconds]: {
+	 *     [channelAddress]: {@link JsonElement}
+	 *   }
+	 * }
+	 * </pre>
+	 *
+	 * @param reader the {@link JsonReader}
+	 * @param data   the target table
+	 * @throws IOException on error
+	 */
+	private static void readData(JsonReader reader, TreeBasedTable<Long, String, JsonElement> data)
+			throws IOException {
+		reader.beginObject();
+		while (reader.hasNext()) {
+			var timestamp = Long.parseLong(reader.nextName());
+			reader.beginObject();
+			while (reader.hasNext()) {
+				var address = reader.nextName();
+				// values are parsed like in the JsonObject tree, e.g. numbers stay lazy
+				data.put(timestamp, address, JsonParser.parseReader(reader));
+			}
+			reader.endObject();
+		}
+		reader.endObject();
+	}
+
+}
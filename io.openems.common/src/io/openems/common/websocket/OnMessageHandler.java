@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingFunction;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
@@ -31,6 +32,7 @@ public final class OnMessageHandler implements Runnable {
 	private final Logger log = LoggerFactory.getLogger(OnMessageHandler.class);
 	private final WebSocket ws;
 	private final String message;
+	private final ThrowingFunction<String, JsonrpcMessage, OpenemsNamedException> parser;
 	private final OnRequest onRequest;
 	private final OnNotification onNotification;
 	private final BiPredicate<WebSocket, JsonrpcMessage> sendMessage;
@@ -44,8 +46,20 @@ public final class OnMessageHandler implements Runnable {
 			BiPredicate<WebSocket, JsonrpcMessage> sendMessage, //
 			BiConsumer<Throwable, String> handleInternalError, //
 			BiConsumer<Logger, String> logWarn) {
+		this(ws, message, JsonrpcMessage::from, onRequest, onNotification, sendMessage, handleInternalError, logWarn);
+	}
+
+	public OnMessageHandler(//
+			WebSocket ws, String message, //
+			ThrowingFunction<String, JsonrpcMessage, OpenemsNamedException> parser, //
+			OnRequest onRequest, //
+			OnNotification onNotification, //
+			BiPredicate<WebSocket, JsonrpcMessage> sendMessage, //
+			BiConsumer<Throwable, String> handleInternalError, //
+			BiConsumer<Logger, String> logWarn) {
 		this.ws = ws;
 		this.message = message;
+		this.parser = parser;
 		this.onRequest = onRequest;
 		this.onNotification = onNotification;
 		this.sendMessage = sendMessage;
@@ -56,7 +70,7 @@ public final class OnMessageHandler implements Runnable {
 	@Override
 	public final void run() {
 		try {
-			var message = JsonrpcMessage.from(this.message);
+			var message = this.parser.apply(this.message);
 
 			if (message instanceof JsonrpcRequest request) {
 				this.handleJsonrpcRequest(this.ws, request);
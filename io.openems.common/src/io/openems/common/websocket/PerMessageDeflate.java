@@ -0,0 +1,382 @@
+package io.openems.common.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.enums.Opcode;
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.extensions.CompressionExtension;
+import org.java_websocket.extensions.IExtension;
+import org.java_websocket.framing.CloseFrame;
+import org.java_websocket.framing.DataFrame;
+import org.java_websocket.framing.Framedata;
+
+/**
+ * The websocket "permessage-deflate" extension (RFC 7692) with context
+ * takeover.
+ *
+ * <p>
+ * With context takeover the compression window is kept between messages, so
+ * Channel-Addresses and other repeated JSON are only sent in full once. This
+ * requires frames to be written in the order they were compressed; all sends
+ * are synchronized on the {@link org.java_websocket.WebSocket}.
+ *
+ * <p>
+ * The defaults were chosen with {@code PerMessageDeflateTestApp}: with context
+ * takeover typical data notifications shrink to about 20 % (level 6) or 28 %
+ * (level 1) of their size, compared to about 50 % without. Level 1
+ * compresses about three times faster than level 6, so servers with many
+ * connections use level 1 and clients, e.g. Edges on metered links, level 6.
+ * Small messages benefit most from the shared window, so the threshold is low.
+ */
+public class PerMessageDeflate extends CompressionExtension {
+
+	/**
+	 * Configuration of {@link PerMessageDeflate}.
+	 *
+	 * @param enabled          offer or accept the extension
+	 * @param compressionLevel the {@link Deflater} compression level
+	 * @param threshold        the minimum payload size in bytes of a message to
+	 *                         be compressed
+	 * @param contextTakeover  keep the compression window between messages
+	 */
+	public record Config(boolean enabled, int compressionLevel, int threshold, boolean contextTakeover) {
+
+		public static final Config SERVER_DEFAULT = new Config(true, Deflater.BEST_SPEED, 64, true);
+		public static final Config CLIENT_DEFAULT = new Config(true, Deflater.DEFAULT_COMPRESSION, 64, true);
+		public static final Config DISABLED = new Config(false, Deflater.NO_COMPRESSION, Integer.MAX_VALUE, false);
+
+	}
+
+	/**
+	 * Payload bytes of data frames, before and after compression, of all
+	 * connections that negotiated {@link PerMessageDeflate}.
+	 */
+	public static final class Metrics {
+
+		private final LongAdder uncompressedBytesSent = new LongAdder();
+		private final LongAdder compressedBytesSent = new LongAdder();
+		private final LongAdder uncompressedBytesReceived = new LongAdder();
+		private final LongAdder compressedBytesReceived = new LongAdder();
+
+		/**
+		 * Gets the metrics.
+		 *
+		 * @return a map of metric name to value
+		 */
+		public Map<String, Number> debugMetrics() {
+			final var result = new HashMap<String, Number>();
+			result.put("UncompressedBytesSent", this.uncompressedBytesSent.sum());
+			result.put("CompressedBytesSent", this.compressedBytesSent.sum());
+			result.put("UncompressedBytesReceived", this.uncompressedBytesReceived.sum());
+			result.put("CompressedBytesReceived", this.compressedBytesReceived.sum());
+			return result;
+		}
+
+		/**
+		 * Gets the size of all sent payload after compression relative to its size
+		 * before.
+		 *
+		 * @return the ratio; 1 if nothing was sent
+		 */
+		public double getSentRatio() {
+			final var uncompressed = this.uncompressedBytesSent.sum();
+			return uncompressed == 0 ? 1. : this.compressedBytesSent.sum() / (double) uncompressed;
+		}
+	}
+
+	public static final String EXTENSION_NAME = "permessage-deflate";
+
+	private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+	private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+	private static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+	private static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+	// Deflater always uses the maximum window
+	private static final String MAX_WINDOW_BITS = "15";
+
+	private static final byte[] TAIL = { 0x00, 0x00, (byte) 0xFF, (byte) 0xFF };
+	private static final int BUFFER_SIZE = 1 << 12;
+
+	/**
+	 * Creates the extensions for a {@link Draft}.
+	 *
+	 * @param config  the {@link Config}
+	 * @param metrics the {@link Metrics}
+	 * @return a list with a {@link PerMessageDeflate}; empty if disabled
+	 */
+	public static List<IExtension> extensions(Config config, Metrics metrics) {
+		if (!config.enabled()) {
+			return List.of();
+		}
+		return List.of(new PerMessageDeflate(config, metrics));
+	}
+
+	/**
+	 * Creates a client {@link Draft} that offers {@link PerMessageDeflate}.
+	 *
+	 * @param config the {@link Config}
+	 * @return the {@link Draft}
+	 */
+	public static Draft clientDraft(Config config) {
+		return new Draft_6455(extensions(config, new Metrics()));
+	}
+
+	/**
+	 * Gets the {@link Metrics} of the {@link PerMessageDeflate} known to a
+	 * {@link Draft}.
+	 *
+	 * @param draft the {@link Draft}
+	 * @return the {@link Metrics}; new, empty {@link Metrics} if the draft does
+	 *         not know {@link PerMessageDeflate}
+	 */
+	public static Metrics getMetrics(Draft draft) {
+		final List<IExtension> extensions;
+		if (draft instanceof Draft_6455 d) {
+			extensions = d.getKnownExtensions();
+		} else if (draft instanceof MyDraft6455 d) {
+			extensions = d.getKnownExtensions();
+		} else {
+			extensions = List.of();
+		}
+		for (var extension : extensions) {
+			if (extension instanceof PerMessageDeflate pmd) {
+				return pmd.metrics;
+			}
+		}
+		return new Metrics();
+	}
+
+	private final Config config;
+	private final Metrics metrics;
+	private final Deflater deflater;
+	private final Inflater inflater = new Inflater(true);
+
+	// Negotiated parameters
+	private boolean resetDeflater;
+	private String responseAsServer = "";
+
+	// State of the current message
+	private boolean compressing = false;
+	private boolean decompressing = false;
+
+	public PerMessageDeflate(Config config, Metrics metrics) {
+		this.config = config;
+		this.metrics = metrics;
+		this.deflater = new Deflater(config.compressionLevel(), true);
+		this.resetDeflater = !config.contextTakeover();
+	}
+
+	@Override
+	public boolean acceptProvidedExtensionAsServer(String inputExtensionHeader) {
+		for (var offer : parse(inputExtensionHeader)) {
+			var serverNoContextTakeover = !this.config.contextTakeover();
+			var clientNoContextTakeover = !this.config.contextTakeover();
+			var accept = true;
+			for (var param : offer.entrySet()) {
+				switch (param.getKey()) {
+				case SERVER_NO_CONTEXT_TAKEOVER -> serverNoContextTakeover = true;
+				case CLIENT_NO_CONTEXT_TAKEOVER -> clientNoContextTakeover = true;
+				// Client may use a smaller window; Inflater handles any window
+				case CLIENT_MAX_WINDOW_BITS -> {
+				}
+				case SERVER_MAX_WINDOW_BITS -> accept &= MAX_WINDOW_BITS.equals(param.getValue());
+				default -> accept = false;
+				}
+			}
+			if (accept) {
+				this.resetDeflater = serverNoContextTakeover;
+				this.responseAsServer = EXTENSION_NAME //
+						+ (serverNoContextTakeover ? "; " + SERVER_NO_CONTEXT_TAKEOVER : "") //
+						+ (clientNoContextTakeover ? "; " + CLIENT_NO_CONTEXT_TAKEOVER : "");
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean acceptProvidedExtensionAsClient(String inputExtensionHeader) {
+		for (var response : parse(inputExtensionHeader)) {
+			var clientNoContextTakeover = !this.config.contextTakeover();
+			var accept = true;
+			for (var param : response.entrySet()) {
+				switch (param.getKey()) {
+				case CLIENT_NO_CONTEXT_TAKEOVER -> clientNoContextTakeover = true;
+				// Inflater handles any window of the server
+				case SERVER_NO_CONTEXT_TAKEOVER, SERVER_MAX_WINDOW_BITS -> {
+				}
+				case CLIENT_MAX_WINDOW_BITS -> accept &= MAX_WINDOW_BITS.equals(param.getValue());
+				default -> accept = false;
+				}
+			}
+			if (accept) {
+				this.resetDeflater = clientNoContextTakeover;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String getProvidedExtensionAsClient() {
+		if (this.config.contextTakeover()) {
+			return EXTENSION_NAME;
+		}
+		return EXTENSION_NAME + "; " + SERVER_NO_CONTEXT_TAKEOVER + "; " + CLIENT_NO_CONTEXT_TAKEOVER;
+	}
+
+	@Override
+	public String getProvidedExtensionAsServer() {
+		return this.responseAsServer;
+	}
+
+	@Override
+	public void encodeFrame(Framedata inputFrame) {
+		if (!(inputFrame instanceof DataFrame frame)) {
+			// Control frames are never compressed
+			return;
+		}
+		final var payload = toBytes(frame.getPayloadData());
+		if (frame.getOpcode() != Opcode.CONTINUOUS) {
+			this.compressing = payload.length >= this.config.threshold();
+		}
+		this.metrics.uncompressedBytesSent.add(payload.length);
+		if (!this.compressing) {
+			this.metrics.compressedBytesSent.add(payload.length);
+			return;
+		}
+
+		final var out = new ByteArrayOutputStream(payload.length / 2 + TAIL.length);
+		final var buffer = new byte[BUFFER_SIZE];
+		this.deflater.setInput(payload);
+		int length;
+		do {
+			length = this.deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+			out.write(buffer, 0, length);
+		} while (length == buffer.length);
+
+		var result = out.toByteArray();
+		if (frame.isFin()) {
+			if (endsWithTail(result)) {
+				result = Arrays.copyOf(result, result.length - TAIL.length);
+			}
+			if (this.resetDeflater) {
+				this.deflater.reset();
+			}
+		}
+		frame.setPayload(ByteBuffer.wrap(result));
+		if (frame.getOpcode() != Opcode.CONTINUOUS) {
+			frame.setRSV1(true);
+		}
+		this.metrics.compressedBytesSent.add(result.length);
+	}
+
+	@Override
+	public void decodeFrame(Framedata inputFrame) throws InvalidDataException {
+		if (!(inputFrame instanceof DataFrame frame)) {
+			return;
+		}
+		if (frame.getOpcode() != Opcode.CONTINUOUS) {
+			this.decompressing = frame.isRSV1();
+		} else if (frame.isRSV1()) {
+			throw new InvalidDataException(CloseFrame.POLICY_VALIDATION,
+					"RSV1 must only be set on the first frame of a message");
+		}
+		final var payload = toBytes(frame.getPayloadData());
+		this.metrics.compressedBytesReceived.add(payload.length);
+		if (!this.decompressing) {
+			this.metrics.uncompressedBytesReceived.add(payload.length);
+			return;
+		}
+
+		final var out = new ByteArrayOutputStream(payload.length * 4);
+		try {
+			this.inflate(payload, out);
+			if (frame.isFin()) {
+				this.inflate(TAIL, out);
+			}
+		} catch (DataFormatException e) {
+			throw new InvalidDataException(CloseFrame.POLICY_VALIDATION, e.getMessage());
+		}
+		frame.setPayload(ByteBuffer.wrap(out.toByteArray()));
+		frame.setRSV1(false);
+		this.metrics.uncompressedBytesReceived.add(out.size());
+	}
+
+	private void inflate(byte[] input, ByteArrayOutputStream out) throws DataFormatException {
+		final var buffer = new byte[BUFFER_SIZE];
+		this.inflater.setInput(input);
+		int length;
+		while ((length = this.inflater.inflate(buffer)) > 0) {
+			out.write(buffer, 0, length);
+		}
+	}
+
+	@Override
+	public IExtension copyInstance() {
+		return new PerMessageDeflate(this.config, this.metrics);
+	}
+
+	@Override
+	public void reset() {
+		this.deflater.reset();
+		this.inflater.reset();
+		this.compressing = false;
+		this.decompressing = false;
+	}
+
+	@Override
+	public String toString() {
+		return "PerMessageDeflate";
+	}
+
+	private static boolean endsWithTail(byte[] data) {
+		if (data.length < TAIL.length) {
+			return false;
+		}
+		return Arrays.equals(data, data.length - TAIL.length, data.length, TAIL, 0, TAIL.length);
+	}
+
+	private static byte[] toBytes(ByteBuffer buffer) {
+		final var result = new byte[buffer.remaining()];
+		buffer.duplicate().get(result);
+		return result;
+	}
+
+	/**
+	 * Parses a Sec-WebSocket-Extensions header to the parameters of all
+	 * "permessage-deflate" entries.
+	 *
+	 * @param header the header; possibly null
+	 * @return a list of parameter maps
+	 */
+	protected static List<Map<String, String>> parse(String header) {
+		if (header == null || header.isBlank()) {
+			return List.of();
+		}
+		return Arrays.stream(header.split(",")) //
+				.map(entry -> entry.split(";")) //
+				.filter(parts -> parts[0].trim().equalsIgnoreCase(EXTENSION_NAME)) //
+				.map(parts -> {
+					final var params = new LinkedHashMap<String, String>();
+					for (var i = 1; i < parts.length; i++) {
+						final var param = parts[i].split("=", 2);
+						params.put(param[0].trim().toLowerCase(),
+								param.length > 1 ? param[1].trim().replace("\"", "") : "");
+					}
+					return (Map<String, String>) params;
+				}) //
+				.toList();
+	}
+}
@@ -97,7 +97,10 @@ public class WsData {
 			return false;
 		}
 		try {
-			this.websocket.send(message.toString());
+			// see AbstractWebsocket#sendMessage()
+			synchronized (this.websocket) {
+				this.websocket.send(message.toString());
+			}
 			return true;
 		} catch (WebsocketNotConnectedException e) {
 			// handles corner cases
@@ -0,0 +1,136 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class BinaryDataNotificationCodecTest {
+
+	private static void assertRoundTrip(BinaryDataNotificationCodec.Encoder encoder,
+			BinaryDataNotificationCodec.Decoder decoder, AbstractDataNotification notification)
+			throws OpenemsException {
+		final var decoded = decoder.decode(ByteBuffer.wrap(encoder.encode(notification)));
+		assertEquals(notification.getClass(), decoded.getClass());
+		// compare the JSON representation
+		assertEquals(notification.getParams().toString(), decoded.getParams().toString());
+	}
+
+	@Test
+	public void testRoundTrip() throws OpenemsException {
+		final var encoder = new BinaryDataNotificationCodec.Encoder();
+		final var decoder = new BinaryDataNotificationCodec.Decoder();
+
+		final var n1 = new TimestampedDataNotification();
+		n1.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(55));
+		n1.add(1_700_000_000_000L, "_sum/GridActivePower", new JsonPrimitive(-1234L));
+		n1.add(1_700_000_000_000L, "meter0/Frequency", new JsonPrimitive(50.02));
+		n1.add(1_700_000_000_000L, "meter0/Voltage", new JsonPrimitive(230.1F));
+		n1.add(1_700_000_000_000L, "_sum/State", new JsonPrimitive(true));
+		n1.add(1_700_000_000_000L, "_meta/Version", new JsonPrimitive("2024.1.0"));
+		n1.add(1_700_000_000_000L, "ess0/Undefined", JsonNull.INSTANCE);
+		n1.add(1_700_000_000_000L, "ess0/Parsed", JsonParser.parseString("1.10"));
+		final var array = new JsonArray();
+		array.add(1);
+		n1.add(1_700_000_000_000L, "ess0/Array", array);
+		n1.add(1_700_000_001_000L, "_sum/EssSoc", new JsonPrimitive(56));
+		assertRoundTrip(encoder, decoder, n1);
+
+		// Deltas, unchanged values and a new Channel
+		final var n2 = new TimestampedDataNotification();
+		n2.add(1_700_000_002_000L, "_sum/EssSoc", new JsonPrimitive(56));
+		n2.add(1_700_000_002_000L, "_sum/GridActivePower", new JsonPrimitive(Long.MAX_VALUE));
+		n2.add(1_700_000_002_000L, "_sum/State", new JsonPrimitive(false));
+		n2.add(1_700_000_002_000L, "_meta/Version", new JsonPrimitive("2024.1.0"));
+		n2.add(1_700_000_002_000L, "ess0/Undefined", new JsonPrimitive(Long.MIN_VALUE));
+		n2.add(1_700_000_002_000L, "ess1/ActivePower", new JsonPrimitive(0));
+		assertRoundTrip(encoder, decoder, n2);
+
+		// Aggregated data is independent of timestamped data
+		final var n3 = new AggregatedDataNotification();
+		n3.add(1_699_999_700_000L, "_sum/EssSoc", new JsonPrimitive(54));
+		n3.add(1_699_999_700_000L, "ess2/ActivePower", new JsonPrimitive(-5));
+		assertRoundTrip(encoder, decoder, n3);
+	}
+
+	@Test
+	public void testCompactness() throws OpenemsException {
+		final var encoder = new BinaryDataNotificationCodec.Encoder();
+		final var decoder = new BinaryDataNotificationCodec.Decoder();
+
+		final var data = new HashMap<String, JsonElement>();
+		for (var i = 0; i < 1000; i++) {
+			data.put("component" + i / 10 + "/Channel" + i % 10, new JsonPrimitive(i * 1000));
+		}
+		final var all = new TimestampedDataNotification();
+		all.add(1_700_000_000_000L, data);
+		final var first = encoder.encode(all);
+		decoder.decode(ByteBuffer.wrap(first));
+
+		// Channel-Addresses are sent once
+		final var again = new TimestampedDataNotification();
+		again.add(1_700_000_001_000L, data);
+		final var second = encoder.encode(again);
+		assertTrue(second.length < 300);
+		assertEquals(again.getParams(), decoder.decode(ByteBuffer.wrap(second)).getParams());
+
+		// Only changed values
+		final var changed = new TimestampedDataNotification();
+		changed.add(1_700_000_002_000L, "component5/Channel3", new JsonPrimitive(53_001));
+		final var third = encoder.encode(changed);
+		assertTrue(third.length < 16);
+		assertEquals(changed.getParams(), decoder.decode(ByteBuffer.wrap(third)).getParams());
+
+		// smaller than the JSON text, even with all Channel-Addresses
+		assertTrue(first.length < all.toString().length());
+	}
+
+	@Test
+	public void testReset() throws OpenemsException {
+		final var encoder = new BinaryDataNotificationCodec.Encoder();
+		final var decoder = new BinaryDataNotificationCodec.Decoder();
+
+		final var n1 = new TimestampedDataNotification();
+		n1.add(1000L, "_sum/EssSoc", new JsonPrimitive(50));
+		final var first = encoder.encode(n1);
+		final var n2 = new TimestampedDataNotification();
+		n2.add(2000L, "_sum/EssSoc", new JsonPrimitive(51));
+		final var second = encoder.encode(n2);
+
+		// A frame without its predecessors is rejected
+		assertThrows(OpenemsException.class, () -> decoder.decode(ByteBuffer.wrap(second)));
+		// ...also after an invalid frame
+		decoder.decode(ByteBuffer.wrap(first));
+		assertThrows(OpenemsException.class, () -> decoder.decode(ByteBuffer.wrap(new byte[] { 1, 2, 5 })));
+		assertThrows(OpenemsException.class, () -> decoder.decode(ByteBuffer.wrap(second)));
+
+		// A reset frame starts a new state
+		encoder.reset();
+		assertRoundTrip(encoder, decoder, n2);
+		assertRoundTrip(encoder, decoder, n1);
+	}
+
+	@Test
+	public void testIsSupported() {
+		assertTrue(BinaryDataNotificationCodec.isSupported(BinaryDataNotificationCodec.getHttpHeaderValue()));
+		assertFalse(BinaryDataNotificationCodec.isSupported(""));
+		assertFalse(BinaryDataNotificationCodec.isSupported(null));
+	}
+
+}
@@ -0,0 +1,79 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.base.GenericJsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.base.JsonrpcResponseError;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class JsonrpcStreamParserTest {
+
+	private static final String TIMESTAMPED_DATA = """
+			{"jsonrpc":"2.0","method":"timestampedData","params":{
+			  "1700000000000":{"_sum/State":0,"_meta/Version":"2024.1.0","meter0/Frequency":50.02,
+			    "ess0/Undefined":null,"ess0/Flag":true,"ess0/Array":[1,2]},
+			  "1700000001000":{"_sum/EssSoc":55}
+			}}""";
+
+	private static void assertSameAsTree(Class<? extends JsonrpcMessage> expectedClass, String json)
+			throws OpenemsNamedException {
+		var actual = JsonrpcStreamParser.parse(json);
+		assertTrue(expectedClass.isInstance(actual));
+		assertEquals(JsonrpcMessage.from(json).toJsonObject(), actual.toJsonObject());
+	}
+
+	@Test
+	public void testDataNotifications() throws OpenemsNamedException {
+		var message = JsonrpcStreamParser.parse(TIMESTAMPED_DATA);
+		var n = (TimestampedDataNotification) message;
+		assertEquals(7, n.getData().size());
+		assertEquals(50.02, n.getData().get(1_700_000_000_000L, "meter0/Frequency").getAsDouble(), 0);
+		assertEquals(((JsonrpcNotification) JsonrpcMessage.from(TIMESTAMPED_DATA)).getParams(), n.getParams());
+		assertTrue(TimestampedDataNotification.from(n) == n);
+
+		assertSameAsTree(AggregatedDataNotification.class, """
+				{"method":"aggregatedData","jsonrpc":"2.0","params":{"1700000000000":{"_sum/EssSoc":55}}}""");
+		assertSameAsTree(TimestampedDataNotification.class, """
+				{"jsonrpc":"2.0","method":"timestampedData","params":{}}""");
+	}
+
+	@Test
+	public void testOtherMessages() throws OpenemsNamedException {
+		// "params" before "method" falls back to the generic notification
+		assertSameAsTree(GenericJsonrpcNotification.class, """
+				{"jsonrpc":"2.0","params":{"1700000000000":{"_sum/EssSoc":55}},"method":"timestampedData"}""");
+		assertSameAsTree(GenericJsonrpcNotification.class, """
+				{"jsonrpc":"2.0","method":"edgeConfig","params":{"components":{}}}""");
+		assertSameAsTree(GenericJsonrpcRequest.class, """
+				{"jsonrpc":"2.0","method":"timestampedData","id":"f7a1a8b4-47b4-4f55-8d6b-0b1a0ca2a6f5",
+				"params":{"1700000000000":{"_sum/EssSoc":55}}}""");
+		assertSameAsTree(JsonrpcResponseSuccess.class, """
+				{"jsonrpc":"2.0","id":"f7a1a8b4-47b4-4f55-8d6b-0b1a0ca2a6f5","result":{}}""");
+		assertSameAsTree(JsonrpcResponseError.class, """
+				{"jsonrpc":"2.0","id":"f7a1a8b4-47b4-4f55-8d6b-0b1a0ca2a6f5",
+				"error":{"code":1,"message":"error","data":[]}}""");
+	}
+
+	@Test
+	public void testInvalid() {
+		for (var json : List.of("", "[]", "{\"jsonrpc\":\"2.0\"}", "{\"method\":\"timestampedData\",\"params\":{}} {}",
+				"{\"method\":\"timestampedData\",\"params\":{\"now\":{}}}",
+				"{\"method\":\"timestampedData\",\"params\":{\"1700000000000\":1}}",
+				"{\"method\":\"timestampedData\",\"params\":{\"1700000000000\":{")) {
+			assertThrows(json, OpenemsNamedException.class, () -> JsonrpcStreamParser.parse(json));
+		}
+	}
+
+}
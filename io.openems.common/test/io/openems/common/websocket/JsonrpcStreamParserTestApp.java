@@ -0,0 +1,84 @@
+package io.openems.common.websocket;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.google.gson.JsonPrimitive;
+import com.sun.management.ThreadMXBean;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingFunction;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Compares allocations and throughput of {@link JsonrpcStreamParser} with the
+ * {@link JsonrpcMessage#from(String)} tree plus
+ * {@link TimestampedDataNotification#from(JsonrpcNotification)}.
+ */
+public class JsonrpcStreamParserTestApp {
+
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the args
+	 * @throws OpenemsNamedException on error
+	 */
+	public static void main(String[] args) throws OpenemsNamedException {
+		var messages = generateMessages(200);
+		var bytes = messages.stream().mapToLong(String::length).sum();
+
+		ThrowingFunction<String, AbstractDataNotification, OpenemsNamedException> tree = m -> //
+		TimestampedDataNotification.from((JsonrpcNotification) JsonrpcMessage.from(m));
+		ThrowingFunction<String, AbstractDataNotification, OpenemsNamedException> stream = m -> //
+		(AbstractDataNotification) JsonrpcStreamParser.parse(m);
+
+		var result = new StringBuilder("Parser | Bytes allocated/message | MB/s\n");
+		for (var i = 0; i < 2; i++) {
+			// first round is warm-up
+			result.setLength(result.indexOf("\n") + 1);
+			for (var parser : List.of(tree, stream)) {
+				var allocated = allocatedBytes();
+				var start = System.nanoTime();
+				for (var message : messages) {
+					parser.apply(message);
+				}
+				var nanos = System.nanoTime() - start;
+				allocated = allocatedBytes() - allocated;
+				result.append(String.format("%6s | %26d | %.1f\n", parser == tree ? "Tree" : "Stream",
+						allocated / messages.size(), bytes / 1e3 / Math.max(1, nanos / 1e6)));
+			}
+		}
+		System.out.println(result);
+	}
+
+	private static long allocatedBytes() {
+		if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean) {
+			return bean.getCurrentThreadAllocatedBytes();
+		}
+		return 0;
+	}
+
+	private static List<String> generateMessages(int count) {
+		var random = new Random(0);
+		var result = new ArrayList<String>();
+		for (var m = 0; m < count; m++) {
+			var n = new TimestampedDataNotification();
+			for (var i = 0; i < 1000; i++) {
+				var address = "component" + i / 20 + "/Channel" + i % 20;
+				if (i % 3 == 0) {
+					n.add(1_700_000_000_000L + m * 1000, address, new JsonPrimitive(random.nextDouble()));
+				} else {
+					n.add(1_700_000_000_000L + m * 1000, address, new JsonPrimitive(random.nextInt()));
+				}
+			}
+			result.add(n.toString());
+		}
+		return result;
+	}
+
+}
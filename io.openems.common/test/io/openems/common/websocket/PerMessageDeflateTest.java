@@ -0,0 +1,161 @@
+package io.openems.common.websocket;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.framing.TextFrame;
+import org.junit.Test;
+
+public class PerMessageDeflateTest {
+
+	private static final String CHROME_OFFER = "permessage-deflate; client_max_window_bits";
+
+	@Test
+	public void testParse() {
+		assertEquals(List.of(), PerMessageDeflate.parse(null));
+		assertEquals(List.of(Map.of(), Map.of("client_max_window_bits", "10")), PerMessageDeflate.parse(
+				"x-webkit-deflate-frame, permessage-deflate, permessage-deflate; client_max_window_bits=\"10\""));
+	}
+
+	@Test
+	public void testNegotiationAsServer() {
+		var server = new PerMessageDeflate(PerMessageDeflate.Config.SERVER_DEFAULT, new PerMessageDeflate.Metrics());
+		assertTrue(server.acceptProvidedExtensionAsServer(CHROME_OFFER));
+		assertEquals("permessage-deflate", server.getProvidedExtensionAsServer());
+
+		assertTrue(server.acceptProvidedExtensionAsServer("permessage-deflate; server_no_context_takeover"));
+		assertEquals("permessage-deflate; server_no_context_takeover", server.getProvidedExtensionAsServer());
+
+		// Deflater cannot limit its window
+		assertFalse(server.acceptProvidedExtensionAsServer("permessage-deflate; server_max_window_bits=10"));
+		assertTrue(server.acceptProvidedExtensionAsServer(
+				"permessage-deflate; server_max_window_bits=10, permessage-deflate; server_max_window_bits=15"));
+		assertFalse(server.acceptProvidedExtensionAsServer("permessage-deflate; unknown"));
+		assertFalse(server.acceptProvidedExtensionAsServer(null));
+
+		var noContextTakeover = new PerMessageDeflate(
+				new PerMessageDeflate.Config(true, Deflater.BEST_SPEED, 64, false), new PerMessageDeflate.Metrics());
+		assertTrue(noContextTakeover.acceptProvidedExtensionAsServer(CHROME_OFFER));
+		assertEquals("permessage-deflate; server_no_context_takeover; client_no_context_takeover",
+				noContextTakeover.getProvidedExtensionAsServer());
+	}
+
+	@Test
+	public void testNegotiationAsClient() {
+		var client = new PerMessageDeflate(PerMessageDeflate.Config.CLIENT_DEFAULT, new PerMessageDeflate.Metrics());
+		assertEquals("permessage-deflate", client.getProvidedExtensionAsClient());
+		assertTrue(client.acceptProvidedExtensionAsClient("permessage-deflate; server_no_context_takeover"));
+		assertTrue(client.acceptProvidedExtensionAsClient("permessage-deflate; client_no_context_takeover"));
+		assertFalse(client.acceptProvidedExtensionAsClient("permessage-deflate; client_max_window_bits=10"));
+		assertFalse(client.acceptProvidedExtensionAsClient(""));
+	}
+
+	@Test
+	public void testRoundTrip() throws InvalidDataException {
+		var clientMetrics = new PerMessageDeflate.Metrics();
+		var serverMetrics = new PerMessageDeflate.Metrics();
+		var client = new PerMessageDeflate(PerMessageDeflate.Config.CLIENT_DEFAULT, clientMetrics);
+		var server = new PerMessageDeflate(PerMessageDeflate.Config.SERVER_DEFAULT, serverMetrics);
+		assertTrue(server.acceptProvidedExtensionAsServer(client.getProvidedExtensionAsClient()));
+		assertTrue(client.acceptProvidedExtensionAsClient(server.getProvidedExtensionAsServer()));
+
+		var messages = generateMessages(20, 0.05);
+		var sizes = new ArrayList<Integer>();
+		for (var message : messages) {
+			var frame = new TextFrame();
+			frame.setPayload(ByteBuffer.wrap(message));
+			frame.setFin(true);
+
+			client.encodeFrame(frame);
+			assertTrue(frame.isRSV1());
+			sizes.add(frame.getPayloadData().remaining());
+
+			server.decodeFrame(frame);
+			assertFalse(frame.isRSV1());
+			assertEquals(new String(message, UTF_8), new String(toBytes(frame.getPayloadData()), UTF_8));
+		}
+
+		// Context takeover: a repeated message is mostly a reference to the window
+		var repeated = new TextFrame();
+		repeated.setPayload(ByteBuffer.wrap(messages.get(19)));
+		client.encodeFrame(repeated);
+		assertTrue(repeated.getPayloadData().remaining() * 4 < sizes.get(19));
+		server.decodeFrame(repeated);
+		assertEquals(new String(messages.get(19), UTF_8), new String(toBytes(repeated.getPayloadData()), UTF_8));
+
+		// Small messages are not compressed
+		var small = new TextFrame();
+		small.setPayload(ByteBuffer.wrap("{}".getBytes(UTF_8)));
+		client.encodeFrame(small);
+		assertFalse(small.isRSV1());
+		server.decodeFrame(small);
+		assertEquals("{}", new String(toBytes(small.getPayloadData()), UTF_8));
+
+		assertEquals(clientMetrics.debugMetrics().get("CompressedBytesSent"),
+				serverMetrics.debugMetrics().get("CompressedBytesReceived"));
+		assertEquals(clientMetrics.debugMetrics().get("UncompressedBytesSent"),
+				serverMetrics.debugMetrics().get("UncompressedBytesReceived"));
+		assertTrue(clientMetrics.getSentRatio() < 0.5);
+	}
+
+	/**
+	 * Generates JSON-RPC TimestampedDataNotifications like an Edge sends them: all
+	 * values in the first message, afterwards only changed values.
+	 *
+	 * @param count        the number of messages
+	 * @param changeChance the chance of a value to change per message
+	 * @return the messages
+	 */
+	protected static List<byte[]> generateMessages(int count, double changeChance) {
+		var random = new Random(0);
+		var addresses = new ArrayList<String>();
+		for (var component : List.of("_sum", "ess0", "meter0", "meter1", "pvInverter0", "charger0", "evcs0",
+				"battery0", "batteryInverter0", "io0", "ctrlBalancing0")) {
+			for (var i = 0; i < 150; i++) {
+				addresses.add(component + "/" + List.of("ActivePower", "Voltage", "Current").get(i % 3) + "L" + i);
+			}
+		}
+		var values = random.ints(addresses.size(), 0, 10_000).toArray();
+
+		var result = new ArrayList<byte[]>();
+		var timestamp = 1_700_000_000_000L;
+		for (var m = 0; m < count; m++) {
+			timestamp += 1000;
+			var b = new StringBuilder("{\"jsonrpc\":\"2.0\",\"method\":\"timestampedData\",\"params\":{\"") //
+					.append(timestamp).append("\":{");
+			var first = true;
+			for (var i = 0; i < addresses.size(); i++) {
+				var changed = random.nextDouble() < changeChance;
+				if (changed) {
+					values[i] += random.nextInt(200) - 100;
+				}
+				if (m != 0 && !changed) {
+					continue;
+				}
+				if (!first) {
+					b.append(',');
+				}
+				first = false;
+				b.append('"').append(addresses.get(i)).append("\":").append(values[i]);
+			}
+			result.add(b.append("}}}").toString().getBytes(UTF_8));
+		}
+		return result;
+	}
+
+	private static byte[] toBytes(ByteBuffer buffer) {
+		var result = new byte[buffer.remaining()];
+		buffer.duplicate().get(result);
+		return result;
+	}
+}
@@ -0,0 +1,58 @@
+package io.openems.common.websocket;
+
+import static io.openems.common.websocket.PerMessageDeflateTest.generateMessages;
+
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Compares compression levels with and without context takeover for typical
+ * data notifications; used to choose the defaults of
+ * {@link PerMessageDeflate.Config}.
+ */
+public class PerMessageDeflateTestApp {
+
+	private static record Result(long bytes, long nanos) {
+	}
+
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the args
+	 */
+	public static void main(String[] args) {
+		var messages = generateMessages(300, 0.005);
+		var raw = messages.stream().mapToLong(m -> m.length).sum();
+
+		var result = new StringBuilder("Level | Context Takeover | Ratio | MB/s\n");
+		for (var level : new int[] { Deflater.BEST_SPEED, Deflater.DEFAULT_COMPRESSION, Deflater.BEST_COMPRESSION }) {
+			var withContext = compress(messages, level, true);
+			var withoutContext = compress(messages, level, false);
+
+			for (var r : List.of(withContext, withoutContext)) {
+				result.append(String.format("%5d | %16s | %.3f | %.1f\n", level, r == withContext,
+						r.bytes() / (double) raw, raw / 1e3 / Math.max(1, r.nanos() / 1e6)));
+			}
+		}
+		System.out.println(result);
+	}
+
+	private static Result compress(List<byte[]> messages, int level, boolean contextTakeover) {
+		var deflater = new Deflater(level, true);
+		var buffer = new byte[1 << 16];
+		var bytes = 0L;
+		var start = System.nanoTime();
+		for (var message : messages) {
+			if (!contextTakeover) {
+				deflater.reset();
+			}
+			deflater.setInput(message);
+			// SYNC_FLUSH; the 4 bytes tail is not sent
+			bytes += deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH) - 4;
+		}
+		var nanos = System.nanoTime() - start;
+		deflater.end();
+		return new Result(bytes, nanos);
+	}
+
+}
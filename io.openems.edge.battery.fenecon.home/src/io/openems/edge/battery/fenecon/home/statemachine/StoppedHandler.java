@@ -15,8 +15,8 @@ public class StoppedHandler extends StateHandler<State, Context> {
 		if (battery.getMinCellVoltage().isDefined()) {
 			currentMinVoltage = battery.getMinCellVoltage().get();
 		} else {
-			currentMinVoltage = battery.getMinCellVoltageChannel().getPastValues().lastEntry().getValue()
-					.orElse(Integer.MAX_VALUE);
+			var latest = battery.getMinCellVoltageChannel().getHistory().getLatest();
+			currentMinVoltage = latest == null ? Integer.MAX_VALUE : latest.orElse(Integer.MAX_VALUE);
 		}
 
 		if (currentMinVoltage < BatteryFeneconHomeImpl.DEFAULT_CRITICAL_MIN_VOLTAGE) {
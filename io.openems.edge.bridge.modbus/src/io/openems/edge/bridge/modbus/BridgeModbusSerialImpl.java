@@ -88,14 +88,16 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 	@Activate
 	private void activate(ComponentContext context, ConfigSerial config) {
 		super.activate(context, new Config(config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors()));
+				config.invalidateElementsAfterReadErrors(), config.coalesceReadTasks(),
+				config.coalesceReadTasksMaxGap(), config.schedulerMode()));
 		this.applyConfig(config);
 	}
 
 	@Modified
 	private void modified(ComponentContext context, ConfigSerial config) {
 		super.modified(context, new Config(config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors()));
+				config.invalidateElementsAfterReadErrors(), config.coalesceReadTasks(),
+				config.coalesceReadTasksMaxGap(), config.schedulerMode()));
 		this.applyConfig(config);
 		this.closeModbusConnection();
 	}
@@ -2,6 +2,9 @@ package io.openems.edge.bridge.modbus;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -12,7 +15,10 @@ import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.event.EventHandler;
 import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
 import com.ghgande.j2mod.modbus.io.ModbusTCPTransaction;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
@@ -23,6 +29,9 @@ import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
 import io.openems.edge.bridge.modbus.api.Config;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 
@@ -43,9 +52,14 @@ import io.openems.edge.common.event.EdgeEventConstants;
 public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, EventHandler {
 
+	private final Logger log = LoggerFactory.getLogger(BridgeModbusTcpImpl.class);
+	private final ModbusTcpPipeline pipeline = new ModbusTcpPipeline();
+
 	/** The configured IP address. */
 	private InetAddress ipAddress = null;
 	private int port;
+	private int pipelineDepth = 1;
+	private Set<String> pipeliningExcludedComponentIds = Set.of();
 
 	public BridgeModbusTcpImpl() {
 		super(//
@@ -58,14 +72,16 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	@Activate
 	private void activate(ComponentContext context, ConfigTcp config) throws UnknownHostException {
 		super.activate(context, new Config(config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors()));
+				config.invalidateElementsAfterReadErrors(), config.coalesceReadTasks(),
+				config.coalesceReadTasksMaxGap(), config.schedulerMode()));
 		this.applyConfig(config);
 	}
 
 	@Modified
 	private void modified(ComponentContext context, ConfigTcp config) throws UnknownHostException {
 		super.modified(context, new Config(config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors()));
+				config.invalidateElementsAfterReadErrors(), config.coalesceReadTasks(),
+				config.coalesceReadTasksMaxGap(), config.schedulerMode()));
 		this.applyConfig(config);
 		this.closeModbusConnection();
 	}
@@ -73,6 +89,8 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	private void applyConfig(ConfigTcp config) {
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		this.pipelineDepth = config.pipelineDepth();
+		this.pipeliningExcludedComponentIds = Set.of(config.pipeliningExcludedComponentIds());
 	}
 
 	@Override
@@ -97,6 +115,72 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		return transaction;
 	}
 
+	@Override
+	protected int getPipelineDepth() {
+		return this.pipelineDepth;
+	}
+
+	@Override
+	protected boolean isPipeliningAllowed(ReadTask task) {
+		return super.isPipeliningAllowed(task) //
+				&& !this.pipeliningExcludedComponentIds.contains(task.getParent().id());
+	}
+
+	@Override
+	protected List<ExecuteState> executePipelined(List<ReadTask> tasks) {
+		final var readTasks = tasks.stream() //
+				.map(t -> (AbstractReadTask<?, ?, ?, ?>) t) //
+				.toList();
+		final List<ModbusTcpPipeline.Result> results;
+		try {
+			var connection = this.getModbusConnection();
+			results = this.pipeline.execute(connection.getModbusTransport(), //
+					readTasks.stream().map(AbstractReadTask::createPipelinedRequest).toList(), //
+					this.pipelineDepth);
+		} catch (OpenemsException e) {
+			// Unable to connect -> fail all Tasks once; next execution tries to reconnect
+			this.logWarn(this.log, e.getMessage());
+			return readTasks.stream() //
+					.map(t -> t.handlePipelinedError(this, e)) //
+					.toList();
+		}
+
+		var ioError = results.stream() //
+				.map(ModbusTcpPipeline.Result::exception) //
+				.filter(e -> e != null && !(e instanceof ModbusSlaveException)) //
+				.findFirst() //
+				.orElse(null);
+		if (ioError != null) {
+			// I/O error: drop the connection, as stale responses might still arrive
+			this.closeModbusConnection();
+			this.logWarn(this.log, "Pipelined execution failed: " + ioError.getMessage());
+		}
+
+		var states = new ArrayList<ExecuteState>(readTasks.size());
+		for (var i = 0; i < readTasks.size(); i++) {
+			var task = readTasks.get(i);
+			var result = results.get(i);
+			ExecuteState state = null;
+			if (result.response() != null) {
+				try {
+					state = task.handlePipelinedResponse(this, result.response());
+				} catch (OpenemsException e) {
+					// Unexpected response -> fallback below
+				}
+			} else if (!(result.exception() instanceof ModbusSlaveException)) {
+				// I/O error: fail once instead of paying the timeout again for every Task
+				state = task.handlePipelinedError(this, result.exception());
+			}
+			if (state == null) {
+				// Fallback, also for Modbus exception responses: regular execution with retry
+				// and error logging
+				state = task.execute(this);
+			}
+			states.add(state);
+		}
+		return states;
+	}
+
 	private TCPMasterConnection _connection = null;
 
 	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
@@ -5,6 +5,7 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.Parity;
+import io.openems.edge.bridge.modbus.api.SchedulerMode;
 import io.openems.edge.bridge.modbus.api.Stopbit;
 
 @ObjectClassDefinition(//
@@ -51,5 +52,14 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Coalesce read requests?", description = "Merge adjacent read requests of a device into fewer Modbus requests.")
+	boolean coalesceReadTasks() default false;
+
+	@AttributeDefinition(name = "Coalesce read requests: max gap", description = "Maximum number of unused registers between two merged read requests.", min = "0")
+	int coalesceReadTasksMaxGap() default 8;
+
+	@AttributeDefinition(name = "Scheduler mode", description = "SEQUENTIAL: one queue for all devices; PER_DEVICE: schedule per Unit-ID, fast devices first, and skip LOW priority reads of slow devices if the Cycle is too short.")
+	SchedulerMode schedulerMode() default SchedulerMode.SEQUENTIAL;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 import com.ghgande.j2mod.modbus.Modbus;
 
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.SchedulerMode;
 
 @ObjectClassDefinition(//
 		name = "Bridge Modbus/TCP", //
@@ -33,5 +34,20 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Coalesce read requests?", description = "Merge adjacent read requests of a device into fewer Modbus requests.")
+	boolean coalesceReadTasks() default false;
+
+	@AttributeDefinition(name = "Coalesce read requests: max gap", description = "Maximum number of unused registers between two merged read requests.", min = "0")
+	int coalesceReadTasksMaxGap() default 8;
+
+	@AttributeDefinition(name = "Scheduler mode", description = "SEQUENTIAL: one queue for all devices; PER_DEVICE: schedule per Unit-ID, fast devices first, and skip LOW priority reads of slow devices if the Cycle is too short.")
+	SchedulerMode schedulerMode() default SchedulerMode.SEQUENTIAL;
+
+	@AttributeDefinition(name = "Pipeline depth", description = "Maximum number of outstanding read requests on the Modbus/TCP connection. '1' disables pipelining.")
+	int pipelineDepth() default 1;
+
+	@AttributeDefinition(name = "Pipelining opt-out", description = "Component-IDs of devices that must not receive pipelined requests.")
+	String[] pipeliningExcludedComponentIds() default {};
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/TCP [{id}]";
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package io.openems.edge.bridge.modbus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.AbstractModbusTransport;
+import com.ghgande.j2mod.modbus.msg.ExceptionResponse;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+/**
+ * Executes multiple {@link ModbusRequest}s on one Modbus/TCP connection with a
+ * limited number of outstanding transactions.
+ *
+ * <p>
+ * Every request gets a unique Modbus/TCP transaction identifier; responses are
+ * matched by this identifier and may arrive in any order. Responses with an
+ * unknown identifier - e.g. late responses to a previous, timed-out batch - are
+ * ignored. A response with a matching identifier but a different Unit-ID is
+ * misrouted; the request fails with a {@link ModbusIOException}.
+ */
+public class ModbusTcpPipeline {
+
+	/**
+	 * The result of one request: either a {@link ModbusResponse} or an
+	 * {@link Exception}.
+	 */
+	public static record Result(ModbusResponse response, Exception exception) {
+	}
+
+	private static final int MAX_TRANSACTION_ID = 0xFFFF;
+
+	private int lastTransactionId = 0;
+
+	/**
+	 * Executes the given requests.
+	 *
+	 * <p>
+	 * On an I/O error all requests without a response get the exception as
+	 * result. The caller should close the connection in that case, as it might
+	 * still receive stale responses.
+	 *
+	 * @param transport the {@link AbstractModbusTransport} of an open connection
+	 * @param requests  the {@link ModbusRequest}s, including Unit-IDs
+	 * @param depth     the maximum number of outstanding transactions
+	 * @return one {@link Result} per request, in the same order
+	 */
+	public synchronized List<Result> execute(AbstractModbusTransport transport, List<ModbusRequest> requests,
+			int depth) {
+		final var results = new Result[requests.size()];
+		final var pending = new HashMap<Integer, Integer>(); // Transaction-ID -> index
+		var next = 0;
+		try {
+			while (next < requests.size() || !pending.isEmpty()) {
+				// Fill the pipeline
+				while (next < requests.size() && pending.size() < Math.max(depth, 1)) {
+					var request = requests.get(next);
+					var transactionId = this.nextTransactionId();
+					request.setTransactionID(transactionId);
+					transport.writeRequest(request);
+					pending.put(transactionId, next);
+					next++;
+				}
+
+				// Wait for any response
+				var response = transport.readResponse();
+				var index = pending.remove(response.getTransactionID());
+				if (index == null) {
+					// Stale or unexpected response
+					continue;
+				}
+				results[index] = toResult(requests.get(index), response);
+			}
+
+		} catch (Exception e) {
+			for (var i = 0; i < results.length; i++) {
+				if (results[i] == null) {
+					results[i] = new Result(null, e);
+				}
+			}
+		}
+		return new ArrayList<>(Arrays.asList(results));
+	}
+
+	private int nextTransactionId() {
+		this.lastTransactionId = this.lastTransactionId % MAX_TRANSACTION_ID + 1;
+		return this.lastTransactionId;
+	}
+
+	private static Result toResult(ModbusRequest request, ModbusResponse response) {
+		if (response.getUnitID() != request.getUnitID()) {
+			return new Result(null, new ModbusIOException("Unexpected Unit-ID [" + response.getUnitID()
+					+ "] for Transaction-ID [" + response.getTransactionID() + "]. Expected [" + request.getUnitID()
+					+ "]"));
+		}
+		if (response instanceof ExceptionResponse e) {
+			return new Result(null, new ModbusSlaveException(e.getExceptionCode()));
+		}
+		return new Result(response, null);
+	}
+
+}
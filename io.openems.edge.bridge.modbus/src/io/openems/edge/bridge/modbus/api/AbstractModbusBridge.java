@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.ComponentContext;
@@ -9,7 +10,11 @@ import org.osgi.service.event.EventHandler;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
+import io.openems.edge.bridge.modbus.api.worker.PipelinedExecutor;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 
@@ -39,6 +44,24 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	protected final ModbusWorker worker = new ModbusWorker(
 			// Execute Task
 			task -> task.execute(this),
+			// Execute pipelined Read-Tasks
+			new PipelinedExecutor() {
+
+				@Override
+				public int getPipelineDepth() {
+					return AbstractModbusBridge.this.getPipelineDepth();
+				}
+
+				@Override
+				public boolean isPipeliningAllowed(ReadTask task) {
+					return AbstractModbusBridge.this.isPipeliningAllowed(task);
+				}
+
+				@Override
+				public List<ExecuteState> executePipelined(List<ReadTask> tasks) {
+					return AbstractModbusBridge.this.executePipelined(tasks);
+				}
+			},
 			// Invalidate ModbusElements
 			elements -> Stream.of(elements).forEach(e -> e.invalidate(this)),
 			// Set ChannelId.CYCLE_TIME_IS_TOO_SHORT
@@ -93,6 +116,18 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	private void applyConfig(Config config) {
 		this.config = config;
+		this.worker.setSchedulerMode(config.schedulerMode);
+		// Re-plan already registered protocols, e.g. if coalescing was switched off
+		this.worker.getProtocols().forEach(this::applyReadTaskCoalescing);
+	}
+
+	private void applyReadTaskCoalescing(ModbusProtocol protocol) {
+		var config = this.config;
+		if (config != null && config.coalesceReadTasks) {
+			protocol.enableReadTaskCoalescing(config.coalesceReadTasksMaxGap);
+		} else {
+			protocol.disableReadTaskCoalescing();
+		}
 	}
 
 	/**
@@ -103,6 +138,7 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	@Override
 	public void addProtocol(String sourceId, ModbusProtocol protocol) {
+		this.applyReadTaskCoalescing(protocol);
 		this.worker.addProtocol(sourceId, protocol);
 		this.retryModbusCommunication(sourceId);
 	}
@@ -158,6 +194,41 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	public abstract void closeModbusConnection();
 
+	/**
+	 * Gets the maximum number of outstanding Modbus transactions. Bridges that
+	 * support pipelining override this method.
+	 *
+	 * @return the pipeline depth; 1 disables pipelining
+	 */
+	protected int getPipelineDepth() {
+		return 1;
+	}
+
+	/**
+	 * Is the given {@link ReadTask} allowed to be executed pipelined?.
+	 *
+	 * @param task the {@link ReadTask}
+	 * @return true if allowed
+	 */
+	protected boolean isPipeliningAllowed(ReadTask task) {
+		return task instanceof AbstractReadTask<?, ?, ?, ?> t //
+				&& t.getParent() != null //
+				&& t.getParent().isModbusPipeliningAllowed();
+	}
+
+	/**
+	 * Executes the given {@link ReadTask}s with multiple outstanding transactions.
+	 * Default implementation executes them one after the other.
+	 *
+	 * @param tasks the {@link ReadTask}s
+	 * @return one {@link ExecuteState} per {@link ReadTask}, in the same order
+	 */
+	protected List<ExecuteState> executePipelined(List<ReadTask> tasks) {
+		return tasks.stream() //
+				.map(task -> task.execute(this)) //
+				.toList();
+	}
+
 	/**
 	 * Gets the configured {@link LogVerbosity}.
 	 * 
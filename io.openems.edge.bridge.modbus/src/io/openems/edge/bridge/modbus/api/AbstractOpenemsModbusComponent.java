@@ -197,6 +197,20 @@ public abstract class AbstractOpenemsModbusComponent extends AbstractOpenemsComp
 		return this.unitId;
 	}
 
+	/**
+	 * Does this device tolerate pipelined requests, i.e. multiple outstanding
+	 * Modbus/TCP transactions?
+	 *
+	 * <p>
+	 * Override and return false for devices that do not handle more than one
+	 * request at a time.
+	 *
+	 * @return true if pipelining is allowed
+	 */
+	public boolean isModbusPipeliningAllowed() {
+		return true;
+	}
+
 	private final AtomicReference<BridgeModbus> modbus = new AtomicReference<>(null);
 
 	/**
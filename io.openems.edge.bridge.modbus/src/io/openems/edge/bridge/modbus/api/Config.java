@@ -10,14 +10,27 @@ public class Config {
 	public final String alias;
 	public final boolean enabled;
 	public final int invalidateElementsAfterReadErrors;
+	public final boolean coalesceReadTasks;
+	public final int coalesceReadTasksMaxGap;
+	public final SchedulerMode schedulerMode;
 	public final LogHandler log;
 
 	public Config(String id, String alias, boolean enabled, LogVerbosity logVerbosity,
 			int invalidateElementsAfterReadErrors) {
+		this(id, alias, enabled, logVerbosity, invalidateElementsAfterReadErrors, false, 0,
+				SchedulerMode.SEQUENTIAL);
+	}
+
+	public Config(String id, String alias, boolean enabled, LogVerbosity logVerbosity,
+			int invalidateElementsAfterReadErrors, boolean coalesceReadTasks, int coalesceReadTasksMaxGap,
+			SchedulerMode schedulerMode) {
 		this.id = id;
 		this.alias = alias;
 		this.enabled = enabled;
 		this.invalidateElementsAfterReadErrors = invalidateElementsAfterReadErrors;
+		this.coalesceReadTasks = coalesceReadTasks;
+		this.coalesceReadTasksMaxGap = coalesceReadTasksMaxGap;
+		this.schedulerMode = schedulerMode;
 		this.log = new LogHandler(this, logVerbosity);
 	}
 
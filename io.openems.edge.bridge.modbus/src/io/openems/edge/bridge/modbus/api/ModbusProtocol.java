@@ -1,5 +1,9 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import io.openems.edge.bridge.modbus.api.task.ReadTaskPlanner;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.common.taskmanager.TasksManager;
 
@@ -15,6 +19,17 @@ public class ModbusProtocol {
 	 */
 	private final TasksManager<Task> taskManager = new TasksManager<>();
 
+	/**
+	 * The Tasks as they were added; differs from the Tasks in the
+	 * {@link #taskManager} if Read-Task coalescing is enabled.
+	 */
+	private final List<Task> originalTasks = new ArrayList<>();
+
+	/**
+	 * Plans coalesced Read-Tasks; null if coalescing is disabled.
+	 */
+	private ReadTaskPlanner planner = null;
+
 	/**
 	 * Creates a new {@link ModbusProtocol}.
 	 *
@@ -45,6 +60,11 @@ public class ModbusProtocol {
 	public synchronized void addTask(Task task) {
 		// add the the parent to the Task
 		task.setParent(this.parent);
+		this.originalTasks.add(task);
+		if (this.planner != null) {
+			this.replan();
+			return;
+		}
 		// fill taskManager
 		this.taskManager.addTask(task);
 	}
@@ -55,9 +75,83 @@ public class ModbusProtocol {
 	 * @param task the task
 	 */
 	public synchronized void removeTask(Task task) {
+		this.originalTasks.remove(task);
+		if (this.planner != null) {
+			this.replan();
+			return;
+		}
 		this.taskManager.removeTask(task);
 	}
 
+	/**
+	 * Enables coalescing of adjacent Read-Tasks into fewer Modbus requests.
+	 *
+	 * @param maxGap the maximum number of unused registers between two merged
+	 *               Tasks
+	 * @see ReadTaskPlanner
+	 */
+	public synchronized void enableReadTaskCoalescing(int maxGap) {
+		if (this.planner != null && this.planner.getMaxGap() == maxGap) {
+			return;
+		}
+		this.planner = new ReadTaskPlanner(maxGap, this::replan);
+		this.replan();
+	}
+
+	/**
+	 * Disables coalescing of Read-Tasks and restores the original Tasks.
+	 */
+	public synchronized void disableReadTaskCoalescing() {
+		if (this.planner == null) {
+			return;
+		}
+		this.planner = null;
+		this.applyTasks(new ArrayList<>(this.originalTasks));
+	}
+
+	private synchronized void replan() {
+		if (this.planner == null) {
+			return;
+		}
+		this.applyTasks(this.planner.plan(this.originalTasks, this.parent));
+	}
+
+	/**
+	 * Replaces the Tasks in the {@link #taskManager}. New Tasks are added before
+	 * obsolete ones are removed, so the Elements are never without a Task.
+	 *
+	 * @param tasks the new Tasks
+	 */
+	private void applyTasks(List<Task> tasks) {
+		var obsolete = new ArrayList<>(this.taskManager.getTasks());
+		for (var task : tasks) {
+			if (!obsolete.remove(task)) {
+				this.taskManager.addTask(task);
+			}
+		}
+		for (var task : obsolete) {
+			this.taskManager.removeTask(task);
+		}
+		if (this.planner == null) {
+			// Re-assign Elements to their original Tasks
+			for (var task : tasks) {
+				for (var element : task.getElements()) {
+					element.setModbusTask(task);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of Tasks as they were added to the Protocol, i.e. before
+	 * Read-Task coalescing.
+	 *
+	 * @return the number of Tasks
+	 */
+	public synchronized int getNumberOfOriginalTasks() {
+		return this.originalTasks.size();
+	}
+
 	/**
 	 * Gets the Read-Tasks Manager.
 	 *
@@ -70,8 +164,7 @@ public class ModbusProtocol {
 	/**
 	 * Deactivate the {@link ModbusProtocol}.
 	 */
-	public void deactivate() {
-		this.taskManager.getTasks() //
-				.forEach(Task::deactivate);
+	public synchronized void deactivate() {
+		this.originalTasks.forEach(Task::deactivate);
 	}
 }
@@ -0,0 +1,15 @@
+package io.openems.edge.bridge.modbus.api;
+
+public enum SchedulerMode {
+	/**
+	 * One flat queue for all devices; one LOW priority Read-Task per Cycle.
+	 */
+	SEQUENTIAL,
+	/**
+	 * Tasks are grouped per device (Unit-ID) and executed round-robin, fast devices
+	 * first. LOW priority Read-Tasks are scheduled per device as long as they fit
+	 * into the Cycle; LOW priority Read-Tasks of slow devices are skipped
+	 * adaptively.
+	 */
+	PER_DEVICE;
+}
@@ -43,36 +43,100 @@ public abstract class AbstractReadTask<//
 
 	@Override
 	public ExecuteState execute(AbstractModbusBridge bridge) {
+		final RESPONSE response;
 		try {
-			var response = this.executeRequest(bridge, this.createModbusRequest());
+			response = this.executeRequest(bridge, this.createModbusRequest());
 			// On error a log message has already been logged
 
-			try {
-				var result = this.parseResponse(response);
-				validateResponse(result, this.length);
+		} catch (Exception e) {
+			return this.handleError(bridge, e);
+		}
+		return this.handleResponse(bridge, response);
+	}
 
-				// NOTE: onExecute has to be called before filling elements; but OK could be
-				// wrong if fillElements throws an exception.
-				this.onExecute.accept(ExecuteState.OK);
-				this.fillElements(result);
+	/**
+	 * Creates the {@link ModbusRequest} for pipelined execution, i.e. including the
+	 * Unit-ID of the parent.
+	 *
+	 * @return a new {@link ModbusRequest}
+	 */
+	public ModbusRequest createPipelinedRequest() {
+		var request = this.createModbusRequest();
+		request.setUnitID(this.getParent().getUnitId());
+		return request;
+	}
 
-				return ExecuteState.OK;
+	/**
+	 * Handles a {@link ModbusResponse} that was received for a request from
+	 * {@link #createPipelinedRequest()}.
+	 *
+	 * @param bridge   the Modbus-Bridge
+	 * @param response the {@link ModbusResponse}
+	 * @return the {@link ExecuteState}
+	 * @throws OpenemsException if the response is of an unexpected type; nothing
+	 *                          has been applied in this case
+	 */
+	public ExecuteState handlePipelinedResponse(AbstractModbusBridge bridge, ModbusResponse response)
+			throws OpenemsException {
+		if (!this.responseClazz.isInstance(response)) {
+			throw new OpenemsException("Unexpected Modbus response. " //
+					+ "Expected [" + this.responseClazz.getSimpleName() + "] " //
+					+ "Got [" + response.getClass().getSimpleName() + "]");
+		}
+		var typedResponse = this.responseClazz.cast(response);
+		var logVerbosity = this.getLogVerbosity(bridge);
+		switch (logVerbosity) {
+		case NONE, DEBUG_LOG -> {
+		}
+		case READS_AND_WRITES, READS_AND_WRITES_VERBOSE, READS_AND_WRITES_DURATION,
+				READS_AND_WRITES_DURATION_TRACE_EVENTS ->
+			logInfo(this.log, "  Execute (pipelined)", this.toLogMessage(logVerbosity, null, typedResponse));
+		}
+		return this.handleResponse(bridge, typedResponse);
+	}
 
-			} catch (OpenemsException e1) {
-				logError(this.log, e1, "Parsing Response failed.");
-				throw e1;
-			}
+	/**
+	 * Handles the failure of a request from {@link #createPipelinedRequest()}
+	 * without retrying it, e.g. after an I/O error of the connection.
+	 *
+	 * @param bridge the Modbus-Bridge
+	 * @param e      the {@link Exception}
+	 * @return the {@link ExecuteState}
+	 */
+	public ExecuteState handlePipelinedError(AbstractModbusBridge bridge, Exception e) {
+		return this.handleError(bridge, e);
+	}
 
-		} catch (Exception e) {
-			var executeState = new ExecuteState.Error(e);
-			this.onExecute.accept(executeState);
+	private ExecuteState handleResponse(AbstractModbusBridge bridge, RESPONSE response) {
+		try {
+			var result = this.parseResponse(response);
+			validateResponse(result, this.length);
+
+			// NOTE: onExecute has to be called before filling elements; but OK could be
+			// wrong if fillElements throws an exception.
+			this.onExecute.accept(ExecuteState.OK);
+			this.fillElements(result);
 
-			// Invalidate Elements
-			Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
-			return executeState;
+			return ExecuteState.OK;
+
+		} catch (OpenemsException e) {
+			logError(this.log, e, "Parsing Response failed.");
+			return this.handleError(bridge, e);
+
+		} catch (Exception e) {
+			return this.handleError(bridge, e);
 		}
 	}
 
+	private ExecuteState handleError(AbstractModbusBridge bridge, Exception e) {
+		var executeState = new ExecuteState.Error(e);
+		this.onExecute.accept(executeState);
+
+		// Invalidate Elements
+		Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
+		return executeState;
+	}
+
 	/**
 	 * Verify length of response array.
 	 * 
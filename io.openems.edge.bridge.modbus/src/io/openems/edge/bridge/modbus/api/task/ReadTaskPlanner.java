@@ -0,0 +1,239 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Plans the Read-Tasks of a ModbusProtocol: merges
+ * {@link FC3ReadRegistersTask}s and {@link FC4ReadInputRegistersTask}s with
+ * the same {@link Priority} into fewer requests.
+ *
+ * <p>
+ * Tasks are merged if they do not overlap, the gap between them is at most
+ * {@link #maxGap} registers - it is filled with a {@link DummyRegisterElement}
+ * - and the merged request does not exceed {@link #MAX_REGISTERS}. If a merged
+ * request is answered with an ILLEGAL_ADDRESS exception, the planner learns to
+ * keep the original Tasks separated and triggers a new planning.
+ */
+public class ReadTaskPlanner {
+
+	/**
+	 * Maximum number of registers in one Modbus read request.
+	 */
+	public static final int MAX_REGISTERS = 125;
+
+	private final Logger log = LoggerFactory.getLogger(ReadTaskPlanner.class);
+
+	private final int maxGap;
+	private final Runnable onSplit;
+
+	/**
+	 * Original Tasks that must not be merged with their predecessor.
+	 */
+	private final Set<Task> splitBefore = ConcurrentHashMap.newKeySet();
+
+	private int lastNumberOfTasks = -1;
+	private int lastNumberOfPlannedTasks = -1;
+
+	/**
+	 * Creates a {@link ReadTaskPlanner}.
+	 *
+	 * @param maxGap  the maximum number of unused registers between two Tasks
+	 * @param onSplit called after a merged Task had to be split; should trigger
+	 *                {@link #plan(List, AbstractOpenemsModbusComponent)}
+	 */
+	public ReadTaskPlanner(int maxGap, Runnable onSplit) {
+		this.maxGap = Math.max(0, maxGap);
+		this.onSplit = onSplit;
+	}
+
+	public int getMaxGap() {
+		return this.maxGap;
+	}
+
+	/**
+	 * Plans the given Tasks.
+	 *
+	 * @param tasks  the original {@link Task}s, in order of registration
+	 * @param parent the parent {@link AbstractOpenemsModbusComponent}
+	 * @return the planned {@link Task}s; merged Tasks replace the first of their
+	 *         original Tasks, all other Tasks are kept as they are
+	 */
+	public synchronized List<Task> plan(List<Task> tasks, AbstractOpenemsModbusComponent parent) {
+		// Group merge candidates by type and priority
+		var groups = new LinkedHashMap<GroupKey, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if (isCandidate(task)) {
+				var t = (AbstractReadRegistersTask<?, ?>) task;
+				groups.computeIfAbsent(new GroupKey(t.getClass(), t.getPriority()), k -> new ArrayList<>()).add(t);
+			}
+		}
+
+		// Find runs of mergeable Tasks
+		var replacements = new IdentityHashMap<Task, Task>();
+		for (var group : groups.values()) {
+			group.sort(Comparator.comparingInt(Task::getStartAddress));
+			var run = new ArrayList<AbstractReadRegistersTask<?, ?>>();
+			for (var task : group) {
+				if (!run.isEmpty() && !this.canAppend(run, task)) {
+					this.flush(run, parent, replacements);
+					run = new ArrayList<>();
+				}
+				run.add(task);
+			}
+			this.flush(run, parent, replacements);
+		}
+
+		// Build result in original order
+		var result = new ArrayList<Task>(tasks.size());
+		for (var task : tasks) {
+			if (!replacements.containsKey(task)) {
+				result.add(task);
+				continue;
+			}
+			var replacement = replacements.get(task);
+			if (replacement != null) {
+				result.add(replacement);
+			} // otherwise merged into a previous Task
+		}
+
+		this.logResult(parent, tasks.size(), result.size());
+		return result;
+	}
+
+	private static boolean isCandidate(Task task) {
+		var clazz = task.getClass();
+		return (clazz == FC3ReadRegistersTask.class || clazz == FC4ReadInputRegistersTask.class) //
+				&& task.getLength() > 0 //
+				&& task.getLength() <= MAX_REGISTERS;
+	}
+
+	private boolean canAppend(List<AbstractReadRegistersTask<?, ?>> run, AbstractReadRegistersTask<?, ?> task) {
+		if (this.splitBefore.contains(task)) {
+			return false;
+		}
+		var first = run.get(0);
+		var last = run.get(run.size() - 1);
+		var end = last.getStartAddress() + last.getLength();
+		var gap = task.getStartAddress() - end;
+		return gap >= 0 // no overlap
+				&& gap <= this.maxGap //
+				&& task.getStartAddress() + task.getLength() - first.getStartAddress() <= MAX_REGISTERS;
+	}
+
+	private void flush(List<AbstractReadRegistersTask<?, ?>> run, AbstractOpenemsModbusComponent parent,
+			Map<Task, Task> replacements) {
+		if (run.isEmpty()) {
+			return;
+		}
+		if (run.size() == 1) {
+			// Keep original Task; (re-)assign its Elements
+			var task = run.get(0);
+			for (var element : task.getElements()) {
+				element.setModbusTask(task);
+			}
+			return;
+		}
+
+		var merged = this.merge(run);
+		merged.setParent(parent);
+		replacements.put(run.get(0), merged);
+		for (var i = 1; i < run.size(); i++) {
+			replacements.put(run.get(i), null);
+		}
+	}
+
+	private AbstractReadRegistersTask<?, ?> merge(List<AbstractReadRegistersTask<?, ?>> run) {
+		var elements = new ArrayList<ModbusElement>();
+		var isDebug = false;
+		var nextAddress = run.get(0).getStartAddress();
+		for (var task : run) {
+			if (task.getStartAddress() > nextAddress) {
+				elements.add(new DummyRegisterElement(nextAddress, task.getStartAddress() - 1));
+			}
+			for (var element : task.getElements()) {
+				elements.add(element);
+			}
+			nextAddress = task.getStartAddress() + task.getLength();
+			isDebug |= task.isDebug();
+		}
+
+		final var originals = List.copyOf(run);
+		final Consumer<ExecuteState> onExecute = state -> {
+			for (var task : originals) {
+				task.onExecute.accept(state);
+			}
+			if (state instanceof ExecuteState.Error e && isIllegalAddress(e.exception())) {
+				this.split(originals);
+			}
+		};
+
+		final var startAddress = run.get(0).getStartAddress();
+		final var priority = run.get(0).getPriority();
+		final var elementsArray = elements.toArray(ModbusElement[]::new);
+		final AbstractReadRegistersTask<?, ?> result;
+		if (run.get(0) instanceof FC4ReadInputRegistersTask) {
+			result = new FC4ReadInputRegistersTask(onExecute, startAddress, priority, elementsArray);
+		} else {
+			result = new FC3ReadRegistersTask(onExecute, startAddress, priority, elementsArray);
+		}
+		if (isDebug) {
+			result.debug();
+		}
+		return result;
+	}
+
+	private static boolean isIllegalAddress(Exception e) {
+		return e instanceof ModbusSlaveException mse && mse.isType(Modbus.ILLEGAL_ADDRESS_EXCEPTION);
+	}
+
+	private void split(List<AbstractReadRegistersTask<?, ?>> originals) {
+		var changed = false;
+		for (var i = 1; i < originals.size(); i++) {
+			changed |= this.splitBefore.add(originals.get(i));
+		}
+		if (!changed) {
+			return;
+		}
+		var parent = originals.get(0).getParent();
+		this.log.info("[" + (parent == null ? "" : parent.id()) + "] Merged read request from ["
+				+ originals.get(0).getStartAddress() + "] was answered with ILLEGAL_ADDRESS. Splitting into ["
+				+ originals.size() + "] requests");
+		this.onSplit.run();
+	}
+
+	private void logResult(AbstractOpenemsModbusComponent parent, int numberOfTasks, int numberOfPlannedTasks) {
+		if (numberOfTasks == this.lastNumberOfTasks && numberOfPlannedTasks == this.lastNumberOfPlannedTasks) {
+			return;
+		}
+		this.lastNumberOfTasks = numberOfTasks;
+		this.lastNumberOfPlannedTasks = numberOfPlannedTasks;
+		if (numberOfTasks != numberOfPlannedTasks) {
+			this.log.info("[" + (parent == null ? "" : parent.id()) + "] Coalesced [" + numberOfTasks
+					+ "] Modbus tasks to [" + numberOfPlannedTasks + "]");
+		}
+	}
+
+	private static record GroupKey(Class<?> clazz, Priority priority) {
+	}
+
+}
@@ -1,5 +1,9 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -9,9 +13,12 @@ import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.Config.LogHandler;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.SchedulerMode;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasksManager;
 import io.openems.edge.bridge.modbus.api.worker.internal.DefectiveComponents;
@@ -28,16 +35,23 @@ import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
  * TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event). For this it uses a
  * {@link CycleTasksManager} that internally uses a {@link TasksSupplierImpl}
  * that supplies the tasks for one Cycle ({@link CycleTasks}).
+ *
+ * <p>
+ * If a {@link PipelinedExecutor} with a pipeline depth greater than one is
+ * given, consecutive Read-Tasks of the same priority are executed with
+ * multiple outstanding transactions.
  */
 public class ModbusWorker extends AbstractImmediateWorker {
 
 	// Callbacks
 	private final Function<Task, ExecuteState> execute;
+	private final PipelinedExecutor pipelinedExecutor;
 	private final Consumer<ModbusElement[]> invalidate;
 
 	private final DefectiveComponents defectiveComponents;
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
+	private final Map<String, ModbusProtocol> protocols = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor for {@link ModbusWorker}.
@@ -58,7 +72,33 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	public ModbusWorker(Function<Task, ExecuteState> execute, Consumer<ModbusElement[]> invalidate,
 			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel,
 			Supplier<LogHandler> logHandler) {
+		this(execute, PipelinedExecutor.disabled(execute), invalidate, cycleTimeIsTooShortChannel,
+				cycleDelayChannel, logHandler);
+	}
+
+	/**
+	 * Constructor for {@link ModbusWorker} with support for pipelined execution of
+	 * {@link ReadTask}s.
+	 * 
+	 * @param execute                    executes a {@link Task}; returns number of
+	 *                                   actually executed subtasks
+	 * @param pipelinedExecutor          the {@link PipelinedExecutor}
+	 * @param invalidate                 invalidates the given
+	 *                                   {@link ModbusElement}s after read errors
+	 * @param cycleTimeIsTooShortChannel sets the
+	 *                                   {@link BridgeModbus.ChannelId#CYCLE_TIME_IS_TOO_SHORT}
+	 *                                   channel
+	 * @param cycleDelayChannel          sets the
+	 *                                   {@link BridgeModbus.ChannelId#CYCLE_DELAY}
+	 *                                   channel
+	 * @param logHandler                 a {@link Supplier} for the
+	 *                                   {@link LogHandler}
+	 */
+	public ModbusWorker(Function<Task, ExecuteState> execute, PipelinedExecutor pipelinedExecutor,
+			Consumer<ModbusElement[]> invalidate, Consumer<Boolean> cycleTimeIsTooShortChannel,
+			Consumer<Long> cycleDelayChannel, Supplier<LogHandler> logHandler) {
 		this.execute = execute;
+		this.pipelinedExecutor = pipelinedExecutor;
 		this.invalidate = invalidate;
 
 		this.defectiveComponents = new DefectiveComponents(logHandler);
@@ -69,11 +109,55 @@ public class ModbusWorker extends AbstractImmediateWorker {
 
 	@Override
 	protected void forever() throws InterruptedException {
-		var task = this.cycleTasksManager.getNextTask();
+		var pipelineDepth = this.pipelinedExecutor.getPipelineDepth();
+		if (pipelineDepth <= 1) {
+			var task = this.cycleTasksManager.getNextTask();
+
+			// execute the task
+			this.handleResult(task, this.executeAndMeasure(task));
+			return;
+		}
 
-		// execute the task
+		var tasks = this.cycleTasksManager.getNextTasks(pipelineDepth, this.pipelinedExecutor::isPipeliningAllowed);
+		if (tasks.size() == 1) {
+			var task = tasks.get(0);
+			this.handleResult(task, this.executeAndMeasure(task));
+			return;
+		}
+
+		// execute the read tasks pipelined
+		var readTasks = tasks.stream() //
+				.map(ReadTask.class::cast) //
+				.toList();
+		var start = System.nanoTime();
+		var results = this.pipelinedExecutor.executePipelined(readTasks);
+		var duration = (System.nanoTime() - start) / tasks.size();
+		for (var i = 0; i < tasks.size(); i++) {
+			this.handleResult(tasks.get(i), results.get(i));
+			this.tasksSupplier.onTaskExecuted(tasks.get(i), duration);
+		}
+	}
+
+	/**
+	 * Executes a {@link Task} and records its duration for the
+	 * {@link SchedulerMode#PER_DEVICE} scheduler.
+	 *
+	 * @param task the {@link Task}
+	 * @return the {@link ExecuteState}
+	 */
+	private ExecuteState executeAndMeasure(Task task) {
+		if (task instanceof WaitTask) {
+			return this.execute.apply(task);
+		}
+		var start = System.nanoTime();
 		var result = this.execute.apply(task);
+		if (!(result instanceof ExecuteState.NoOp)) {
+			this.tasksSupplier.onTaskExecuted(task, System.nanoTime() - start);
+		}
+		return result;
+	}
 
+	private void handleResult(Task task, ExecuteState result) {
 		// NOTE: with Java 21 LTS this can be refactored to a pattern matching switch
 		// statement
 		if (result instanceof ExecuteState.Ok) {
@@ -117,6 +201,15 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		}
 	}
 
+	/**
+	 * Sets the {@link SchedulerMode}.
+	 *
+	 * @param schedulerMode the {@link SchedulerMode}
+	 */
+	public void setSchedulerMode(SchedulerMode schedulerMode) {
+		this.tasksSupplier.setSchedulerMode(schedulerMode);
+	}
+
 	/**
 	 * Adds the protocol.
 	 *
@@ -125,6 +218,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 */
 	public void addProtocol(String sourceId, ModbusProtocol protocol) {
 		this.tasksSupplier.addProtocol(sourceId, protocol, this.invalidate);
+		this.protocols.put(sourceId, protocol);
 		this.defectiveComponents.remove(sourceId); // Cleanup
 	}
 
@@ -135,9 +229,19 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 */
 	public void removeProtocol(String sourceId) {
 		this.tasksSupplier.removeProtocol(sourceId, this.invalidate);
+		this.protocols.remove(sourceId);
 		this.defectiveComponents.remove(sourceId); // Cleanup
 	}
 
+	/**
+	 * Gets the registered protocols.
+	 *
+	 * @return an unmodifiable view of the {@link ModbusProtocol}s
+	 */
+	public Collection<ModbusProtocol> getProtocols() {
+		return Collections.unmodifiableCollection(this.protocols.values());
+	}
+
 	/**
 	 * Retry Modbus communication to given Component-ID.
 	 * 
@@ -0,0 +1,69 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+
+/**
+ * Executes multiple {@link ReadTask}s with more than one outstanding Modbus
+ * transaction.
+ */
+public interface PipelinedExecutor {
+
+	/**
+	 * Creates a {@link PipelinedExecutor} with disabled pipelining; the given
+	 * {@link ReadTask}s are executed one after the other.
+	 *
+	 * @param execute executes a single {@link Task}
+	 * @return the {@link PipelinedExecutor}
+	 */
+	public static PipelinedExecutor disabled(Function<Task, ExecuteState> execute) {
+		return new PipelinedExecutor() {
+
+			@Override
+			public int getPipelineDepth() {
+				return 1;
+			}
+
+			@Override
+			public boolean isPipeliningAllowed(ReadTask task) {
+				return false;
+			}
+
+			@Override
+			public List<ExecuteState> executePipelined(List<ReadTask> tasks) {
+				return tasks.stream() //
+						.map(execute::apply) //
+						.toList();
+			}
+		};
+	}
+
+	/**
+	 * Gets the maximum number of outstanding transactions. A value less or equal
+	 * 1 disables pipelining.
+	 *
+	 * @return the pipeline depth
+	 */
+	public int getPipelineDepth();
+
+	/**
+	 * Is the given {@link ReadTask} allowed to be executed pipelined?.
+	 *
+	 * @param task the {@link ReadTask}
+	 * @return true if allowed
+	 */
+	public boolean isPipeliningAllowed(ReadTask task);
+
+	/**
+	 * Executes the given {@link ReadTask}s.
+	 *
+	 * @param tasks the {@link ReadTask}s
+	 * @return one {@link ExecuteState} per {@link ReadTask}, in the same order
+	 */
+	public List<ExecuteState> executePipelined(List<ReadTask> tasks);
+
+}
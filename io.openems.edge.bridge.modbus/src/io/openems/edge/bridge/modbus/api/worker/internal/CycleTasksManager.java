@@ -1,15 +1,20 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.edge.bridge.modbus.api.Config.LogHandler;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
+import io.openems.edge.common.taskmanager.Priority;
 
 /**
  * Manages the Read-, Write- and Wait-Tasks for one Cycle.
@@ -193,6 +198,47 @@ public class CycleTasksManager {
 		return nextTask;
 	}
 
+	/**
+	 * Gets the next {@link Task}s. This is called in a separate Thread by
+	 * {@link ModbusWorker}.
+	 * 
+	 * <p>
+	 * Like {@link #getNextTask()}; but if the next Task is a {@link ReadTask} that
+	 * matches the filter, further ReadTasks of the same {@link Priority} are
+	 * polled in order - up to maxTasks in total - as long as the
+	 * {@link StateMachine} stays in the same read state. This allows pipelined
+	 * execution without changing the read-before-write/write/read-after-write
+	 * phasing.
+	 * 
+	 * @param maxTasks the maximum number of Tasks
+	 * @param filter   a filter for {@link ReadTask}s that may be combined
+	 * @return a list of at least one {@link Task}; if it contains more than one,
+	 *         all are {@link ReadTask}s
+	 */
+	public List<Task> getNextTasks(int maxTasks, Predicate<ReadTask> filter) {
+		var task = this.getNextTask();
+		if (maxTasks <= 1 || !(task instanceof ReadTask first) || !filter.test(first)) {
+			return List.of(task);
+		}
+
+		var result = new ArrayList<Task>(maxTasks);
+		result.add(task);
+		synchronized (this) {
+			if (this.state != StateMachine.READ_BEFORE_WRITE && this.state != StateMachine.READ_AFTER_WRITE) {
+				return result;
+			}
+			var reads = this.cycleTasks.reads();
+			while (result.size() < maxTasks) {
+				var next = reads.peek();
+				if (next == null || next.getPriority() != first.getPriority() || !filter.test(next)) {
+					break;
+				}
+				result.add(reads.poll());
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Waiting in INITIAL_WAIT or WAIT_BEFORE_READ finished.
 	 */
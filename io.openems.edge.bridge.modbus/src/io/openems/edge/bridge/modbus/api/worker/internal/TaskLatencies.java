@@ -0,0 +1,87 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.task.Task;
+
+/**
+ * Tracks the execution duration of {@link Task}s and of devices, identified by
+ * their Modbus Unit-ID.
+ *
+ * <p>
+ * Durations are smoothed with an exponentially weighted moving average, so a
+ * device that starts timing out is detected after a few requests and recovers
+ * the same way.
+ */
+public class TaskLatencies {
+
+	private static final double ALPHA = 0.3;
+
+	private final Map<Task, Double> tasks = new WeakHashMap<>();
+	private final Map<Integer, Double> devices = new HashMap<>();
+
+	/**
+	 * Gets the device key of a {@link Task}.
+	 *
+	 * @param task the {@link Task}
+	 * @return the Unit-ID of the parent; null if unknown
+	 */
+	public static Integer getDevice(Task task) {
+		if (task.getParent() instanceof AbstractOpenemsModbusComponent parent) {
+			return parent.getUnitId();
+		}
+		return null;
+	}
+
+	/**
+	 * Records the execution duration of a {@link Task}.
+	 *
+	 * @param task   the {@link Task}
+	 * @param millis the duration in [ms]
+	 */
+	public synchronized void record(Task task, double millis) {
+		this.tasks.merge(task, millis, TaskLatencies::average);
+		this.devices.merge(getDevice(task), millis, TaskLatencies::average);
+	}
+
+	/**
+	 * Gets the estimated execution duration of a {@link Task}. Falls back to the
+	 * estimation for its device.
+	 *
+	 * @param task the {@link Task}
+	 * @return the duration in [ms]; zero if unknown
+	 */
+	public synchronized double getTaskLatency(Task task) {
+		var result = this.tasks.get(task);
+		if (result != null) {
+			return result;
+		}
+		return this.getDeviceLatency(getDevice(task));
+	}
+
+	/**
+	 * Gets the estimated execution duration of one request to a device.
+	 *
+	 * @param device the Unit-ID
+	 * @return the duration in [ms]; zero if unknown
+	 */
+	public synchronized double getDeviceLatency(Integer device) {
+		return this.devices.getOrDefault(device, 0.);
+	}
+
+	/**
+	 * Removes all recorded durations.
+	 */
+	public synchronized void clear() {
+		this.tasks.clear();
+		this.devices.clear();
+	}
+
+	private static double average(double previous, double value) {
+		return previous + ALPHA * (value - previous);
+	}
+
+}
@@ -1,8 +1,11 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.function.Consumer;
@@ -12,8 +15,11 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Ticker;
+
 import io.openems.edge.bridge.modbus.api.Config.LogHandler;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.SchedulerMode;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
@@ -24,13 +30,42 @@ import io.openems.edge.common.type.Tuple;
 
 /**
  * Supplies Tasks.
+ *
+ * <p>
+ * In {@link SchedulerMode#PER_DEVICE} Tasks are grouped per device (Unit-ID):
+ * every device gets its own round-robin queue of LOW priority Read-Tasks, which
+ * are only scheduled as long as their estimated duration fits into the
+ * remaining Cycle time. Read-Tasks are ordered by the measured latency of their
+ * device, so a slow or timing-out device does not delay the Read-Tasks of all
+ * other devices.
  */
 public class TasksSupplierImpl implements TasksSupplier {
 
+	/**
+	 * Share of the Cycle time that is kept free in
+	 * {@link SchedulerMode#PER_DEVICE}.
+	 */
+	private static final double CYCLE_TIME_RESERVE = 0.2;
+
+	/**
+	 * Maximum number of consecutive Cycles in which the LOW priority Read-Task of
+	 * a device may be skipped.
+	 */
+	protected static final int MAX_SKIPPED_CYCLES = 10;
+
 	private final Logger log = LoggerFactory.getLogger(TasksSupplierImpl.class);
+	private final Ticker ticker;
 	private final Supplier<LogHandler> logHandler;
+	private final TaskLatencies latencies = new TaskLatencies();
+
+	private SchedulerMode schedulerMode = SchedulerMode.SEQUENTIAL;
 
 	public TasksSupplierImpl(Supplier<LogHandler> logHandler) {
+		this(Ticker.systemTicker(), logHandler);
+	}
+
+	protected TasksSupplierImpl(Ticker ticker, Supplier<LogHandler> logHandler) {
+		this.ticker = ticker;
 		this.logHandler = logHandler;
 	}
 
@@ -44,6 +79,55 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	private final Queue<Tuple<String, ReadTask>> nextLowPriorityTasks = new LinkedList<>();
 
+	/**
+	 * Device (Unit-ID) -> Queue of LOW priority {@link ReadTask}s; for
+	 * {@link SchedulerMode#PER_DEVICE}.
+	 */
+	private final Map<Integer, Queue<Tuple<String, ReadTask>>> nextLowPriorityTasksPerDevice = new HashMap<>();
+
+	/**
+	 * Device (Unit-ID) -> number of consecutive Cycles its LOW priority Read-Task
+	 * was skipped.
+	 */
+	private final Map<Integer, Integer> skippedCycles = new HashMap<>();
+
+	private int roundRobinOffset = 0;
+	private Long lastCycleNanos = null;
+
+	/**
+	 * Sets the {@link SchedulerMode}.
+	 *
+	 * @param schedulerMode the {@link SchedulerMode}
+	 */
+	public synchronized void setSchedulerMode(SchedulerMode schedulerMode) {
+		if (this.schedulerMode == schedulerMode) {
+			return;
+		}
+		this.schedulerMode = schedulerMode;
+		this.nextLowPriorityTasks.clear();
+		this.nextLowPriorityTasksPerDevice.clear();
+		this.skippedCycles.clear();
+	}
+
+	/**
+	 * Records the execution duration of a {@link Task}.
+	 *
+	 * @param task  the executed {@link Task}
+	 * @param nanos the duration in [ns]
+	 */
+	public void onTaskExecuted(Task task, long nanos) {
+		this.latencies.record(task, nanos / 1_000_000.);
+	}
+
+	/**
+	 * Gets the {@link TaskLatencies}.
+	 *
+	 * @return the {@link TaskLatencies}
+	 */
+	public TaskLatencies getLatencies() {
+		return this.latencies;
+	}
+
 	/**
 	 * Adds (or replaces) the protocol identified by its sourceId.
 	 * 
@@ -85,13 +169,16 @@ public class TasksSupplierImpl implements TasksSupplier {
 		taskManager.getTasks() //
 				.forEach(t -> invalidate.accept(t.getElements()));
 		this.nextLowPriorityTasks.removeIf(t -> t.a() == sourceId);
+		this.nextLowPriorityTasksPerDevice.values().forEach(q -> q.removeIf(t -> t.a() == sourceId));
 	}
 
 	@Override
 	public synchronized CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
+		final var cycleTime = this.updateCycleTime();
+		final var perDevice = this.schedulerMode == SchedulerMode.PER_DEVICE;
 		Map<String, LinkedList<Task>> tasks = new HashMap<>();
 		// One Low Priority ReadTask
-		{
+		if (!perDevice) {
 			var t = this.getOneLowPriorityReadTask();
 			if (t != null) {
 				tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
@@ -121,12 +208,21 @@ public class TasksSupplierImpl implements TasksSupplier {
 				componentTasks.clear();
 			}
 		});
+		// LOW priority ReadTasks per device
+		if (perDevice) {
+			this.addLowPriorityReadTasksPerDevice(tasks, cycleTime, defectiveComponents);
+		}
+		var reads = tasks.values().stream().flatMap(LinkedList::stream) //
+				.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
+				.collect(Collectors.toCollection(LinkedList::new));
+		if (perDevice) {
+			// Fast devices first
+			reads.sort(this.byDeviceLatency());
+		}
+		// Sort HIGH priority to the end
+		reads.sort((a, b) -> b.getPriority().compareTo(a.getPriority()));
 		var result = new CycleTasks(//
-				tasks.values().stream().flatMap(LinkedList::stream) //
-						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
-						// Sort HIGH priority to the end
-						.sorted((a, b) -> b.getPriority().compareTo(a.getPriority())) //
-						.collect(Collectors.toCollection(LinkedList::new)),
+				reads, //
 				tasks.values().stream().flatMap(LinkedList::stream) //
 						.filter(WriteTask.class::isInstance).map(WriteTask.class::cast) //
 						.collect(Collectors.toCollection(LinkedList::new)));
@@ -164,6 +260,124 @@ public class TasksSupplierImpl implements TasksSupplier {
 		}
 	}
 
+	/**
+	 * Adds LOW priority {@link ReadTask}s - at most one per device - as long as
+	 * their estimated duration fits into the Cycle time. Devices are visited
+	 * round-robin; the LOW priority Read-Task of a device is skipped if it does
+	 * not fit, but at most for {@link #MAX_SKIPPED_CYCLES} consecutive Cycles;
+	 * afterwards it is scheduled after the devices that fit, without reducing
+	 * their budget. At least one LOW priority Read-Task is scheduled per Cycle.
+	 *
+	 * @param tasks               the Tasks of this Cycle per Source-ID
+	 * @param cycleTime           the measured Cycle time in [ms]; zero if unknown
+	 * @param defectiveComponents the {@link DefectiveComponents}
+	 */
+	private void addLowPriorityReadTasksPerDevice(Map<String, LinkedList<Task>> tasks, long cycleTime,
+			DefectiveComponents defectiveComponents) {
+		var devices = this.refillLowPriorityTasksPerDevice();
+		if (devices.isEmpty()) {
+			return;
+		}
+		Collections.rotate(devices, -(this.roundRobinOffset++ % devices.size()));
+
+		var budget = cycleTime * (1. - CYCLE_TIME_RESERVE) - tasks.values().stream() //
+				.flatMap(LinkedList::stream) //
+				.mapToDouble(this.latencies::getTaskLatency) //
+				.sum();
+		var scheduled = 0;
+		var forced = new ArrayList<Integer>();
+		Integer fastestSkipped = null;
+		var fastestSkippedEstimate = Double.MAX_VALUE;
+		for (var device : devices) {
+			var queue = this.nextLowPriorityTasksPerDevice.get(device);
+			// Drop Tasks of defective Components
+			while (queue.peek() != null && defectiveComponents.isDueForNextTry(queue.peek().a()) != null) {
+				queue.poll();
+			}
+			var next = queue.peek();
+			if (next == null) {
+				continue;
+			}
+			var estimate = this.latencies.getTaskLatency(next.b());
+			if (cycleTime > 0 && estimate > budget) {
+				var skipped = this.skippedCycles.getOrDefault(device, 0);
+				if (skipped >= MAX_SKIPPED_CYCLES) {
+					// Admitted after the devices that fit; does not consume their budget
+					forced.add(device);
+					continue;
+				}
+				this.skippedCycles.put(device, skipped + 1);
+				if (estimate < fastestSkippedEstimate) {
+					fastestSkipped = device;
+					fastestSkippedEstimate = estimate;
+				}
+				continue;
+			}
+			budget -= estimate;
+			this.scheduleLowPriorityReadTask(tasks, device);
+			scheduled++;
+		}
+		for (var device : forced) {
+			this.scheduleLowPriorityReadTask(tasks, device);
+			scheduled++;
+		}
+		if (scheduled == 0 && fastestSkipped != null) {
+			this.scheduleLowPriorityReadTask(tasks, fastestSkipped);
+		}
+	}
+
+	private void scheduleLowPriorityReadTask(Map<String, LinkedList<Task>> tasks, Integer device) {
+		var task = this.nextLowPriorityTasksPerDevice.get(device).poll();
+		this.skippedCycles.remove(device);
+		tasks.computeIfAbsent(task.a(), (ignore) -> new LinkedList<>()) //
+				.addFirst(task.b());
+	}
+
+	/**
+	 * Refills empty per-device queues of LOW priority {@link ReadTask}s.
+	 *
+	 * @return the devices with LOW priority ReadTasks, sorted by Unit-ID
+	 */
+	private List<Integer> refillLowPriorityTasksPerDevice() {
+		var lowTasks = new HashMap<Integer, List<Tuple<String, ReadTask>>>();
+		this.taskManagers.forEach((id, taskManager) -> {
+			taskManager.getTasks(Priority.LOW).stream() //
+					.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
+					.forEach(t -> lowTasks.computeIfAbsent(TaskLatencies.getDevice(t), (ignore) -> new ArrayList<>()) //
+							.add(new Tuple<String, ReadTask>(id, t)));
+		});
+		this.nextLowPriorityTasksPerDevice.keySet().retainAll(lowTasks.keySet());
+		this.skippedCycles.keySet().retainAll(lowTasks.keySet());
+		lowTasks.forEach((device, list) -> {
+			var queue = this.nextLowPriorityTasksPerDevice.computeIfAbsent(device, (ignore) -> new LinkedList<>());
+			if (queue.isEmpty()) {
+				queue.addAll(list);
+			}
+		});
+		var result = new ArrayList<>(lowTasks.keySet());
+		result.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+		return result;
+	}
+
+	private Comparator<ReadTask> byDeviceLatency() {
+		var deviceLatencies = new HashMap<Integer, Double>();
+		Comparator<ReadTask> byLatency = Comparator.comparingDouble(t -> deviceLatencies
+				.computeIfAbsent(TaskLatencies.getDevice(t), this.latencies::getDeviceLatency));
+		return byLatency.thenComparing(TaskLatencies::getDevice, Comparator.nullsFirst(Comparator.naturalOrder()));
+	}
+
+	/**
+	 * Updates and gets the time since the last call.
+	 *
+	 * @return the Cycle time in [ms]; zero if unknown
+	 */
+	private long updateCycleTime() {
+		var now = this.ticker.read();
+		var last = this.lastCycleNanos;
+		this.lastCycleNanos = now;
+		return last == null ? 0 : (now - last) / 1_000_000;
+	}
+
 	@Override
 	public synchronized int getTotalNumberOfTasks() {
 		return this.taskManagers.values().stream() //
@@ -31,6 +31,15 @@ public class BridgeModbusTcpImplTest {
 
 	@Test
 	public void test() throws Exception {
+		this.test(1);
+	}
+
+	@Test
+	public void testPipelined() throws Exception {
+		this.test(4);
+	}
+
+	private void test(int pipelineDepth) throws Exception {
 		final ThrowingRunnable<Exception> sleep = () -> Thread.sleep(CYCLE_TIME);
 
 		var port = findRandomOpenPortOnAllLocalInterfaces();
@@ -43,6 +52,8 @@ public class BridgeModbusTcpImplTest {
 			var processImage = new SimpleProcessImage(UNIT_ID);
 			Register register100 = new SimpleRegister(123);
 			processImage.addRegister(100, register100);
+			Register register101 = new SimpleRegister(456);
+			processImage.addRegister(101, register101);
 			slave.addProcessImage(UNIT_ID, processImage);
 			slave.open();
 
@@ -57,6 +68,7 @@ public class BridgeModbusTcpImplTest {
 							.setPort(port) //
 							.setInvalidateElementsAfterReadErrors(1) //
 							.setLogVerbosity(LogVerbosity.NONE) //
+							.setPipelineDepth(pipelineDepth) //
 							.build());
 			test.addComponent(new MyModbusComponent("device0", sut, UNIT_ID));
 
@@ -69,6 +81,7 @@ public class BridgeModbusTcpImplTest {
 					.next(new TestCase() //
 							.onAfterProcessImage(sleep) //
 							.output("device0", MyModbusComponent.ChannelId.REGISTER_100, 123) //
+							.output("device0", MyModbusComponent.ChannelId.REGISTER_101, 456) //
 							.output("device0", MODBUS_COMMUNICATION_FAILED, false)); //
 
 			/*
@@ -82,6 +95,7 @@ public class BridgeModbusTcpImplTest {
 					.next(new TestCase() //
 							.onAfterProcessImage(sleep) //
 							.output("device0", MyModbusComponent.ChannelId.REGISTER_100, null) //
+							.output("device0", MyModbusComponent.ChannelId.REGISTER_101, null) //
 							.output("device0", MODBUS_COMMUNICATION_FAILED, false)); //
 
 		} finally {
@@ -98,7 +112,8 @@ public class BridgeModbusTcpImplTest {
 		}
 
 		public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
-			REGISTER_100(Doc.of(OpenemsType.INTEGER)); //
+			REGISTER_100(Doc.of(OpenemsType.INTEGER)), //
+			REGISTER_101(Doc.of(OpenemsType.INTEGER)); //
 
 			private final Doc doc;
 
@@ -116,7 +131,9 @@ public class BridgeModbusTcpImplTest {
 		protected ModbusProtocol defineModbusProtocol() {
 			return new ModbusProtocol(this, //
 					new FC3ReadRegistersTask(100, Priority.HIGH, //
-							m(ChannelId.REGISTER_100, new UnsignedWordElement(100)))); //
+							m(ChannelId.REGISTER_100, new UnsignedWordElement(100))), //
+					new FC3ReadRegistersTask(101, Priority.HIGH, //
+							m(ChannelId.REGISTER_101, new UnsignedWordElement(101)))); //
 		}
 
 	}
@@ -0,0 +1,108 @@
+package io.openems.edge.bridge.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.io.AbstractModbusTransport;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.net.AbstractModbusListener;
+
+public class ModbusTcpPipelineTest {
+
+	/**
+	 * Answers every request in reverse order once the pipeline is full.
+	 */
+	private static class DummyTransport extends AbstractModbusTransport {
+
+		private final ArrayDeque<ModbusResponse> responses = new ArrayDeque<>();
+		private final IntUnaryOperator unitIdMapper;
+
+		private DummyTransport(IntUnaryOperator unitIdMapper) {
+			this.unitIdMapper = unitIdMapper;
+		}
+
+		@Override
+		public void writeRequest(ModbusRequest request) {
+			var response = request.getResponse();
+			response.setTransactionID(request.getTransactionID());
+			response.setUnitID(this.unitIdMapper.applyAsInt(request.getUnitID()));
+			this.responses.push(response);
+		}
+
+		@Override
+		public ModbusResponse readResponse() throws ModbusIOException {
+			if (this.responses.isEmpty()) {
+				throw new ModbusIOException("Timeout");
+			}
+			return this.responses.pop();
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public ModbusTransaction createTransaction() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void writeResponse(ModbusResponse response) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ModbusRequest readRequest(AbstractModbusListener listener) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static List<ModbusRequest> createRequests(int... unitIds) {
+		return Arrays.stream(unitIds) //
+				.<ModbusRequest>mapToObj(unitId -> {
+					var request = new ReadMultipleRegistersRequest(0, 1);
+					request.setUnitID(unitId);
+					return request;
+				}) //
+				.toList();
+	}
+
+	@Test
+	public void testExecute() {
+		var sut = new ModbusTcpPipeline();
+		var requests = createRequests(1, 2, 3);
+		var results = sut.execute(new DummyTransport(unitId -> unitId), requests, 2);
+
+		assertEquals(3, results.size());
+		for (var i = 0; i < results.size(); i++) {
+			assertNull(results.get(i).exception());
+			assertEquals(requests.get(i).getUnitID(), results.get(i).response().getUnitID());
+		}
+	}
+
+	@Test
+	public void testUnitIdMismatch() {
+		var sut = new ModbusTcpPipeline();
+		var results = sut.execute(new DummyTransport(unitId -> unitId == 2 ? 5 : unitId), //
+				createRequests(1, 2, 3), 3);
+
+		assertNotNull(results.get(0).response());
+		assertNull(results.get(1).response());
+		assertTrue(results.get(1).exception() instanceof ModbusIOException);
+		assertNotNull(results.get(2).response());
+	}
+
+}
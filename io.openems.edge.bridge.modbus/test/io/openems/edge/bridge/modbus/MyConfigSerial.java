@@ -3,6 +3,7 @@ package io.openems.edge.bridge.modbus;
 import io.openems.common.test.AbstractComponentConfig;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.Parity;
+import io.openems.edge.bridge.modbus.api.SchedulerMode;
 import io.openems.edge.bridge.modbus.api.Stopbit;
 
 @SuppressWarnings("all")
@@ -20,6 +21,9 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		private int delayAfterTx;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private boolean coalesceReadTasks = false;
+		private int coalesceReadTasksMaxGap = 8;
+		private SchedulerMode schedulerMode = SchedulerMode.SEQUENTIAL;
 
 		private Builder() {
 		}
@@ -79,6 +83,21 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setCoalesceReadTasks(boolean coalesceReadTasks) {
+			this.coalesceReadTasks = coalesceReadTasks;
+			return this;
+		}
+
+		public Builder setCoalesceReadTasksMaxGap(int coalesceReadTasksMaxGap) {
+			this.coalesceReadTasksMaxGap = coalesceReadTasksMaxGap;
+			return this;
+		}
+
+		public Builder setSchedulerMode(SchedulerMode schedulerMode) {
+			this.schedulerMode = schedulerMode;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -150,4 +169,19 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public boolean coalesceReadTasks() {
+		return this.builder.coalesceReadTasks;
+	}
+
+	@Override
+	public int coalesceReadTasksMaxGap() {
+		return this.builder.coalesceReadTasksMaxGap;
+	}
+
+	@Override
+	public SchedulerMode schedulerMode() {
+		return this.builder.schedulerMode;
+	}
+
+}
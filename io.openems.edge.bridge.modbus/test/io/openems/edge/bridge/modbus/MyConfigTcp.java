@@ -2,6 +2,7 @@ package io.openems.edge.bridge.modbus;
 
 import io.openems.common.test.AbstractComponentConfig;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.SchedulerMode;
 
 @SuppressWarnings("all")
 public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
@@ -12,6 +13,11 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private int port;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private boolean coalesceReadTasks = false;
+		private int coalesceReadTasksMaxGap = 8;
+		private SchedulerMode schedulerMode = SchedulerMode.SEQUENTIAL;
+		private int pipelineDepth = 1;
+		private String[] pipeliningExcludedComponentIds = new String[0];
 
 		private Builder() {
 		}
@@ -41,6 +47,31 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setPipelineDepth(int pipelineDepth) {
+			this.pipelineDepth = pipelineDepth;
+			return this;
+		}
+
+		public Builder setPipeliningExcludedComponentIds(String... pipeliningExcludedComponentIds) {
+			this.pipeliningExcludedComponentIds = pipeliningExcludedComponentIds;
+			return this;
+		}
+
+		public Builder setCoalesceReadTasks(boolean coalesceReadTasks) {
+			this.coalesceReadTasks = coalesceReadTasks;
+			return this;
+		}
+
+		public Builder setCoalesceReadTasksMaxGap(int coalesceReadTasksMaxGap) {
+			this.coalesceReadTasksMaxGap = coalesceReadTasksMaxGap;
+			return this;
+		}
+
+		public Builder setSchedulerMode(SchedulerMode schedulerMode) {
+			this.schedulerMode = schedulerMode;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -82,4 +113,29 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int pipelineDepth() {
+		return this.builder.pipelineDepth;
+	}
+
+	@Override
+	public String[] pipeliningExcludedComponentIds() {
+		return this.builder.pipeliningExcludedComponentIds;
+	}
+
+	@Override
+	public boolean coalesceReadTasks() {
+		return this.builder.coalesceReadTasks;
+	}
+
+	@Override
+	public int coalesceReadTasksMaxGap() {
+		return this.builder.coalesceReadTasksMaxGap;
+	}
+
+	@Override
+	public SchedulerMode schedulerMode() {
+		return this.builder.schedulerMode;
+	}
+
+}
@@ -0,0 +1,113 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ReadTaskPlannerTest {
+
+	@Test
+	public void testMerge() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var element100 = new UnsignedWordElement(100);
+		var element105 = new UnsignedWordElement(105);
+		var task100 = new FC3ReadRegistersTask(100, Priority.LOW, element100);
+		var task101 = new FC3ReadRegistersTask(101, Priority.LOW, new UnsignedWordElement(101));
+		var task105 = new FC3ReadRegistersTask(105, Priority.LOW, element105);
+		var task200 = new FC3ReadRegistersTask(200, Priority.LOW, new UnsignedWordElement(200));
+
+		var planner = new ReadTaskPlanner(8, () -> {
+		});
+		var result = planner.plan(List.<Task>of(task105, task100, task200, task101), component);
+
+		assertEquals(2, result.size());
+		var merged = (FC3ReadRegistersTask) result.get(0);
+		assertEquals(100, merged.getStartAddress());
+		assertEquals(6, merged.getLength());
+		assertTrue(merged.getElements()[2] instanceof DummyRegisterElement);
+		assertSame(merged, element100.getModbusTask());
+		assertSame(merged, element105.getModbusTask());
+		assertSame(component, merged.getParent());
+		assertSame(task200, result.get(1));
+	}
+
+	@Test
+	public void testNoMerge() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var planner = new ReadTaskPlanner(8, () -> {
+		});
+
+		// Different Priority, Function-Code and too large gap
+		var tasks = List.<Task>of(//
+				new FC3ReadRegistersTask(100, Priority.LOW, new UnsignedWordElement(100)), //
+				new FC3ReadRegistersTask(101, Priority.HIGH, new UnsignedWordElement(101)), //
+				new FC4ReadInputRegistersTask(102, Priority.LOW, new UnsignedWordElement(102)), //
+				new FC3ReadRegistersTask(110, Priority.LOW, new UnsignedWordElement(110)));
+		assertEquals(tasks, planner.plan(tasks, component));
+
+		// Exceeds maximum request length
+		tasks = List.<Task>of(//
+				new FC3ReadRegistersTask(0, Priority.LOW, new DummyRegisterElement(0, 99)), //
+				new FC3ReadRegistersTask(100, Priority.LOW, new DummyRegisterElement(100, 125)));
+		assertEquals(tasks, planner.plan(tasks, component));
+	}
+
+	@Test
+	public void testSplitOnIllegalAddress() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var protocol = new ModbusProtocol(component, //
+				new FC3ReadRegistersTask(100, Priority.LOW, new UnsignedWordElement(100)), //
+				new FC3ReadRegistersTask(102, Priority.LOW, new UnsignedWordElement(102)));
+		assertEquals(2, protocol.getTaskManager().countTasks());
+
+		protocol.enableReadTaskCoalescing(4);
+		assertEquals(1, protocol.getTaskManager().countTasks());
+		assertEquals(2, protocol.getNumberOfOriginalTasks());
+
+		var merged = (AbstractTask<?, ?>) protocol.getTaskManager().getOneTask();
+		merged.onExecute.accept(new ExecuteState.Error(new ModbusSlaveException(Modbus.ILLEGAL_ADDRESS_EXCEPTION)));
+		assertEquals(2, protocol.getTaskManager().countTasks());
+
+		// Stays split after adding another Task
+		protocol.addTask(new FC3ReadRegistersTask(103, Priority.LOW, new UnsignedWordElement(103)));
+		assertEquals(2, protocol.getTaskManager().countTasks());
+
+		protocol.disableReadTaskCoalescing();
+		assertEquals(3, protocol.getTaskManager().countTasks());
+	}
+
+	@Test
+	public void testForwardOnExecute() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var counter = new AtomicInteger();
+		var planner = new ReadTaskPlanner(0, () -> {
+		});
+		var result = planner.plan(List.<Task>of(//
+				new FC3ReadRegistersTask(state -> counter.incrementAndGet(), 100, Priority.LOW,
+						new UnsignedWordElement(100)), //
+				new FC3ReadRegistersTask(state -> counter.incrementAndGet(), 101, Priority.LOW,
+						new UnsignedWordElement(101))),
+				component);
+
+		assertEquals(1, result.size());
+		((AbstractTask<?, ?>) result.get(0)).onExecute.accept(ExecuteState.OK);
+		assertEquals(2, counter.get());
+	}
+
+}
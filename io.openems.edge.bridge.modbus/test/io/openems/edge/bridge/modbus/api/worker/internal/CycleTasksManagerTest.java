@@ -6,6 +6,7 @@ import static io.openems.edge.bridge.modbus.api.worker.internal.CycleTasksManage
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -193,6 +194,63 @@ public class CycleTasksManagerTest {
 		sut.onBeforeProcessImage();
 	}
 
+	@Test
+	public void testGetNextTasks() throws OpenemsException, InterruptedException {
+		var cycle1 = CycleTasks.create() //
+				.reads(RT_L_1, RT_H_1, RT_H_2) //
+				.writes(WT_1) //
+				.build();
+		var tasksSupplier = new DummyTasksSupplier(cycle1);
+		var defectiveComponents = new DefectiveComponents(LOG_HANDLER);
+
+		var sut = new CycleTasksManager(tasksSupplier, defectiveComponents, //
+				CYCLE_TIME_IS_TOO_SHORT, CYCLE_DELAY, LOG_HANDLER);
+
+		sut.onBeforeProcessImage();
+		var tasks = sut.getNextTasks(4, t -> true);
+		assertEquals(1, tasks.size());
+		assertTrue(tasks.get(0) instanceof WaitTask.Delay);
+		tasks.get(0).execute(null);
+
+		// Different Priority is not combined
+		tasks = sut.getNextTasks(4, t -> true);
+		assertEquals(List.of(RT_L_1), tasks);
+
+		// Write-Tasks are never combined
+		sut.onExecuteWrite();
+		tasks = sut.getNextTasks(4, t -> true);
+		assertEquals(List.of(WT_1), tasks);
+
+		tasks = sut.getNextTasks(4, t -> true);
+		assertTrue(tasks.get(0) instanceof WaitTask.Delay);
+		tasks.get(0).execute(null);
+
+		// Same Priority after write
+		tasks = sut.getNextTasks(4, t -> true);
+		assertEquals(List.of(RT_H_1, RT_H_2), tasks);
+	}
+
+	@Test
+	public void testGetNextTasksFilter() throws OpenemsException, InterruptedException {
+		var cycle1 = CycleTasks.create() //
+				.reads(RT_H_1, RT_H_2) //
+				.build();
+		var tasksSupplier = new DummyTasksSupplier(cycle1);
+		var defectiveComponents = new DefectiveComponents(LOG_HANDLER);
+
+		var sut = new CycleTasksManager(tasksSupplier, defectiveComponents, //
+				CYCLE_TIME_IS_TOO_SHORT, CYCLE_DELAY, LOG_HANDLER);
+
+		sut.onBeforeProcessImage();
+		sut.getNextTasks(4, t -> true).get(0).execute(null);
+
+		// Opt-out Task is executed alone
+		var tasks = sut.getNextTasks(4, t -> t != RT_H_2);
+		assertEquals(List.of(RT_H_1), tasks);
+		tasks = sut.getNextTasks(4, t -> t != RT_H_2);
+		assertEquals(List.of(RT_H_2), tasks);
+	}
+
 	@Test
 	public void testNoTasks() throws OpenemsException, InterruptedException {
 		var cycle1 = CycleTasks.create() //
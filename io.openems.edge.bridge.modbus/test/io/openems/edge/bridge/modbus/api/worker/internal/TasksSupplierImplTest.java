@@ -7,6 +7,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -15,8 +16,11 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.test.TimeLeapClock;
 import io.openems.common.utils.FunctionUtils;
 import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.SchedulerMode;
 import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
 import io.openems.edge.bridge.modbus.api.worker.DummyWriteTask;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.channel.ChannelId;
 import io.openems.edge.common.taskmanager.Priority;
 
 public class TasksSupplierImplTest {
@@ -106,4 +110,55 @@ public class TasksSupplierImplTest {
 		assertTrue(tasks.writes().contains(WT_1));
 	}
 
+	@Test
+	public void testPerDevice() throws OpenemsException {
+		var ticker = new FakeTicker();
+		var defectiveComponents = new DefectiveComponents(new TimeLeapClock(), LOG_HANDLER);
+		var sut = new TasksSupplierImpl(ticker, LOG_HANDLER);
+		sut.setSchedulerMode(SchedulerMode.PER_DEVICE);
+
+		var bridge = new DummyModbusBridge("modbus0");
+		var fast = new DummyModbusComponent("fast0", bridge, 1, new ChannelId[0]);
+		fast.getModbusProtocol().addTasks(RT_H_1, RT_L_1, RT_L_2);
+		sut.addProtocol(fast.id(), fast.getModbusProtocol(), FunctionUtils::doNothing);
+
+		var slowHigh = new DummyReadTask("SLOW_H", 0, Priority.HIGH);
+		var slowLow = new DummyReadTask("SLOW_L", 0, Priority.LOW);
+		var slow = new DummyModbusComponent("slow0", bridge, 2, new ChannelId[0]);
+		slow.getModbusProtocol().addTasks(slowHigh, slowLow);
+		sut.addProtocol(slow.id(), slow.getModbusProtocol(), FunctionUtils::doNothing);
+
+		// 1st Cycle: Cycle-Time and latencies unknown -> one LOW task per device
+		var tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(4, tasks.reads().size());
+		assertEquals(RT_L_1, tasks.reads().get(0));
+		assertEquals(slowLow, tasks.reads().get(1));
+		assertEquals(RT_H_1, tasks.reads().get(2));
+		assertEquals(slowHigh, tasks.reads().get(3));
+
+		sut.onTaskExecuted(RT_L_1, TimeUnit.MILLISECONDS.toNanos(10));
+		sut.onTaskExecuted(RT_H_1, TimeUnit.MILLISECONDS.toNanos(10));
+		sut.onTaskExecuted(slowLow, TimeUnit.MILLISECONDS.toNanos(500));
+		sut.onTaskExecuted(slowHigh, TimeUnit.MILLISECONDS.toNanos(500));
+
+		// 2nd Cycle: slow LOW task does not fit into the Cycle -> skipped
+		ticker.advance(1000, TimeUnit.MILLISECONDS);
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(3, tasks.reads().size());
+		assertEquals(RT_L_2, tasks.reads().get(0));
+		assertEquals(RT_H_1, tasks.reads().get(1));
+		assertEquals(slowHigh, tasks.reads().get(2));
+
+		// Slow LOW task is skipped at most MAX_SKIPPED_CYCLES times
+		var cycles = 1;
+		do {
+			ticker.advance(1000, TimeUnit.MILLISECONDS);
+			tasks = sut.getCycleTasks(defectiveComponents);
+			cycles++;
+		} while (!tasks.reads().contains(slowLow));
+		assertEquals(TasksSupplierImpl.MAX_SKIPPED_CYCLES + 1, cycles);
+		// ...and is then executed after the fast device
+		assertEquals(slowLow, tasks.reads().get(1));
+	}
+
 }
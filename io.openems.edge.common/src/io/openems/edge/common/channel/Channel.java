@@ -3,12 +3,14 @@ package io.openems.edge.common.channel;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAmount;
+import java.util.List;
 import java.util.TreeMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.history.ChannelHistory;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -169,11 +171,37 @@ public interface Channel<T> {
 	/**
 	 * Gets the past values for this Channel.
 	 *
+	 * <p>
+	 * Depending on the {@link ChannelHistory} implementation this is either a
+	 * live view or a snapshot; prefer {@link #getHistory()} for frequent queries.
+	 *
 	 * @return a map of recording time and historic value at that time
 	 */
 	// TODO this should be a ZonedDateTime
 	public TreeMap<LocalDateTime, Value<T>> getPastValues();
 
+	/**
+	 * Gets the past values for this Channel with a recording time at or after the
+	 * given time, ordered by recording time.
+	 *
+	 * <p>
+	 * Unlike {@link #getPastValues()} this never copies the complete history.
+	 *
+	 * @param fromInclusive the start time (inclusive)
+	 * @return a list of historic values
+	 */
+	public default List<Value<T>> getPastValues(LocalDateTime fromInclusive) {
+		return this.getHistory().getValuesSince(fromInclusive);
+	}
+
+	/**
+	 * Gets the {@link ChannelHistory} that stores the past values for this
+	 * Channel.
+	 *
+	 * @return the {@link ChannelHistory}
+	 */
+	public ChannelHistory<T> getHistory();
+
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
 	 * nextProcessImage().
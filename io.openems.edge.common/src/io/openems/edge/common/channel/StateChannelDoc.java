@@ -3,6 +3,7 @@ package io.openems.edge.common.channel;
 import io.openems.common.channel.ChannelCategory;
 import io.openems.common.channel.Level;
 import io.openems.common.channel.PersistencePriority;
+import io.openems.edge.common.channel.history.ChannelHistoryMode;
 import io.openems.edge.common.component.OpenemsComponent;
 
 public class StateChannelDoc extends BooleanDoc {
@@ -14,6 +15,7 @@ public class StateChannelDoc extends BooleanDoc {
 		this.level = level;
 		this.initialValue(false);
 		this.persistencePriority(PersistencePriority.HIGH);
+		this.historyMode(ChannelHistoryMode.CHANGES_ONLY);
 	}
 
 	@Override
@@ -0,0 +1,115 @@
+package io.openems.edge.common.channel.history;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeMap;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * {@link ChannelHistory} that records only value transitions.
+ *
+ * <p>
+ * Every entry marks the start of a run of a constant value. Additionally the
+ * timestamp of the latest append is kept as 'valid until' marker. The oldest
+ * run is kept as long as it still covers the beginning of
+ * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+ *
+ * @param <T> the type of the Channel
+ */
+public class ChangesOnlyChannelHistory<T> extends RingBufferChannelHistory<T> {
+
+	private final Channel<T> channel;
+
+	/** Timestamp of the latest append in local epoch milliseconds. */
+	private long validUntil = Long.MIN_VALUE;
+
+	public ChangesOnlyChannelHistory(Channel<T> channel) {
+		super(channel);
+		this.channel = channel;
+	}
+
+	@Override
+	public ChannelHistoryMode getMode() {
+		return ChannelHistoryMode.CHANGES_ONLY;
+	}
+
+	@Override
+	protected synchronized void append(long timestamp, T value) {
+		if (this.size() > 0 && timestamp >= this.timestampAt(this.size() - 1) && this.isEqualToLatest(value)) {
+			// Value did not change -> only extend the run
+			this.validUntil = timestamp;
+			this.removeExpired(timestamp);
+			return;
+		}
+		super.append(timestamp, value);
+		this.validUntil = timestamp;
+	}
+
+	@Override
+	protected boolean isOldestExpired(long compareTime) {
+		// Keep the oldest run as long as the following run starts after compareTime
+		return this.size() > 1 && this.timestampAt(1) <= compareTime;
+	}
+
+	/**
+	 * Gets the 'valid until' marker, i.e. the timestamp of the latest append.
+	 *
+	 * @return the timestamp; null if the history is empty
+	 */
+	public synchronized LocalDateTime getValidUntil() {
+		if (this.size() == 0) {
+			return null;
+		}
+		return ChannelHistory.toLocalDateTime(this.validUntil);
+	}
+
+	@Override
+	public synchronized void clear() {
+		super.clear();
+		this.validUntil = Long.MIN_VALUE;
+	}
+
+	@Override
+	public synchronized Value<T> getLatest() {
+		var latest = super.getLatest();
+		if (latest == null) {
+			return null;
+		}
+		return new Value<>(this.channel, latest.get(), ChannelHistory.toLocalDateTime(this.validUntil));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Contains one entry per run plus an entry at the 'valid until' marker.
+	 */
+	@Override
+	public synchronized List<Value<T>> getValuesSince(LocalDateTime fromInclusive) {
+		var result = super.getValuesSince(fromInclusive);
+		if (this.size() > 0 && this.validUntil > this.timestampAt(this.size() - 1)
+				&& this.validUntil >= ChannelHistory.toEpochMillis(fromInclusive)) {
+			result.add(this.getLatest());
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Contains one entry per run plus an entry at the 'valid until' marker.
+	 */
+	@Override
+	public synchronized TreeMap<LocalDateTime, Value<T>> asTreeMap() {
+		var result = super.asTreeMap();
+		if (!result.isEmpty() && this.validUntil > this.timestampAt(this.size() - 1)) {
+			var timestamp = ChannelHistory.toLocalDateTime(this.validUntil);
+			result.put(timestamp, new Value<>(this.channel, result.lastEntry().getValue().get(), timestamp));
+		}
+		return result;
+	}
+
+}
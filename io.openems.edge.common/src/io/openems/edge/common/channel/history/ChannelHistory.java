@@ -0,0 +1,244 @@
+package io.openems.edge.common.channel.history;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Stores the past values of a {@link Channel} for at most
+ * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+ *
+ * <p>
+ * Timestamps are handled internally as milliseconds of the local date-time
+ * (i.e. the {@link LocalDateTime} interpreted as UTC). This avoids ambiguities
+ * during daylight-saving-time changes and keeps conversion exact on
+ * millisecond precision.
+ *
+ * @param <T> the type of the Channel
+ */
+public interface ChannelHistory<T> {
+
+	/**
+	 * The maximum age of past values in milliseconds.
+	 */
+	public static final long MAX_AGE_MILLIS = Duration.from(Channel.MAX_AGE_OF_PAST_VALUES).toMillis();
+
+	/**
+	 * Consumes a timestamp in local epoch milliseconds and a numeric value.
+	 */
+	@FunctionalInterface
+	public static interface TimestampedDoubleConsumer {
+
+		/**
+		 * Performs this operation on the given arguments.
+		 *
+		 * @param timestamp the timestamp in local epoch milliseconds
+		 * @param value     the value
+		 */
+		public void accept(long timestamp, double value);
+	}
+
+	/**
+	 * Consumes a run of a constant numeric value.
+	 */
+	@FunctionalInterface
+	public static interface RunConsumer {
+
+		/**
+		 * Performs this operation on the given arguments.
+		 *
+		 * @param fromInclusive the start of the run in local epoch milliseconds
+		 * @param toExclusive   the end of the run in local epoch milliseconds
+		 * @param value         the value
+		 */
+		public void accept(long fromInclusive, long toExclusive, double value);
+	}
+
+	/**
+	 * Gets the {@link ChannelHistoryMode} of this implementation.
+	 *
+	 * @return the {@link ChannelHistoryMode}
+	 */
+	public ChannelHistoryMode getMode();
+
+	/**
+	 * Appends a {@link Value} and deletes entries that are elder than
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+	 *
+	 * @param value the {@link Value}
+	 */
+	public void append(Value<T> value);
+
+	/**
+	 * Gets the number of stored entries.
+	 *
+	 * @return the number of entries
+	 */
+	public int size();
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear();
+
+	/**
+	 * Gets the latest stored {@link Value}.
+	 *
+	 * @return the latest {@link Value}; null if the history is empty
+	 */
+	public Value<T> getLatest();
+
+	/**
+	 * Gets the oldest stored {@link Value} that is defined, i.e. not 'null'.
+	 *
+	 * @return the {@link Value}; null if there is no defined entry
+	 */
+	public Value<T> getOldestDefined();
+
+	/**
+	 * Gets the past values with a recording time at or after the given time,
+	 * ordered by recording time. Only the entries in the range are converted to
+	 * {@link Value}s.
+	 *
+	 * @param fromInclusive the start time (inclusive)
+	 * @return the past values; a new list on every call
+	 */
+	public List<Value<T>> getValuesSince(LocalDateTime fromInclusive);
+
+	/**
+	 * Gets the highest recording time less than or equal to the given time.
+	 *
+	 * @param timestamp the time
+	 * @return the recording time; null if there is no such entry
+	 */
+	public LocalDateTime floorTimestamp(LocalDateTime timestamp);
+
+	/**
+	 * Iterates over all defined, numeric entries with a recording time in the
+	 * given range. Boolean values are mapped to 0 and 1; String values are
+	 * skipped.
+	 *
+	 * @param fromInclusive the start time (inclusive)
+	 * @param toExclusive   the end time (exclusive)
+	 * @param consumer      the {@link TimestampedDoubleConsumer}
+	 */
+	public void forEachAsDouble(LocalDateTime fromInclusive, LocalDateTime toExclusive,
+			TimestampedDoubleConsumer consumer);
+
+	/**
+	 * Iterates over all runs of defined, numeric values that overlap the given
+	 * range. Every entry is valid until the next entry; the latest entry is valid
+	 * until the end of the range. Runs are clipped to the range, i.e. the entry
+	 * before the start of the range is included. Boolean values are mapped to 0
+	 * and 1; String values are skipped.
+	 *
+	 * @param fromInclusive the start time (inclusive)
+	 * @param toExclusive   the end time (exclusive)
+	 * @param consumer      the {@link RunConsumer}
+	 */
+	public void forEachRunAsDouble(LocalDateTime fromInclusive, LocalDateTime toExclusive, RunConsumer consumer);
+
+	/**
+	 * Calculates the time-weighted average of all values in the given range.
+	 *
+	 * @param fromInclusive the start time (inclusive)
+	 * @param toExclusive   the end time (exclusive)
+	 * @return the average; empty if there are no defined values
+	 */
+	public default OptionalDouble getTimeWeightedAverage(LocalDateTime fromInclusive, LocalDateTime toExclusive) {
+		final var sum = new double[2]; // weighted sum, total duration
+		this.forEachRunAsDouble(fromInclusive, toExclusive, (from, to, value) -> {
+			sum[0] += value * (to - from);
+			sum[1] += to - from;
+		});
+		if (sum[1] == 0) {
+			return OptionalDouble.empty();
+		}
+		return OptionalDouble.of(sum[0] / sum[1]);
+	}
+
+	/**
+	 * Gets the maximum of all values in the given range.
+	 *
+	 * @param fromInclusive the start time (inclusive)
+	 * @param toExclusive   the end time (exclusive)
+	 * @return the maximum; empty if there are no defined values
+	 */
+	public default OptionalDouble getMax(LocalDateTime fromInclusive, LocalDateTime toExclusive) {
+		final var max = new double[] { Double.NaN };
+		this.forEachRunAsDouble(fromInclusive, toExclusive, (from, to, value) -> {
+			if (Double.isNaN(max[0]) || value > max[0]) {
+				max[0] = value;
+			}
+		});
+		if (Double.isNaN(max[0])) {
+			return OptionalDouble.empty();
+		}
+		return OptionalDouble.of(max[0]);
+	}
+
+	/**
+	 * Gets the value that was active for the longest total duration in the given
+	 * range. On a tie the value that was active more recently wins. This is
+	 * useful for Enum-Channels.
+	 *
+	 * @param fromInclusive the start time (inclusive)
+	 * @param toExclusive   the end time (exclusive)
+	 * @return the value; empty if there are no defined values
+	 */
+	public default OptionalDouble getDominantValue(LocalDateTime fromInclusive, LocalDateTime toExclusive) {
+		final var durations = new HashMap<Double, long[]>(); // duration, latest end
+		this.forEachRunAsDouble(fromInclusive, toExclusive, (from, to, value) -> {
+			var entry = durations.computeIfAbsent(value, v -> new long[2]);
+			entry[0] += to - from;
+			entry[1] = to;
+		});
+		return durations.entrySet().stream() //
+				.max((a, b) -> {
+					var result = Long.compare(a.getValue()[0], b.getValue()[0]);
+					return result != 0 ? result : Long.compare(a.getValue()[1], b.getValue()[1]);
+				}) //
+				.map(e -> OptionalDouble.of(e.getKey())) //
+				.orElse(OptionalDouble.empty());
+	}
+
+	/**
+	 * Gets the past values as a map of recording time and historic value at that
+	 * time.
+	 *
+	 * <p>
+	 * Depending on the implementation this is either a live view or a snapshot.
+	 * Callers must not modify the returned map.
+	 *
+	 * @return the past values
+	 */
+	public TreeMap<LocalDateTime, Value<T>> asTreeMap();
+
+	/**
+	 * Converts a {@link LocalDateTime} to local epoch milliseconds.
+	 *
+	 * @param timestamp the {@link LocalDateTime}
+	 * @return the local epoch milliseconds
+	 */
+	public static long toEpochMillis(LocalDateTime timestamp) {
+		return timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+
+	/**
+	 * Converts local epoch milliseconds to a {@link LocalDateTime}.
+	 *
+	 * @param epochMillis the local epoch milliseconds
+	 * @return the {@link LocalDateTime}
+	 */
+	public static LocalDateTime toLocalDateTime(long epochMillis) {
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000L),
+				(int) Math.floorMod(epochMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+	}
+}
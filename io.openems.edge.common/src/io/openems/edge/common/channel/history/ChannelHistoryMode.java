@@ -0,0 +1,41 @@
+package io.openems.edge.common.channel.history;
+
+import io.openems.edge.common.channel.Channel;
+
+/**
+ * Defines how the past values of a {@link Channel} are stored.
+ */
+public enum ChannelHistoryMode {
+	/**
+	 * Stores every value in a fixed-capacity primitive ring buffer. This is the
+	 * default.
+	 */
+	RING_BUFFER,
+	/**
+	 * Stores only value transitions in a primitive ring buffer, i.e. a run-length
+	 * compressed history. Useful for Channels that rarely change, like
+	 * State-Channels. Aggregations should be calculated time-weighted via
+	 * {@link ChannelHistory#forEachRunAsDouble}.
+	 */
+	CHANGES_ONLY,
+	/**
+	 * Stores every value as boxed {@link io.openems.edge.common.channel.value.Value}
+	 * in a {@link java.util.TreeMap}. This is the legacy implementation.
+	 */
+	TREE_MAP;
+
+	/**
+	 * Creates a new {@link ChannelHistory} for the given {@link Channel}.
+	 *
+	 * @param <T>     the type of the Channel
+	 * @param channel the {@link Channel}
+	 * @return a new {@link ChannelHistory}
+	 */
+	public <T> ChannelHistory<T> createHistory(Channel<T> channel) {
+		return switch (this) {
+		case RING_BUFFER -> new RingBufferChannelHistory<>(channel);
+		case CHANGES_ONLY -> new ChangesOnlyChannelHistory<>(channel);
+		case TREE_MAP -> new TreeMapChannelHistory<>(channel);
+		};
+	}
+}
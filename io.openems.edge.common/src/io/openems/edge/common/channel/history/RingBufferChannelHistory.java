@@ -0,0 +1,420 @@
+package io.openems.edge.common.channel.history;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.TreeMap;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * {@link ChannelHistory} that stores timestamps and values in primitive arrays
+ * organized as a ring buffer.
+ *
+ * <p>
+ * Values are stored by {@link OpenemsType}:
+ * <ul>
+ * <li>BOOLEAN in a {@link BitSet}
+ * <li>SHORT and INTEGER in an int[]
+ * <li>LONG in a long[]
+ * <li>FLOAT and DOUBLE in a double[]
+ * <li>STRING in an Object[]
+ * </ul>
+ * Undefined ('null') values are tracked in a separate {@link BitSet}.
+ *
+ * <p>
+ * The buffer starts small and grows on demand up to {@link #MAX_CAPACITY}.
+ * Afterwards the oldest entries are overwritten. Entries elder than
+ * {@link Channel#MAX_AGE_OF_PAST_VALUES} are dropped on every append.
+ *
+ * @param <T> the type of the Channel
+ */
+public class RingBufferChannelHistory<T> implements ChannelHistory<T> {
+
+	/**
+	 * Initial capacity; must be a power of two.
+	 */
+	protected static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Maximum capacity; must be a power of two. Sufficient to hold
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES} at a Cycle-Time of 100 ms.
+	 */
+	protected static final int MAX_CAPACITY = 4096;
+
+	private final Channel<T> channel;
+	private final OpenemsType type;
+
+	private long[] timestamps;
+	private int[] intValues;
+	private long[] longValues;
+	private double[] doubleValues;
+	private Object[] objectValues;
+	private final BitSet booleanValues = new BitSet();
+	private final BitSet defined = new BitSet();
+
+	/** Physical index of the oldest entry. */
+	private int head = 0;
+	/** Number of stored entries. */
+	private int size = 0;
+
+	public RingBufferChannelHistory(Channel<T> channel) {
+		this.channel = channel;
+		this.type = channel.getType();
+		this.allocate(INITIAL_CAPACITY);
+	}
+
+	private void allocate(int capacity) {
+		this.timestamps = new long[capacity];
+		switch (this.type) {
+		case BOOLEAN -> {
+		}
+		case SHORT, INTEGER -> this.intValues = new int[capacity];
+		case LONG -> this.longValues = new long[capacity];
+		case FLOAT, DOUBLE -> this.doubleValues = new double[capacity];
+		case STRING -> this.objectValues = new Object[capacity];
+		}
+	}
+
+	@Override
+	public ChannelHistoryMode getMode() {
+		return ChannelHistoryMode.RING_BUFFER;
+	}
+
+	@Override
+	public synchronized void append(Value<T> value) {
+		this.append(ChannelHistory.toEpochMillis(value.getTimestamp()), value.get());
+	}
+
+	/**
+	 * Appends a value.
+	 *
+	 * <p>
+	 * If the timestamp is equal to the latest entry, the latest entry gets
+	 * replaced. If the timestamp is before the latest entry (e.g. because the
+	 * system clock was adjusted), all entries at or after the timestamp are
+	 * dropped to keep the buffer sorted.
+	 *
+	 * @param timestamp the timestamp in local epoch milliseconds
+	 * @param value     the value; possibly null
+	 */
+	protected synchronized void append(long timestamp, T value) {
+		while (this.size > 0 && this.timestamps[this.physical(this.size - 1)] >= timestamp) {
+			this.size--;
+		}
+
+		this.removeExpired(timestamp);
+
+		if (this.size == this.timestamps.length) {
+			if (this.timestamps.length < MAX_CAPACITY) {
+				this.grow();
+			} else {
+				this.removeOldest();
+			}
+		}
+
+		var index = this.physical(this.size);
+		this.timestamps[index] = timestamp;
+		this.set(index, value);
+		this.size++;
+	}
+
+	/**
+	 * Removes entries that are elder than {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+	 *
+	 * @param timestamp the latest timestamp in local epoch milliseconds
+	 */
+	protected void removeExpired(long timestamp) {
+		final var compareTime = timestamp - MAX_AGE_MILLIS;
+		while (this.size > 0 && this.isOldestExpired(compareTime)) {
+			this.removeOldest();
+		}
+	}
+
+	/**
+	 * Is the oldest entry expired?.
+	 *
+	 * @param compareTime the oldest allowed timestamp in local epoch milliseconds
+	 * @return true if the oldest entry should be removed
+	 */
+	protected boolean isOldestExpired(long compareTime) {
+		return this.timestamps[this.head] < compareTime;
+	}
+
+	/**
+	 * Gets the timestamp at the given logical index.
+	 *
+	 * @param logical the logical index (0 = oldest)
+	 * @return the timestamp in local epoch milliseconds
+	 */
+	protected long timestampAt(int logical) {
+		return this.timestamps[this.physical(logical)];
+	}
+
+	/**
+	 * Is the given value equal to the latest stored value?.
+	 *
+	 * @param value the value; possibly null
+	 * @return true if equal; false if not or if the buffer is empty
+	 */
+	protected boolean isEqualToLatest(T value) {
+		if (this.size == 0) {
+			return false;
+		}
+		var index = this.physical(this.size - 1);
+		if (value == null || !this.defined.get(index)) {
+			return value == null && !this.defined.get(index);
+		}
+		return switch (this.type) {
+		case BOOLEAN -> this.booleanValues.get(index) == (Boolean) value;
+		case SHORT, INTEGER -> this.intValues[index] == ((Number) value).intValue();
+		case LONG -> this.longValues[index] == (Long) value;
+		case FLOAT, DOUBLE -> Double.compare(this.doubleValues[index], ((Number) value).doubleValue()) == 0;
+		case STRING -> value.equals(this.objectValues[index]);
+		};
+	}
+
+	private void removeOldest() {
+		if (this.objectValues != null) {
+			this.objectValues[this.head] = null;
+		}
+		this.head = (this.head + 1) & (this.timestamps.length - 1);
+		this.size--;
+	}
+
+	private void grow() {
+		final var oldTimestamps = this.timestamps;
+		final var oldIntValues = this.intValues;
+		final var oldLongValues = this.longValues;
+		final var oldDoubleValues = this.doubleValues;
+		final var oldObjectValues = this.objectValues;
+		final var oldBooleanValues = (BitSet) this.booleanValues.clone();
+		final var oldDefined = (BitSet) this.defined.clone();
+		final var oldMask = oldTimestamps.length - 1;
+
+		this.allocate(oldTimestamps.length * 2);
+		this.booleanValues.clear();
+		this.defined.clear();
+		for (var i = 0; i < this.size; i++) {
+			var from = (this.head + i) & oldMask;
+			this.timestamps[i] = oldTimestamps[from];
+			this.defined.set(i, oldDefined.get(from));
+			switch (this.type) {
+			case BOOLEAN -> this.booleanValues.set(i, oldBooleanValues.get(from));
+			case SHORT, INTEGER -> this.intValues[i] = oldIntValues[from];
+			case LONG -> this.longValues[i] = oldLongValues[from];
+			case FLOAT, DOUBLE -> this.doubleValues[i] = oldDoubleValues[from];
+			case STRING -> this.objectValues[i] = oldObjectValues[from];
+			}
+		}
+		this.head = 0;
+	}
+
+	private void set(int index, T value) {
+		if (value == null) {
+			this.defined.clear(index);
+			if (this.objectValues != null) {
+				this.objectValues[index] = null;
+			}
+			return;
+		}
+		this.defined.set(index);
+		switch (this.type) {
+		case BOOLEAN -> this.booleanValues.set(index, (Boolean) value);
+		case SHORT, INTEGER -> this.intValues[index] = ((Number) value).intValue();
+		case LONG -> this.longValues[index] = (Long) value;
+		case FLOAT, DOUBLE -> this.doubleValues[index] = ((Number) value).doubleValue();
+		case STRING -> this.objectValues[index] = value;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private T get(int index) {
+		if (!this.defined.get(index)) {
+			return null;
+		}
+		return (T) switch (this.type) {
+		case BOOLEAN -> Boolean.valueOf(this.booleanValues.get(index));
+		case SHORT -> Short.valueOf((short) this.intValues[index]);
+		case INTEGER -> Integer.valueOf(this.intValues[index]);
+		case LONG -> Long.valueOf(this.longValues[index]);
+		case FLOAT -> Float.valueOf((float) this.doubleValues[index]);
+		case DOUBLE -> Double.valueOf(this.doubleValues[index]);
+		case STRING -> this.objectValues[index];
+		};
+	}
+
+	private double getAsDouble(int index) {
+		return switch (this.type) {
+		case BOOLEAN -> this.booleanValues.get(index) ? 1d : 0d;
+		case SHORT, INTEGER -> this.intValues[index];
+		case LONG -> this.longValues[index];
+		case FLOAT, DOUBLE -> this.doubleValues[index];
+		case STRING -> throw new IllegalArgumentException("String values cannot be converted to double");
+		};
+	}
+
+	/**
+	 * Converts a logical index (0 = oldest) to a physical array index.
+	 *
+	 * @param logical the logical index
+	 * @return the physical index
+	 */
+	private int physical(int logical) {
+		return (this.head + logical) & (this.timestamps.length - 1);
+	}
+
+	/**
+	 * Finds the logical index of the latest entry with a timestamp less than or
+	 * equal to the given timestamp.
+	 *
+	 * @param timestamp the timestamp in local epoch milliseconds
+	 * @return the logical index; -1 if there is no such entry
+	 */
+	private int floorIndex(long timestamp) {
+		var low = 0;
+		var high = this.size - 1;
+		var result = -1;
+		while (low <= high) {
+			var mid = (low + high) >>> 1;
+			if (this.timestamps[this.physical(mid)] <= timestamp) {
+				result = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the current capacity of the buffer.
+	 *
+	 * @return the capacity
+	 */
+	protected synchronized int capacity() {
+		return this.timestamps.length;
+	}
+
+	@Override
+	public synchronized void clear() {
+		if (this.objectValues != null) {
+			Arrays.fill(this.objectValues, null);
+		}
+		this.head = 0;
+		this.size = 0;
+	}
+
+	@Override
+	public synchronized Value<T> getLatest() {
+		if (this.size == 0) {
+			return null;
+		}
+		var index = this.physical(this.size - 1);
+		return new Value<>(this.channel, this.get(index), ChannelHistory.toLocalDateTime(this.timestamps[index]));
+	}
+
+	@Override
+	public synchronized Value<T> getOldestDefined() {
+		for (var i = 0; i < this.size; i++) {
+			var index = this.physical(i);
+			if (this.defined.get(index)) {
+				var timestamp = ChannelHistory.toLocalDateTime(this.timestamps[index]);
+				return new Value<>(this.channel, this.get(index), timestamp);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized List<Value<T>> getValuesSince(LocalDateTime fromInclusive) {
+		var start = this.floorIndex(ChannelHistory.toEpochMillis(fromInclusive) - 1) + 1;
+		var result = new ArrayList<Value<T>>(this.size - start + 1);
+		for (var i = start; i < this.size; i++) {
+			var index = this.physical(i);
+			var timestamp = ChannelHistory.toLocalDateTime(this.timestamps[index]);
+			result.add(new Value<>(this.channel, this.get(index), timestamp));
+		}
+		return result;
+	}
+
+	@Override
+	public synchronized LocalDateTime floorTimestamp(LocalDateTime timestamp) {
+		var index = this.floorIndex(ChannelHistory.toEpochMillis(timestamp));
+		if (index < 0) {
+			return null;
+		}
+		return ChannelHistory.toLocalDateTime(this.timestamps[this.physical(index)]);
+	}
+
+	@Override
+	public synchronized void forEachAsDouble(LocalDateTime fromInclusive, LocalDateTime toExclusive,
+			TimestampedDoubleConsumer consumer) {
+		if (this.type == OpenemsType.STRING) {
+			return;
+		}
+		final var from = ChannelHistory.toEpochMillis(fromInclusive);
+		final var to = ChannelHistory.toEpochMillis(toExclusive);
+		var start = this.floorIndex(from - 1) + 1;
+		for (var i = start; i < this.size; i++) {
+			var index = this.physical(i);
+			var timestamp = this.timestamps[index];
+			if (timestamp >= to) {
+				break;
+			}
+			if (this.defined.get(index)) {
+				consumer.accept(timestamp, this.getAsDouble(index));
+			}
+		}
+	}
+
+	@Override
+	public synchronized void forEachRunAsDouble(LocalDateTime fromInclusive, LocalDateTime toExclusive,
+			RunConsumer consumer) {
+		if (this.type == OpenemsType.STRING) {
+			return;
+		}
+		final var from = ChannelHistory.toEpochMillis(fromInclusive);
+		final var to = ChannelHistory.toEpochMillis(toExclusive);
+		for (var i = Math.max(this.floorIndex(from), 0); i < this.size; i++) {
+			var index = this.physical(i);
+			var start = Math.max(this.timestamps[index], from);
+			if (start >= to) {
+				break;
+			}
+			var end = i + 1 < this.size //
+					? Math.min(this.timestamps[this.physical(i + 1)], to) //
+					: to;
+			if (end > start && this.defined.get(index)) {
+				consumer.accept(start, end, this.getAsDouble(index));
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Creates a snapshot on every call.
+	 */
+	@Override
+	public synchronized TreeMap<LocalDateTime, Value<T>> asTreeMap() {
+		var result = new TreeMap<LocalDateTime, Value<T>>();
+		for (var i = 0; i < this.size; i++) {
+			var index = this.physical(i);
+			var timestamp = ChannelHistory.toLocalDateTime(this.timestamps[index]);
+			result.put(timestamp, new Value<>(this.channel, this.get(index), timestamp));
+		}
+		return result;
+	}
+
+}
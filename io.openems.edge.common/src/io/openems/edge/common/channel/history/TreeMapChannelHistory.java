@@ -0,0 +1,126 @@
+package io.openems.edge.common.channel.history;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Legacy {@link ChannelHistory} that keeps every {@link Value} in a
+ * {@link TreeMap}.
+ *
+ * @param <T> the type of the Channel
+ */
+public class TreeMapChannelHistory<T> implements ChannelHistory<T> {
+
+	private final Channel<T> channel;
+	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+
+	public TreeMapChannelHistory(Channel<T> channel) {
+		this.channel = channel;
+	}
+
+	@Override
+	public ChannelHistoryMode getMode() {
+		return ChannelHistoryMode.TREE_MAP;
+	}
+
+	@Override
+	public synchronized void append(Value<T> value) {
+		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
+		this.pastValues.put(value.getTimestamp(), value);
+		// changes to sub map are also applied to the backed map
+		this.pastValues.headMap(compareTime).clear();
+	}
+
+	@Override
+	public synchronized int size() {
+		return this.pastValues.size();
+	}
+
+	@Override
+	public synchronized void clear() {
+		this.pastValues.clear();
+	}
+
+	@Override
+	public synchronized Value<T> getLatest() {
+		var entry = this.pastValues.lastEntry();
+		return entry == null ? null : entry.getValue();
+	}
+
+	@Override
+	public synchronized Value<T> getOldestDefined() {
+		for (var value : this.pastValues.values()) {
+			if (value.isDefined()) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized List<Value<T>> getValuesSince(LocalDateTime fromInclusive) {
+		return new ArrayList<>(this.pastValues.tailMap(fromInclusive, true).values());
+	}
+
+	@Override
+	public synchronized LocalDateTime floorTimestamp(LocalDateTime timestamp) {
+		return this.pastValues.floorKey(timestamp);
+	}
+
+	@Override
+	public synchronized void forEachAsDouble(LocalDateTime fromInclusive, LocalDateTime toExclusive,
+			TimestampedDoubleConsumer consumer) {
+		if (this.channel.getType() == OpenemsType.STRING) {
+			return;
+		}
+		for (var entry : this.pastValues.subMap(fromInclusive, true, toExclusive, false).entrySet()) {
+			var value = entry.getValue().get();
+			if (value == null) {
+				continue;
+			}
+			consumer.accept(ChannelHistory.toEpochMillis(entry.getKey()), toDouble(value));
+		}
+	}
+
+	@Override
+	public synchronized void forEachRunAsDouble(LocalDateTime fromInclusive, LocalDateTime toExclusive,
+			RunConsumer consumer) {
+		if (this.channel.getType() == OpenemsType.STRING) {
+			return;
+		}
+		final var to = ChannelHistory.toEpochMillis(toExclusive);
+		var startTime = this.pastValues.floorKey(fromInclusive);
+		var iterator = this.pastValues.subMap(startTime != null ? startTime : fromInclusive, true, toExclusive, false)
+				.values().iterator();
+		var value = iterator.hasNext() ? iterator.next() : null;
+		while (value != null) {
+			var next = iterator.hasNext() ? iterator.next() : null;
+			var start = Math.max(ChannelHistory.toEpochMillis(value.getTimestamp()),
+					ChannelHistory.toEpochMillis(fromInclusive));
+			var end = next != null ? ChannelHistory.toEpochMillis(next.getTimestamp()) : to;
+			if (end > start && value.isDefined()) {
+				consumer.accept(start, end, toDouble(value.get()));
+			}
+			value = next;
+		}
+	}
+
+	private static double toDouble(Object value) {
+		if (value instanceof Boolean b) {
+			return b ? 1d : 0d;
+		}
+		return ((Number) value).doubleValue();
+	}
+
+	@Override
+	public TreeMap<LocalDateTime, Value<T>> asTreeMap() {
+		return this.pastValues;
+	}
+
+}
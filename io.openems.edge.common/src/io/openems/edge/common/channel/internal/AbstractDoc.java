@@ -20,6 +20,7 @@ import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.ChannelId;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.channel.history.ChannelHistoryMode;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 
@@ -99,6 +100,32 @@ public abstract class AbstractDoc<T> implements Doc {
 		return this.persistencePriority;
 	}
 
+	/**
+	 * How past values of this Channel are stored.
+	 */
+	private ChannelHistoryMode historyMode = ChannelHistoryMode.RING_BUFFER;
+
+	/**
+	 * Sets the {@link ChannelHistoryMode}. Defaults to
+	 * {@link ChannelHistoryMode#RING_BUFFER}.
+	 *
+	 * @param historyMode the {@link ChannelHistoryMode}
+	 * @return myself
+	 */
+	public AbstractDoc<T> historyMode(ChannelHistoryMode historyMode) {
+		this.historyMode = historyMode;
+		return this.self();
+	}
+
+	/**
+	 * Gets the {@link ChannelHistoryMode}.
+	 *
+	 * @return the {@link ChannelHistoryMode}
+	 */
+	public ChannelHistoryMode getHistoryMode() {
+		return this.historyMode;
+	}
+
 	/*
 	 * Initial Value
 	 */
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.Dictionary;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.framework.ServiceReference;
@@ -42,6 +43,11 @@ public abstract class AbstractOpenemsComponent implements OpenemsComponent {
 
 	private final Logger log = LoggerFactory.getLogger(AbstractOpenemsComponent.class);
 
+	/**
+	 * Counts additions and removals of Channels of all Components.
+	 */
+	private static final AtomicLong CHANNEL_MODIFICATION_COUNT = new AtomicLong();
+
 	/**
 	 * Holds all Channels by their Channel-ID String representation (in
 	 * CaseFormat.UPPER_CAMEL).
@@ -375,6 +381,7 @@ public abstract class AbstractOpenemsComponent implements OpenemsComponent {
 		}
 		// Add Channel to channels list
 		this.channels.put(channel.channelId().id(), channel);
+		CHANNEL_MODIFICATION_COUNT.incrementAndGet();
 		// Handle StateChannels
 		if (channel instanceof StateChannel) {
 			this.getStateChannel().addChannel((StateChannel) channel);
@@ -461,14 +468,27 @@ public abstract class AbstractOpenemsComponent implements OpenemsComponent {
 	 */
 	// TODO remove Channel(s) using Channel-ID; see addChannels()-method above.
 	protected void removeChannel(Channel<?> channel) {
-		// Add Channel to channels list
-		this.channels.remove(channel.channelId().id(), channel);
+		// Remove Channel from channels list
+		if (this.channels.remove(channel.channelId().id(), channel)) {
+			CHANNEL_MODIFICATION_COUNT.incrementAndGet();
+		}
 		// Handle StateChannels
 		if (channel instanceof StateChannel) {
 			this.getStateChannel().removeChannel((StateChannel) channel);
 		}
 	}
 
+	/**
+	 * Gets a counter that is incremented whenever a Channel is added to or removed
+	 * from any {@link AbstractOpenemsComponent}. Useful to invalidate caches of
+	 * Channels.
+	 *
+	 * @return the modification count
+	 */
+	public static long getChannelModificationCount() {
+		return CHANNEL_MODIFICATION_COUNT.get();
+	}
+
 	@Override
 	public Collection<Channel<?>> channels() {
 		return this.channels.values();
@@ -0,0 +1,191 @@
+package io.openems.edge.common.cycle;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Produces one {@link ChannelSnapshot} per Cycle.
+ *
+ * <p>
+ * Every readable Channel of the enabled Components gets a stable index and an
+ * 'onChange' callback that marks the index as dirty during the process image
+ * switch. {@link #publish(List, Iterable)} then only reads the values of the
+ * dirty Channels; all other values are carried over from the previous
+ * snapshot. The index is only rebuilt if the list of enabled Components or the
+ * Channels of any Component changed.
+ */
+public class ChannelChangeFeed {
+
+	private record Entry(int index, BiConsumer<?, ?> callback) {
+	}
+
+	private final Map<Channel<?>, Entry> entries = new IdentityHashMap<>();
+	private final BitSet free = new BitSet();
+	private final BitSet structuralChanges = new BitSet();
+
+	private Channel<?>[] channels = new Channel<?>[0];
+	private volatile AtomicLongArray dirty = new AtomicLongArray(0);
+	private volatile ChannelSnapshot snapshot = ChannelSnapshot.EMPTY;
+
+	private List<OpenemsComponent> lastComponents = null;
+	private long lastChannelModificationCount = -1;
+
+	/**
+	 * Gets the latest published {@link ChannelSnapshot}.
+	 *
+	 * @return the {@link ChannelSnapshot}; {@link ChannelSnapshot#EMPTY} before
+	 *         the first publish
+	 */
+	public ChannelSnapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+	/**
+	 * Publishes the {@link ChannelSnapshot} for the current Cycle. Must be called
+	 * after the process image switch.
+	 *
+	 * @param components    the enabled Components
+	 * @param extraChannels additional Channels, e.g. of the Cycle itself
+	 * @return the new {@link ChannelSnapshot}
+	 */
+	public synchronized ChannelSnapshot publish(List<OpenemsComponent> components,
+			Iterable<Channel<?>> extraChannels) {
+		this.update(components, extraChannels);
+
+		final var channels = this.channels;
+		final var changed = new BitSet(channels.length);
+		final var dirty = this.dirty;
+		for (var word = 0; word < dirty.length(); word++) {
+			if (dirty.get(word) == 0) {
+				continue;
+			}
+			var bits = dirty.getAndSet(word, 0);
+			while (bits != 0) {
+				changed.set(word * Long.SIZE + Long.numberOfTrailingZeros(bits));
+				bits &= bits - 1;
+			}
+		}
+		changed.or(this.structuralChanges);
+		this.structuralChanges.clear();
+
+		final var previous = this.snapshot;
+		final var values = Arrays.copyOf(previous.values(), channels.length);
+		for (var i = changed.nextSetBit(0); i >= 0 && i < channels.length; i = changed.nextSetBit(i + 1)) {
+			var channel = channels[i];
+			values[i] = channel == null ? null : channel.value();
+		}
+		return this.snapshot = new ChannelSnapshot(previous.getSequence() + 1, channels, values, changed);
+	}
+
+	/**
+	 * Removes all 'onChange' callbacks and resets the feed.
+	 */
+	public synchronized void deactivate() {
+		this.entries.forEach((channel, entry) -> channel.removeOnChangeCallback(entry.callback()));
+		this.entries.clear();
+		this.free.clear();
+		this.structuralChanges.clear();
+		this.channels = new Channel<?>[0];
+		this.dirty = new AtomicLongArray(0);
+		this.snapshot = ChannelSnapshot.EMPTY;
+		this.lastComponents = null;
+		this.lastChannelModificationCount = -1;
+	}
+
+	private void update(List<OpenemsComponent> components, Iterable<Channel<?>> extraChannels) {
+		var channelModificationCount = AbstractOpenemsComponent.getChannelModificationCount();
+		if (components == this.lastComponents && channelModificationCount == this.lastChannelModificationCount) {
+			return;
+		}
+
+		// Channel arrays are shared with published snapshots; never modify in place
+		var channels = Arrays.copyOf(this.channels, this.channels.length);
+		var seen = new BitSet(channels.length);
+		for (var component : components) {
+			if (!component.isEnabled()) {
+				continue;
+			}
+			for (var channel : component.channels()) {
+				channels = this.add(channels, seen, channel);
+			}
+		}
+		for (var channel : extraChannels) {
+			channels = this.add(channels, seen, channel);
+		}
+
+		// Release indexes of removed Channels
+		for (var i = 0; i < channels.length; i++) {
+			var channel = channels[i];
+			if (channel == null || seen.get(i)) {
+				continue;
+			}
+			channel.removeOnChangeCallback(this.entries.remove(channel).callback());
+			channels[i] = null;
+			this.free.set(i);
+			this.structuralChanges.set(i);
+		}
+
+		var words = (channels.length + Long.SIZE - 1) / Long.SIZE;
+		if (words != this.dirty.length()) {
+			var dirty = new AtomicLongArray(words);
+			for (var word = 0; word < Math.min(words, this.dirty.length()); word++) {
+				dirty.set(word, this.dirty.get(word));
+			}
+			this.dirty = dirty;
+		}
+		this.channels = channels;
+		this.lastComponents = components;
+		this.lastChannelModificationCount = channelModificationCount;
+	}
+
+	private Channel<?>[] add(Channel<?>[] channels, BitSet seen, Channel<?> channel) {
+		if (channel.channelDoc().getAccessMode() == AccessMode.WRITE_ONLY) {
+			return channels;
+		}
+		var entry = this.entries.get(channel);
+		if (entry != null) {
+			seen.set(entry.index());
+			return channels;
+		}
+		var index = this.free.nextSetBit(0);
+		if (index >= 0) {
+			this.free.clear(index);
+		} else {
+			index = channels.length;
+			channels = Arrays.copyOf(channels, Math.max(16, channels.length * 3 / 2 + 1));
+			this.free.set(index + 1, channels.length);
+		}
+		channels[index] = channel;
+		this.entries.put(channel, new Entry(index, this.registerCallback(channel, index)));
+		seen.set(index);
+		this.structuralChanges.set(index);
+		return channels;
+	}
+
+	private <T> BiConsumer<Value<T>, Value<T>> registerCallback(Channel<T> channel, int index) {
+		final BiConsumer<Value<T>, Value<T>> callback = (oldValue, newValue) -> this.markDirty(index);
+		channel.onChange(callback);
+		return callback;
+	}
+
+	private void markDirty(int index) {
+		final var dirty = this.dirty;
+		final var word = index / Long.SIZE;
+		if (word < dirty.length()) {
+			final var bit = 1L << index;
+			dirty.getAndAccumulate(word, bit, (a, b) -> a | b);
+		}
+	}
+
+}
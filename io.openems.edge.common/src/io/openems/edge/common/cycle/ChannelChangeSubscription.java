@@ -0,0 +1,61 @@
+package io.openems.edge.common.cycle;
+
+import java.util.BitSet;
+
+/**
+ * Accumulates the changes of consecutive {@link ChannelSnapshot}s for a
+ * consumer that does not process every Cycle, e.g. an asynchronous sender that
+ * drops tasks while busy.
+ *
+ * <p>
+ * {@link #add(ChannelSnapshot)} is called synchronously once per Cycle;
+ * {@link #poll()} returns the latest snapshot together with all indexes that
+ * changed since the previous poll.
+ */
+public class ChannelChangeSubscription {
+
+	/**
+	 * The changes since the previous {@link ChannelChangeSubscription#poll()}.
+	 *
+	 * @param snapshot the latest {@link ChannelSnapshot}
+	 * @param indexes  the indexes that changed since the previous poll
+	 */
+	public record Changes(ChannelSnapshot snapshot, BitSet indexes) {
+	}
+
+	private ChannelSnapshot snapshot = ChannelSnapshot.EMPTY;
+	private BitSet indexes = new BitSet();
+
+	/**
+	 * Adds the changes of a {@link ChannelSnapshot}.
+	 *
+	 * @param snapshot the {@link ChannelSnapshot}
+	 */
+	public synchronized void add(ChannelSnapshot snapshot) {
+		snapshot.addChangedTo(this.indexes);
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * Gets the latest {@link ChannelSnapshot} and the indexes that changed since
+	 * the previous poll; resets the changed indexes.
+	 *
+	 * @return the {@link Changes}
+	 */
+	public synchronized Changes poll() {
+		var result = new Changes(this.snapshot, this.indexes);
+		this.indexes = new BitSet();
+		return result;
+	}
+
+	/**
+	 * Gives back {@link Changes} that could not be processed, so that they are
+	 * contained in the next {@link #poll()}.
+	 *
+	 * @param changes the {@link Changes}
+	 */
+	public synchronized void restore(Changes changes) {
+		this.indexes.or(changes.indexes());
+	}
+
+}
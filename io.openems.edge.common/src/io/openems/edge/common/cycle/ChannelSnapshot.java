@@ -0,0 +1,140 @@
+package io.openems.edge.common.cycle;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * An immutable snapshot of the active {@link Value}s of all readable Channels
+ * of all enabled Components, taken once per Cycle after the process image
+ * switch.
+ *
+ * <p>
+ * Every Channel has a stable index for as long as it exists. The
+ * {@link #getChanged() changed} indexes are the Channels whose value changed
+ * since the previous snapshot, including Channels that were added or removed.
+ * Removed Channels leave a free index with a null Channel and value.
+ */
+public final class ChannelSnapshot {
+
+	public static final ChannelSnapshot EMPTY = new ChannelSnapshot(0, new Channel<?>[0], new Value<?>[0],
+			new BitSet());
+
+	private final long sequence;
+	private final Channel<?>[] channels;
+	private final Value<?>[] values;
+	private final BitSet changed;
+
+	ChannelSnapshot(long sequence, Channel<?>[] channels, Value<?>[] values, BitSet changed) {
+		this.sequence = sequence;
+		this.channels = channels;
+		this.values = values;
+		this.changed = changed;
+	}
+
+	Value<?>[] values() {
+		return this.values;
+	}
+
+	/**
+	 * Gets the sequence number of this snapshot; incremented once per Cycle.
+	 *
+	 * @return the sequence number
+	 */
+	public long getSequence() {
+		return this.sequence;
+	}
+
+	/**
+	 * Gets the number of indexes, including free indexes.
+	 *
+	 * @return the number of indexes
+	 */
+	public int size() {
+		return this.channels.length;
+	}
+
+	/**
+	 * Gets the Channel at the given index.
+	 *
+	 * @param index the index
+	 * @return the {@link Channel}; null for a free index
+	 */
+	public Channel<?> getChannel(int index) {
+		return index < this.channels.length ? this.channels[index] : null;
+	}
+
+	/**
+	 * Gets the value of the Channel at the given index.
+	 *
+	 * @param index the index
+	 * @return the {@link Value}; null for a free index
+	 */
+	public Value<?> getValue(int index) {
+		return index < this.values.length ? this.values[index] : null;
+	}
+
+	/**
+	 * Gets a copy of the indexes that changed since the previous snapshot.
+	 *
+	 * @return the changed indexes
+	 */
+	public BitSet getChanged() {
+		return (BitSet) this.changed.clone();
+	}
+
+	/**
+	 * Adds the indexes that changed since the previous snapshot to the given
+	 * {@link BitSet}.
+	 *
+	 * @param target the target {@link BitSet}
+	 */
+	public void addChangedTo(BitSet target) {
+		target.or(this.changed);
+	}
+
+	/**
+	 * Streams all Channels in this snapshot.
+	 *
+	 * @return a {@link Stream} of Channels
+	 */
+	public Stream<Channel<?>> channels() {
+		return Arrays.stream(this.channels).filter(Objects::nonNull);
+	}
+
+	/**
+	 * Calls the consumer for every Channel in this snapshot.
+	 *
+	 * @param consumer the consumer of Channel and {@link Value}
+	 */
+	public void forEach(BiConsumer<Channel<?>, Value<?>> consumer) {
+		for (var i = 0; i < this.channels.length; i++) {
+			var channel = this.channels[i];
+			if (channel != null) {
+				consumer.accept(channel, this.values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Calls the consumer for every Channel in this snapshot whose index is set in
+	 * the given {@link BitSet}.
+	 *
+	 * @param indexes  the indexes
+	 * @param consumer the consumer of Channel and {@link Value}
+	 */
+	public void forEach(BitSet indexes, BiConsumer<Channel<?>, Value<?>> consumer) {
+		for (var i = indexes.nextSetBit(0); i >= 0 && i < this.channels.length; i = indexes.nextSetBit(i + 1)) {
+			var channel = this.channels[i];
+			if (channel != null) {
+				consumer.accept(channel, this.values[i]);
+			}
+		}
+	}
+
+}
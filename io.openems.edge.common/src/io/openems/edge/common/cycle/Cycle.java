@@ -27,6 +27,16 @@ public interface Cycle extends OpenemsComponent {
 		 */
 		MEASURED_CYCLE_TIME(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Duration of the process image switch of all Channels in [us].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		PROCESS_IMAGE_SWITCH_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)),
 		/**
 		 * A configured Controller is not executed because it is disabled.
 		 *
@@ -88,6 +98,35 @@ public interface Cycle extends OpenemsComponent {
 		this.getMeasuredCycleTimeChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#PROCESS_IMAGE_SWITCH_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getProcessImageSwitchTimeChannel() {
+		return this.channel(ChannelId.PROCESS_IMAGE_SWITCH_TIME);
+	}
+
+	/**
+	 * Gets the duration of the process image switch in [us]. See
+	 * {@link ChannelId#PROCESS_IMAGE_SWITCH_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getProcessImageSwitchTime() {
+		return this.getProcessImageSwitchTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROCESS_IMAGE_SWITCH_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProcessImageSwitchTime(long value) {
+		this.getProcessImageSwitchTimeChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#IGNORE_DISABLED_CONTROLLER}.
 	 *
@@ -124,4 +163,12 @@ public interface Cycle extends OpenemsComponent {
 	 */
 	public int getCycleTime();
 
+	/**
+	 * Gets the {@link ChannelSnapshot} of the current Cycle. It is published after
+	 * the process image switch, before the AFTER_PROCESS_IMAGE event.
+	 *
+	 * @return the {@link ChannelSnapshot}
+	 */
+	public ChannelSnapshot getChannelSnapshot();
+
 }
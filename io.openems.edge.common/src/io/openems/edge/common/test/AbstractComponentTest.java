@@ -913,6 +913,7 @@ public abstract class AbstractComponentTest<SELF extends AbstractComponentTest<S
 		testCase.applyInputs(this);
 		this.onAfterProcessImage();
 		executeCallbacks(testCase.onAfterProcessImageCallbacks);
+		this.publishChannelSnapshots();
 		this.handleEvent(TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
 		this.onBeforeControllers();
 		executeCallbacks(testCase.onBeforeControllersCallbacks);
@@ -982,6 +983,26 @@ public abstract class AbstractComponentTest<SELF extends AbstractComponentTest<S
 	protected void onBeforeProcessImage() throws OpenemsNamedException {
 	}
 
+	/**
+	 * Publishes the Channel snapshot of every referenced {@link DummyCycle}, like
+	 * the Core.Cycle does after the process image switch.
+	 */
+	private void publishChannelSnapshots() {
+		final var components = new ArrayList<OpenemsComponent>();
+		components.add(this.sut);
+		components.addAll(this.components.values());
+		for (var object : this.references) {
+			if (object instanceof ComponentManager cm) {
+				components.addAll(cm.getEnabledComponents());
+			}
+		}
+		for (var object : this.references) {
+			if (object instanceof DummyCycle cycle) {
+				cycle.publishChannelSnapshot(components);
+			}
+		}
+	}
+
 	/**
 	 * This method is executed before the
 	 * {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_PROCESS_IMAGE} event.
@@ -1,6 +1,10 @@
 package io.openems.edge.common.test;
 
+import java.util.List;
+
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.ChannelChangeFeed;
+import io.openems.edge.common.cycle.ChannelSnapshot;
 import io.openems.edge.common.cycle.Cycle;
 
 /**
@@ -8,6 +12,7 @@ import io.openems.edge.common.cycle.Cycle;
  */
 public class DummyCycle extends AbstractDummyOpenemsComponent<DummyCycle> implements Cycle {
 
+	private final ChannelChangeFeed channelChangeFeed = new ChannelChangeFeed();
 	private final int cycleTime;
 
 	public DummyCycle(int cycleTime) {
@@ -28,4 +33,20 @@ public class DummyCycle extends AbstractDummyOpenemsComponent<DummyCycle> implem
 		return this.cycleTime;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public ChannelSnapshot getChannelSnapshot() {
+		return this.channelChangeFeed.getSnapshot();
+	}
+
+	/**
+	 * Publishes the {@link ChannelSnapshot} for the current Cycle. Called by the
+	 * test framework after the process image switch.
+	 *
+	 * @param components the enabled Components
+	 * @return the new {@link ChannelSnapshot}
+	 */
+	public ChannelSnapshot publishChannelSnapshot(List<OpenemsComponent> components) {
+		return this.channelChangeFeed.publish(components, this.channels());
+	}
+
+}
@@ -0,0 +1,101 @@
+package io.openems.edge.common.channel.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.openems.common.channel.Level;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelId;
+import io.openems.edge.common.channel.Doc;
+
+public class ChangesOnlyChannelHistoryTest {
+
+	private static final long START = 1_700_000_000_000L;
+
+	private enum TestChannelId implements ChannelId {
+		INTEGER(Doc.of(OpenemsType.INTEGER)), //
+		STATE(Doc.of(Level.FAULT)), //
+		;
+
+		private final Doc doc;
+
+		TestChannelId(Doc doc) {
+			this.doc = doc;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	private static ChangesOnlyChannelHistory<Integer> createHistory() {
+		Channel<Integer> channel = TestChannelId.INTEGER.doc().createChannelInstance(null, TestChannelId.INTEGER);
+		return new ChangesOnlyChannelHistory<>(channel);
+	}
+
+	@Test
+	public void testDefaultForStateChannel() {
+		Channel<Boolean> channel = TestChannelId.STATE.doc().createChannelInstance(null, TestChannelId.STATE);
+		assertEquals(ChannelHistoryMode.CHANGES_ONLY, channel.getHistory().getMode());
+	}
+
+	@Test
+	public void testRunLength() {
+		var sut = createHistory();
+		for (var i = 0; i < 300; i++) {
+			sut.append(START + i * 1000L, i < 100 ? 10 : 20);
+		}
+		assertEquals(2, sut.size());
+		assertEquals(ChannelHistory.toLocalDateTime(START + 299_000), sut.getValidUntil());
+		assertEquals(ChannelHistory.toLocalDateTime(START + 299_000), sut.getLatest().getTimestamp());
+
+		// Run starts and 'valid until' marker
+		var map = sut.asTreeMap();
+		assertEquals(3, map.size());
+		assertEquals(20, (int) map.lastEntry().getValue().get());
+
+		// Run start within the range and 'valid until' marker
+		var since = sut.getValuesSince(ChannelHistory.toLocalDateTime(START + 50_000));
+		assertEquals(2, since.size());
+		assertEquals(ChannelHistory.toLocalDateTime(START + 100_000), since.get(0).getTimestamp());
+		assertEquals(ChannelHistory.toLocalDateTime(START + 299_000), since.get(1).getTimestamp());
+		assertEquals(20, (int) since.get(1).get());
+		assertEquals(10, (int) sut.getOldestDefined().get());
+
+		var from = ChannelHistory.toLocalDateTime(START);
+		var to = ChannelHistory.toLocalDateTime(START + 300_000);
+		assertEquals((10 * 100 + 20 * 200) / 300., sut.getTimeWeightedAverage(from, to).getAsDouble(), 0.0001);
+		assertEquals(20., sut.getMax(from, to).getAsDouble(), 0.);
+		assertEquals(20., sut.getDominantValue(from, to).getAsDouble(), 0.);
+
+		// Query starts within a run
+		from = ChannelHistory.toLocalDateTime(START + 50_000);
+		to = ChannelHistory.toLocalDateTime(START + 150_000);
+		assertEquals(15., sut.getTimeWeightedAverage(from, to).getAsDouble(), 0.0001);
+	}
+
+	@Test
+	public void testKeepsOldestRun() {
+		var sut = createHistory();
+		sut.append(START, 1);
+		var numberOfValues = (int) (ChannelHistory.MAX_AGE_MILLIS / 1000) * 2;
+		for (var i = 1; i < numberOfValues; i++) {
+			sut.append(START + i * 1000L, 1);
+		}
+		// Still covers the full range
+		assertEquals(1, sut.size());
+
+		sut.append(START + numberOfValues * 1000L, null);
+		sut.append(START + numberOfValues * 1000L + ChannelHistory.MAX_AGE_MILLIS + 1000, null);
+		assertEquals(1, sut.size());
+		assertFalse(sut.getLatest().isDefined());
+		assertTrue(sut.getTimeWeightedAverage(ChannelHistory.toLocalDateTime(START),
+				ChannelHistory.toLocalDateTime(START + numberOfValues * 1000L * 2)).isEmpty());
+	}
+
+}
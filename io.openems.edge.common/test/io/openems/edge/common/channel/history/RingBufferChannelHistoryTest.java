@@ -0,0 +1,143 @@
+package io.openems.edge.common.channel.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelId;
+import io.openems.edge.common.channel.Doc;
+
+public class RingBufferChannelHistoryTest {
+
+	private static final long START = 1_700_000_000_000L;
+
+	private enum TestChannelId implements ChannelId {
+		INTEGER(Doc.of(OpenemsType.INTEGER)), //
+		BOOLEAN(Doc.of(OpenemsType.BOOLEAN)), //
+		FLOAT(Doc.of(OpenemsType.FLOAT)), //
+		STRING(Doc.of(OpenemsType.STRING)), //
+		;
+
+		private final Doc doc;
+
+		TestChannelId(Doc doc) {
+			this.doc = doc;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	private static <T> RingBufferChannelHistory<T> createHistory(TestChannelId channelId) {
+		Channel<T> channel = channelId.doc().createChannelInstance(null, channelId);
+		return new RingBufferChannelHistory<>(channel);
+	}
+
+	@Test
+	public void testAppendAndQuery() {
+		RingBufferChannelHistory<Integer> sut = createHistory(TestChannelId.INTEGER);
+		assertNull(sut.getLatest());
+
+		for (var i = 0; i < 100; i++) {
+			sut.append(START + i * 1000L, i % 10 == 0 ? null : i);
+		}
+		assertEquals(100, sut.size());
+		assertEquals(99, (int) sut.getLatest().get());
+
+		var from = ChannelHistory.toLocalDateTime(START + 10_500);
+		assertEquals(ChannelHistory.toLocalDateTime(START + 10_000), sut.floorTimestamp(from));
+		assertNull(sut.floorTimestamp(ChannelHistory.toLocalDateTime(START - 1)));
+
+		var values = new ArrayList<Double>();
+		sut.forEachAsDouble(ChannelHistory.toLocalDateTime(START + 10_000),
+				ChannelHistory.toLocalDateTime(START + 15_000), (timestamp, value) -> values.add(value));
+		// 10 is 'null'
+		assertEquals(4, values.size());
+		assertEquals(11., values.get(0), 0.);
+
+		var map = sut.asTreeMap();
+		assertEquals(100, map.size());
+		assertNull(map.firstEntry().getValue().get());
+		assertEquals(99, (int) map.lastEntry().getValue().get());
+		assertEquals(ChannelHistory.toLocalDateTime(START + 99_000), map.lastKey());
+
+		var since = sut.getValuesSince(ChannelHistory.toLocalDateTime(START + 95_000));
+		assertEquals(5, since.size());
+		assertEquals(95, (int) since.get(0).get());
+		assertEquals(ChannelHistory.toLocalDateTime(START + 99_000), since.get(4).getTimestamp());
+		assertTrue(sut.getValuesSince(ChannelHistory.toLocalDateTime(START + 99_001)).isEmpty());
+		assertEquals(100, sut.getValuesSince(ChannelHistory.toLocalDateTime(START - 1)).size());
+
+		// 0 is 'null'
+		assertEquals(1, (int) sut.getOldestDefined().get());
+		assertEquals(ChannelHistory.toLocalDateTime(START + 1000), sut.getOldestDefined().getTimestamp());
+	}
+
+	@Test
+	public void testMaxAge() {
+		RingBufferChannelHistory<Integer> sut = createHistory(TestChannelId.INTEGER);
+		var numberOfValues = (int) (ChannelHistory.MAX_AGE_MILLIS / 1000) + 100;
+		for (var i = 0; i < numberOfValues; i++) {
+			sut.append(START + i * 1000L, i);
+		}
+		assertEquals(ChannelHistory.MAX_AGE_MILLIS / 1000 + 1, sut.size());
+		var first = sut.asTreeMap().firstEntry().getValue();
+		assertEquals(numberOfValues - 1 - ChannelHistory.MAX_AGE_MILLIS / 1000, (long) first.get());
+	}
+
+	@Test
+	public void testMaxCapacity() {
+		RingBufferChannelHistory<Integer> sut = createHistory(TestChannelId.INTEGER);
+		for (var i = 0; i < RingBufferChannelHistory.MAX_CAPACITY + 10; i++) {
+			sut.append(START + i, i);
+		}
+		assertEquals(RingBufferChannelHistory.MAX_CAPACITY, sut.capacity());
+		assertEquals(RingBufferChannelHistory.MAX_CAPACITY, sut.size());
+		assertEquals(10, (int) sut.asTreeMap().firstEntry().getValue().get());
+	}
+
+	@Test
+	public void testSameAndPastTimestamp() {
+		RingBufferChannelHistory<Integer> sut = createHistory(TestChannelId.INTEGER);
+		sut.append(START, 1);
+		sut.append(START + 1000, 2);
+		sut.append(START + 1000, 3);
+		assertEquals(2, sut.size());
+		assertEquals(3, (int) sut.getLatest().get());
+
+		// Clock was adjusted
+		sut.append(START + 500, 4);
+		assertEquals(2, sut.size());
+		assertEquals(4, (int) sut.getLatest().get());
+	}
+
+	@Test
+	public void testTypes() {
+		RingBufferChannelHistory<Boolean> booleans = createHistory(TestChannelId.BOOLEAN);
+		for (var i = 0; i < 40; i++) {
+			booleans.append(START + i, i % 3 == 0);
+		}
+		var booleanMap = booleans.asTreeMap();
+		assertTrue(booleanMap.firstEntry().getValue().get());
+		assertEquals(Boolean.TRUE, booleanMap.lastEntry().getValue().get());
+
+		RingBufferChannelHistory<Float> floats = createHistory(TestChannelId.FLOAT);
+		floats.append(START, 1.5F);
+		assertEquals(1.5F, floats.getLatest().get(), 0F);
+
+		RingBufferChannelHistory<String> strings = createHistory(TestChannelId.STRING);
+		strings.append(START, "foo");
+		strings.append(START + 1, null);
+		assertEquals("foo", strings.asTreeMap().firstEntry().getValue().get());
+		assertNull(strings.getLatest().get());
+	}
+
+}
@@ -0,0 +1,107 @@
+package io.openems.edge.common.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyCycle;
+
+public class ChannelChangeFeedTest {
+
+	private static int indexOf(ChannelSnapshot snapshot, Channel<?> channel) {
+		for (var i = 0; i < snapshot.size(); i++) {
+			if (snapshot.getChannel(i) == channel) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Test
+	public void testPublish() {
+		final var feed = new ChannelChangeFeed();
+		final var sut = new DummyCycle(1000);
+		final var channel = sut.getMeasuredCycleTimeChannel();
+		final List<OpenemsComponent> components = List.of(sut);
+
+		// First snapshot contains all Channels as changed
+		var snapshot = feed.publish(components, List.of());
+		assertEquals(1, snapshot.getSequence());
+		assertEquals(sut.channels().size(), snapshot.channels().count());
+		assertEquals(sut.channels().size(), snapshot.getChanged().cardinality());
+		final var index = indexOf(snapshot, channel);
+		assertTrue(index >= 0);
+		assertNull(snapshot.getValue(index).get());
+
+		// Only the changed Channel is marked
+		sut._setMeasuredCycleTime(5L);
+		channel.nextProcessImage();
+		snapshot = feed.publish(components, List.of());
+		assertEquals(2, snapshot.getSequence());
+		assertEquals(1, snapshot.getChanged().cardinality());
+		assertTrue(snapshot.getChanged().get(index));
+		assertEquals(5L, snapshot.getValue(index).get());
+
+		// Unchanged values are carried over
+		sut._setMeasuredCycleTime(5L);
+		channel.nextProcessImage();
+		snapshot = feed.publish(components, List.of());
+		assertTrue(snapshot.getChanged().isEmpty());
+		assertEquals(5L, snapshot.getValue(index).get());
+		assertEquals(feed.getSnapshot(), snapshot);
+
+		// Removed Channels free their index; added Channels reuse it
+		final var other = new DummyCycle(1000);
+		snapshot = feed.publish(List.of(other), List.of());
+		assertEquals(sut.channels().size(), snapshot.channels().count());
+		assertTrue(snapshot.getChanged().get(index));
+		assertEquals(-1, indexOf(snapshot, channel));
+		assertTrue(snapshot.channels().allMatch(c -> c.getComponent() == other));
+
+		// Callbacks of removed Channels are unregistered
+		sut._setMeasuredCycleTime(6L);
+		channel.nextProcessImage();
+		snapshot = feed.publish(List.of(other), List.of());
+		assertTrue(snapshot.getChanged().isEmpty());
+
+		feed.deactivate();
+		assertEquals(ChannelSnapshot.EMPTY, feed.getSnapshot());
+	}
+
+	@Test
+	public void testSubscription() {
+		final var feed = new ChannelChangeFeed();
+		final var sut = new DummyCycle(1000);
+		final var channel = sut.getMeasuredCycleTimeChannel();
+		final List<OpenemsComponent> components = List.of(sut);
+		final var subscription = new ChannelChangeSubscription();
+
+		subscription.add(feed.publish(components, List.of()));
+		var changes = subscription.poll();
+		assertEquals(sut.channels().size(), changes.indexes().cardinality());
+
+		// Changes of multiple Cycles are accumulated
+		final var index = indexOf(feed.getSnapshot(), channel);
+		sut._setMeasuredCycleTime(5L);
+		channel.nextProcessImage();
+		subscription.add(feed.publish(components, List.of()));
+		subscription.add(feed.publish(components, List.of()));
+		changes = subscription.poll();
+		assertEquals(3, changes.snapshot().getSequence());
+		assertEquals(1, changes.indexes().cardinality());
+		assertTrue(changes.indexes().get(index));
+
+		// Restored changes are part of the next poll
+		subscription.restore(changes);
+		assertEquals(changes.indexes(), subscription.poll().indexes());
+		assertEquals(new BitSet(), subscription.poll().indexes());
+	}
+
+}
@@ -38,6 +38,8 @@ import io.openems.common.oem.OpenemsEdgeOem;
 import io.openems.common.types.EdgeConfig;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataNotificationCodec;
+import io.openems.common.websocket.PerMessageDeflate;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -142,9 +144,13 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		// create http headers
 		Map<String, String> httpHeaders = new HashMap<>();
 		httpHeaders.put("apikey", config.apikey());
+		httpHeaders.put(BinaryDataNotificationCodec.HTTP_HEADER, BinaryDataNotificationCodec.getHttpHeaderValue());
 
 		// Create Websocket instance
-		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy);
+		final var compression = config.compression() //
+				? PerMessageDeflate.Config.CLIENT_DEFAULT //
+				: PerMessageDeflate.Config.DISABLED;
+		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy, compression);
 		this.websocket.start();
 
 		this.resendHistoricDataWorker = this.resendHistoricDataWorkerFactory.get();
@@ -218,6 +224,7 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 					return;
 				}
 				ws.sendMessage(message);
+				ws.resetBinaryData();
 
 				// Trigger sending of all channel values, because a Component might have
 				// disappeared
@@ -7,6 +7,7 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
+import io.openems.common.websocket.BinaryDataNotificationCodec;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
@@ -19,7 +20,13 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 
 	@Override
 	public OpenemsError apply(WebSocket ws, Handshakedata handshakedata) {
-		this.parent.logInfo(this.log, "Connected to OpenEMS Backend");
+		// Use binary data notifications if the Backend supports them
+		var binaryData = BinaryDataNotificationCodec
+				.isSupported(handshakedata.getFieldValue(BinaryDataNotificationCodec.HTTP_HEADER));
+		this.parent.websocket.setBinaryData(binaryData);
+
+		this.parent.logInfo(this.log, "Connected to OpenEMS Backend" //
+				+ (binaryData ? " using binary data notifications" : ""));
 
 		// Immediately send Config
 		var config = this.parent.componentManager.getEdgeConfig();
@@ -10,10 +10,9 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.Random;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executors;
@@ -21,20 +20,19 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collector;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.TreeBasedTable;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
-import io.openems.common.channel.AccessMode;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.DurationUnit;
@@ -42,13 +40,16 @@ import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
-import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.channel.history.ChannelHistoryMode;
+import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.cycle.ChannelChangeSubscription;
+import io.openems.edge.common.cycle.ChannelSnapshot;
 import io.openems.edge.common.type.TypeUtils;
 
 /**
  * Method {@link #collectData()} is called Synchronously with the Core.Cycle to
- * collect values of Channels. Sending of values is then delegated to an
- * asynchronous task.
+ * collect the changed Channels of the {@link ChannelSnapshot}. Sending of
+ * values is then delegated to an asynchronous task.
  *
  * <p>
  * The logic tries to send changed values once per Cycle and all values once
@@ -85,9 +86,9 @@ public class SendChannelValuesWorker {
 	private Instant lastSendValuesOfAllChannels = Instant.MIN;
 
 	/**
-	 * Keeps the values of last successful send.
+	 * Accumulates the changed Channels since the last successful send.
 	 */
-	private Map<String, JsonElement> lastAllValues = ImmutableMap.of();
+	private final ChannelChangeSubscription subscription = new ChannelChangeSubscription();
 
 	private Instant lastSendAggregatedDataTimestamp;
 
@@ -113,19 +114,19 @@ public class SendChannelValuesWorker {
 	}
 
 	/**
-	 * Called synchronously on AFTER_PROCESS_IMAGE event. Collects all the data and
-	 * triggers asynchronous sending.
+	 * Called synchronously on AFTER_PROCESS_IMAGE event. Takes the
+	 * {@link ChannelSnapshot} of the Cycle and triggers asynchronous sending.
 	 */
 	public synchronized void collectData() {
 		final var now = ZonedDateTime.now(this.parent.componentManager.getClock());
 
-		// Update the values of all channels
-		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
-		final var aggregatedValues = this.collectAggregatedData(now, enabledComponents);
+		// Remember the Channels that changed in this Cycle
+		final var snapshot = this.parent.cycle.getChannelSnapshot();
+		this.subscription.add(snapshot);
+		final var aggregatedValues = this.collectAggregatedData(now, snapshot);
 
 		// Add to send Queue
-		this.executor.execute(new SendTask(this, now.toInstant(), allValues));
+		this.executor.execute(new SendTask(this, now.toInstant()));
 		if (aggregatedValues != null && !aggregatedValues.isEmpty()) {
 			aggregatedValues.rowMap().forEach((timestamp, data) -> {
 				this.aggregatedExecutor.schedule(
@@ -135,41 +136,8 @@ public class SendChannelValuesWorker {
 		}
 	}
 
-	/**
-	 * Cycles through all Channels and collects the value.
-	 *
-	 * @param enabledComponents the enabled components
-	 * @return collected data
-	 */
-	private ImmutableMap<String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
-		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(//
-							ImmutableMap.toImmutableMap(//
-									c -> c.address().toString(), //
-									c -> c.value().asJson(), //
-									// simple/stupid merge function to avoid
-									// 'java.lang.IllegalArgumentException Duplicate Key'
-									(t, u) -> {
-										this.parent.logWarn(this.log, "Duplicate Key [" + t.toString() + "]");
-										return t;
-									}));
-		} catch (Exception e) {
-			// ConcurrentModificationException can happen if Channels are dynamically added
-			// or removed
-			this.parent.logWarn(this.log, "Unable to collect date: " + e.getMessage());
-			return ImmutableMap.of();
-		}
-	}
-
 	private TreeBasedTable<Long, String, JsonElement> collectAggregatedData(ZonedDateTime now,
-			List<OpenemsComponent> enabledComponents) {
+			ChannelSnapshot snapshot) {
 		final var endTime = now.truncatedTo(DurationUnit.ofMinutes(AGGREGATION_MINUTES));
 		final var startTime = endTime.minusMinutes(AGGREGATION_MINUTES);
 
@@ -187,28 +155,33 @@ public class SendChannelValuesWorker {
 		final var sendAllChannels = this.sendValuesOfAllChannelsAggregated.getAndSet(false);
 
 		final var table = TreeBasedTable.<Long, String, JsonElement>create();
-		enabledComponents.stream() //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> // Ignore WRITE_ONLY Channels
-				channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-						// Ignore Low-Priority Channels
-						&& channel.channelDoc().getPersistencePriority()
-								.isAtLeast(this.parent.config.aggregationPriority()))
+		snapshot.channels() //
+				.filter(channel -> // Ignore Low-Priority Channels
+				channel.channelDoc().getPersistencePriority().isAtLeast(this.parent.config.aggregationPriority()))
 				.forEach(channel -> {
 					try {
+						if (channel.getHistory().getMode() == ChannelHistoryMode.CHANGES_ONLY
+								&& channel.getType() != OpenemsType.STRING) {
+							// Calculate time-weighted from runs
+							var value = aggregateHistoryRuns(channel, startTime.toLocalDateTime(),
+									endTime.toLocalDateTime());
+							if (!sendAllChannels && value.isJsonNull()) {
+								return;
+							}
+							table.put(timestampMillis, channel.address().toString(), value);
+							return;
+						}
+
 						// This is the highest timestamp before `startTime`. If existing it is used for
 						// the tailMap to make sure we get a Value even for Channels where the value has
 						// not changed within the last 5 minutes.
 						var channelStartTime = Optional
-								.ofNullable(channel.getPastValues().floorKey(startTime.toLocalDateTime()))
+								.ofNullable(channel.getHistory().floorTimestamp(startTime.toLocalDateTime()))
 								.orElse(startTime.toLocalDateTime());
 
-						var value = channel.getPastValues() //
-								.tailMap(channelStartTime, true) //
-								.entrySet() //
-								.stream() //
-								.filter(e -> e.getKey().isBefore(endTime.toLocalDateTime())) //
-								.filter(e -> e.getValue().isDefined()).map(e -> e.getValue().get()) //
+						var value = channel.getPastValues(channelStartTime).stream() //
+								.filter(v -> v.getTimestamp().isBefore(endTime.toLocalDateTime())) //
+								.filter(Value::isDefined).map(Value::get) //
 								.collect(aggregateCollector(channel.channelDoc().getUnit().isCumulated(), //
 										channel.getType()));
 
@@ -240,13 +213,12 @@ public class SendChannelValuesWorker {
 		if (!(doc instanceof EnumDoc)) {
 			return JsonNull.INSTANCE;
 		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
-				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
+		final var pastValues = channel.getPastValues(channelStartTime).stream() //
+				.filter(v -> v.getTimestamp().isBefore(endTime)) //
+				.filter(Value::isDefined) //
+				.toList();
+		final var numberOfValuesPerOption = pastValues.stream() //
+				.map(v -> (Integer) v.get()) //
 				.collect(groupingBy(Function.identity(), counting()));
 
 		final var values = numberOfValuesPerOption.entrySet().stream() //
@@ -269,13 +241,10 @@ public class SendChannelValuesWorker {
 		}
 
 		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
+		for (var i = pastValues.size() - 1; i >= 0; i--) {
+			final var entryValue = ((Integer) pastValues.get(i).get()).intValue();
 			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
-					continue;
-				}
-				final var entryValue = entry.getValue().get();
-				if (((Integer) entryValue).intValue() == optionValue) {
+				if (entryValue == optionValue) {
 					return new JsonPrimitive(optionValue);
 				}
 			}
@@ -283,6 +252,37 @@ public class SendChannelValuesWorker {
 		return JsonNull.INSTANCE;
 	}
 
+	/**
+	 * Aggregates the values of a {@link Channel} with
+	 * {@link ChannelHistoryMode#CHANGES_ONLY} time-weighted from its runs.
+	 *
+	 * @param channel   the {@link Channel}
+	 * @param startTime the start time (inclusive)
+	 * @param endTime   the end time (exclusive)
+	 * @return the aggregated value; {@link JsonNull} if there are no defined values
+	 */
+	protected static JsonElement aggregateHistoryRuns(Channel<?> channel, LocalDateTime startTime,
+			LocalDateTime endTime) {
+		final var history = channel.getHistory();
+		final OptionalDouble value;
+		if (channel.channelDoc() instanceof EnumDoc) {
+			value = history.getDominantValue(startTime, endTime);
+		} else if (channel.channelDoc().getUnit().isCumulated()) {
+			value = history.getMax(startTime, endTime);
+		} else {
+			value = history.getTimeWeightedAverage(startTime, endTime);
+		}
+		if (value.isEmpty()) {
+			return JsonNull.INSTANCE;
+		}
+		return switch (channel.getType()) {
+		case DOUBLE, FLOAT -> new JsonPrimitive(value.getAsDouble());
+		// round averages to their type
+		case BOOLEAN, LONG, INTEGER, SHORT -> new JsonPrimitive(Math.round(value.getAsDouble()));
+		case STRING -> JsonNull.INSTANCE;
+		};
+	}
+
 	protected static Collector<Object, ?, JsonElement> aggregateCollector(//
 			final boolean isCumulated, //
 			final OpenemsType type //
@@ -348,34 +348,28 @@ public class SendChannelValuesWorker {
 
 		private final SendChannelValuesWorker parent;
 		private final Instant timestamp;
-		private final Map<String, JsonElement> allValues;
 
-		public SendTask(SendChannelValuesWorker parent, Instant timestamp, Map<String, JsonElement> allValues) {
+		public SendTask(SendChannelValuesWorker parent, Instant timestamp) {
 			this.parent = parent;
 			this.timestamp = timestamp;
-			this.allValues = allValues;
 		}
 
 		@Override
 		public void run() {
-			// Holds the data of the last successful send. If the table is empty, it is also
-			// used as a marker to send all data.
-			final Map<String, JsonElement> lastAllValues;
+			final boolean sendAll;
 
 			if (this.parent.sendValuesOfAllChannels.getAndSet(false)) {
-				// Send values of all Channels once in a while
-				lastAllValues = ImmutableMap.of();
+				// Send values of all Channels if explicitly asked for
+				sendAll = true;
 
 			} else if (Duration.between(this.parent.lastSendValuesOfAllChannels, this.timestamp)
 					.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
-				// Send values of all Channels if explicitly asked for
-				lastAllValues = ImmutableMap.of();
+				// Send values of all Channels once in a while
+				sendAll = true;
 
 			} else {
-				// Actually use the kept 'lastSentValues'
-				// CHECKSTYLE:OFF
-				lastAllValues = this.parent.lastAllValues;
-				// CHECKSTYLE:ON
+				// Only send Channels that changed since the last successful send
+				sendAll = false;
 			}
 
 			// Round timestamp to Global Cycle-Time
@@ -383,15 +377,19 @@ public class SendChannelValuesWorker {
 			final var timestampMillis = this.timestamp.toEpochMilli() / cycleTime * cycleTime;
 
 			// Prepare message values
-			var sendValuesMap = new HashMap<String, JsonElement>();
-
-			// Collect Changed values
-			for (var entry : this.allValues.entrySet()) {
-				var channelAddress = entry.getKey();
-				var value = entry.getValue();
-				if (!Objects.equals(value, lastAllValues.get(channelAddress))) {
-					sendValuesMap.put(channelAddress, value);
+			final var sendValuesMap = new HashMap<String, JsonElement>();
+			final var persistencePriority = this.parent.parent.config.persistencePriority();
+			final BiConsumer<Channel<?>, Value<?>> collect = (channel, value) -> {
+				// Ignore Low-Priority Channels
+				if (channel.channelDoc().getPersistencePriority().isAtLeast(persistencePriority)) {
+					sendValuesMap.put(channel.address().toString(), value.asJson());
 				}
+			};
+			final var changes = this.parent.subscription.poll();
+			if (sendAll) {
+				changes.snapshot().forEach(collect);
+			} else {
+				changes.snapshot().forEach(changes.indexes(), collect);
 			}
 
 			// Create JSON-RPC notification
@@ -404,16 +402,20 @@ public class SendChannelValuesWorker {
 						"Sending [" + sendValuesMap.size() + " values]: " + sendValuesMap);
 			}
 
-			// Try to send
-			var wasSent = this.parent.parent.websocket.sendMessage(message);
+			// Try to send; with all values the binary state is sent again
+			final var websocket = this.parent.parent.websocket;
+			if (sendAll) {
+				websocket.resetBinaryData();
+			}
+			var wasSent = websocket.sendDataNotification(message);
 
-			if (wasSent) {
-				// Successfully sent: update information for next runs
-				this.parent.lastAllValues = this.allValues;
-				if (lastAllValues.isEmpty()) {
-					// 'lastSentValues' was empty, i.e. all values were sent
-					this.parent.lastSendValuesOfAllChannels = this.timestamp;
-				}
+			if (!wasSent) {
+				// Keep the changes for the next run
+				this.parent.subscription.restore(changes);
+
+			} else if (sendAll) {
+				// Successfully sent values of all Channels
+				this.parent.lastSendValuesOfAllChannels = this.timestamp;
 			}
 
 		}
@@ -439,7 +441,7 @@ public class SendChannelValuesWorker {
 			final var message = new AggregatedDataNotification();
 			message.add(this.timestamp.toEpochMilli(), this.allValues);
 
-			final var wasSent = this.parent.parent.websocket.sendMessage(message);
+			final var wasSent = this.parent.parent.websocket.sendDataNotification(message);
 
 			// Set the UNABLE_TO_SEND channel
 			this.parent.parent.getUnableToSendChannel().setNextValue(!wasSent);
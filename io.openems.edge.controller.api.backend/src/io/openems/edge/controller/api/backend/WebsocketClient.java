@@ -11,8 +11,13 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataNotificationCodec;
 import io.openems.common.websocket.OnClose;
+import io.openems.common.websocket.PerMessageDeflate;
 import io.openems.common.websocket.WsData;
 
 public class WebsocketClient extends AbstractWebsocketClient<WsData> {
@@ -24,10 +29,17 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 	private final OnNotification onNotification;
 	private final OnError onError;
 	private final OnClose onClose;
+	private final BinaryDataNotificationCodec.Encoder binaryDataEncoder = new BinaryDataNotificationCodec.Encoder();
+
+	/**
+	 * True if the Backend accepted the {@link BinaryDataNotificationCodec} format
+	 * in the handshake of the current connection.
+	 */
+	private volatile boolean binaryData = false;
 
 	protected WebsocketClient(ControllerApiBackendImpl parent, String name, URI serverUri,
-			Map<String, String> httpHeaders, Proxy proxy) {
-		super(name, serverUri, httpHeaders, proxy);
+			Map<String, String> httpHeaders, Proxy proxy, PerMessageDeflate.Config compression) {
+		super(name, serverUri, httpHeaders, proxy, compression);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onNotification = new OnNotification(parent);
@@ -84,6 +96,49 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.parent.logError(log, message);
 	}
 
+	/**
+	 * Sets if the Backend accepted the {@link BinaryDataNotificationCodec} format
+	 * for the current connection and starts a new binary state.
+	 *
+	 * @param binaryData true if the binary format is used
+	 */
+	protected void setBinaryData(boolean binaryData) {
+		this.binaryData = binaryData;
+		this.binaryDataEncoder.reset();
+	}
+
+	/**
+	 * Discards the dictionary and last values of the binary format, e.g. on a new
+	 * EdgeConfig. The next binary frame carries them again.
+	 */
+	protected void resetBinaryData() {
+		this.binaryDataEncoder.reset();
+	}
+
+	/**
+	 * Sends a {@link TimestampedDataNotification} or an
+	 * {@link AggregatedDataNotification}; as binary frame if negotiated with the
+	 * Backend, otherwise as JSON.
+	 *
+	 * @param notification the notification
+	 * @return true if sending was successful
+	 */
+	public boolean sendDataNotification(AbstractDataNotification notification) {
+		if (!this.binaryData) {
+			return this.sendMessage(notification);
+		}
+		// Frames must be sent in the order they were encoded
+		synchronized (this.binaryDataEncoder) {
+			final var frame = this.binaryDataEncoder.encode(notification);
+			if (this.sendBinary(this.ws, frame)) {
+				return true;
+			}
+			// Backend did not receive the frame: start a new state with the next frame
+			this.binaryDataEncoder.reset();
+			return false;
+		}
+	}
+
 	public boolean isConnected() {
 		return this.ws.isOpen();
 	}
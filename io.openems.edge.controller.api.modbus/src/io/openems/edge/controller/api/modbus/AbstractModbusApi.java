@@ -1,5 +1,6 @@
 package io.openems.edge.controller.api.modbus;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.TreeMap;
 import java.util.Map.Entry;
@@ -64,6 +65,12 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 	protected final Logger log = LoggerFactory.getLogger(AbstractModbusApi.class);
 	protected final MyProcessImage processImage;
 
+	/**
+	 * The {@link RegisterImage} if enabled by configuration; null otherwise or
+	 * while the {@link ModbusRecord}s are being (re-)initialized.
+	 */
+	protected volatile RegisterImage registerImage = null;
+
 	/**
 	 * Holds the link between Modbus address and ModbusRecord.
 	 */
@@ -212,6 +219,7 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 		}
 
 		this.updateCycleValues();
+		this.updateRegisterImage();
 		this.apiWorker.run();
 	}
 
@@ -278,6 +286,61 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 				});
 	}
 
+	/**
+	 * Once every cycle: render all {@link ModbusRecord}s into the
+	 * {@link RegisterImage}, if enabled by configuration.
+	 */
+	protected void updateRegisterImage() {
+		if (!this.config.registerImage()) {
+			this.registerImage = null;
+			return;
+		}
+
+		var image = this.registerImage;
+		if (image != null) {
+			this.renderRegisterImage(image);
+			return;
+		}
+
+		// (Re-)create the image; synchronized with initializeModbusRecords()
+		synchronized (this) {
+			image = RegisterImage.from(this.records);
+			this.renderRegisterImage(image);
+			this.registerImage = image;
+		}
+	}
+
+	/**
+	 * Renders the {@link RegisterImage}.
+	 *
+	 * @param image the {@link RegisterImage}
+	 */
+	private void renderRegisterImage(RegisterImage image) {
+		// Look up every Component only once per Cycle; null if disabled
+		var components = new HashMap<String, OpenemsComponent>();
+		image.render(record -> {
+			final OpenemsComponent component;
+			if (components.containsKey(record.getComponentId())) {
+				component = components.get(record.getComponentId());
+			} else {
+				var cmp = this.getPossiblyDisabledComponent(record.getComponentId());
+				if (cmp != null && !cmp.isEnabled()) {
+					this.logWarn(this.log, "Trying to access disabled Component [" + cmp.id() + "]");
+					component = null;
+				} else {
+					component = cmp;
+				}
+				components.put(record.getComponentId(), component);
+			}
+			try {
+				return record.getValue(component);
+			} catch (RuntimeException e) {
+				this.logWarn(this.log, "Unable to render " + record + ": " + e.getMessage());
+				return null;
+			}
+		});
+	}
+
 	@Override
 	protected void logDebug(Logger log, String message) {
 		super.logDebug(log, message);
@@ -356,6 +419,7 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 	 * @param componentIds  the configured Component-IDs.
 	 */
 	private void initializeModbusRecords(Meta metaComponent, String[] componentIds) {
+		this.registerImage = null;
 		this.records.clear();
 		// Add generic header
 		this.records.put(0, new ModbusRecordUint16Hash(0, "OpenEMS"));
@@ -87,6 +87,16 @@ public abstract class AbstractModbusConfig {
 		return this.maxConcurrentConnections;
 	}
 
+	/**
+	 * Should reads be answered from a {@link RegisterImage} that is rendered once
+	 * per Cycle?.
+	 *
+	 * @return boolean
+	 */
+	public boolean registerImage() {
+		return false;
+	}
+
 	@Override
 	public boolean equals(Object other) {
 		if (this == other) {
@@ -17,17 +17,24 @@ public abstract class AbstractModbusTcpApi extends AbstractModbusApi
 
 	public class TcpConfig extends AbstractModbusConfig {
 		private final int port;
+		private final boolean registerImage;
 
 		public TcpConfig(String id, String alias, boolean enabled, Meta metaComponent, String[] componentIds,
-				int apiTimeout, int port, int maxConcurrentConnections) {
+				int apiTimeout, int port, int maxConcurrentConnections, boolean registerImage) {
 			super(id, alias, enabled, metaComponent, componentIds, apiTimeout, maxConcurrentConnections);
 			this.port = port;
+			this.registerImage = registerImage;
 		}
 
 		public int getPort() {
 			return this.port;
 		}
 
+		@Override
+		public boolean registerImage() {
+			return this.registerImage;
+		}
+
 		@Override
 		public boolean equals(Object other) {
 			if (!super.equals(other)) {
@@ -37,7 +44,8 @@ public abstract class AbstractModbusTcpApi extends AbstractModbusApi
 				return false;
 			}
 			TcpConfig config = (TcpConfig) other;
-			return this.port == config.port;
+			return this.port == config.port //
+					&& this.registerImage == config.registerImage;
 		}
 
 	}
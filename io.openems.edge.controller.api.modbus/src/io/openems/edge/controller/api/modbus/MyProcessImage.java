@@ -16,6 +16,7 @@ import com.ghgande.j2mod.modbus.procimg.SimpleInputRegister;
 
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
 import io.openems.edge.common.modbusslave.ModbusRecordUint16Reserved;
 
 /**
@@ -32,7 +33,7 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		try {
 			this.parent.logDebug(this.log, "Reading Input Registers. Address [" + offset + "] Count [" + count + "].");
 			var registers = this.getRegisterRange(offset, count);
@@ -51,7 +52,7 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Reading Registers. Address [" + offset + "] Count [" + count + "].");
 
 		try {
@@ -65,30 +66,15 @@ public class MyProcessImage implements ProcessImage {
 				throw new MyIllegalAddressException(this, "Invalid length: " + length + "; max. 126 registers allowed");
 			}
 
-			var records = this.parent.records.subMap(offset, offset + count);
-			var result = new Register[count];
-			for (var i = 0; i < count;) {
-				// Get record for modbus address
-				var ref = i + offset;
-				var record = records.get(ref);
-				if (record == null) {
-					record = new ModbusRecordUint16Reserved(ref);
-				}
-
-				// Get Registers from Record
-				var registers = this.getRecordValueRegisters(record);
-
-				// make sure this Record fits
-				if (result.length < i + registers.length) {
-					throw new MyIllegalAddressException(this,
-							"Record for Modbus address [" + ref + "] does not fit in Result.");
-				}
-				for (var j = 0; j < registers.length; j++) {
-					result[i + j] = registers[j];
+			var image = this.parent.registerImage;
+			final Register[] result;
+			if (image != null && image.isRendered()) {
+				// Lock-free read from the Cycle-synchronized RegisterImage
+				result = this.getRegisterRange(image, offset, count);
+			} else {
+				synchronized (this) {
+					result = this.getRegisterRangeFromRecords(offset, count);
 				}
-
-				// increase i by word length
-				i += registers.length;
 			}
 			this.parent._setProcessImageFault(false);
 			return result;
@@ -99,29 +85,108 @@ public class MyProcessImage implements ProcessImage {
 		}
 	}
 
-	@Override
-	public synchronized Register getRegister(int ref) throws MyIllegalAddressException {
-		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
+	/**
+	 * Gets the Registers from the Cycle-synchronized {@link RegisterImage}.
+	 *
+	 * @param image  the {@link RegisterImage}
+	 * @param offset the start address
+	 * @param count  the number of Registers
+	 * @return the Registers
+	 * @throws MyIllegalAddressException if a Record does not fit
+	 */
+	private Register[] getRegisterRange(RegisterImage image, int offset, int count)
+			throws MyIllegalAddressException {
+		var bytes = image.read(offset, count);
+		var result = new Register[count];
+		for (var i = 0; i < count;) {
+			// Get record for modbus address
+			var ref = i + offset;
+			var record = image.getRecord(ref);
+			if (record == null) {
+				result[i] = this.createRegister(new ModbusRecordUint16Reserved(ref), 0, //
+						ModbusRecordUint16.UNDEFINED_VALUE[0], ModbusRecordUint16.UNDEFINED_VALUE[1]);
+				i++;
+				continue;
+			}
 
-		try {
-			var record = this.parent.records.get(ref);
+			// make sure this Record fits
+			var words = record.getType().getWords();
+			if (result.length < i + words) {
+				throw new MyIllegalAddressException(this,
+						"Record for Modbus address [" + ref + "] does not fit in Result.");
+			}
+			for (var j = 0; j < words; j++) {
+				result[i + j] = this.createRegister(record, j, bytes[(i + j) * 2], bytes[(i + j) * 2 + 1]);
+			}
+
+			// increase i by word length
+			i += words;
+		}
+		return result;
+	}
 
-			// make sure the ModbusRecord is available
+	/**
+	 * Gets the Registers by reading the current value of each Record.
+	 *
+	 * @param offset the start address
+	 * @param count  the number of Registers
+	 * @return the Registers
+	 * @throws MyIllegalAddressException if a Record does not fit
+	 */
+	private Register[] getRegisterRangeFromRecords(int offset, int count) throws MyIllegalAddressException {
+		var records = this.parent.records.subMap(offset, offset + count);
+		var result = new Register[count];
+		for (var i = 0; i < count;) {
+			// Get record for modbus address
+			var ref = i + offset;
+			var record = records.get(ref);
 			if (record == null) {
-				throw new MyIllegalAddressException(this, "Record for Modbus address [" + ref + "] is not available.");
+				record = new ModbusRecordUint16Reserved(ref);
 			}
 
 			// Get Registers from Record
 			var registers = this.getRecordValueRegisters(record);
 
-			// make sure this Record requires only one Register/Word
-			if (registers.length > 1) {
+			// make sure this Record fits
+			if (result.length < i + registers.length) {
 				throw new MyIllegalAddressException(this,
-						"Record for Modbus address [" + ref + "] requires more than one Register.");
+						"Record for Modbus address [" + ref + "] does not fit in Result.");
+			}
+			for (var j = 0; j < registers.length; j++) {
+				result[i + j] = registers[j];
 			}
 
-			this.parent._setProcessImageFault(false);
-			return registers[0];
+			// increase i by word length
+			i += registers.length;
+		}
+		return result;
+	}
+
+	@Override
+	public Register getRegister(int ref) throws MyIllegalAddressException {
+		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
+
+		try {
+			var image = this.parent.registerImage;
+			if (image != null && image.isRendered()) {
+				// Lock-free read from the Cycle-synchronized RegisterImage
+				var record = image.getRecord(ref);
+				if (record == null) {
+					throw new MyIllegalAddressException(this,
+							"Record for Modbus address [" + ref + "] is not available.");
+				}
+				if (record.getType().getWords() > 1) {
+					throw new MyIllegalAddressException(this,
+							"Record for Modbus address [" + ref + "] requires more than one Register.");
+				}
+				var result = this.getRegisterRange(image, ref, 1);
+				this.parent._setProcessImageFault(false);
+				return result[0];
+			}
+
+			synchronized (this) {
+				return this.getRegisterFromRecords(ref);
+			}
 
 		} catch (Exception e) {
 			this.parent._setProcessImageFault(true);
@@ -129,6 +194,35 @@ public class MyProcessImage implements ProcessImage {
 		}
 	}
 
+	/**
+	 * Gets the Register by reading the current value of the Record.
+	 *
+	 * @param ref the address
+	 * @return the Register
+	 * @throws MyIllegalAddressException if the Record is not available or
+	 *                                   requires more than one Register
+	 */
+	private Register getRegisterFromRecords(int ref) throws MyIllegalAddressException {
+		var record = this.parent.records.get(ref);
+
+		// make sure the ModbusRecord is available
+		if (record == null) {
+			throw new MyIllegalAddressException(this, "Record for Modbus address [" + ref + "] is not available.");
+		}
+
+		// Get Registers from Record
+		var registers = this.getRecordValueRegisters(record);
+
+		// make sure this Record requires only one Register/Word
+		if (registers.length > 1) {
+			throw new MyIllegalAddressException(this,
+					"Record for Modbus address [" + ref + "] requires more than one Register.");
+		}
+
+		this.parent._setProcessImageFault(false);
+		return registers[0];
+	}
+
 	/**
 	 * Get value as byte-array and convert it to InputRegisters.
 	 *
@@ -150,17 +244,30 @@ public class MyProcessImage implements ProcessImage {
 
 		var value = record.getValue(component);
 		for (var j = 0; j < value.length / 2; j++) {
-			result[j] = new MyRegister(j, value[j * 2], value[j * 2 + 1], //
-					/*
-					 * On Set-Value event:
-					 */
-					register -> {
-						record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
-					});
+			result[j] = this.createRegister(record, j, value[j * 2], value[j * 2 + 1]);
 		}
 		return result;
 	}
 
+	/**
+	 * Creates a {@link MyRegister} that writes to the given Record.
+	 *
+	 * @param record the record
+	 * @param index  the index of the Register within the Record
+	 * @param byte1  the first byte
+	 * @param byte2  the second byte
+	 * @return the Register
+	 */
+	private MyRegister createRegister(ModbusRecord record, int index, byte byte1, byte byte2) {
+		return new MyRegister(index, byte1, byte2, //
+				/*
+				 * On Set-Value event:
+				 */
+				register -> {
+					record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
+				});
+	}
+
 	/**********************************************
 	 * From here, the methods are not implemented!.
 	 **********************************************
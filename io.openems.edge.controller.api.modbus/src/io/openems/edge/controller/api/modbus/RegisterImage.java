@@ -0,0 +1,161 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+
+/**
+ * A preallocated image of the registers of all {@link ModbusRecord}s.
+ *
+ * <p>
+ * The image is rendered once per Cycle into the inactive one of two buffers,
+ * which is then swapped in atomically. Readers copy from the active buffer
+ * without locking; an optimistic {@link StampedLock} read only fails if a
+ * reader was overtaken by two renders.
+ *
+ * <p>
+ * The layout is immutable; a new {@link RegisterImage} is required whenever the
+ * {@link ModbusRecord}s change.
+ */
+public class RegisterImage {
+
+	private static final class Buffer {
+		private final StampedLock lock = new StampedLock();
+		private final byte[] bytes;
+
+		private Buffer(int length) {
+			this.bytes = new byte[length * 2];
+		}
+	}
+
+	private final ModbusRecord[] records;
+	private final Buffer[] buffers;
+
+	private volatile Buffer current = null;
+	private int next = 0;
+
+	/**
+	 * Creates a {@link RegisterImage} for the given {@link ModbusRecord}s.
+	 *
+	 * @param records the {@link ModbusRecord}s by Modbus address
+	 * @return the {@link RegisterImage}
+	 */
+	public static RegisterImage from(SortedMap<Integer, ModbusRecord> records) {
+		var length = 0;
+		for (var entry : records.entrySet()) {
+			length = Math.max(length, entry.getKey() + entry.getValue().getType().getWords());
+		}
+		var result = new ModbusRecord[length];
+		for (var entry : records.entrySet()) {
+			result[entry.getKey()] = entry.getValue();
+		}
+		return new RegisterImage(result);
+	}
+
+	private RegisterImage(ModbusRecord[] records) {
+		this.records = records;
+		this.buffers = new Buffer[] { new Buffer(records.length), new Buffer(records.length) };
+	}
+
+	/**
+	 * Gets the number of registers in this image.
+	 *
+	 * @return the number of registers
+	 */
+	public int length() {
+		return this.records.length;
+	}
+
+	/**
+	 * Gets the {@link ModbusRecord} that starts at the given address.
+	 *
+	 * @param address the Modbus address
+	 * @return the {@link ModbusRecord}; null if no record starts at this address
+	 */
+	public ModbusRecord getRecord(int address) {
+		if (address < 0 || address >= this.records.length) {
+			return null;
+		}
+		return this.records[address];
+	}
+
+	/**
+	 * Was this image rendered at least once?.
+	 *
+	 * @return true if {@link #read(int, int)} is available
+	 */
+	public boolean isRendered() {
+		return this.current != null;
+	}
+
+	/**
+	 * Renders all {@link ModbusRecord}s into the inactive buffer and swaps it in.
+	 * Must not be called concurrently.
+	 *
+	 * @param renderer gets the value of a {@link ModbusRecord}; a value shorter
+	 *                 than the record is padded with
+	 *                 {@link ModbusRecordUint16#UNDEFINED_VALUE}
+	 */
+	public void render(Function<ModbusRecord, byte[]> renderer) {
+		var buffer = this.buffers[this.next];
+		var stamp = buffer.lock.writeLock();
+		try {
+			var bytes = buffer.bytes;
+			Arrays.fill(bytes, ModbusRecordUint16.UNDEFINED_VALUE[0]);
+			for (var address = 0; address < this.records.length; address++) {
+				var record = this.records[address];
+				if (record == null) {
+					continue;
+				}
+				var value = renderer.apply(record);
+				if (value != null) {
+					System.arraycopy(value, 0, bytes, address * 2,
+							Math.min(value.length, record.getType().getWords() * 2));
+				}
+			}
+		} finally {
+			buffer.lock.unlockWrite(stamp);
+		}
+		this.current = buffer;
+		this.next = 1 - this.next;
+	}
+
+	/**
+	 * Copies the bytes of the given register range from the active buffer.
+	 * Registers outside of this image are
+	 * {@link ModbusRecordUint16#UNDEFINED_VALUE}.
+	 *
+	 * @param offset the first Modbus address
+	 * @param count  the number of registers
+	 * @return two bytes per register; null if this image was never rendered
+	 */
+	public byte[] read(int offset, int count) {
+		var result = new byte[count * 2];
+		while (true) {
+			var buffer = this.current;
+			if (buffer == null) {
+				return null;
+			}
+			var stamp = buffer.lock.tryOptimisticRead();
+			if (stamp == 0) {
+				// Overtaken by two renders; the other buffer is current now
+				Thread.onSpinWait();
+				continue;
+			}
+			Arrays.fill(result, ModbusRecordUint16.UNDEFINED_VALUE[0]);
+			var from = Math.max(offset, 0);
+			var to = Math.min(offset + count, this.records.length);
+			if (from < to) {
+				System.arraycopy(buffer.bytes, from * 2, result, (from - offset) * 2, (to - from) * 2);
+			}
+			if (buffer.lock.validate(stamp)) {
+				return result;
+			}
+		}
+	}
+
+}
@@ -28,6 +28,9 @@ import io.openems.edge.controller.api.modbus.AbstractModbusTcpApi;
 	@AttributeDefinition(name = "Max concurrent connections", description = "Sets the maximum number of concurrent connections via Modbus.")
 	int maxConcurrentConnections() default AbstractModbusTcpApi.DEFAULT_MAX_CONCURRENT_CONNECTIONS;
 
+	@AttributeDefinition(name = "Cycle-synchronized register image", description = "Answer reads from a register image that is rendered once per Cycle; recommended for many concurrent connections.")
+	boolean registerImage() default false;
+
 	@AttributeDefinition(name = "Components target filter", description = "This is auto-generated by 'Component-IDs'.")
 	String Component_target() default "(enabled=true)";
 
@@ -71,7 +71,8 @@ public class ControllerApiModbusTcpReadOnlyImpl extends AbstractModbusTcpApi
 	@Activate
 	private void activate(ComponentContext context, Config config) throws ModbusException, OpenemsException {
 		this.config = new TcpConfig(config.id(), config.alias(), config.enabled(), this.metaComponent,
-				config.component_ids(), 0 /* no timeout */, config.port(), config.maxConcurrentConnections());
+				config.component_ids(), 0 /* no timeout */, config.port(), config.maxConcurrentConnections(),
+				config.registerImage());
 		super.activate(context, this.cm, this.config);
 	}
 
@@ -119,7 +119,8 @@ public class ControllerApiModbusTcpReadWriteImpl extends AbstractModbusTcpApi
 	@Activate
 	private void activate(ComponentContext context, Config config) throws ModbusException, OpenemsException {
 		this.config = new TcpConfig(config.id(), config.alias(), config.enabled(), this.metaComponent,
-				config.component_ids(), config.apiTimeout(), config.port(), config.maxConcurrentConnections());
+				config.component_ids(), config.apiTimeout(), config.port(), config.maxConcurrentConnections(),
+				config.registerImage());
 		super.activate(context, this.cm, this.config);
 		this.applyConfig(config);
 	}
@@ -127,7 +128,8 @@ public class ControllerApiModbusTcpReadWriteImpl extends AbstractModbusTcpApi
 	@Modified
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		this.config = new TcpConfig(config.id(), config.alias(), config.enabled(), this.metaComponent,
-				config.component_ids(), config.apiTimeout(), config.port(), config.maxConcurrentConnections());
+				config.component_ids(), config.apiTimeout(), config.port(), config.maxConcurrentConnections(),
+				config.registerImage());
 		super.modified(context, this.cm, this.config);
 		this.applyConfig(config);
 	}
@@ -0,0 +1,53 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint32;
+
+public class RegisterImageTest {
+
+	@Test
+	public void test() {
+		var uint16 = new ModbusRecordUint16(0, "Uint16", (short) 0x0102);
+		var uint32 = new ModbusRecordUint32(0, "Uint32", 0x03040506);
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, uint16);
+		records.put(2, uint32);
+
+		var sut = RegisterImage.from(records);
+		assertEquals(4, sut.length());
+		assertSame(uint16, sut.getRecord(0));
+		assertNull(sut.getRecord(1));
+		assertSame(uint32, sut.getRecord(2));
+		assertNull(sut.getRecord(3));
+		assertNull(sut.getRecord(4));
+
+		// Not rendered yet
+		assertFalse(sut.isRendered());
+		assertNull(sut.read(0, 4));
+
+		// Gaps and addresses outside of the image are undefined
+		sut.render(record -> record.getValue(null));
+		assertTrue(sut.isRendered());
+		assertArrayEquals(new byte[] { 0x01, 0x02, (byte) 0xFF, (byte) 0xFF, 0x03, 0x04, 0x05, 0x06 },
+				sut.read(0, 4));
+		assertArrayEquals(new byte[] { 0x05, 0x06, (byte) 0xFF, (byte) 0xFF }, sut.read(3, 2));
+
+		// Next render replaces values; short values are padded
+		sut.render(record -> record == uint32 ? new byte[] { 0x07, 0x08 } : null);
+		assertArrayEquals(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0x08,
+				(byte) 0xFF, (byte) 0xFF }, sut.read(0, 4));
+	}
+
+}
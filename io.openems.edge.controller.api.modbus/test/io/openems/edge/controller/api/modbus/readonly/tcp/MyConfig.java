@@ -12,6 +12,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private int port;
 		private String[] componentIds;
 		private int maxConcurrentConnections;
+		private boolean registerImage;
 
 		private Builder() {
 		}
@@ -41,6 +42,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setRegisterImage(boolean registerImage) {
+			this.registerImage = registerImage;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -82,6 +88,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.maxConcurrentConnections;
 	}
 
+	@Override
+	public boolean registerImage() {
+		return this.builder.registerImage;
+	}
+
 	@Override
 	public String Component_target() {
 		return ConfigUtils.generateReferenceTargetFilter(this.id(), false, this.component_ids());
@@ -34,6 +34,7 @@ import io.openems.common.types.EdgeConfig;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.Cycle;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.timedata.api.Timedata;
@@ -75,6 +76,9 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 	@Reference
 	protected ComponentManager componentManager;
 
+	@Reference
+	protected Cycle cycle;
+
 	public ControllerApiMqttImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -4,32 +4,29 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 
 import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableTable;
-import com.google.common.collect.Table;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import com.google.gson.JsonElement;
 
-import io.openems.common.channel.AccessMode;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.ThreadPoolUtils;
-import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.cycle.ChannelChangeSubscription;
+import io.openems.edge.common.cycle.ChannelSnapshot;
 
 /**
  * Method {@link #collectData()} is called Synchronously with the Core.Cycle to
- * collect values of Channels. Sending of values is then delegated to an
- * asynchronous task.
+ * collect the changed Channels of the {@link ChannelSnapshot}. Sending of
+ * values is then delegated to an asynchronous task.
  *
  * <p>
  * The logic tries to send changed values once per Cycle and all values once
@@ -67,9 +64,9 @@ public class SendChannelValuesWorker {
 	private Instant lastSendValuesOfAllChannels = Instant.MIN;
 
 	/**
-	 * Keeps the values of last successful send.
+	 * Accumulates the changed Channels since the last successful send.
 	 */
-	private Table<String, String, JsonElement> lastAllValues = ImmutableTable.of();
+	private final ChannelChangeSubscription subscription = new ChannelChangeSubscription();
 
 	protected SendChannelValuesWorker(ControllerApiMqttImpl parent) {
 		this.parent = parent;
@@ -91,54 +88,17 @@ public class SendChannelValuesWorker {
 	}
 
 	/**
-	 * Called synchronously on AFTER_PROCESS_IMAGE event. Collects all the data and
-	 * triggers asynchronous sending.
+	 * Called synchronously on AFTER_PROCESS_IMAGE event. Takes the
+	 * {@link ChannelSnapshot} of the Cycle and triggers asynchronous sending.
 	 */
 	public synchronized void collectData() {
 		var now = Instant.now(this.parent.componentManager.getClock());
 
-		// Update the values of all channels
-		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
+		// Remember the Channels that changed in this Cycle
+		this.subscription.add(this.parent.cycle.getChannelSnapshot());
 
 		// Add to send Queue
-		this.executor.execute(new SendTask(this, now, allValues));
-	}
-
-	/**
-	 * Cycles through all Channels and collects the value.
-	 *
-	 * @param enabledComponents the enabled components
-	 * @return collected data
-	 */
-	private ImmutableTable<String, String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
-		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(ImmutableTable.toImmutableTable(c -> c.address().getComponentId(),
-							c -> c.address().getChannelId(), c -> c.value().asJson()));
-			// TODO remove values for disappeared components
-//			final Set<String> enabledComponentIds = enabledComponents.stream() //
-//					.map(c -> c.id()) //
-//					.collect(Collectors.toSet());
-//			this.lastValues.rowMap().entrySet().stream() //
-//					.filter(row -> !enabledComponentIds.contains(row.getKey())) //
-//					.forEach(row -> {
-//						row.getValue().entrySet().parallelStream() //
-//								.forEach(column -> {
-//									this.publish(row.getKey() + "/" + column.getKey(), JsonNull.INSTANCE.toString());
-//								});
-//					});
-		} catch (Exception e) {
-			// ConcurrentModificationException can happen if Channels are dynamically added
-			// or removed
-			return ImmutableTable.of();
-		}
+		this.executor.execute(new SendTask(this, now));
 	}
 
 	/*
@@ -149,67 +109,67 @@ public class SendChannelValuesWorker {
 
 		private final SendChannelValuesWorker parent;
 		private final Instant timestamp;
-		private final ImmutableTable<String, String, JsonElement> allValues;
 
-		public SendTask(SendChannelValuesWorker parent, Instant timestamp,
-				ImmutableTable<String, String, JsonElement> allValues) {
+		public SendTask(SendChannelValuesWorker parent, Instant timestamp) {
 			this.parent = parent;
 			this.timestamp = timestamp;
-			this.allValues = allValues;
 		}
 
 		@Override
 		public void run() {
-			// Holds the data of the last successful send. If the table is empty, it is also
-			// used as a marker to send all data.
-			final Table<String, String, JsonElement> lastAllValues;
+			final boolean sendAll;
 
 			if (this.parent.sendValuesOfAllChannels.getAndSet(false)) {
-				// Send values of all Channels once in a while
-				lastAllValues = ImmutableTable.of();
+				// Send values of all Channels if explicitly asked for
+				sendAll = true;
 
 			} else if (Duration.between(this.parent.lastSendValuesOfAllChannels, this.timestamp)
 					.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
-				// Send values of all Channels if explicitly asked for
-				lastAllValues = ImmutableTable.of();
+				// Send values of all Channels once in a while
+				sendAll = true;
 
 			} else {
-				// Actually use the kept 'lastSentValues'
-				// CHECKSTYLE:OFF
-				lastAllValues = this.parent.lastAllValues;
-				// CHECKSTYLE:ON
+				// Only send Channels that changed since the last successful send
+				sendAll = false;
 			}
 
 			// Send changed values
-			var allSendSuccessful = true;
-			List<String> sendTopics = new ArrayList<>();
-			for (Entry<String, Map<String, JsonElement>> row : this.allValues.rowMap().entrySet()) {
-				for (Entry<String, JsonElement> column : row.getValue().entrySet()) {
-					if (!Objects.equals(column.getValue(), lastAllValues.get(row.getKey(), column.getKey()))) {
-						var subtopic = row.getKey() + "/" + column.getKey();
-						sendTopics.add(subtopic);
-						if (!this.publish(row.getKey() + "/" + column.getKey(), column.getValue().toString())) {
-							allSendSuccessful = false;
-						}
-					}
+			final var allSendSuccessful = new AtomicBoolean(true);
+			final List<String> sendTopics = new ArrayList<>();
+			final var persistencePriority = this.parent.parent.config.persistencePriority();
+			final BiConsumer<Channel<?>, Value<?>> publish = (channel, value) -> {
+				// Ignore Low-Priority Channels
+				if (!channel.channelDoc().getPersistencePriority().isAtLeast(persistencePriority)) {
+					return;
 				}
+				var subtopic = channel.address().getComponentId() + "/" + channel.address().getChannelId();
+				sendTopics.add(subtopic);
+				if (!this.publish(subtopic, value.asJson().toString())) {
+					allSendSuccessful.set(false);
+				}
+			};
+			final var changes = this.parent.subscription.poll();
+			if (sendAll) {
+				changes.snapshot().forEach(publish);
+			} else {
+				changes.snapshot().forEach(changes.indexes(), publish);
 			}
 
 			// Update lastUpdate timestamp
 			this.publish(ControllerApiMqtt.TOPIC_CHANNEL_LAST_UPDATE, String.valueOf(this.timestamp));
 
 			// Successful?
-			if (allSendSuccessful) {
+			if (allSendSuccessful.get()) {
 				this.parent.parent.logInfo(this.parent.log, "Successfully sent MQTT topics: "
 						+ StringUtils.toShortString(String.join(", ", sendTopics), 100));
 
 				// update information for next runs
-				this.parent.lastAllValues = this.allValues;
-				if (lastAllValues.isEmpty()) {
-					// 'lastSentValues' was empty, i.e. all values were sent
+				if (sendAll) {
 					this.parent.lastSendValuesOfAllChannels = this.timestamp;
 				}
 			} else {
+				// Keep the changes for the next run
+				this.parent.subscription.restore(changes);
 				this.parent.parent.logWarn(this.parent.log, "Error while sending MQTT topics: "
 						+ StringUtils.toShortString(String.join(", ", sendTopics), 100));
 			}
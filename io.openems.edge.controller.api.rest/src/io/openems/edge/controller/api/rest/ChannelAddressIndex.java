@@ -0,0 +1,127 @@
+package io.openems.edge.controller.api.rest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Resolves the {@link ChannelAddress} of a REST GET request to Channels;
+ * regular expressions are allowed.
+ *
+ * <p>
+ * Literal Component-IDs and Channel-IDs are resolved via the
+ * {@link ComponentManager}. Regular expressions are compiled once and kept in
+ * a bounded LRU cache; expressions of the form 'prefix.*' are matched via
+ * {@link String#startsWith(String)}.
+ */
+public class ChannelAddressIndex {
+
+	protected static final int MAX_CACHED_MATCHERS = 256;
+
+	private static final String REGEX_META_CHARACTERS = "\\.[]{}()<>*+-=!?^$|";
+
+	private final Map<String, Predicate<String>> matchers = new LinkedHashMap<>(16, 0.75F, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Predicate<String>> eldest) {
+			return this.size() > MAX_CACHED_MATCHERS;
+		}
+	};
+
+	/**
+	 * Gets a list of Channels that match the {@link ChannelAddress}. The order
+	 * follows the enabled Components and their Channels.
+	 *
+	 * @param componentManager the {@link ComponentManager}
+	 * @param channelAddress   the {@link ChannelAddress} of the GET request
+	 * @return a list of matching {@link Channel}s
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	public List<Channel<?>> getChannels(ComponentManager componentManager, ChannelAddress channelAddress)
+			throws PatternSyntaxException {
+		final var componentId = channelAddress.getComponentId();
+		final var channelId = channelAddress.getChannelId();
+		final List<OpenemsComponent> matchingComponents;
+		if (isLiteral(componentId)) {
+			if (isLiteral(channelId)) {
+				try {
+					return List.of(componentManager.getChannel(channelAddress));
+				} catch (IllegalArgumentException | OpenemsNamedException e) {
+					return List.of();
+				}
+			}
+			try {
+				matchingComponents = List.of(componentManager.getComponent(componentId));
+			} catch (OpenemsNamedException e) {
+				return List.of();
+			}
+		} else {
+			var matcher = this.getMatcher(componentId);
+			matchingComponents = componentManager.getEnabledComponents().stream() //
+					.filter(component -> matcher.test(component.id())) //
+					.toList();
+		}
+
+		final var matcher = this.getMatcher(channelId);
+		final var result = new ArrayList<Channel<?>>();
+		for (var component : matchingComponents) {
+			for (var channel : component.channels()) {
+				if (matcher.test(channel.channelId().id())) {
+					result.add(channel);
+				}
+			}
+		}
+		return result;
+	}
+
+	private Predicate<String> getMatcher(String regex) throws PatternSyntaxException {
+		synchronized (this.matchers) {
+			var matcher = this.matchers.get(regex);
+			if (matcher != null) {
+				return matcher;
+			}
+		}
+
+		final Predicate<String> matcher;
+		var prefix = regex.endsWith(".*") ? regex.substring(0, regex.length() - 2) : null;
+		if (isLiteral(regex)) {
+			matcher = regex::equals;
+		} else if (prefix != null && isLiteral(prefix)) {
+			matcher = value -> value.startsWith(prefix);
+		} else {
+			matcher = Pattern.compile(regex).asMatchPredicate();
+		}
+
+		synchronized (this.matchers) {
+			this.matchers.put(regex, matcher);
+		}
+		return matcher;
+	}
+
+	/**
+	 * Does the given String contain no regular expression meta characters?.
+	 *
+	 * @param value the String
+	 * @return true if it matches only itself
+	 */
+	private static boolean isLiteral(String value) {
+		for (var i = 0; i < value.length(); i++) {
+			if (REGEX_META_CHARACTERS.indexOf(value.charAt(i)) >= 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -4,6 +4,7 @@ import static io.openems.common.utils.JsonUtils.parseToJsonObject;
 import static java.util.stream.Collectors.joining;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 import java.util.Base64;
@@ -11,17 +12,15 @@ import java.util.List;
 import java.util.StringTokenizer;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.exceptions.OpenemsError;
@@ -38,7 +37,6 @@ import io.openems.common.utils.JsonUtils;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.UuidUtils;
 import io.openems.edge.common.channel.Channel;
-import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.user.User;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -48,6 +46,7 @@ public class RestHandler extends AbstractHandler {
 	private final Logger log = LoggerFactory.getLogger(RestHandler.class);
 
 	private final AbstractRestApi parent;
+	private final ChannelAddressIndex channelAddressIndex = new ChannelAddressIndex();
 
 	public RestHandler(AbstractRestApi parent) {
 		this.parent = parent;
@@ -201,8 +200,7 @@ public class RestHandler extends AbstractHandler {
 			HttpServletResponse response) throws OpenemsNamedException {
 		user.assertRoleIsAtLeast("HTTP GET", Role.GUEST);
 
-		var components = this.parent.getComponentManager().getEnabledComponents();
-		var channels = getChannels(components, channelAddress);
+		var channels = this.channelAddressIndex.getChannels(this.parent.getComponentManager(), channelAddress);
 
 		// Return with error when no matching channel was found
 		if (channels.size() == 0) {
@@ -214,56 +212,66 @@ public class RestHandler extends AbstractHandler {
 			return false;
 		}
 
-		// Creating JSON response for all matched channels
-		var channeljson = new JsonArray();
-		for (Channel<?> channel : channels) {
-			var j = new JsonObject();
-			// name
-			j.addProperty("address", channel.address().toString());
-			// type
-			j.addProperty("type", channel.getType().name());
-			// accessMode
-			var accessMode = channel.channelDoc().getAccessMode();
-			j.addProperty("accessMode", accessMode.getAbbreviation());
-			// text
-			j.addProperty("text", channel.channelDoc().getText());
-			// unit
-			j.addProperty("unit", channel.channelDoc().getUnit().symbol);
-			// value
-			if (accessMode != AccessMode.WRITE_ONLY) {
-				j.add("value", channel.value().asJson());
+		// Stream the JSON response for all matched channels
+		try {
+			response.setContentType("application/json");
+			response.setStatus(HttpServletResponse.SC_OK);
+			baseRequest.setHandled(true);
+			if (this.parent.isDebugModeEnabled()) {
+				var result = new StringWriter();
+				writeChannels(new JsonWriter(result), channels);
+				this.parent.logInfo(this.log, "REST call by User [" + user.getName() + "]: GET Channel ["
+						+ channelAddress.toString() + "] Result [" + result + "]");
+				response.getWriter().write(result.toString());
+			} else {
+				writeChannels(new JsonWriter(response.getWriter()), channels);
 			}
-			channeljson.add(j);
-		}
-
-		// if this a request for a single channel only return a single JsonObject, not
-		// an array (for compatibility to previous versions)
-		var result = channeljson.size() == 1 ? channeljson.get(0) : channeljson;
-
-		if (this.parent.isDebugModeEnabled()) {
-			this.parent.logInfo(this.log, "REST call by User [" + user.getName() + "]: GET Channel ["
-					+ channelAddress.toString() + "] Result [" + result.toString() + "]");
+			return true;
+		} catch (IOException e) {
+			throw new OpenemsException("Unable to send Ok-Response: " + e.getMessage());
 		}
-
-		return this.sendOkResponse(baseRequest, response, result);
 	}
 
 	/**
-	 * Gets a list of Channels that match the {@link ChannelAddress}; regular
-	 * expressions are allowed.
-	 * 
-	 * @param components     a list of {@link OpenemsComponent}s
-	 * @param channelAddress the {@link ChannelAddress} of the GET request
-	 * @return a list of matching {@link Channel}s
-	 * @throws PatternSyntaxException on regular expression error
+	 * Writes the given Channels as JSON. A single Channel is written as a
+	 * JsonObject, multiple Channels as a JsonArray (for compatibility to previous
+	 * versions).
+	 *
+	 * @param writer   the {@link JsonWriter}; flushed after writing
+	 * @param channels the Channels
+	 * @throws IOException on error
 	 */
-	protected static List<Channel<?>> getChannels(List<OpenemsComponent> components, ChannelAddress channelAddress)
-			throws PatternSyntaxException {
-		return components.stream() //
-				.filter(component -> Pattern.matches(channelAddress.getComponentId(), component.id())) //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> Pattern.matches(channelAddress.getChannelId(), channel.channelId().id())) //
-				.toList();
+	protected static void writeChannels(JsonWriter writer, List<Channel<?>> channels) throws IOException {
+		if (channels.size() == 1) {
+			writeChannel(writer, channels.get(0));
+		} else {
+			writer.beginArray();
+			for (var channel : channels) {
+				writeChannel(writer, channel);
+			}
+			writer.endArray();
+		}
+		writer.flush();
+	}
+
+	private static void writeChannel(JsonWriter writer, Channel<?> channel) throws IOException {
+		writer.beginObject();
+		// name
+		writer.name("address").value(channel.address().toString());
+		// type
+		writer.name("type").value(channel.getType().name());
+		// accessMode
+		var accessMode = channel.channelDoc().getAccessMode();
+		writer.name("accessMode").value(accessMode.getAbbreviation());
+		// text
+		writer.name("text").value(channel.channelDoc().getText());
+		// unit
+		writer.name("unit").value(channel.channelDoc().getUnit().symbol);
+		// value
+		if (accessMode != AccessMode.WRITE_ONLY) {
+			writer.name("value").jsonValue(channel.value().asJson().toString());
+		}
+		writer.endObject();
 	}
 
 	private void sendErrorResponse(Request baseRequest, HttpServletResponse response, UUID jsonrpcId, Throwable ex) {
@@ -3,13 +3,17 @@ package io.openems.edge.controller.api.rest;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.regex.PatternSyntaxException;
 
 import org.junit.Test;
 
+import com.google.gson.stream.JsonWriter;
+
 import io.openems.common.types.ChannelAddress;
-import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyComponentManager;
 
 public class RestHandlerTest {
 
@@ -18,18 +22,22 @@ public class RestHandlerTest {
 		var foo0 = new DummyComponent("foo0");
 		var bar0 = new DummyComponent("bar0");
 		var dummyComponent = new DummyComponent("dummyComponent");
-		var components = List.<OpenemsComponent>of(foo0, bar0, dummyComponent);
+		var componentManager = new DummyComponentManager() //
+				.addComponent(foo0) //
+				.addComponent(bar0) //
+				.addComponent(dummyComponent);
+		var sut = new ChannelAddressIndex();
 
 		{
 			var channelAddress = new ChannelAddress("foo0", "DummyChannel");
-			var result = RestHandler.getChannels(components, channelAddress);
+			var result = sut.getChannels(componentManager, channelAddress);
 			assertEquals(1, result.size());
 			assertEquals(foo0.channel("DummyChannel"), result.get(0));
 		}
 
 		{
 			var channelAddress = new ChannelAddress(".*0", "Dummy.*");
-			var result = RestHandler.getChannels(components, channelAddress);
+			var result = sut.getChannels(componentManager, channelAddress);
 			assertEquals(2, result.size());
 			assertEquals(foo0.channel("DummyChannel"), result.get(0));
 			assertEquals(bar0.channel("DummyChannel"), result.get(1));
@@ -37,21 +45,36 @@ public class RestHandlerTest {
 
 		{
 			var channelAddress = new ChannelAddress(".*0", "DummyXY.*");
-			var result = RestHandler.getChannels(components, channelAddress);
+			var result = sut.getChannels(componentManager, channelAddress);
 			assertEquals(0, result.size());
 		}
 
 		{
 			var channelAddress = new ChannelAddress("dummyComponent", "Dummy.*");
-			var result = RestHandler.getChannels(components, channelAddress);
+			var result = sut.getChannels(componentManager, channelAddress);
 			assertEquals(1, result.size());
 			assertEquals(dummyComponent.channel("DummyChannel"), result.get(0));
 		}
 
+		{
+			var channelAddress = new ChannelAddress(".*", "Dummy.*");
+			var result = sut.getChannels(componentManager, channelAddress);
+			assertEquals(3, result.size());
+			assertEquals(foo0.channel("DummyChannel"), result.get(0));
+			assertEquals(bar0.channel("DummyChannel"), result.get(1));
+			assertEquals(dummyComponent.channel("DummyChannel"), result.get(2));
+		}
+
+		{
+			var channelAddress = new ChannelAddress("foo1", "DummyChannel");
+			var result = sut.getChannels(componentManager, channelAddress);
+			assertEquals(0, result.size());
+		}
+
 		{
 			var channelAddress = new ChannelAddress("*", "");
 			try {
-				RestHandler.getChannels(components, channelAddress);
+				sut.getChannels(componentManager, channelAddress);
 				fail();
 			} catch (PatternSyntaxException e) {
 				// ignore
@@ -59,4 +82,23 @@ public class RestHandlerTest {
 		}
 	}
 
+	@Test
+	public void testWriteChannels() throws IOException {
+		var foo0 = new DummyComponent("foo0");
+		var bar0 = new DummyComponent("bar0");
+		var channel = foo0.channel("DummyChannel");
+		var expected = "{\"address\":\"foo0/DummyChannel\",\"type\":\"INTEGER\",\"accessMode\":\"RO\","
+				+ "\"text\":\"\",\"unit\":\"\",\"value\":null}";
+
+		// A single Channel is written as JsonObject
+		var result = new StringWriter();
+		RestHandler.writeChannels(new JsonWriter(result), List.of(channel));
+		assertEquals(expected, result.toString());
+
+		// Multiple Channels are written as JsonArray
+		result = new StringWriter();
+		RestHandler.writeChannels(new JsonWriter(result), List.of(channel, bar0.channel("DummyChannel")));
+		assertEquals("[" + expected + "," + expected.replace("foo0", "bar0") + "]", result.toString());
+	}
+
 }
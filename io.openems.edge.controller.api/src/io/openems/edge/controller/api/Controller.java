@@ -5,8 +5,11 @@ import org.osgi.annotation.versioning.ProviderType;
 import io.openems.common.channel.AccessMode;
 import io.openems.common.channel.Level;
 import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -26,7 +29,18 @@ public interface Controller extends OpenemsComponent {
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		RUN_FAILED(Doc.of(Level.FAULT) //
 				.persistencePriority(PersistencePriority.HIGH) //
-				.text("Running the Controller failed"));
+				.text("Running the Controller failed")), //
+		/**
+		 * Duration of the last run of the Controller in [us]; only measured if the
+		 * Cycle profiler is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Controller
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		RUN_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS));
 
 		private final Doc doc;
 
@@ -68,6 +82,35 @@ public interface Controller extends OpenemsComponent {
 		this.getRunFailedChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#RUN_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRunDurationChannel() {
+		return this.channel(ChannelId.RUN_DURATION);
+	}
+
+	/**
+	 * Gets the duration of the last run in [us]. See
+	 * {@link ChannelId#RUN_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRunDuration() {
+		return this.getRunDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#RUN_DURATION}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRunDuration(Long value) {
+		this.getRunDurationChannel().setNextValue(value);
+	}
+
 	/**
 	 * Used for Modbus/TCP Api Controller. Provides a Modbus table for the Channels
 	 * of this Component.
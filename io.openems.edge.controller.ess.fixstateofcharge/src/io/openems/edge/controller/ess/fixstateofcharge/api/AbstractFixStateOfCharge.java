@@ -463,11 +463,8 @@ public abstract class AbstractFixStateOfCharge extends AbstractOpenemsComponent
 	 */
 	public static OptionalInt getLastValidValue(IntegerReadChannel channel) {
 		// Possibly shift "getLastValidValue" to AbstractReadChannels
-		return channel.getPastValues().values() //
-				.stream() //
-				.filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.findFirst();
+		var value = channel.getHistory().getOldestDefined();
+		return value == null ? OptionalInt.empty() : OptionalInt.of(value.get());
 	}
 
 	/**
@@ -477,10 +474,8 @@ public abstract class AbstractFixStateOfCharge extends AbstractOpenemsComponent
 	 * @return Last defined value
 	 */
 	private static Optional<Boolean> getLastValidValue(StateChannel channel) {
-		return channel.getPastValues().values() //
-				.stream() //
-				.filter(Value::isDefined) //
-				.map(Value::get).findFirst();
+		return Optional.ofNullable(channel.getHistory().getOldestDefined()) //
+				.map(Value::get);
 	}
 
 	/**
@@ -491,11 +486,8 @@ public abstract class AbstractFixStateOfCharge extends AbstractOpenemsComponent
 	 * @return Last defined value from given {@link LongReadChannel}
 	 */
 	public static OptionalLong getLastValidValue(LongReadChannel channel) {
-		return channel.getPastValues().values() //
-				.stream() //
-				.filter(Value::isDefined) //
-				.mapToLong(Value::get) //
-				.findFirst();
+		var value = channel.getHistory().getOldestDefined();
+		return value == null ? OptionalLong.empty() : OptionalLong.of(value.get());
 	}
 
 	/**
@@ -386,9 +386,8 @@ public class ControllerEssGridOptimizedChargeImpl extends AbstractOpenemsCompone
 	private OptionalDouble getChannelAverageOfPastSeconds(int consideredSeconds, IntegerReadChannel channel) {
 
 		// Get the past channel values
-		var pastValues = channel.getPastValues()
-				.tailMap(LocalDateTime.now(this.componentManager.getClock()).minusSeconds(consideredSeconds), true)
-				.values();
+		var pastValues = channel
+				.getPastValues(LocalDateTime.now(this.componentManager.getClock()).minusSeconds(consideredSeconds));
 
 		// Make sure we have at least one value
 		if (pastValues.isEmpty()) {
@@ -308,9 +308,9 @@ public class DelayCharge {
 		// active, to avoid standby of the inverter directly after it.
 		var minimumPowerFactor = MINIMUM_POWER_FACTOR;
 
-		boolean delayChargeMinimumReached = this.parent.getDelayChargeStateChannel().getPastValues()
-				.tailMap(LocalDateTime.now(this.parent.componentManager.getClock()).with(MINUTE_OF_DAY, 5), true)
-				.values().stream().filter(Value::isDefined)
+		boolean delayChargeMinimumReached = this.parent.getDelayChargeStateChannel()
+				.getPastValues(LocalDateTime.now(this.parent.componentManager.getClock()).with(MINUTE_OF_DAY, 5))
+				.stream().filter(Value::isDefined)
 				.filter(channel -> channel.asEnum() == DelayChargeState.ACTIVE_LIMIT).findAny().isPresent();
 
 		minimumPowerFactor = delayChargeMinimumReached ? minimumPowerFactor * 0.5F : minimumPowerFactor;
@@ -357,9 +357,9 @@ public class DelayCharge {
 		IntegerReadChannel delayChargeLimitRawChannel = this.parent.getRawDelayChargeLimitChannel();
 		this.parent._setRawDelayChargeLimit(calculatedPower);
 
-		var pastLimits = delayChargeLimitRawChannel.getPastValues()
-				.tailMap(LocalDateTime.now(this.parent.componentManager.getClock()).minusSeconds(900), true) //
-				.values().stream().filter(Value::isDefined).mapToInt(Value::get);
+		var pastLimits = delayChargeLimitRawChannel
+				.getPastValues(LocalDateTime.now(this.parent.componentManager.getClock()).minusSeconds(900)) //
+				.stream().filter(Value::isDefined).mapToInt(Value::get);
 
 		var currentLimit = IntStream.of(calculatedPower);
 
@@ -27,6 +27,7 @@ import io.openems.common.test.TimeLeapClock;
 import io.openems.edge.common.sum.DummySum;
 import io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImpl.EshContext;
 import io.openems.edge.controller.ess.timeofusetariff.Utils.ApplyState;
+import io.openems.edge.energy.api.EnergyFlowSolver;
 import io.openems.edge.energy.api.EnergyScheduleHandler;
 import io.openems.edge.energy.api.RiskLevel;
 import io.openems.edge.energy.api.simulation.EnergyFlow;
@@ -217,14 +218,16 @@ public class UtilsTest {
 	@Test
 	public void testCalculateChargeEnergyInChargeGrid() {
 		assertEquals(1436, calculateChargeEnergyInChargeGrid(//
-				new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, TIME, ImmutableList.of(), ImmutableList.of(), //
+				new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, EnergyFlowSolver.SIMPLEX, TIME, //
+						ImmutableList.of(), ImmutableList.of(), //
 						new GlobalSimulationsContext.Grid(0, 20000), //
 						new GlobalSimulationsContext.Ess(0, 12223, 5000, 5000), //
 						ImmutableMap.of(), //
 						ImmutableList.of())));
 
 		assertEquals(540, calculateChargeEnergyInChargeGrid(//
-				new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, TIME, ImmutableList.of(), ImmutableList.of(), //
+				new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, EnergyFlowSolver.SIMPLEX, TIME, //
+						ImmutableList.of(), ImmutableList.of(), //
 						new GlobalSimulationsContext.Grid(0, 20000), //
 						new GlobalSimulationsContext.Ess(0, 12223, 5000, 5000), //
 						ImmutableMap.of(), //
@@ -235,7 +238,8 @@ public class UtilsTest {
 						))));
 
 		assertEquals(558, calculateChargeEnergyInChargeGrid(//
-				new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, TIME, ImmutableList.of(), ImmutableList.of(), //
+				new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, EnergyFlowSolver.SIMPLEX, TIME, //
+						ImmutableList.of(), ImmutableList.of(), //
 						new GlobalSimulationsContext.Grid(0, 20000), //
 						new GlobalSimulationsContext.Ess(0, 12223, 5000, 5000), //
 						ImmutableMap.of(), //
@@ -251,7 +255,8 @@ public class UtilsTest {
 						))));
 
 		assertEquals(515, calculateChargeEnergyInChargeGrid(//
-				new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, TIME, ImmutableList.of(), ImmutableList.of(), //
+				new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, EnergyFlowSolver.SIMPLEX, TIME, //
+						ImmutableList.of(), ImmutableList.of(), //
 						new GlobalSimulationsContext.Grid(0, 20000), //
 						new GlobalSimulationsContext.Ess(0, 12223, 5000, 5000), //
 						ImmutableMap.of(), //
@@ -279,8 +284,8 @@ public class UtilsTest {
 		applyDelayDischarge(m);
 		var ef = m.solve();
 		m.logMinMaxValues();
-		var gsc = new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, TIME, null, null, null, new Ess(0, 0, 0, 0),
-				ImmutableMap.of(), null);
+		var gsc = new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, EnergyFlowSolver.SIMPLEX, TIME, null, null,
+				null, new Ess(0, 0, 0, 0), ImmutableMap.of(), null);
 		var osc = OneSimulationContext.from(gsc);
 		assertEquals(BALANCING, postprocessSimulatorState(osc, ef, null, DELAY_DISCHARGE));
 	}
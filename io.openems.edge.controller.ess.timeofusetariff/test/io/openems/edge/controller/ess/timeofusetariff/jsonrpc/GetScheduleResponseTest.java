@@ -27,6 +27,7 @@ import io.openems.common.utils.UuidUtils;
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
 import io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImplTest;
 import io.openems.edge.controller.ess.timeofusetariff.Utils;
+import io.openems.edge.energy.api.EnergyFlowSolver;
 import io.openems.edge.energy.api.EnergyScheduleHandler.AbstractEnergyScheduleHandler;
 import io.openems.edge.energy.api.EnergyScheduleHandler.WithDifferentStates.Period;
 import io.openems.edge.energy.api.RiskLevel;
@@ -71,8 +72,8 @@ public class GetScheduleResponseTest {
 		var ctrl = TimeOfUseTariffControllerImplTest.create(CLOCK, Version.V2_ENERGY_SCHEDULABLE, ess, timedata);
 		var esh = TimeOfUseTariffControllerImplTest.getEnergyScheduleHandler(ctrl);
 		((AbstractEnergyScheduleHandler<?> /* this is safe */) esh)
-				.initialize(new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, null, null, null, null, //
-						new GlobalSimulationsContext.Ess(0, 0, 0, 0), ImmutableMap.of(), ImmutableList.of()));
+				.initialize(new GlobalSimulationsContext(CLOCK, RiskLevel.MEDIUM, EnergyFlowSolver.SIMPLEX, null, null,
+						null, null, new GlobalSimulationsContext.Ess(0, 0, 0, 0), ImmutableMap.of(), ImmutableList.of()));
 		esh.applySchedule(ImmutableSortedMap.<ZonedDateTime, Period.Transition>naturalOrder() //
 				.put(now.plusMinutes(0), new Period.Transition(1, 0.1, energyFlow, 5000)) //
 				.put(now.plusMinutes(15), new Period.Transition(0, 0.2, energyFlow, 6000)) //
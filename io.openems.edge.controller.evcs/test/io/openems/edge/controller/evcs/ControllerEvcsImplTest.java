@@ -369,6 +369,6 @@ public class ControllerEvcsImplTest {
 		@SuppressWarnings("unchecked")
 		var esh = (EnergyScheduleHandler.WithDifferentStates<SmartMode, EshSmartContext>) sut
 				.getEnergyScheduleHandler();
-		esh.initialize(new GlobalSimulationsContext(clock, null, null, null, null, null, null, null, null));
+		esh.initialize(new GlobalSimulationsContext(clock, null, null, null, null, null, null, null, null, null));
 	}
 }
@@ -0,0 +1,271 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * In-memory registry of all {@link OpenemsComponent}s.
+ *
+ * <p>
+ * The registry holds an immutable {@link Snapshot} that is invalidated by OSGi
+ * {@link ServiceEvent}s and lazily rebuilt by a single OSGi service registry
+ * scan on the next access. In between, every lookup is a volatile read.
+ */
+public class ComponentRegistry implements ServiceListener {
+
+	private static final String FILTER = "(objectClass=" + OpenemsComponent.class.getName() + ")";
+
+	private final Logger log = LoggerFactory.getLogger(ComponentRegistry.class);
+
+	/**
+	 * Incremented on every {@link ServiceEvent}.
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	/**
+	 * Types that have been queried via {@link Snapshot#getEnabledComponentsOfType};
+	 * these are precomputed on every rebuild.
+	 */
+	private final Set<Class<?>> knownTypes = ConcurrentHashMap.newKeySet();
+
+	private volatile BundleContext bundleContext = null;
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	/**
+	 * Immutable view of the registered {@link OpenemsComponent}s.
+	 */
+	public static final class Snapshot {
+
+		private static final Snapshot EMPTY = new Snapshot(-1, null, Collections.emptyList(),
+				Collections.emptyList(), ConcurrentHashMap.newKeySet());
+
+		private final long version;
+		private final List<OpenemsComponent> enabledComponents;
+		private final List<OpenemsComponent> allComponents;
+		private final Map<String, OpenemsComponent> enabledComponentsById;
+		private final Map<String, OpenemsComponent> allComponentsById;
+		private final Map<Class<?>, List<?>> enabledComponentsByType = new ConcurrentHashMap<>();
+		private final Set<Class<?>> knownTypes;
+
+		private Snapshot(long version, OpenemsComponent componentManager, List<OpenemsComponent> enabledComponents,
+				List<OpenemsComponent> allComponents, Set<Class<?>> knownTypes) {
+			this.version = version;
+			this.enabledComponents = Collections.unmodifiableList(enabledComponents);
+			this.allComponents = Collections.unmodifiableList(allComponents);
+			this.enabledComponentsById = toMap(componentManager, enabledComponents);
+			this.allComponentsById = toMap(componentManager, allComponents);
+			this.knownTypes = knownTypes;
+			for (var type : knownTypes) {
+				this.getEnabledComponentsOfType(type);
+			}
+		}
+
+		private static Map<String, OpenemsComponent> toMap(OpenemsComponent componentManager,
+				List<OpenemsComponent> components) {
+			var result = new HashMap<String, OpenemsComponent>(components.size() * 2);
+			if (componentManager != null) {
+				result.put(componentManager.id(), componentManager);
+			}
+			for (var component : components) {
+				// first one wins, like with a service registry lookup
+				result.putIfAbsent(component.id(), component);
+			}
+			return Collections.unmodifiableMap(result);
+		}
+
+		/**
+		 * Gets all enabled {@link OpenemsComponent}s, excluding the
+		 * {@link ComponentManager}.
+		 *
+		 * @return an unmodifiable list
+		 */
+		public List<OpenemsComponent> getEnabledComponents() {
+			return this.enabledComponents;
+		}
+
+		/**
+		 * Gets all {@link OpenemsComponent}s, including disabled ones, excluding the
+		 * {@link ComponentManager}.
+		 *
+		 * @return an unmodifiable list
+		 */
+		public List<OpenemsComponent> getAllComponents() {
+			return this.allComponents;
+		}
+
+		/**
+		 * Gets an enabled {@link OpenemsComponent} by its Component-ID, including the
+		 * {@link ComponentManager}.
+		 *
+		 * @param componentId the Component-ID
+		 * @return the {@link OpenemsComponent}; or null
+		 */
+		public OpenemsComponent getEnabledComponent(String componentId) {
+			return this.enabledComponentsById.get(componentId);
+		}
+
+		/**
+		 * Gets a possibly disabled {@link OpenemsComponent} by its Component-ID,
+		 * including the {@link ComponentManager}.
+		 *
+		 * @param componentId the Component-ID
+		 * @return the {@link OpenemsComponent}; or null
+		 */
+		public OpenemsComponent getComponent(String componentId) {
+			return this.allComponentsById.get(componentId);
+		}
+
+		/**
+		 * Gets all enabled {@link OpenemsComponent}s of the given type. The result is
+		 * calculated on first access and then cached for the lifetime of this
+		 * {@link Snapshot}.
+		 *
+		 * @param <T>   the type
+		 * @param clazz the type
+		 * @return an unmodifiable list
+		 */
+		@SuppressWarnings("unchecked")
+		public <T> List<T> getEnabledComponentsOfType(Class<T> clazz) {
+			return (List<T>) this.enabledComponentsByType.computeIfAbsent(clazz, c -> {
+				this.knownTypes.add(c);
+				var result = new ArrayList<T>();
+				for (var component : this.enabledComponents) {
+					if (clazz.isInstance(component)) {
+						result.add((T) component);
+					}
+				}
+				return Collections.unmodifiableList(result);
+			});
+		}
+	}
+
+	/**
+	 * Starts listening on OSGi {@link ServiceEvent}s.
+	 *
+	 * @param bundleContext the {@link BundleContext}
+	 */
+	public void activate(BundleContext bundleContext) {
+		this.deactivate();
+		this.bundleContext = bundleContext;
+		if (bundleContext == null) {
+			// Can be null in JUnit tests
+			return;
+		}
+		try {
+			bundleContext.addServiceListener(this, FILTER);
+		} catch (InvalidSyntaxException e) {
+			this.log.error("Unable to add ServiceListener: " + e.getMessage());
+		}
+		this.invalidate();
+	}
+
+	/**
+	 * Stops listening on OSGi {@link ServiceEvent}s.
+	 */
+	public void deactivate() {
+		var bundleContext = this.bundleContext;
+		this.bundleContext = null;
+		if (bundleContext != null) {
+			try {
+				bundleContext.removeServiceListener(this);
+			} catch (IllegalStateException e) {
+				// BundleContext is no longer valid
+			}
+		}
+		this.snapshot = Snapshot.EMPTY;
+		this.invalidate();
+	}
+
+	@Override
+	public void serviceChanged(ServiceEvent event) {
+		this.invalidate();
+	}
+
+	/**
+	 * Invalidates the current {@link Snapshot}. It is rebuilt on next access.
+	 */
+	public void invalidate() {
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * Gets the current {@link Snapshot}; rebuilds it if it was invalidated.
+	 *
+	 * @return the {@link Snapshot}
+	 */
+	public Snapshot getSnapshot() {
+		var snapshot = this.snapshot;
+		if (snapshot.version == this.version.get()) {
+			return snapshot;
+		}
+		return this.rebuild();
+	}
+
+	private synchronized Snapshot rebuild() {
+		final var version = this.version.get();
+		var snapshot = this.snapshot;
+		if (snapshot.version == version) {
+			// rebuilt by another thread in the meantime
+			return snapshot;
+		}
+		final var bundleContext = this.bundleContext;
+		if (bundleContext == null) {
+			return Snapshot.EMPTY;
+		}
+
+		OpenemsComponent componentManager = null;
+		final var enabledComponents = new ArrayList<OpenemsComponent>();
+		final var allComponents = new ArrayList<OpenemsComponent>();
+		try {
+			for (var reference : bundleContext.getServiceReferences(OpenemsComponent.class, null)) {
+				var component = bundleContext.getService(reference);
+				if (component == null) {
+					continue;
+				}
+				if (Objects.equals(ComponentManager.SINGLETON_SERVICE_PID,
+						reference.getProperty("service.factoryPid"))) {
+					componentManager = component;
+					bundleContext.ungetService(reference);
+					continue;
+				}
+				allComponents.add(component);
+				if (isEnabled(reference.getProperty("enabled"))) {
+					enabledComponents.add(component);
+				}
+				bundleContext.ungetService(reference);
+			}
+		} catch (InvalidSyntaxException | RuntimeException e) {
+			this.log.error("Unable to rebuild Component registry: " + e.getMessage());
+			return this.snapshot;
+		}
+
+		snapshot = new Snapshot(version, componentManager, enabledComponents, allComponents, this.knownTypes);
+		this.snapshot = snapshot;
+		return snapshot;
+	}
+
+	private static boolean isEnabled(Object property) {
+		if (property instanceof Boolean b) {
+			return b;
+		}
+		return property != null && "true".equalsIgnoreCase(property.toString());
+	}
+
+}
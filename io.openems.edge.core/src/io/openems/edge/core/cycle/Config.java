@@ -13,6 +13,12 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Cycle-Time", description = "The duration of one global OpenEMS Cycle in [ms]")
 	int cycleTime() default Cycle.DEFAULT_CYCLE_TIME;
 
+	@AttributeDefinition(name = "Process-Image-Switch Threads", description = "Number of threads for the process image switch. '1' switches sequentially; higher values only apply for very large Channel counts and require thread-safe Channel callbacks.")
+	int processImageSwitchThreads() default 1;
+
+	@AttributeDefinition(name = "Cycle Profiler", description = "Measures the duration of each Cycle phase and Controller; can also be toggled at runtime via JSON-RPC.")
+	boolean profilerEnabled() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
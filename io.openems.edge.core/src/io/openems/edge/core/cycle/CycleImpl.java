@@ -20,11 +20,19 @@ import org.slf4j.Logger;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.session.Role;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.ChannelChangeFeed;
+import io.openems.edge.common.cycle.ChannelSnapshot;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.jsonapi.ComponentJsonApi;
+import io.openems.edge.common.jsonapi.EdgeGuards;
+import io.openems.edge.common.jsonapi.JsonApiBuilder;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleProfile;
+import io.openems.edge.core.cycle.jsonrpc.SetCycleProfilerEnabled;
 import io.openems.edge.scheduler.api.Scheduler;
 
 @Designate(ocd = Config.class, factory = false)
@@ -35,9 +43,12 @@ import io.openems.edge.scheduler.api.Scheduler;
 		property = { //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, ComponentJsonApi {
 
 	private final CycleWorker worker = new CycleWorker(this);
+	protected final ProcessImageSwitch processImageSwitch = new ProcessImageSwitch();
+	protected final ChannelChangeFeed channelChangeFeed = new ChannelChangeFeed();
+	protected final CycleProfiler profiler = new CycleProfiler();
 
 	@Reference
 	private ConfigurationAdmin cm;
@@ -81,12 +92,19 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 				OpenemsComponent.ChannelId.values(), //
 				Cycle.ChannelId.values() //
 		);
+		for (var phase : CycleProfiler.Phase.values()) {
+			this.addChannel(phase.p50ChannelId);
+			this.addChannel(phase.p99ChannelId);
+			this.addChannel(phase.maxChannelId);
+		}
 	}
 
 	@Activate
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.processImageSwitch.setParallelism(config.processImageSwitchThreads());
+		this.profiler.setEnabled(config.profilerEnabled());
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -98,6 +116,8 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.processImageSwitch.setParallelism(config.processImageSwitchThreads());
+		this.profiler.setEnabled(config.profilerEnabled());
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -110,6 +130,31 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.processImageSwitch.deactivate();
+		this.channelChangeFeed.deactivate();
+		this.profiler.setEnabled(false);
+	}
+
+	@Override
+	public void buildJsonApiRoutes(JsonApiBuilder builder) {
+		builder.handleRequest(new GetCycleProfile(), endpoint -> {
+			endpoint.setDescription("""
+					Gets the rolling p50/p99/max durations in [us] of each Cycle phase and Controller.
+					""".stripIndent());
+
+			endpoint.setGuards(EdgeGuards.roleIsAtleast(Role.ADMIN));
+		}, call -> new GetCycleProfile.Response(this.profiler.toJson()));
+
+		builder.handleRequest(new SetCycleProfilerEnabled(), endpoint -> {
+			endpoint.setDescription("""
+					Enables or disables the Cycle profiler until the next configuration update.
+					""".stripIndent());
+
+			endpoint.setGuards(EdgeGuards.roleIsAtleast(Role.ADMIN));
+		}, call -> {
+			this.profiler.setEnabled(call.getRequest().enabled());
+			return new SetCycleProfilerEnabled.Response(this.profiler.isEnabled());
+		});
 	}
 
 	@Override
@@ -131,4 +176,9 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		return Cycle.DEFAULT_CYCLE_TIME;
 	}
 
+	@Override
+	public ChannelSnapshot getChannelSnapshot() {
+		return this.channelChangeFeed.getSnapshot();
+	}
+
 }
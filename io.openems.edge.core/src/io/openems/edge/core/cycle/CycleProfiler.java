@@ -0,0 +1,218 @@
+package io.openems.edge.core.cycle;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.base.CaseFormat;
+import com.google.gson.JsonObject;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.channel.ChannelId.ChannelIdImpl;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.event.EdgeEventConstants;
+
+/**
+ * Measures the duration of each phase of the global OpenEMS Cycle and of each
+ * Controller.
+ *
+ * <p>
+ * Durations are measured with {@link System#nanoTime()} and recorded in
+ * fixed-size {@link LatencyHistogram}s. If the profiler is disabled, timing
+ * calls return immediately.
+ */
+public class CycleProfiler {
+
+	/**
+	 * The phases of a Cycle.
+	 *
+	 * <p>
+	 * EventAdmin handlers are called synchronously in their event phase, so e.g.
+	 * the time of the ESS Power solver is part of {@link #AFTER_CONTROLLERS}.
+	 */
+	public static enum Phase {
+		BEFORE_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE), //
+		PROCESS_IMAGE_SWITCH(null), //
+		AFTER_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE), //
+		BEFORE_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS), //
+		CONTROLLERS(null), //
+		AFTER_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS), //
+		BEFORE_WRITE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE), //
+		EXECUTE_WRITE(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE), //
+		AFTER_WRITE(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE), //
+		CYCLE(null);
+
+		/**
+		 * The EventAdmin topic; null if the phase is not an event.
+		 */
+		public final String topic;
+
+		protected final ChannelIdImpl p50ChannelId;
+		protected final ChannelIdImpl p99ChannelId;
+		protected final ChannelIdImpl maxChannelId;
+
+		private Phase(String topic) {
+			this.topic = topic;
+			this.p50ChannelId = channelId(this, "P50");
+			this.p99ChannelId = channelId(this, "P99");
+			this.maxChannelId = channelId(this, "MAX");
+		}
+
+		private static ChannelIdImpl channelId(Phase phase, String suffix) {
+			return new ChannelIdImpl("PROFILER_" + phase.name() + "_" + suffix, Doc.of(OpenemsType.LONG) //
+					.unit(Unit.MICROSECONDS) //
+					.text("Cycle profiler: " + suffix + " duration of phase " + phase.name()));
+		}
+	}
+
+	private final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+	private final Map<String, LatencyHistogram> controllers = new ConcurrentHashMap<>();
+
+	private volatile boolean enabled = false;
+
+	public CycleProfiler() {
+		for (var phase : Phase.values()) {
+			this.phases.put(phase, new LatencyHistogram());
+		}
+	}
+
+	/**
+	 * Enables or disables the profiler. Disabling resets all recorded samples.
+	 *
+	 * @param enabled true to enable
+	 */
+	public void setEnabled(boolean enabled) {
+		if (this.enabled == enabled) {
+			return;
+		}
+		this.enabled = enabled;
+		if (!enabled) {
+			this.reset();
+		}
+	}
+
+	/**
+	 * Is the profiler enabled?.
+	 *
+	 * @return true if enabled
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Removes all recorded samples.
+	 */
+	public void reset() {
+		this.phases.values().forEach(LatencyHistogram::reset);
+		this.controllers.clear();
+	}
+
+	/**
+	 * Starts a measurement.
+	 *
+	 * @return the start timestamp for {@link #record(Phase, long)}; zero if the
+	 *         profiler is disabled
+	 */
+	public long start() {
+		return this.enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Records the duration of a {@link Phase} since the given start timestamp.
+	 *
+	 * @param phase      the {@link Phase}
+	 * @param startNanos the timestamp from {@link #start()}
+	 */
+	public void record(Phase phase, long startNanos) {
+		if (!this.enabled || startNanos == 0L) {
+			return;
+		}
+		this.phases.get(phase).record(System.nanoTime() - startNanos);
+	}
+
+	/**
+	 * Records the duration of a Controller run since the given start timestamp.
+	 *
+	 * @param controllerId the Component-ID of the Controller
+	 * @param startNanos   the timestamp from {@link #start()}
+	 * @return the duration in [us]; null if the profiler is disabled
+	 */
+	public Long recordController(String controllerId, long startNanos) {
+		if (!this.enabled || startNanos == 0L) {
+			return null;
+		}
+		var nanos = System.nanoTime() - startNanos;
+		this.controllers.computeIfAbsent(controllerId, id -> new LatencyHistogram()).record(nanos);
+		return nanos / 1_000;
+	}
+
+	/**
+	 * Gets the {@link LatencyHistogram} of a {@link Phase}.
+	 *
+	 * @param phase the {@link Phase}
+	 * @return the {@link LatencyHistogram}
+	 */
+	public LatencyHistogram getHistogram(Phase phase) {
+		return this.phases.get(phase);
+	}
+
+	/**
+	 * Applies the current percentiles of each {@link Phase} to the Channels of the
+	 * given Cycle component; or clears them if the profiler is disabled.
+	 *
+	 * @param parent the {@link CycleImpl}
+	 */
+	public void applyChannels(CycleImpl parent) {
+		final var enabled = this.enabled;
+		for (var phase : Phase.values()) {
+			var histogram = this.phases.get(phase);
+			var hasValues = enabled && histogram.getCount() > 0;
+			parent.channel(phase.p50ChannelId)
+					.setNextValue(hasValues ? toMicros(histogram.getPercentile(0.5)) : null);
+			parent.channel(phase.p99ChannelId)
+					.setNextValue(hasValues ? toMicros(histogram.getPercentile(0.99)) : null);
+			parent.channel(phase.maxChannelId).setNextValue(hasValues ? toMicros(histogram.getMax()) : null);
+		}
+	}
+
+	/**
+	 * Serializes the current profile to a {@link JsonObject}. All durations are
+	 * in [us].
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public JsonObject toJson() {
+		var phasesJson = JsonUtils.buildJsonObject();
+		for (var phase : Phase.values()) {
+			phasesJson.add(CaseFormat.UPPER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, phase.name()),
+					toJson(this.phases.get(phase)));
+		}
+		var controllersJson = JsonUtils.buildJsonObject();
+		this.controllers.entrySet().stream() //
+				.sorted(Map.Entry.comparingByKey()) //
+				.forEach(e -> controllersJson.add(e.getKey(), toJson(e.getValue())));
+		return JsonUtils.buildJsonObject() //
+				.addProperty("enabled", this.enabled) //
+				.add("phases", phasesJson.build()) //
+				.add("controllers", controllersJson.build()) //
+				.build();
+	}
+
+	private static JsonObject toJson(LatencyHistogram histogram) {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("count", histogram.getCount()) //
+				.addProperty("last", toMicros(histogram.getLast())) //
+				.addProperty("p50", toMicros(histogram.getPercentile(0.5))) //
+				.addProperty("p99", toMicros(histogram.getPercentile(0.99))) //
+				.addProperty("max", toMicros(histogram.getMax())) //
+				.build();
+	}
+
+	private static long toMicros(long nanos) {
+		return nanos / 1_000;
+	}
+
+}
@@ -11,9 +11,8 @@ import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
-import io.openems.edge.common.event.EdgeEventConstants;
-import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
 import io.openems.edge.scheduler.api.Scheduler;
 
 public class CycleWorker extends AbstractWorker {
@@ -34,6 +33,8 @@ public class CycleWorker extends AbstractWorker {
 	protected void forever() {
 		// Prepare Cycle-Time measurement
 		var stopwatch = Stopwatch.createStarted();
+		final var profiler = this.parent.profiler;
+		final var cycleStart = profiler.start();
 
 		// Kick Operating System Watchdog
 		var socketName = System.getenv().get("NOTIFY_SOCKET");
@@ -47,21 +48,18 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.sendEvent(Phase.BEFORE_PROCESS_IMAGE);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
-					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
-			this.parent.channels().forEach(channel -> {
-				channel.nextProcessImage();
-			});
+			var processImageStart = profiler.start();
+			var processImageStopwatch = Stopwatch.createStarted();
+			this.parent.processImageSwitch.update(this.parent.componentManager.getEnabledComponents(),
+					this.parent.channels());
+			this.parent.processImageSwitch.execute();
+			this.parent._setProcessImageSwitchTime(processImageStopwatch.elapsed(TimeUnit.MICROSECONDS));
+			profiler.record(Phase.PROCESS_IMAGE_SWITCH, processImageStart);
 
 			/*
 			 * Update the Channels in the Sum-Component.
@@ -71,17 +69,24 @@ public class CycleWorker extends AbstractWorker {
 				channel.nextProcessImage();
 			});
 
+			/*
+			 * Publish the Channel snapshot for exporters
+			 */
+			this.parent.channelChangeFeed.publish(this.parent.componentManager.getEnabledComponents(),
+					this.parent.channels());
+
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.sendEvent(Phase.AFTER_PROCESS_IMAGE);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.sendEvent(Phase.BEFORE_CONTROLLERS);
 
 			var hasDisabledController = false;
+			var controllersStart = profiler.start();
 
 			/*
 			 * Execute Schedulers and their Controllers
@@ -109,6 +114,7 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
+						var controllerStart = profiler.start();
 						try {
 							// Execute Controller logic
 							controller.run();
@@ -133,6 +139,7 @@ public class CycleWorker extends AbstractWorker {
 							// announce running failed
 							controller._setRunFailed(true);
 						}
+						controller._setRunDuration(profiler.recordController(controller.id(), controllerStart));
 					}
 
 					// announce Scheduler Controller is missing
@@ -140,28 +147,30 @@ public class CycleWorker extends AbstractWorker {
 				}
 			}
 
+			profiler.record(Phase.CONTROLLERS, controllersStart);
+
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
 
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.sendEvent(Phase.AFTER_CONTROLLERS);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			this.sendEvent(Phase.BEFORE_WRITE);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			this.sendEvent(Phase.EXECUTE_WRITE);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.sendEvent(Phase.AFTER_WRITE);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -173,6 +182,20 @@ public class CycleWorker extends AbstractWorker {
 
 		// Measure actual Cycle-Time
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+		profiler.record(Phase.CYCLE, cycleStart);
+		profiler.applyChannels(this.parent);
+	}
+
+	/**
+	 * Sends the EventAdmin event of the given {@link Phase} and records its
+	 * duration, including all synchronous event handlers.
+	 *
+	 * @param phase the {@link Phase}
+	 */
+	private void sendEvent(Phase phase) {
+		var start = this.parent.profiler.start();
+		EventBuilder.send(this.parent.eventAdmin, phase.topic);
+		this.parent.profiler.record(phase, start);
 	}
 
 }
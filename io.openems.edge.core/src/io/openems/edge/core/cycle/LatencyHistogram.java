@@ -0,0 +1,152 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size, allocation-free histogram of durations in nanoseconds.
+ *
+ * <p>
+ * Buckets are log-linear: every power of two is split into
+ * {@value #SUB_BUCKETS} sub-buckets, giving a relative error of at most 12.5 %
+ * over the full range of {@code long}. The histogram is rolling: once the
+ * current window holds {@value #WINDOW_SIZE} samples it becomes the previous
+ * window and a fresh one is started. Percentiles are calculated over both
+ * windows.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int NUMBER_OF_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	/**
+	 * Number of samples per window.
+	 */
+	protected static final int WINDOW_SIZE = 256;
+
+	private long[] current = new long[NUMBER_OF_BUCKETS];
+	private long[] previous = new long[NUMBER_OF_BUCKETS];
+	private int currentCount = 0;
+	private int previousCount = 0;
+	private long currentMax = 0;
+	private long previousMax = 0;
+	private long lastValue = 0;
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param nanos the duration in [ns]; negative values are recorded as zero
+	 */
+	public synchronized void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		if (this.currentCount == WINDOW_SIZE) {
+			this.rotate();
+		}
+		this.current[bucketIndex(nanos)]++;
+		this.currentCount++;
+		this.lastValue = nanos;
+		if (nanos > this.currentMax) {
+			this.currentMax = nanos;
+		}
+	}
+
+	private void rotate() {
+		var tmp = this.previous;
+		this.previous = this.current;
+		this.current = tmp;
+		Arrays.fill(this.current, 0);
+		this.previousCount = this.currentCount;
+		this.previousMax = this.currentMax;
+		this.currentCount = 0;
+		this.currentMax = 0;
+	}
+
+	/**
+	 * Removes all samples.
+	 */
+	public synchronized void reset() {
+		Arrays.fill(this.current, 0);
+		Arrays.fill(this.previous, 0);
+		this.currentCount = 0;
+		this.previousCount = 0;
+		this.currentMax = 0;
+		this.previousMax = 0;
+		this.lastValue = 0;
+	}
+
+	/**
+	 * Gets the number of samples in the rolling window.
+	 *
+	 * @return the number of samples
+	 */
+	public synchronized int getCount() {
+		return this.currentCount + this.previousCount;
+	}
+
+	/**
+	 * Gets the last recorded duration.
+	 *
+	 * @return the duration in [ns]
+	 */
+	public synchronized long getLast() {
+		return this.lastValue;
+	}
+
+	/**
+	 * Gets the maximum duration in the rolling window.
+	 *
+	 * @return the duration in [ns]
+	 */
+	public synchronized long getMax() {
+		return Math.max(this.currentMax, this.previousMax);
+	}
+
+	/**
+	 * Gets the given percentile of the rolling window.
+	 *
+	 * <p>
+	 * The result is the upper bound of the bucket that contains the percentile,
+	 * limited to {@link #getMax()}.
+	 *
+	 * @param percentile the percentile, between 0 and 1
+	 * @return the duration in [ns]; zero if there are no samples
+	 */
+	public synchronized long getPercentile(double percentile) {
+		var count = this.currentCount + this.previousCount;
+		if (count == 0) {
+			return 0;
+		}
+		var rank = Math.max(1, (long) Math.ceil(percentile * count));
+		var sum = 0L;
+		for (var i = 0; i < NUMBER_OF_BUCKETS; i++) {
+			sum += this.current[i] + this.previous[i];
+			if (sum >= rank) {
+				return Math.min(bucketUpperBound(i), this.getMax());
+			}
+		}
+		return this.getMax();
+	}
+
+	protected static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		var shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		var subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	protected static long bucketUpperBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		var shift = index / SUB_BUCKETS - 1;
+		var subBucket = index % SUB_BUCKETS;
+		var lower = (long) (SUB_BUCKETS + subBucket) << shift;
+		var upper = lower + (1L << shift) - 1;
+		return upper < 0 ? Long.MAX_VALUE : upper;
+	}
+
+}
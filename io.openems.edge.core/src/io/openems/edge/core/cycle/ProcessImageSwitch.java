@@ -0,0 +1,143 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.Sum;
+
+/**
+ * Switches the process image of all Channels of all enabled Components.
+ *
+ * <p>
+ * Holds a flat array of all Channels that is only rebuilt if the list of
+ * enabled Components or the Channels of any Component changed. The switch
+ * itself is a tight loop over this array; for very large Channel counts it can
+ * optionally be split across a small {@link ForkJoinPool}.
+ */
+public class ProcessImageSwitch {
+
+	/**
+	 * Minimum number of Channels per parallel task.
+	 */
+	protected static final int MIN_CHANNELS_PER_TASK = 2_000;
+
+	private Channel<?>[] channels = new Channel<?>[0];
+	private List<OpenemsComponent> lastComponents = null;
+	private long lastChannelModificationCount = -1;
+
+	private ForkJoinPool pool = null;
+
+	/**
+	 * Sets the parallelism of the switch. A value less or equal 1 switches all
+	 * Channels sequentially on the calling thread.
+	 *
+	 * @param parallelism the number of threads
+	 */
+	public synchronized void setParallelism(int parallelism) {
+		if (this.pool != null) {
+			if (this.pool.getParallelism() == parallelism) {
+				return;
+			}
+			this.pool.shutdown();
+			this.pool = null;
+		}
+		if (parallelism > 1) {
+			this.pool = new ForkJoinPool(parallelism);
+		}
+	}
+
+	/**
+	 * Shuts down the {@link ForkJoinPool}, if any.
+	 */
+	public synchronized void deactivate() {
+		this.setParallelism(1);
+	}
+
+	/**
+	 * Updates the flat Channel index if required.
+	 *
+	 * @param components    the enabled Components
+	 * @param extraChannels additional Channels, e.g. of the Cycle itself
+	 * @return true if the index was rebuilt
+	 */
+	public boolean update(List<OpenemsComponent> components, Iterable<Channel<?>> extraChannels) {
+		var channelModificationCount = AbstractOpenemsComponent.getChannelModificationCount();
+		if (components == this.lastComponents && channelModificationCount == this.lastChannelModificationCount) {
+			return false;
+		}
+		var result = new ArrayList<Channel<?>>(Math.max(this.channels.length, 16));
+		for (var component : components) {
+			if (!component.isEnabled() || component instanceof Sum) {
+				continue;
+			}
+			result.addAll(component.channels());
+		}
+		extraChannels.forEach(result::add);
+		this.channels = result.toArray(Channel<?>[]::new);
+		this.lastComponents = components;
+		this.lastChannelModificationCount = channelModificationCount;
+		return true;
+	}
+
+	/**
+	 * Gets the number of indexed Channels.
+	 *
+	 * @return the number of Channels
+	 */
+	public int size() {
+		return this.channels.length;
+	}
+
+	/**
+	 * Executes {@link Channel#nextProcessImage()} for every indexed Channel.
+	 */
+	public void execute() {
+		final var channels = this.channels;
+		final ForkJoinPool pool;
+		synchronized (this) {
+			pool = this.pool;
+		}
+		if (pool == null || channels.length < 2 * MIN_CHANNELS_PER_TASK) {
+			switchRange(channels, 0, channels.length);
+		} else {
+			pool.invoke(new SwitchTask(channels, 0, channels.length));
+		}
+	}
+
+	private static void switchRange(Channel<?>[] channels, int from, int to) {
+		for (var i = from; i < to; i++) {
+			channels[i].nextProcessImage();
+		}
+	}
+
+	private static class SwitchTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient Channel<?>[] channels;
+		private final int from;
+		private final int to;
+
+		private SwitchTask(Channel<?>[] channels, int from, int to) {
+			this.channels = channels;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from < 2 * MIN_CHANNELS_PER_TASK) {
+				switchRange(this.channels, this.from, this.to);
+				return;
+			}
+			var mid = (this.from + this.to) >>> 1;
+			invokeAll(new SwitchTask(this.channels, this.from, mid), new SwitchTask(this.channels, mid, this.to));
+		}
+	}
+
+}
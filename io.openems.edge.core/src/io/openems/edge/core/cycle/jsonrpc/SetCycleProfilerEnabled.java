@@ -0,0 +1,66 @@
+package io.openems.edge.core.cycle.jsonrpc;
+
+import static io.openems.common.jsonrpc.serialization.JsonSerializerUtil.jsonObjectSerializer;
+
+import io.openems.common.jsonrpc.serialization.JsonSerializer;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.jsonapi.EndpointRequestType;
+import io.openems.edge.core.cycle.jsonrpc.SetCycleProfilerEnabled.Request;
+import io.openems.edge.core.cycle.jsonrpc.SetCycleProfilerEnabled.Response;
+
+public class SetCycleProfilerEnabled implements EndpointRequestType<Request, Response> {
+
+	@Override
+	public String getMethod() {
+		return "setCycleProfilerEnabled";
+	}
+
+	@Override
+	public JsonSerializer<Request> getRequestSerializer() {
+		return Request.serializer();
+	}
+
+	@Override
+	public JsonSerializer<Response> getResponseSerializer() {
+		return Response.serializer();
+	}
+
+	public record Request(boolean enabled) {
+
+		/**
+		 * Returns a {@link JsonSerializer} for a
+		 * {@link SetCycleProfilerEnabled.Request}.
+		 * 
+		 * @return the created {@link JsonSerializer}
+		 */
+		public static JsonSerializer<Request> serializer() {
+			return jsonObjectSerializer(Request.class, //
+					json -> new Request(//
+							JsonUtils.getAsOptionalBoolean(json.get(), "enabled").orElse(true)), //
+					obj -> JsonUtils.buildJsonObject() //
+							.addProperty("enabled", obj.enabled()) //
+							.build());
+		}
+
+	}
+
+	public record Response(boolean enabled) {
+
+		/**
+		 * Returns a {@link JsonSerializer} for a
+		 * {@link SetCycleProfilerEnabled.Response}.
+		 * 
+		 * @return the created {@link JsonSerializer}
+		 */
+		public static JsonSerializer<SetCycleProfilerEnabled.Response> serializer() {
+			return jsonObjectSerializer(SetCycleProfilerEnabled.Response.class, //
+					json -> new Response(//
+							JsonUtils.getAsOptionalBoolean(json.get(), "enabled").orElse(false)), //
+					obj -> JsonUtils.buildJsonObject() //
+							.addProperty("enabled", obj.enabled()) //
+							.build());
+		}
+
+	}
+
+}
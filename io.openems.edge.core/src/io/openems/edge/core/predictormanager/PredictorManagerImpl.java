@@ -1,11 +1,18 @@
 package io.openems.edge.core.predictormanager;
 
+import static io.openems.common.utils.DateUtils.roundDownToQuarter;
+import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
 import static io.openems.edge.common.channel.ChannelId.channelIdCamelToUpper;
 import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTION;
 import static io.openems.edge.predictor.api.prediction.Prediction.sum;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -21,6 +28,8 @@ import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Stopwatch;
+
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
@@ -42,7 +51,18 @@ import io.openems.edge.predictor.api.prediction.Predictor;
 		})
 public class PredictorManagerImpl extends AbstractOpenemsComponent implements PredictorManager, OpenemsComponent {
 
+	/**
+	 * Refresh the Predictions that many seconds after the start of a quarter.
+	 */
+	private static final int REFRESH_DELAY_SECONDS = 5;
+
 	private final Logger log = LoggerFactory.getLogger(PredictorManagerImpl.class);
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+	/**
+	 * The quarter of the last refresh that completed for all Predictors.
+	 */
+	private ZonedDateTime lastCompleteRefresh = null;
 
 	@Reference
 	private ConfigurationAdmin cm;
@@ -70,6 +90,8 @@ public class PredictorManagerImpl extends AbstractOpenemsComponent implements Pr
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
 			return;
 		}
+
+		this.scheduleRefresh();
 	}
 
 	@Modified
@@ -85,6 +107,52 @@ public class PredictorManagerImpl extends AbstractOpenemsComponent implements Pr
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		shutdownAndAwaitTermination(this.executor, 0);
+	}
+
+	/**
+	 * Schedules {@link #refreshPredictions()} shortly after the start of the next
+	 * quarter.
+	 */
+	private void scheduleRefresh() {
+		if (this.executor.isShutdown()) {
+			return;
+		}
+		var now = ZonedDateTime.now(this.componentManager.getClock());
+		var next = roundDownToQuarter(now).plusMinutes(15).plusSeconds(REFRESH_DELAY_SECONDS);
+		this.executor.schedule(() -> {
+			try {
+				this.refreshPredictions();
+			} finally {
+				this.scheduleRefresh();
+			}
+		}, Duration.between(now, next).toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Creates new Predictions for all {@link Predictor}s, so that requests on the
+	 * Cycle thread are served from precomputed Predictions.
+	 */
+	protected synchronized void refreshPredictions() {
+		final var quarter = roundDownToQuarter(ZonedDateTime.now(this.componentManager.getClock()));
+		final var stopwatch = Stopwatch.createStarted();
+		var complete = true;
+		for (var predictor : this.predictors) {
+			try {
+				complete &= predictor.refreshPredictions();
+			} catch (RuntimeException e) {
+				this.logWarn(this.log, "Unable to refresh Predictor [" + predictor.id() + "]: " + e.getMessage());
+				complete = false;
+			}
+		}
+		if (complete) {
+			this.lastCompleteRefresh = quarter;
+		}
+
+		this._setPredictionRefreshTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+		this._setPredictionStaleness(this.lastCompleteRefresh == null //
+				? null //
+				: Duration.between(this.lastCompleteRefresh, quarter).toSeconds());
 	}
 
 	@Override
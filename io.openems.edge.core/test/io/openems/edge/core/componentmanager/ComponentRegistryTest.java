@@ -0,0 +1,204 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyCycle;
+import io.openems.edge.common.test.DummyMeta;
+
+public class ComponentRegistryTest {
+
+	/**
+	 * Simulates the OSGi service registry for {@link OpenemsComponent}s.
+	 */
+	private static class DummyBundleContext {
+
+		private final Map<OpenemsComponent, ServiceReference<?>> references = new HashMap<>();
+		private final Map<ServiceReference<?>, OpenemsComponent> services = new HashMap<>();
+		private ServiceListener listener = null;
+
+		private final BundleContext bundleContext = proxy(BundleContext.class, (method, args) -> {
+			return switch (method) {
+			case "addServiceListener" -> {
+				this.listener = (ServiceListener) args[0];
+				yield null;
+			}
+			case "removeServiceListener" -> {
+				this.listener = null;
+				yield null;
+			}
+			case "getServiceReferences" -> new ArrayList<>(this.services.keySet());
+			case "getService" -> this.services.get(args[0]);
+			case "ungetService" -> true;
+			default -> throw new UnsupportedOperationException(method);
+			};
+		});
+
+		private void register(OpenemsComponent component, boolean enabled, String factoryPid) {
+			var properties = new HashMap<String, Object>();
+			properties.put("enabled", enabled);
+			if (factoryPid != null) {
+				properties.put("service.factoryPid", factoryPid);
+			}
+			ServiceReference<?> reference = proxy(ServiceReference.class, (method, args) -> {
+				return switch (method) {
+				case "getProperty" -> properties.get(args[0]);
+				default -> throw new UnsupportedOperationException(method);
+				};
+			});
+			this.references.put(component, reference);
+			this.services.put(reference, component);
+			this.fire(ServiceEvent.REGISTERED, reference);
+		}
+
+		private void register(OpenemsComponent component) {
+			this.register(component, true, null);
+		}
+
+		private void unregister(OpenemsComponent component) {
+			var reference = this.references.remove(component);
+			this.services.remove(reference);
+			this.fire(ServiceEvent.UNREGISTERING, reference);
+		}
+
+		private void fire(int type, ServiceReference<?> reference) {
+			if (this.listener != null) {
+				this.listener.serviceChanged(new ServiceEvent(type, reference));
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private static interface Handler {
+		public Object invoke(String method, Object[] args);
+	}
+
+	private static <T> T proxy(Class<T> clazz, Handler handler) {
+		return clazz.cast(Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[] { clazz },
+				(proxy, method, args) -> {
+					return switch (method.getName()) {
+					case "equals" -> proxy == args[0];
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "toString" -> clazz.getSimpleName() + "@" + System.identityHashCode(proxy);
+					default -> handler.invoke(method.getName(), args);
+					};
+				}));
+	}
+
+	@Test
+	public void testVersioning() {
+		final var context = new DummyBundleContext();
+		final var sut = new ComponentRegistry();
+		sut.activate(context.bundleContext);
+
+		var snapshot0 = sut.getSnapshot();
+		assertTrue(snapshot0.getEnabledComponents().isEmpty());
+		// Unchanged until the next ServiceEvent
+		assertSame(snapshot0, sut.getSnapshot());
+
+		// Add
+		final var sum = new DummySum();
+		context.register(sum);
+		var snapshot1 = sut.getSnapshot();
+		assertNotSame(snapshot0, snapshot1);
+		assertSame(snapshot1, sut.getSnapshot());
+		assertEquals(List.of(sum), snapshot1.getEnabledComponents());
+		// Old Snapshot is immutable
+		assertTrue(snapshot0.getEnabledComponents().isEmpty());
+
+		// Remove
+		context.unregister(sum);
+		var snapshot2 = sut.getSnapshot();
+		assertNotSame(snapshot1, snapshot2);
+		assertTrue(snapshot2.getEnabledComponents().isEmpty());
+		assertEquals(List.of(sum), snapshot1.getEnabledComponents());
+
+		// Deactivate clears the registry
+		context.register(sum);
+		sut.deactivate();
+		assertTrue(sut.getSnapshot().getEnabledComponents().isEmpty());
+	}
+
+	@Test
+	public void testGetComponentById() {
+		final var context = new DummyBundleContext();
+		final var sut = new ComponentRegistry();
+		sut.activate(context.bundleContext);
+
+		final var sum = new DummySum();
+		final var meta = new DummyMeta("_meta");
+		final var componentManager = new DummyComponentManager();
+		context.register(sum);
+		context.register(meta, false, null);
+		context.register(componentManager, true, ComponentManager.SINGLETON_SERVICE_PID);
+
+		var snapshot = sut.getSnapshot();
+		assertSame(sum, snapshot.getEnabledComponent(Sum.SINGLETON_COMPONENT_ID));
+		assertSame(sum, snapshot.getComponent(Sum.SINGLETON_COMPONENT_ID));
+
+		// Disabled Components are only found via getComponent()
+		assertNull(snapshot.getEnabledComponent("_meta"));
+		assertSame(meta, snapshot.getComponent("_meta"));
+		assertEquals(List.of(sum), snapshot.getEnabledComponents());
+		assertEquals(2, snapshot.getAllComponents().size());
+
+		// ComponentManager is found by ID, but not listed
+		assertSame(componentManager, snapshot.getEnabledComponent(ComponentManager.SINGLETON_COMPONENT_ID));
+		assertSame(componentManager, snapshot.getComponent(ComponentManager.SINGLETON_COMPONENT_ID));
+
+		assertNull(snapshot.getEnabledComponent("unknown0"));
+		assertNull(snapshot.getComponent("unknown0"));
+	}
+
+	@Test
+	public void testEnabledComponentsOfType() {
+		final var context = new DummyBundleContext();
+		final var sut = new ComponentRegistry();
+		sut.activate(context.bundleContext);
+
+		final var sum = new DummySum();
+		context.register(sum);
+
+		var snapshot = sut.getSnapshot();
+		var sums = snapshot.getEnabledComponentsOfType(Sum.class);
+		assertEquals(List.of(sum), sums);
+		// Cached within the Snapshot
+		assertSame(sums, snapshot.getEnabledComponentsOfType(Sum.class));
+		assertTrue(snapshot.getEnabledComponentsOfType(Cycle.class).isEmpty());
+
+		// Adding a Component of the type invalidates the cache
+		final var cycle = new DummyCycle(1000);
+		context.register(cycle);
+		snapshot = sut.getSnapshot();
+		assertEquals(List.of(cycle), snapshot.getEnabledComponentsOfType(Cycle.class));
+		assertEquals(List.of(sum), snapshot.getEnabledComponentsOfType(Sum.class));
+
+		// Removing a Component of the type invalidates the cache
+		context.unregister(sum);
+		snapshot = sut.getSnapshot();
+		assertTrue(snapshot.getEnabledComponentsOfType(Sum.class).isEmpty());
+		assertEquals(List.of(cycle), snapshot.getEnabledComponentsOfType(Cycle.class));
+	}
+
+}
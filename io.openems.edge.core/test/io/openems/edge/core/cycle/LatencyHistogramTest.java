@@ -0,0 +1,53 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testBuckets() {
+		for (var value : new long[] { 0, 1, 7, 8, 9, 15, 16, 1_000, 123_456_789, Long.MAX_VALUE }) {
+			var index = LatencyHistogram.bucketIndex(value);
+			var upper = LatencyHistogram.bucketUpperBound(index);
+			assertTrue(value <= upper);
+			assertTrue(upper - value <= value / 8);
+		}
+	}
+
+	@Test
+	public void testPercentiles() {
+		var sut = new LatencyHistogram();
+		assertEquals(0, sut.getPercentile(0.5));
+
+		for (var i = 1; i <= 100; i++) {
+			sut.record(i * 1_000L);
+		}
+		assertEquals(100, sut.getCount());
+		assertEquals(100_000, sut.getMax());
+		assertEquals(100_000, sut.getLast());
+
+		var p50 = sut.getPercentile(0.5);
+		assertTrue(p50 >= 50_000 && p50 <= 50_000 * 9 / 8);
+		var p99 = sut.getPercentile(0.99);
+		assertTrue(p99 >= 99_000 && p99 <= 100_000);
+	}
+
+	@Test
+	public void testRolling() {
+		var sut = new LatencyHistogram();
+		sut.record(1_000_000);
+		for (var i = 0; i < 2 * LatencyHistogram.WINDOW_SIZE; i++) {
+			sut.record(10);
+		}
+		// the outlier dropped out of the rolling window
+		assertEquals(LatencyHistogram.WINDOW_SIZE + 1, sut.getCount());
+		assertEquals(10, sut.getMax());
+
+		sut.reset();
+		assertEquals(0, sut.getCount());
+	}
+
+}
@@ -0,0 +1,77 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.test.DummyChannel;
+import io.openems.edge.common.test.DummyMeta;
+
+public class ProcessImageSwitchTest {
+
+	@Test
+	public void testUpdate() {
+		final var sut = new ProcessImageSwitch();
+		final var meta = new DummyMeta("_meta");
+		final var components = List.<OpenemsComponent>of(meta, new DummySum());
+		final var extraChannels = List.<Channel<?>>of(DummyChannel.of("Extra"));
+
+		// Sum is switched separately
+		assertTrue(sut.update(components, extraChannels));
+		assertEquals(meta.channels().size() + 1, sut.size());
+
+		// Unchanged
+		assertFalse(sut.update(components, extraChannels));
+
+		// Changed list of Components
+		final var otherComponents = List.<OpenemsComponent>of(meta);
+		assertTrue(sut.update(otherComponents, extraChannels));
+		assertFalse(sut.update(otherComponents, extraChannels));
+
+		// Changed Channels of any Component
+		new DummyMeta("meta1");
+		assertTrue(sut.update(otherComponents, extraChannels));
+	}
+
+	@Test
+	public void testExecute() {
+		final var sut = new ProcessImageSwitch();
+		final var channel = DummyChannel.of("Foo");
+		sut.update(List.of(), List.of(channel));
+
+		channel.setNextValue(5);
+		assertFalse(channel.value().isDefined());
+		sut.execute();
+		assertEquals(5, channel.value().get().intValue());
+	}
+
+	@Test
+	public void testParallel() {
+		final var sut = new ProcessImageSwitch();
+		sut.setParallelism(2);
+
+		final var channels = new ArrayList<Channel<?>>();
+		for (var i = 0; i < 2 * ProcessImageSwitch.MIN_CHANNELS_PER_TASK + 1; i++) {
+			var channel = DummyChannel.of("Foo" + i);
+			channel.setNextValue(i);
+			channels.add(channel);
+		}
+		sut.update(List.of(), channels);
+		assertEquals(channels.size(), sut.size());
+
+		sut.execute();
+		for (var i = 0; i < channels.size(); i++) {
+			assertEquals(i, channels.get(i).value().get());
+		}
+		sut.deactivate();
+	}
+
+}
@@ -2,7 +2,9 @@ package io.openems.edge.core.predictormanager;
 
 import static io.openems.common.test.TestUtils.createDummyClock;
 import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTION;
+import static io.openems.edge.predictor.api.manager.PredictorManager.ChannelId.PREDICTION_STALENESS;
 import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MINUTES;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
@@ -14,6 +16,7 @@ import org.junit.Test;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.test.AbstractComponentTest.TestCase;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyComponentManager;
 import io.openems.edge.common.test.DummyConfigurationAdmin;
@@ -80,4 +83,46 @@ public class PredictorManagerImplTest {
 				sut.getPrediction(SUM_UNMANAGED_CONSUMPTION_ACTIVE_POWER).asArray());
 	}
 
+	@Test
+	public void testRefreshPredictions() throws OpenemsException, Exception {
+		final var clock = createDummyClock();
+		final var cm = new DummyComponentManager(clock);
+		final var sum = new DummySum();
+		final var now = ZonedDateTime.now(clock);
+		var consumptionPredictor = new DummyPredictor(PREDICTOR_ID, cm,
+				Prediction.from(sum, SUM_CONSUMPTION_ACTIVE_POWER, now, 100, 200, 300, 400),
+				SUM_CONSUMPTION_ACTIVE_POWER);
+
+		var sut = new PredictorManagerImpl();
+		var test = new ComponentTest(sut) //
+				.addReference("cm", new DummyConfigurationAdmin()) //
+				.addReference("componentManager", cm) //
+				.addReference("predictors", List.<Predictor>of(consumptionPredictor)) //
+				.activate(MyConfig.create()//
+						.build());
+
+		sut.refreshPredictions();
+		assertArrayEquals(new Integer[] { 100, 200, 300, 400 },
+				sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER).asArray());
+		test.next(new TestCase() //
+				.output(PREDICTION_STALENESS, 0L));
+
+		// Until the next refresh the last Prediction is served for the new quarter
+		consumptionPredictor.setPrediction(
+				Prediction.from(sum, SUM_CONSUMPTION_ACTIVE_POWER, now, 500, 600, 700, 800));
+		clock.leap(15, MINUTES);
+		assertArrayEquals(new Integer[] { 200, 300, 400 }, sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER).asArray());
+
+		sut.refreshPredictions();
+		assertArrayEquals(new Integer[] { 600, 700, 800 }, sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER).asArray());
+
+		// Failed refresh keeps the last good Prediction
+		consumptionPredictor.setPrediction(EMPTY_PREDICTION);
+		clock.leap(15, MINUTES);
+		sut.refreshPredictions();
+		assertArrayEquals(new Integer[] { 700, 800 }, sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER).asArray());
+		test.next(new TestCase() //
+				.output(PREDICTION_STALENESS, 900L));
+	}
+
 }
@@ -0,0 +1,17 @@
+package io.openems.edge.energy.api;
+
+public enum EnergyFlowSolver {
+
+	/**
+	 * Generic Simplex solver of Apache Commons Math. Builds a full linear equation
+	 * system for every simulated period.
+	 */
+	SIMPLEX,
+
+	/**
+	 * Solver that is specialized on the fixed energy flow topology of Grid, ESS,
+	 * Production and Consumption. Works on pre-allocated arrays and is
+	 * considerably faster than {@link #SIMPLEX}.
+	 */
+	SPECIALIZED;
+}
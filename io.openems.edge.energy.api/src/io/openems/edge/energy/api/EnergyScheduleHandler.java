@@ -57,6 +57,16 @@ public sealed interface EnergyScheduleHandler {
 			this.context = this.contextFunction.apply(asc);
 		}
 
+		/**
+		 * Gets the Context that was created by the last call to
+		 * {@link #initialize(GlobalSimulationsContext)}.
+		 *
+		 * @return the Context; possibly null
+		 */
+		public CONTEXT getContext() {
+			return this.context;
+		}
+
 		/**
 		 * This method sets the callback for events that require Rescheduling.
 		 * 
@@ -1,5 +1,6 @@
 package io.openems.edge.energy.api;
 
+import io.openems.common.channel.Unit;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponse;
 import io.openems.common.types.OpenemsType;
@@ -16,7 +17,13 @@ public interface EnergyScheduler extends OpenemsComponent {
 	public static final String SINGLETON_COMPONENT_ID = "_energy";
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
-		SIMULATIONS_PER_QUARTER(Doc.of(OpenemsType.INTEGER));
+		SIMULATIONS_PER_QUARTER(Doc.of(OpenemsType.INTEGER)), //
+		SCHEDULE_CACHE_HIT_RATE(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.PERCENT) //
+				.text("Hit rate of the schedule cost cache of the current Simulator")), //
+		PERIOD_CACHE_HIT_RATE(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.PERCENT) //
+				.text("Hit rate of the per-period memo of the current Simulator"));
 
 		private final Doc doc;
 
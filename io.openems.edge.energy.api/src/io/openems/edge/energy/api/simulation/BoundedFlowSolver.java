@@ -0,0 +1,327 @@
+package io.openems.edge.energy.api.simulation;
+
+import static io.openems.edge.energy.api.simulation.Coefficient.CONS;
+import static io.openems.edge.energy.api.simulation.Coefficient.ESS;
+import static io.openems.edge.energy.api.simulation.Coefficient.ESS_TO_CONS;
+import static io.openems.edge.energy.api.simulation.Coefficient.GRID;
+import static io.openems.edge.energy.api.simulation.Coefficient.GRID_TO_CONS;
+import static io.openems.edge.energy.api.simulation.Coefficient.GRID_TO_ESS;
+import static io.openems.edge.energy.api.simulation.Coefficient.PROD;
+import static io.openems.edge.energy.api.simulation.Coefficient.PROD_TO_CONS;
+import static io.openems.edge.energy.api.simulation.Coefficient.PROD_TO_ESS;
+import static io.openems.edge.energy.api.simulation.Coefficient.PROD_TO_GRID;
+import static java.lang.Double.isInfinite;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static org.apache.commons.math3.optim.nonlinear.scalar.GoalType.MINIMIZE;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.TooManyIterationsException;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
+/**
+ * A Simplex solver that is specialized on the fixed topology of an
+ * {@link EnergyFlow.Model}.
+ *
+ * <p>
+ * The equation system always consists of the same four balances for
+ * Production, Consumption, Grid and ESS; every other constraint of the model
+ * is a lower or upper bound of one single {@link Coefficient}. Bounds are
+ * handled implicitly by the algorithm, so the tableau has only four rows and
+ * one column per {@link Coefficient} plus one artificial column per row.
+ *
+ * <p>
+ * All working arrays are allocated once and re-used for every solve. Instances
+ * are not thread-safe; use {@link #get()} to get the instance of the current
+ * thread. Entering and leaving variables are selected by Bland's rule, which
+ * guarantees termination on the highly degenerate problems of this topology.
+ */
+final class BoundedFlowSolver {
+
+	private static final ThreadLocal<BoundedFlowSolver> INSTANCE = ThreadLocal.withInitial(BoundedFlowSolver::new);
+
+	private static final int VARIABLES = Coefficient.values().length;
+	private static final int ROWS = 4;
+	private static final int COLUMNS = VARIABLES + ROWS;
+	private static final int MAX_ITERATIONS = 1000;
+
+	/** Tolerance for pivot elements and reduced costs. */
+	private static final double EPSILON = 1e-9;
+	/** Tolerance for infeasibility; same as Apache Commons Math SimplexSolver. */
+	private static final double FEASIBILITY_EPSILON = 1e-6;
+
+	/** The balances of the energy flow; each row sums up to zero. */
+	private static final double[][] EQUATIONS = new double[ROWS][VARIABLES];
+
+	static {
+		// Distribute Production
+		EQUATIONS[0][PROD.ordinal()] = -1;
+		EQUATIONS[0][PROD_TO_CONS.ordinal()] = 1;
+		EQUATIONS[0][PROD_TO_ESS.ordinal()] = 1;
+		EQUATIONS[0][PROD_TO_GRID.ordinal()] = 1;
+		// Distribute Consumption
+		EQUATIONS[1][CONS.ordinal()] = 1;
+		EQUATIONS[1][ESS_TO_CONS.ordinal()] = -1;
+		EQUATIONS[1][GRID_TO_CONS.ordinal()] = -1;
+		EQUATIONS[1][PROD_TO_CONS.ordinal()] = -1;
+		// Distribute Grid
+		EQUATIONS[2][GRID.ordinal()] = -1;
+		EQUATIONS[2][PROD_TO_GRID.ordinal()] = -1;
+		EQUATIONS[2][GRID_TO_CONS.ordinal()] = 1;
+		EQUATIONS[2][GRID_TO_ESS.ordinal()] = 1;
+		// Distribute ESS
+		EQUATIONS[3][ESS.ordinal()] = -1;
+		EQUATIONS[3][PROD_TO_ESS.ordinal()] = -1;
+		EQUATIONS[3][ESS_TO_CONS.ordinal()] = 1;
+		EQUATIONS[3][GRID_TO_ESS.ordinal()] = -1;
+	}
+
+	/**
+	 * Gets the {@link BoundedFlowSolver} of the current thread.
+	 *
+	 * @return the {@link BoundedFlowSolver}
+	 */
+	static BoundedFlowSolver get() {
+		return INSTANCE.get();
+	}
+
+	private final double[][] tableau = new double[ROWS][COLUMNS];
+	private final int[] basis = new int[ROWS];
+	private final int[] basisRow = new int[COLUMNS];
+	private final double[] values = new double[COLUMNS];
+	private final double[] lower = new double[COLUMNS];
+	private final double[] upper = new double[COLUMNS];
+	private final double[] costs = new double[COLUMNS];
+
+	private BoundedFlowSolver() {
+	}
+
+	/**
+	 * Gets the minimum or maximum allowed value for the given {@link Coefficient}.
+	 *
+	 * @param lower       the lower bounds per {@link Coefficient}
+	 * @param upper       the upper bounds per {@link Coefficient}
+	 * @param coefficient the {@link Coefficient}
+	 * @param goalType    the {@link GoalType}
+	 * @return the value
+	 * @throws MathIllegalStateException if the model is unsolvable
+	 */
+	double getExtremeCoefficientValue(double[] lower, double[] upper, Coefficient coefficient, GoalType goalType)
+			throws MathIllegalStateException {
+		this.findFeasibleSolution(lower, upper);
+
+		Arrays.fill(this.costs, 0.);
+		this.costs[coefficient.ordinal()] = goalType == MINIMIZE ? 1. : -1.;
+		this.iterate();
+		return this.values[coefficient.ordinal()];
+	}
+
+	/**
+	 * Solves the energy flow: minimizes the sum of all {@link Coefficient}s, like
+	 * {@link EnergyFlow.Model#solve()} does with the generic Simplex solver.
+	 *
+	 * <p>
+	 * If there is more than one optimal solution, the one with maximum
+	 * {@link Coefficient#PROD_TO_CONS} is returned.
+	 *
+	 * @param lower the lower bounds per {@link Coefficient}
+	 * @param upper the upper bounds per {@link Coefficient}
+	 * @return the values per {@link Coefficient}
+	 * @throws MathIllegalStateException if the model is unsolvable
+	 */
+	double[] solve(double[] lower, double[] upper) throws MathIllegalStateException {
+		this.findFeasibleSolution(lower, upper);
+
+		Arrays.fill(this.costs, 0, VARIABLES, 1.);
+		Arrays.fill(this.costs, VARIABLES, COLUMNS, 0.);
+		this.iterate();
+
+		// Restrict to the optimal face by fixing non-basic variables with non-zero
+		// reduced costs; then prefer direct consumption of production
+		for (var j = 0; j < COLUMNS; j++) {
+			if (this.basisRow[j] < 0 && abs(this.getReducedCost(j)) > EPSILON) {
+				this.lower[j] = this.values[j];
+				this.upper[j] = this.values[j];
+			}
+		}
+		Arrays.fill(this.costs, 0.);
+		this.costs[PROD_TO_CONS.ordinal()] = -1.;
+		this.iterate();
+
+		return Arrays.copyOf(this.values, VARIABLES);
+	}
+
+	/**
+	 * Initializes the tableau and runs phase one, i.e. minimizes the artificial
+	 * variables.
+	 *
+	 * @param lower the lower bounds per {@link Coefficient}
+	 * @param upper the upper bounds per {@link Coefficient}
+	 * @throws MathIllegalStateException if the model is unsolvable
+	 */
+	private void findFeasibleSolution(double[] lower, double[] upper) throws MathIllegalStateException {
+		for (var j = 0; j < VARIABLES; j++) {
+			if (lower[j] > upper[j] + FEASIBILITY_EPSILON) {
+				throw new NoFeasibleSolutionException();
+			}
+			this.lower[j] = lower[j];
+			this.upper[j] = max(lower[j], upper[j]);
+			this.values[j] = !isInfinite(lower[j]) //
+					? lower[j] //
+					: !isInfinite(upper[j]) //
+							? upper[j] //
+							: 0.;
+			this.basisRow[j] = -1;
+		}
+
+		// Artificial variables make up for the residual of each row
+		for (var i = 0; i < ROWS; i++) {
+			var residual = 0.;
+			for (var j = 0; j < VARIABLES; j++) {
+				residual -= EQUATIONS[i][j] * this.values[j];
+			}
+			var sign = residual < 0 ? -1. : 1.;
+			var row = this.tableau[i];
+			for (var j = 0; j < VARIABLES; j++) {
+				row[j] = sign * EQUATIONS[i][j];
+			}
+			for (var k = 0; k < ROWS; k++) {
+				row[VARIABLES + k] = i == k ? 1. : 0.;
+			}
+			var artificial = VARIABLES + i;
+			this.lower[artificial] = 0.;
+			this.upper[artificial] = Double.POSITIVE_INFINITY;
+			this.values[artificial] = abs(residual);
+			this.basis[i] = artificial;
+			this.basisRow[artificial] = i;
+		}
+
+		Arrays.fill(this.costs, 0, VARIABLES, 0.);
+		Arrays.fill(this.costs, VARIABLES, COLUMNS, 1.);
+		this.iterate();
+
+		var infeasibility = 0.;
+		for (var j = VARIABLES; j < COLUMNS; j++) {
+			infeasibility += this.values[j];
+			this.upper[j] = 0.;
+		}
+		if (infeasibility > FEASIBILITY_EPSILON) {
+			throw new NoFeasibleSolutionException();
+		}
+	}
+
+	private double getReducedCost(int column) {
+		var result = this.costs[column];
+		for (var i = 0; i < ROWS; i++) {
+			result -= this.costs[this.basis[i]] * this.tableau[i][column];
+		}
+		return result;
+	}
+
+	/**
+	 * Minimizes the current costs, starting from a feasible basis.
+	 *
+	 * @throws MathIllegalStateException if the model is unbounded or the maximum
+	 *                                   number of iterations was exceeded
+	 */
+	private void iterate() throws MathIllegalStateException {
+		for (var iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+			// Entering variable: lowest index that improves the costs
+			var entering = -1;
+			var direction = 0.;
+			for (var j = 0; j < COLUMNS; j++) {
+				if (this.basisRow[j] >= 0) {
+					continue;
+				}
+				var reducedCost = this.getReducedCost(j);
+				if (reducedCost < -EPSILON && this.values[j] < this.upper[j] - EPSILON) {
+					entering = j;
+					direction = 1.;
+					break;
+				}
+				if (reducedCost > EPSILON && this.values[j] > this.lower[j] + EPSILON) {
+					entering = j;
+					direction = -1.;
+					break;
+				}
+			}
+			if (entering < 0) {
+				return; // optimal
+			}
+
+			// Leaving variable: ratio test; ties go to the bound flip of the entering
+			// variable, then to the lowest index
+			var step = this.upper[entering] - this.lower[entering];
+			var leaving = -1;
+			var leavingValue = 0.;
+			for (var i = 0; i < ROWS; i++) {
+				var alpha = direction * this.tableau[i][entering];
+				var b = this.basis[i];
+				double ratio;
+				double bound;
+				if (alpha > EPSILON && !isInfinite(this.lower[b])) {
+					ratio = (this.values[b] - this.lower[b]) / alpha;
+					bound = this.lower[b];
+				} else if (alpha < -EPSILON && !isInfinite(this.upper[b])) {
+					ratio = (this.upper[b] - this.values[b]) / -alpha;
+					bound = this.upper[b];
+				} else {
+					continue;
+				}
+				ratio = max(0., ratio);
+				if (ratio < step - EPSILON //
+						|| ratio <= step + EPSILON && leaving >= 0 && b < this.basis[leaving]) {
+					step = ratio;
+					leaving = i;
+					leavingValue = bound;
+				}
+			}
+			if (isInfinite(step)) {
+				throw new UnboundedSolutionException();
+			}
+
+			// Update values
+			for (var i = 0; i < ROWS; i++) {
+				this.values[this.basis[i]] -= direction * step * this.tableau[i][entering];
+			}
+			if (leaving < 0) {
+				// Entering variable flips to its other bound
+				this.values[entering] = direction > 0 ? this.upper[entering] : this.lower[entering];
+				continue;
+			}
+			this.values[entering] += direction * step;
+			var leavingVariable = this.basis[leaving];
+			this.values[leavingVariable] = leavingValue;
+			this.basisRow[leavingVariable] = -1;
+			this.basis[leaving] = entering;
+			this.basisRow[entering] = leaving;
+			this.pivot(leaving, entering);
+		}
+		throw new TooManyIterationsException(MAX_ITERATIONS);
+	}
+
+	private void pivot(int row, int column) {
+		final var pivotRow = this.tableau[row];
+		final var pivot = pivotRow[column];
+		for (var j = 0; j < COLUMNS; j++) {
+			pivotRow[j] /= pivot;
+		}
+		for (var i = 0; i < ROWS; i++) {
+			if (i == row) {
+				continue;
+			}
+			var r = this.tableau[i];
+			var factor = r[column];
+			if (factor == 0.) {
+				continue;
+			}
+			for (var j = 0; j < COLUMNS; j++) {
+				r[j] -= factor * pivotRow[j];
+			}
+		}
+	}
+}
@@ -12,6 +12,7 @@ import static io.openems.edge.energy.api.simulation.Coefficient.PROD_TO_CONS;
 import static io.openems.edge.energy.api.simulation.Coefficient.PROD_TO_ESS;
 import static io.openems.edge.energy.api.simulation.Coefficient.PROD_TO_GRID;
 import static java.lang.Double.NaN;
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
@@ -25,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.apache.commons.math3.exception.MathIllegalStateException;
@@ -38,6 +40,7 @@ import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.edge.energy.api.EnergyFlowSolver;
 import io.openems.edge.energy.api.simulation.GlobalSimulationsContext.Period;
 
 /**
@@ -51,8 +54,8 @@ public class EnergyFlow {
 	private final double[] point;
 	private final int managedConsumption;
 
-	private EnergyFlow(PointValuePair pvp, int managedConsumption) {
-		this.point = pvp.getPointRef();
+	private EnergyFlow(double[] point, int managedConsumption) {
+		this.point = point;
 		this.managedConsumption = managedConsumption;
 	}
 
@@ -184,6 +187,11 @@ public class EnergyFlow {
 	/**
 	 * Models an EnergyFlow as a Linear Equation System with defined
 	 * {@link Coefficient}s for GRID, ESS, CONS, etc.
+	 * 
+	 * <p>
+	 * With {@link EnergyFlowSolver#SPECIALIZED} the Equation System is not built
+	 * explicitly; constraints on single {@link Coefficient}s are kept as lower and
+	 * upper bounds and solved by a {@link BoundedFlowSolver}.
 	 */
 	public static class Model {
 
@@ -206,6 +214,7 @@ public class EnergyFlow {
 			final var essOne = osc.ess;
 			final var grid = osc.global.grid();
 			return new EnergyFlow.Model(//
+					/* solver */ Objects.requireNonNullElse(osc.global.energyFlowSolver(), EnergyFlowSolver.SIMPLEX), //
 					/* production */ period.production(), //
 					/* consumption */ period.consumption(), //
 					/* essMaxCharge */ min(essGlobal.maxChargeEnergy() * factor,
@@ -221,13 +230,25 @@ public class EnergyFlow {
 		public final int essMaxDischarge;
 		public final int gridMaxBuy;
 		public final int gridMaxSell;
+		public final EnergyFlowSolver solver;
 
-		private final List<LinearConstraint> constraints = new ArrayList<LinearConstraint>();
+		/** Constraints for {@link EnergyFlowSolver#SIMPLEX}; null otherwise. */
+		private final List<LinearConstraint> constraints;
+		/** Bounds for {@link EnergyFlowSolver#SPECIALIZED}; null otherwise. */
+		private final double[] lowerBounds;
+		private final double[] upperBounds;
 
 		private int managedConsumption = 0;
 
 		public Model(int production, int unmanagedConsumption, int essMaxCharge, int essMaxDischarge, int gridMaxBuy,
 				int gridMaxSell) {
+			this(EnergyFlowSolver.SIMPLEX, production, unmanagedConsumption, essMaxCharge, essMaxDischarge, gridMaxBuy,
+					gridMaxSell);
+		}
+
+		public Model(EnergyFlowSolver solver, int production, int unmanagedConsumption, int essMaxCharge,
+				int essMaxDischarge, int gridMaxBuy, int gridMaxSell) {
+			this.solver = solver;
 			this.production = production;
 			this.unmanagedConsumption = unmanagedConsumption;
 			this.essMaxCharge = essMaxCharge;
@@ -235,76 +256,69 @@ public class EnergyFlow {
 			this.gridMaxBuy = gridMaxBuy;
 			this.gridMaxSell = gridMaxSell;
 
-			this
-					// Internal Relationships
-					.addConstraint(c -> c // Sum
-							.setCoefficient(PROD, 1) //
-							.setCoefficient(ESS, 1) //
-							.setCoefficient(GRID, 1) //
-							.setCoefficient(CONS, -1) //
-							.toLinearConstraint(EQ, 0)) //
-					.addConstraint(c -> c // Distribute Production
-							.setCoefficient(PROD, -1) //
-							.setCoefficient(PROD_TO_CONS, 1) //
-							.setCoefficient(PROD_TO_ESS, 1) //
-							.setCoefficient(PROD_TO_GRID, 1) //
-							.toLinearConstraint(EQ, 0)) //
-					.addConstraint(b -> b // Distribute Consumption
-							.setCoefficient(CONS, 1) //
-							.setCoefficient(ESS_TO_CONS, -1) //
-							.setCoefficient(GRID_TO_CONS, -1) //
-							.setCoefficient(PROD_TO_CONS, -1) //
-							.toLinearConstraint(EQ, 0)) //
-					.addConstraint(b -> b // Distribute Grid
-							.setCoefficient(GRID, -1) //
-							.setCoefficient(PROD_TO_GRID, -1) //
-							.setCoefficient(GRID_TO_CONS, 1) //
-							.setCoefficient(GRID_TO_ESS, 1) //
-							.toLinearConstraint(EQ, 0)) //
-					.addConstraint(b -> b // Distribute ESS
-							.setCoefficient(ESS, -1) //
-							.setCoefficient(PROD_TO_ESS, -1) //
-							.setCoefficient(ESS_TO_CONS, 1) //
-							.setCoefficient(GRID_TO_ESS, -1) //
-							.toLinearConstraint(EQ, 0)) //
-					.addConstraint(b -> b // Only Positive PROD_TO_ESS
-							.setCoefficient(PROD_TO_ESS, 1) //
-							.toLinearConstraint(GEQ, 0)) //
-					.addConstraint(b -> b // Only Positive PROD_TO_GRID
-							.setCoefficient(PROD_TO_GRID, 1) //
-							.toLinearConstraint(GEQ, 0)) //
-					.addConstraint(b -> b // Only Positive ESS_TO_CONS
-							.setCoefficient(ESS_TO_CONS, 1) //
-							.toLinearConstraint(GEQ, 0)) //
-					.addConstraint(b -> b // Only Positive GRID_TO_CONS
-							.setCoefficient(GRID_TO_CONS, 1) //
-							.toLinearConstraint(GEQ, 0))
-
-					// Production & Consumption
-					.addConstraint(c -> c //
-							.setCoefficient(PROD, 1) //
-							.toLinearConstraint(EQ, production)) //
-					.addConstraint(c -> c //
-							.setCoefficient(CONS, 1) //
-							.toLinearConstraint(GEQ, unmanagedConsumption))
-					.addConstraint(b -> b //
-							.setCoefficient(PROD_TO_CONS, 1) //
-							.toLinearConstraint(GEQ, min(production, unmanagedConsumption)))
-
-					// ESS Max Charge/Discharge
-					.addConstraint(c -> c //
-							.setCoefficient(ESS, 1) //
-							.toLinearConstraint(GEQ, -essMaxCharge)) //
-					.addConstraint(c -> c //
-							.setCoefficient(ESS, 1) //
-							.toLinearConstraint(LEQ, essMaxDischarge)) //
-					// Grid Max Buy/Sell
-					.addConstraint(c -> c //
-							.setCoefficient(GRID, 1) //
-							.toLinearConstraint(LEQ, gridMaxBuy)) //
-					.addConstraint(c -> c //
-							.setCoefficient(GRID, 1) //
-							.toLinearConstraint(GEQ, -gridMaxSell));
+			if (solver == EnergyFlowSolver.SPECIALIZED) {
+				// Internal Relationships are implicit in BoundedFlowSolver
+				this.constraints = null;
+				this.lowerBounds = initializeCoefficients();
+				this.upperBounds = initializeCoefficients();
+				Arrays.fill(this.lowerBounds, Double.NEGATIVE_INFINITY);
+				Arrays.fill(this.upperBounds, Double.POSITIVE_INFINITY);
+			} else {
+				this.constraints = new ArrayList<LinearConstraint>();
+				this.lowerBounds = null;
+				this.upperBounds = null;
+				this
+						// Internal Relationships
+						.addConstraint(c -> c // Sum
+								.setCoefficient(PROD, 1) //
+								.setCoefficient(ESS, 1) //
+								.setCoefficient(GRID, 1) //
+								.setCoefficient(CONS, -1) //
+								.toLinearConstraint(EQ, 0)) //
+						.addConstraint(c -> c // Distribute Production
+								.setCoefficient(PROD, -1) //
+								.setCoefficient(PROD_TO_CONS, 1) //
+								.setCoefficient(PROD_TO_ESS, 1) //
+								.setCoefficient(PROD_TO_GRID, 1) //
+								.toLinearConstraint(EQ, 0)) //
+						.addConstraint(b -> b // Distribute Consumption
+								.setCoefficient(CONS, 1) //
+								.setCoefficient(ESS_TO_CONS, -1) //
+								.setCoefficient(GRID_TO_CONS, -1) //
+								.setCoefficient(PROD_TO_CONS, -1) //
+								.toLinearConstraint(EQ, 0)) //
+						.addConstraint(b -> b // Distribute Grid
+								.setCoefficient(GRID, -1) //
+								.setCoefficient(PROD_TO_GRID, -1) //
+								.setCoefficient(GRID_TO_CONS, 1) //
+								.setCoefficient(GRID_TO_ESS, 1) //
+								.toLinearConstraint(EQ, 0)) //
+						.addConstraint(b -> b // Distribute ESS
+								.setCoefficient(ESS, -1) //
+								.setCoefficient(PROD_TO_ESS, -1) //
+								.setCoefficient(ESS_TO_CONS, 1) //
+								.setCoefficient(GRID_TO_ESS, -1) //
+								.toLinearConstraint(EQ, 0));
+			}
+
+			// Only Positive
+			this.setCoefficientValue(PROD_TO_ESS, GEQ, 0);
+			this.setCoefficientValue(PROD_TO_GRID, GEQ, 0);
+			this.setCoefficientValue(ESS_TO_CONS, GEQ, 0);
+			this.setCoefficientValue(GRID_TO_CONS, GEQ, 0);
+
+			// Production & Consumption
+			this.setCoefficientValue(PROD, EQ, production);
+			this.setCoefficientValue(CONS, GEQ, unmanagedConsumption);
+			this.setCoefficientValue(PROD_TO_CONS, GEQ, min(production, unmanagedConsumption));
+
+			// ESS Max Charge/Discharge
+			this.setCoefficientValue(ESS, GEQ, -essMaxCharge);
+			this.setCoefficientValue(ESS, LEQ, essMaxDischarge);
+
+			// Grid Max Buy/Sell
+			this.setCoefficientValue(GRID, LEQ, gridMaxBuy);
+			this.setCoefficientValue(GRID, GEQ, -gridMaxSell);
 		}
 
 		/**
@@ -378,6 +392,13 @@ public class EnergyFlow {
 		 * Prints a table with all constraints.
 		 */
 		public void logConstraints() {
+			if (this.constraints == null) {
+				for (var coefficient : Coefficient.values()) {
+					LOG.info(String.format("%-12s % 10.0f % 10.0f", coefficient.toCamelCase(),
+							this.lowerBounds[coefficient.ordinal()], this.upperBounds[coefficient.ordinal()]));
+				}
+				return;
+			}
 			{
 				var b = new StringBuilder();
 				for (var coefficient : Coefficient.values()) {
@@ -482,6 +503,10 @@ public class EnergyFlow {
 		 */
 		public double getExtremeCoefficientValue(Coefficient coefficient, GoalType goalType)
 				throws MathIllegalStateException {
+			if (this.constraints == null) {
+				return BoundedFlowSolver.get().getExtremeCoefficientValue(this.lowerBounds, this.upperBounds,
+						coefficient, goalType);
+			}
 			return solve(goalType, this.constraints, Coefficients.create() //
 					.setCoefficient(coefficient, 1) //
 					.toLinearObjectiveFunction(0)) //
@@ -572,6 +597,18 @@ public class EnergyFlow {
 		 * @param value        the value
 		 */
 		private void setCoefficientValue(Coefficient coefficient, Relationship relationship, double value) {
+			if (this.constraints == null) {
+				final var index = coefficient.ordinal();
+				switch (relationship) {
+				case EQ -> {
+					this.lowerBounds[index] = max(this.lowerBounds[index], value);
+					this.upperBounds[index] = min(this.upperBounds[index], value);
+				}
+				case GEQ -> this.lowerBounds[index] = max(this.lowerBounds[index], value);
+				case LEQ -> this.upperBounds[index] = min(this.upperBounds[index], value);
+				}
+				return;
+			}
 			this.addConstraint(c -> c //
 					.setCoefficient(coefficient, 1) //
 					.toLinearConstraint(relationship, value));
@@ -613,11 +650,8 @@ public class EnergyFlow {
 				this.setCoefficientValue(ESS_TO_CONS, min(essMax, ess));
 			}
 
-			var coefficients = initializeCoefficients();
-			Arrays.fill(coefficients, 1);
 			try {
-				return new EnergyFlow(solve(MINIMIZE, this.constraints, new LinearObjectiveFunction(coefficients, 0)),
-						this.managedConsumption);
+				return new EnergyFlow(this.solveEnergyFlow(), this.managedConsumption);
 			} catch (MathIllegalStateException e) {
 				LOG.warn("[solve] " //
 						+ "Unable to solve EnergyFlow.Model: " + e.getMessage() + " " //
@@ -626,6 +660,22 @@ public class EnergyFlow {
 			}
 		}
 
+		/**
+		 * Minimizes the sum of all {@link Coefficient}s.
+		 * 
+		 * @return the values per {@link Coefficient}
+		 * @throws MathIllegalStateException if this {@link EnergyFlow.Model} is
+		 *                                   unsolvable
+		 */
+		private double[] solveEnergyFlow() throws MathIllegalStateException {
+			if (this.constraints == null) {
+				return BoundedFlowSolver.get().solve(this.lowerBounds, this.upperBounds);
+			}
+			var coefficients = initializeCoefficients();
+			Arrays.fill(coefficients, 1);
+			return solve(MINIMIZE, this.constraints, new LinearObjectiveFunction(coefficients, 0)).getPointRef();
+		}
+
 		/**
 		 * Solves the linear equation system.
 		 * 
@@ -27,6 +27,7 @@ import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.common.type.TypeUtils;
+import io.openems.edge.energy.api.EnergyFlowSolver;
 import io.openems.edge.energy.api.EnergySchedulable;
 import io.openems.edge.energy.api.EnergyScheduleHandler;
 import io.openems.edge.energy.api.RiskLevel;
@@ -45,7 +46,8 @@ import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
  */
 public record GlobalSimulationsContext(//
 		Clock clock, //
-		RiskLevel riskLevel,
+		RiskLevel riskLevel, //
+		EnergyFlowSolver energyFlowSolver, //
 		/** Start-Timestamp */
 		ZonedDateTime startTime, //
 		ImmutableList<EnergyScheduleHandler> eshs, //
@@ -146,6 +148,7 @@ public record GlobalSimulationsContext(//
 	public static class Builder {
 		private ComponentManager componentManager;
 		private RiskLevel riskLevel;
+		private EnergyFlowSolver energyFlowSolver = EnergyFlowSolver.SIMPLEX;
 		private ImmutableList<EnergyScheduleHandler> eshs;
 		private Sum sum;
 		private PredictorManager predictorManager;
@@ -173,6 +176,17 @@ public record GlobalSimulationsContext(//
 			return this;
 		}
 
+		/**
+		 * The {@link EnergyFlowSolver}.
+		 * 
+		 * @param energyFlowSolver the {@link EnergyFlowSolver}
+		 * @return myself
+		 */
+		public Builder setEnergyFlowSolver(EnergyFlowSolver energyFlowSolver) {
+			this.energyFlowSolver = energyFlowSolver;
+			return this;
+		}
+
 		/**
 		 * The {@link EnergyScheduleHandler}s of the {@link EnergySchedulable}s.
 		 * 
@@ -335,7 +349,7 @@ public record GlobalSimulationsContext(//
 										evcs.getEnergySession().orElse(0))));
 
 				System.out.println("OPTIMIZER GlobalSimulationsContext::build() finished");
-				return new GlobalSimulationsContext(clock, this.riskLevel, startTime, //
+				return new GlobalSimulationsContext(clock, this.riskLevel, this.energyFlowSolver, startTime, //
 						this.eshs, filterEshsWithDifferentStates(this.eshs).collect(toImmutableList()), //
 						grid, ess, evcss, periods);
 			} catch (Exception e) {
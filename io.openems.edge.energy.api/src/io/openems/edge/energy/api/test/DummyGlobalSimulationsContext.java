@@ -11,6 +11,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
 import io.openems.common.test.TimeLeapClock;
+import io.openems.edge.energy.api.EnergyFlowSolver;
 import io.openems.edge.energy.api.EnergyScheduleHandler;
 import io.openems.edge.energy.api.RiskLevel;
 import io.openems.edge.energy.api.simulation.GlobalSimulationsContext;
@@ -36,7 +37,7 @@ public class DummyGlobalSimulationsContext {
 		final var eshs = Arrays.stream(handlers).collect(toImmutableList());
 
 		return new GlobalSimulationsContext(//
-				CLOCK, RiskLevel.MEDIUM, TIME, //
+				CLOCK, RiskLevel.MEDIUM, EnergyFlowSolver.SIMPLEX, TIME, //
 				eshs, filterEshsWithDifferentStates(eshs).collect(toImmutableList()), //
 				new GlobalSimulationsContext.Grid(4000, 20000), //
 				new GlobalSimulationsContext.Ess(5000, 22000, 4000, 4000), //
@@ -3,6 +3,7 @@ package io.openems.edge.energy;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
+import io.openems.edge.energy.api.EnergyFlowSolver;
 import io.openems.edge.energy.api.RiskLevel;
 import io.openems.edge.energy.api.Version;
 
@@ -23,5 +24,11 @@ import io.openems.edge.energy.api.Version;
 	@AttributeDefinition(name = "Risk level", description = "")
 	RiskLevel riskLevel() default RiskLevel.MEDIUM;
 
+	@AttributeDefinition(name = "Energy-Flow Solver", description = "Solver for the energy flow of simulated periods")
+	EnergyFlowSolver energyFlowSolver() default EnergyFlowSolver.SIMPLEX;
+
+	@AttributeDefinition(name = "Incremental Optimization", description = "Re-use results of the previous quarter")
+	boolean incrementalOptimization() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Core Energy Scheduler";
 }
\ No newline at end of file
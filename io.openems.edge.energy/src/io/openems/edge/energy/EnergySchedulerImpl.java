@@ -149,13 +149,17 @@ public class EnergySchedulerImpl extends AbstractOpenemsComponent implements Ope
 					return GlobalSimulationsContext.create() //
 							.setComponentManager(this.componentManager) //
 							.setRiskLevel(this.config.riskLevel()) //
+							.setEnergyFlowSolver(this.config.energyFlowSolver()) //
 							.setEnergyScheduleHandlers(eshs) //
 							.setSum(this.sum) //
 							.setPredictorManager(this.predictorManager) //
 							.setTimeOfUseTariff(this.timeOfUseTariff) //
 							.build();
 				}, //
-				this.channel(EnergyScheduler.ChannelId.SIMULATIONS_PER_QUARTER));
+				this.channel(EnergyScheduler.ChannelId.SIMULATIONS_PER_QUARTER), //
+				this.channel(EnergyScheduler.ChannelId.SCHEDULE_CACHE_HIT_RATE), //
+				this.channel(EnergyScheduler.ChannelId.PERIOD_CACHE_HIT_RATE), //
+				() -> this.config.incrementalOptimization());
 	}
 
 	@Activate
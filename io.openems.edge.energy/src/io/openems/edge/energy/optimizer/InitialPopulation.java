@@ -1,6 +1,7 @@
 package io.openems.edge.energy.optimizer;
 
 import static io.jenetics.util.ISeq.toISeq;
+import static java.util.function.Function.identity;
 
 import java.util.List;
 import java.util.Objects;
@@ -38,12 +39,33 @@ public class InitialPopulation {
 	 */
 	public static ISeq<Genotype<IntegerGene>> generateInitialPopulation(GlobalSimulationsContext gsc, EshCodec codec,
 			SimulationResult previousResult, boolean isCurrentPeriodFixed) {
+		return generateInitialPopulation(gsc, codec, previousResult, isCurrentPeriodFixed, List.of());
+	}
+
+	/**
+	 * Generate initial population, warm-started with the schedules of the last
+	 * population of the previous optimization run.
+	 * 
+	 * @param gsc                  the {@link GlobalSimulationsContext}
+	 * @param codec                the {@link EshCodec}
+	 * @param previousResult       the {@link SimulationResult} of the previous
+	 *                             optimization run
+	 * @param isCurrentPeriodFixed fixes the {@link Gene} of the current period to
+	 *                             the previousResult
+	 * @param lastPopulation       the schedules of the last population, already
+	 *                             shifted to the periods of the gsc
+	 * @return a List of {@link Genotype}s, entries can be null
+	 */
+	public static ISeq<Genotype<IntegerGene>> generateInitialPopulation(GlobalSimulationsContext gsc, EshCodec codec,
+			SimulationResult previousResult, boolean isCurrentPeriodFixed, List<int[][]> lastPopulation) {
 		// TODO read good variations from ESHs.
 		// Example: force charge car during cheapest hours
 		return Stream //
-				.concat(//
+				.of(//
 						variationsOfAllStatesDefault(gsc, previousResult, isCurrentPeriodFixed), //
-						variationsFromExistingSimulationResult(gsc, previousResult, isCurrentPeriodFixed)) //
+						variationsFromExistingSimulationResult(gsc, previousResult, isCurrentPeriodFixed), //
+						lastPopulation.stream()) //
+				.flatMap(identity()) //
 				.filter(Objects::nonNull) //
 				.distinct() //
 				.map(codec::encode) //
@@ -2,6 +2,7 @@ package io.openems.edge.energy.optimizer;
 
 import static io.jenetics.engine.Limits.byExecutionTime;
 import static io.jenetics.engine.Limits.byFixedGeneration;
+import static io.jenetics.engine.Limits.bySteadyFitness;
 import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
 import static io.openems.edge.energy.optimizer.SimulationResult.EMPTY;
 import static io.openems.edge.energy.optimizer.Utils.calculateExecutionLimitSeconds;
@@ -19,6 +20,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -41,13 +43,23 @@ import io.openems.edge.energy.api.simulation.GlobalSimulationsContext;
  */
 public class Optimizer implements Runnable {
 
+	/**
+	 * Number of generations without improvement after which a warm-started
+	 * regular optimization is finished.
+	 */
+	private static final int INCREMENTAL_STEADY_GENERATIONS = 500;
+
 	private final Logger log = LoggerFactory.getLogger(Optimizer.class);
 	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
 
 	private final Supplier<LogVerbosity> logVerbosity;
 	private final ThrowingSupplier<GlobalSimulationsContext, OpenemsException> gscSupplier;
 	private final Channel<Integer> simulationsPerQuarterChannel;
+	private final Channel<Integer> scheduleCacheHitRateChannel;
+	private final Channel<Integer> periodCacheHitRateChannel;
+	private final BooleanSupplier incrementalOptimization;
 	private final AtomicBoolean rescheduleCurrentPeriod = new AtomicBoolean(false);
+	private final AtomicBoolean waitForNextQuarter = new AtomicBoolean(false);
 
 	private Simulator simulator = null;
 	private SimulationResult simulationResult = EMPTY;
@@ -56,9 +68,30 @@ public class Optimizer implements Runnable {
 	public Optimizer(Supplier<LogVerbosity> logVerbosity,
 			ThrowingSupplier<GlobalSimulationsContext, OpenemsException> gscSupplier, //
 			Channel<Integer> simulationsPerQuarterChannel) {
+		this(logVerbosity, gscSupplier, simulationsPerQuarterChannel, null, null);
+	}
+
+	public Optimizer(Supplier<LogVerbosity> logVerbosity,
+			ThrowingSupplier<GlobalSimulationsContext, OpenemsException> gscSupplier, //
+			Channel<Integer> simulationsPerQuarterChannel, //
+			Channel<Integer> scheduleCacheHitRateChannel, //
+			Channel<Integer> periodCacheHitRateChannel) {
+		this(logVerbosity, gscSupplier, simulationsPerQuarterChannel, scheduleCacheHitRateChannel,
+				periodCacheHitRateChannel, () -> false);
+	}
+
+	public Optimizer(Supplier<LogVerbosity> logVerbosity,
+			ThrowingSupplier<GlobalSimulationsContext, OpenemsException> gscSupplier, //
+			Channel<Integer> simulationsPerQuarterChannel, //
+			Channel<Integer> scheduleCacheHitRateChannel, //
+			Channel<Integer> periodCacheHitRateChannel, //
+			BooleanSupplier incrementalOptimization) {
 		this.logVerbosity = logVerbosity;
 		this.gscSupplier = gscSupplier;
 		this.simulationsPerQuarterChannel = simulationsPerQuarterChannel;
+		this.scheduleCacheHitRateChannel = scheduleCacheHitRateChannel;
+		this.periodCacheHitRateChannel = periodCacheHitRateChannel;
+		this.incrementalOptimization = incrementalOptimization;
 		initializeRandomRegistryForProduction();
 	}
 
@@ -110,6 +143,7 @@ public class Optimizer implements Runnable {
 		// next InitialPopulation
 		this.traceLog(() -> "Trigger Reschedule. Reason: " + reason);
 		this.rescheduleCurrentPeriod.set(true);
+		this.waitForNextQuarter.set(false);
 		this.activate(); // interrupt + reschedule
 	}
 
@@ -136,6 +170,11 @@ public class Optimizer implements Runnable {
 	 * Creates a new {@link Simulator} using the `gscSupplier` and updates
 	 * `this.simulator`.
 	 * 
+	 * <p>
+	 * With incremental optimization the new {@link Simulator} is created from the
+	 * previous one, i.e. it re-uses the results of unchanged periods and is
+	 * warm-started with the last population.
+	 * 
 	 * @return a {@link Simulator} or null
 	 * @throws InterruptedException on interrupted sleep
 	 */
@@ -143,7 +182,9 @@ public class Optimizer implements Runnable {
 		try {
 			// Create the Simulator with GlobalSimulationsContext
 			this.traceLog(() -> "updateSimulator()...");
-			createSimulator(this.gscSupplier, //
+			final var incrementalOptimization = this.incrementalOptimization.getAsBoolean();
+			final var previous = incrementalOptimization ? this.simulator : null;
+			createSimulator(this.gscSupplier, previous, incrementalOptimization, //
 					simulator -> this.simulator = simulator, //
 					error -> {
 						this.traceLog(error);
@@ -196,7 +237,8 @@ public class Optimizer implements Runnable {
 	protected SimulationResult runRegularOptimization() throws InterruptedException, ExecutionException {
 		// Run regular optimization for upcoming periods
 		var millisTillNextQuarter = calculateSleepMillis();
-		if (millisTillNextQuarter < 60_000 /* 60s */) {
+		if (this.waitForNextQuarter.getAndSet(false) // incremental optimization finished early
+				|| millisTillNextQuarter < 60_000 /* 60s */) {
 			this.traceLog(() -> "Run Simulation in " + millisTillNextQuarter + "ms...");
 			sleep(millisTillNextQuarter);
 		}
@@ -205,10 +247,33 @@ public class Optimizer implements Runnable {
 			return SimulationResult.EMPTY;
 		}
 
-		this.traceLog(() -> "Run Simulation");
+		// Limit by execution time
+		final var byExecutionTime = byExecutionTime(ofSeconds(calculateExecutionLimitSeconds()));
+		final Predicate<EvolutionResult<IntegerGene, Double>> executionLimit;
+		if (this.incrementalOptimization.getAsBoolean() && !simulator.getLastPopulation().isEmpty()) {
+			// Warm-started: additionally stop as soon as the best result is steady
+			final Predicate<EvolutionResult<?, Double>> bySteadyFitness = bySteadyFitness(
+					INCREMENTAL_STEADY_GENERATIONS);
+			executionLimit = result -> {
+				if (!byExecutionTime.test(result)) {
+					return false;
+				}
+				if (!bySteadyFitness.test(result)) {
+					// Converged -> next regular optimization in the next quarter
+					this.waitForNextQuarter.set(true);
+					return false;
+				}
+				return true;
+			};
+			this.traceLog(() -> "Run incremental Simulation, warm-started with "
+					+ simulator.getLastPopulation().size() + " Schedules");
+		} else {
+			executionLimit = byExecutionTime::test;
+			this.traceLog(() -> "Run Simulation");
+		}
 		return this.runSimulation(simulator, //
 				true, // current period should not get adjusted
-				byExecutionTime(ofSeconds(calculateExecutionLimitSeconds()))) // Limit by execution time
+				executionLimit) //
 				.get();
 	}
 
@@ -246,6 +311,12 @@ public class Optimizer implements Runnable {
 			// Calculate metrics
 			var stats = simulator.cache.stats();
 			this.simulationsPerQuarterChannel.setNextValue(stats.loadCount());
+			if (this.scheduleCacheHitRateChannel != null) {
+				this.scheduleCacheHitRateChannel.setNextValue(simulator.getScheduleCacheHitRate());
+			}
+			if (this.periodCacheHitRateChannel != null) {
+				this.periodCacheHitRateChannel.setNextValue(simulator.getPeriodCacheHitRate());
+			}
 		}
 
 		// Store result
@@ -289,6 +360,8 @@ public class Optimizer implements Runnable {
 		if (simulator != null) {
 			var stats = simulator.cache.stats();
 			b.append("|SimulationCounter:" + stats.loadCount());
+			b.append("|CacheHitRate:" + simulator.getScheduleCacheHitRate() + "%/"
+					+ simulator.getPeriodCacheHitRate() + "%");
 		}
 		b.append("|PerQuarter:" + this.simulationsPerQuarterChannel.value());
 		return b.toString();
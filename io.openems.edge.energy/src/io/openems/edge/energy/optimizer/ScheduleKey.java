@@ -0,0 +1,88 @@
+package io.openems.edge.energy.optimizer;
+
+import java.util.Arrays;
+
+import io.openems.edge.energy.api.simulation.OneSimulationContext;
+
+/**
+ * A compact, hashable cache key for a schedule or for the inputs of one
+ * simulated period.
+ *
+ * <p>
+ * Raw {@code int[][]} schedules use identity equality and are therefore not
+ * usable as cache keys. This class flattens the values into one array and
+ * pre-calculates its hash code.
+ */
+public final class ScheduleKey {
+
+	private final int[] data;
+	private final int hash;
+
+	private ScheduleKey(int[] data) {
+		this.data = data;
+		this.hash = Arrays.hashCode(data);
+	}
+
+	/**
+	 * Builds a {@link ScheduleKey} for a full schedule.
+	 *
+	 * @param schedule the schedule as defined by {@link EshCodec}
+	 * @return the {@link ScheduleKey}
+	 */
+	public static ScheduleKey of(int[][] schedule) {
+		var length = 0;
+		for (var period : schedule) {
+			length += period.length;
+		}
+		var data = new int[length];
+		var i = 0;
+		for (var period : schedule) {
+			System.arraycopy(period, 0, data, i, period.length);
+			i += period.length;
+		}
+		return new ScheduleKey(data);
+	}
+
+	/**
+	 * Builds a {@link ScheduleKey} for the inputs of one period: the period
+	 * identifier, the states of the EnergyScheduleHandlers and the energies that
+	 * are carried over from the previous period.
+	 *
+	 * @param periodId    the identifier of the period, see {@link Simulator}
+	 * @param states      the states of the period as defined by {@link EshCodec}
+	 * @param osc         the {@link OneSimulationContext} at the start of the
+	 *                    period
+	 * @return the {@link ScheduleKey}
+	 */
+	public static ScheduleKey ofPeriod(int periodId, int[] states, OneSimulationContext osc) {
+		var data = new int[2 + osc.evcss.size() + states.length];
+		var i = 0;
+		data[i++] = periodId;
+		data[i++] = osc.ess.getInitialEnergy();
+		for (var evcs : osc.evcss.values()) {
+			data[i++] = evcs.getInitialEnergySession();
+		}
+		System.arraycopy(states, 0, data, i, states.length);
+		return new ScheduleKey(data);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		return obj instanceof ScheduleKey other //
+				&& this.hash == other.hash //
+				&& Arrays.equals(this.data, other.data);
+	}
+
+	@Override
+	public String toString() {
+		return "ScheduleKey" + Arrays.toString(this.data);
+	}
+}
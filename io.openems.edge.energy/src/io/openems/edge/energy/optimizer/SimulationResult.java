@@ -108,8 +108,8 @@ public record SimulationResult(//
 						: Stream.of(period)) //
 				.collect(ImmutableList.<GlobalSimulationsContext.Period>toImmutableList());
 		final GlobalSimulationsContext quarterGsc = new GlobalSimulationsContext(gsc.clock(), gsc.riskLevel(),
-				gsc.startTime(), gsc.eshs(), gsc.eshsWithDifferentStates(), gsc.grid(), gsc.ess(), gsc.evcss(),
-				quarterPeriods);
+				gsc.energyFlowSolver(), gsc.startTime(), gsc.eshs(), gsc.eshsWithDifferentStates(), gsc.grid(), gsc.ess(),
+				gsc.evcss(), quarterPeriods);
 		final var quarterSchedule = IntStream.range(0, gsc.periods().size()) //
 				.flatMap(periodIndex //
 				-> gsc.periods().get(periodIndex) instanceof GlobalSimulationsContext.Period.Hour ph //
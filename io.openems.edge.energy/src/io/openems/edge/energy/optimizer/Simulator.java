@@ -1,11 +1,19 @@
 package io.openems.edge.energy.optimizer;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
-import static io.jenetics.engine.EvolutionResult.toBestResult;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.jenetics.engine.EvolutionResult.toBestEvolutionResult;
 import static io.openems.edge.energy.optimizer.InitialPopulation.generateInitialPopulation;
 import static io.openems.edge.energy.optimizer.SimulationResult.EMPTY;
 import static java.lang.Thread.currentThread;
-
+import static java.util.Comparator.comparingDouble;
+import static java.util.stream.Collectors.toList;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
@@ -14,14 +22,18 @@ import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.IntegerGene;
 import io.jenetics.Mutator;
+import io.jenetics.Phenotype;
 import io.jenetics.SinglePointCrossover;
 import io.jenetics.engine.Engine;
 import io.jenetics.engine.EvolutionStream;
@@ -29,43 +41,190 @@ import io.openems.edge.energy.api.EnergyScheduleHandler;
 import io.openems.edge.energy.api.EnergyScheduleHandler.AbstractEnergyScheduleHandler;
 import io.openems.edge.energy.api.simulation.EnergyFlow;
 import io.openems.edge.energy.api.simulation.GlobalSimulationsContext;
+import io.openems.edge.energy.api.simulation.GlobalSimulationsContext.Period;
 import io.openems.edge.energy.api.simulation.OneSimulationContext;
 
 public class Simulator {
 
 	private static final Logger LOG = LoggerFactory.getLogger(Simulator.class);
 
+	/** Maximum number of cached schedule costs. */
+	private static final int MAX_CACHED_SCHEDULES = 10_000;
+	/** Maximum number of cached period results. */
+	private static final int MAX_CACHED_PERIODS = 100_000;
+	/** Maximum number of schedules that are carried over to the next run. */
+	private static final int MAX_LAST_POPULATION = 10;
+
 	public final GlobalSimulationsContext gsc;
 
-	protected final LoadingCache<int[][], Double> cache;
+	/**
+	 * Cache for schedule costs; the load count is the number of actually
+	 * simulated schedules.
+	 */
+	protected final Cache<ScheduleKey, Double> cache;
+
+	/**
+	 * Memo for the results of single periods, keyed by period identifier, states
+	 * and energies carried over from the previous period. Shared with the next
+	 * {@link Simulator} if its inputs are compatible.
+	 */
+	protected final Cache<ScheduleKey, PeriodResult> periodCache;
+
+	/** The stats of a shared {@link #periodCache} at creation time. */
+	private final CacheStats periodCacheStatsAtStart;
+
+	/**
+	 * Stable identifiers of the periods of {@link #gsc}; equal {@link Period}s get
+	 * the same identifier across optimization runs.
+	 */
+	private final ImmutableMap<Period, Integer> periodIds;
+	private final int nextPeriodId;
+
+	/** The Contexts of the EnergyScheduleHandlers at creation time. */
+	private final List<Object> eshContexts;
+
+	/** The best distinct schedules of the last population. */
+	private volatile ImmutableList<int[][]> lastPopulation = ImmutableList.of();
+
+	/** Warm-start the initial population with {@link #lastPopulation}?. */
+	private final boolean incrementalOptimization;
 
 	public Simulator(GlobalSimulationsContext gsc) {
+		this(gsc, null, false);
+	}
+
+	/**
+	 * Creates a {@link Simulator}.
+	 * 
+	 * <p>
+	 * If a previous {@link Simulator} is given and its inputs are compatible, the
+	 * results of unchanged periods and the last population are carried over
+	 * (incremental optimization).
+	 * 
+	 * @param gsc                     the {@link GlobalSimulationsContext}
+	 * @param previous                the {@link Simulator} of the previous
+	 *                                optimization run; or null
+	 * @param incrementalOptimization warm-start the initial population with the
+	 *                                last population
+	 */
+	public Simulator(GlobalSimulationsContext gsc, Simulator previous, boolean incrementalOptimization) {
 		this.gsc = gsc;
+		this.incrementalOptimization = incrementalOptimization;
 		this.cache = CacheBuilder.newBuilder() //
+				.maximumSize(MAX_CACHED_SCHEDULES) //
 				.recordStats() //
-				.build(new CacheLoader<int[][], Double>() {
-
-					@Override
-					/**
-					 * Simulates a Schedule and calculates the cost.
-					 * 
-					 * <p>
-					 * NOTE: do not throw an Exception here, because we use
-					 * {@link LoadingCache#getUnchecked(Object)} below.
-					 * 
-					 * @param schedule the schedule as defined by {@link EshCodec}
-					 * @return the cost, lower is better, always positive; {@link Double#NaN} on
-					 *         error
-					 */
-					public Double load(final int[][] schedule) {
-						return simulate(Simulator.this.gsc, schedule, null);
-					}
-				});
+				.build();
 
 		// Initialize the EnergyScheduleHandlers.
 		for (var esh : gsc.eshs()) {
 			((AbstractEnergyScheduleHandler<?>) esh /* this is safe */).initialize(gsc);
 		}
+		this.eshContexts = gsc.eshs().stream() //
+				.map(esh -> (Object) ((AbstractEnergyScheduleHandler<?>) esh).getContext()) //
+				.collect(toList()); // allows null
+
+		final var isCompatible = previous != null && previous.isCompatibleWith(this);
+		if (isCompatible) {
+			this.periodCache = previous.periodCache;
+		} else {
+			this.periodCache = CacheBuilder.newBuilder() //
+					.maximumSize(MAX_CACHED_PERIODS) //
+					.recordStats() //
+					.build();
+		}
+		this.periodCacheStatsAtStart = this.periodCache.stats();
+
+		// Assign identifiers to the periods; keep identifiers of unchanged periods
+		var nextPeriodId = isCompatible ? previous.nextPeriodId : 0;
+		final var periodIds = new HashMap<Period, Integer>();
+		for (var period : gsc.periods()) {
+			var id = isCompatible ? previous.periodIds.get(period) : null;
+			if (id == null) {
+				id = nextPeriodId++;
+			}
+			periodIds.putIfAbsent(period, id);
+		}
+		this.periodIds = ImmutableMap.copyOf(periodIds);
+		this.nextPeriodId = nextPeriodId;
+
+		if (previous != null && previous.gsc.eshsWithDifferentStates().equals(gsc.eshsWithDifferentStates())) {
+			this.lastPopulation = shiftPopulation(previous, gsc);
+		}
+	}
+
+	/**
+	 * Are the results of single periods of this {@link Simulator} valid for the
+	 * other {@link Simulator}?
+	 * 
+	 * <p>
+	 * Everything besides the {@link Period}s and the carried over energies (which
+	 * are part of the {@link ScheduleKey}) has to be equal.
+	 * 
+	 * @param other the other {@link Simulator}
+	 * @return true if compatible
+	 */
+	private boolean isCompatibleWith(Simulator other) {
+		final var a = this.gsc;
+		final var b = other.gsc;
+		return a.riskLevel() == b.riskLevel() //
+				&& a.energyFlowSolver() == b.energyFlowSolver() //
+				&& a.eshs().equals(b.eshs()) //
+				&& a.grid().equals(b.grid()) //
+				&& a.ess().totalEnergy() == b.ess().totalEnergy() //
+				&& a.ess().maxChargeEnergy() == b.ess().maxChargeEnergy() //
+				&& a.ess().maxDischargeEnergy() == b.ess().maxDischargeEnergy() //
+				&& a.evcss().keySet().equals(b.evcss().keySet()) //
+				&& a.evcss().entrySet().stream() //
+						.allMatch(e -> e.getValue().status() == b.evcss().get(e.getKey()).status()) //
+				&& this.eshContexts.equals(other.eshContexts);
+	}
+
+	/**
+	 * Shifts the last population of the previous {@link Simulator} to the periods
+	 * of the new {@link GlobalSimulationsContext}.
+	 * 
+	 * <p>
+	 * States are matched by period time; new periods and invalid states get the
+	 * default state of the EnergyScheduleHandler.
+	 * 
+	 * @param previous the previous {@link Simulator}
+	 * @param gsc      the new {@link GlobalSimulationsContext}
+	 * @return the shifted schedules
+	 */
+	private static ImmutableList<int[][]> shiftPopulation(Simulator previous, GlobalSimulationsContext gsc) {
+		final var previousPeriods = previous.gsc.periods();
+		final var eshs = gsc.eshsWithDifferentStates();
+		return previous.lastPopulation.stream() //
+				.map(previousSchedule -> {
+					final var statesByTime = new HashMap<ZonedDateTime, int[]>();
+					for (var i = 0; i < previousPeriods.size() && i < previousSchedule.length; i++) {
+						statesByTime.put(previousPeriods.get(i).time(), previousSchedule[i]);
+					}
+					final var schedule = new int[gsc.periods().size()][eshs.size()];
+					for (var periodIndex = 0; periodIndex < schedule.length; periodIndex++) {
+						final var states = statesByTime.get(gsc.periods().get(periodIndex).time());
+						for (var eshIndex = 0; eshIndex < eshs.size(); eshIndex++) {
+							final var esh = eshs.get(eshIndex);
+							if (states != null && states[eshIndex] < esh.getAvailableStates().length) {
+								schedule[periodIndex][eshIndex] = states[eshIndex];
+							} else {
+								schedule[periodIndex][eshIndex] = esh.getDefaultStateIndex();
+							}
+						}
+					}
+					return schedule;
+				}) //
+				.collect(toImmutableList());
+	}
+
+	/**
+	 * Gets the best distinct schedules of the last population, shifted to the
+	 * periods of this {@link Simulator} if they were carried over.
+	 * 
+	 * @return a list of schedules as defined by {@link EshCodec}
+	 */
+	public ImmutableList<int[][]> getLastPopulation() {
+		return this.lastPopulation;
 	}
 
 	/**
@@ -79,7 +238,91 @@ public class Simulator {
 	 *         error
 	 */
 	public double calculateCost(int[][] schedule) {
-		return this.cache.getUnchecked(schedule);
+		try {
+			return this.cache.get(ScheduleKey.of(schedule), () -> this.simulateWithPeriodCache(schedule));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			LOG.error("Error while simulating schedule: " + e.getMessage());
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * Simulates a Schedule and calculates the cost, re-using the results of
+	 * periods that have already been simulated with the same inputs.
+	 * 
+	 * @param schedule the schedule as defined by {@link EshCodec}
+	 * @return the cost, lower is better, always positive;
+	 *         {@link Double#POSITIVE_INFINITY} on error
+	 */
+	private double simulateWithPeriodCache(int[][] schedule) {
+		final var osc = OneSimulationContext.from(this.gsc);
+		final var noOfPeriods = this.gsc.periods().size();
+
+		var sum = 0.;
+		for (var period = 0; period < noOfPeriods; period++) {
+			final var key = ScheduleKey.ofPeriod(this.periodIds.get(this.gsc.periods().get(period)), schedule[period],
+					osc);
+			var result = this.periodCache.getIfPresent(key);
+			if (result == null) {
+				var cost = simulatePeriod(osc, schedule, period, null);
+				result = PeriodResult.from(cost, osc);
+				this.periodCache.put(key, result);
+			} else {
+				result.applyTo(osc);
+			}
+			sum += result.cost();
+		}
+		return sum;
+	}
+
+	/**
+	 * The cost of one simulated period and the energies that are carried over to
+	 * the next period.
+	 */
+	protected static record PeriodResult(double cost, int essEnergy, int[] evcsEnergySessions) {
+
+		protected static PeriodResult from(double cost, OneSimulationContext osc) {
+			return new PeriodResult(cost, osc.ess.getInitialEnergy(), osc.evcss.values().stream() //
+					.mapToInt(OneSimulationContext.Evcs::getInitialEnergySession) //
+					.toArray());
+		}
+
+		/**
+		 * Applies the carried over energies to the {@link OneSimulationContext}, as if
+		 * the period had been simulated.
+		 * 
+		 * @param osc the {@link OneSimulationContext}
+		 */
+		protected void applyTo(OneSimulationContext osc) {
+			osc.ess.calculateInitialEnergy(osc.ess.getInitialEnergy() - this.essEnergy);
+			var i = 0;
+			for (var evcs : osc.evcss.values()) {
+				evcs.calculateInitialEnergySession(this.evcsEnergySessions[i++] - evcs.getInitialEnergySession());
+			}
+		}
+	}
+
+	/**
+	 * Gets the hit rate of the schedule cost cache.
+	 * 
+	 * @return the hit rate in [%]
+	 */
+	public int getScheduleCacheHitRate() {
+		return (int) Math.round(this.cache.stats().hitRate() * 100);
+	}
+
+	/**
+	 * Gets the hit rate of the period memo. The memo might be shared with previous
+	 * {@link Simulator}s; only requests of this {@link Simulator} are considered.
+	 * 
+	 * @return the hit rate in [%]
+	 */
+	public int getPeriodCacheHitRate() {
+		return (int) Math.round(this.getPeriodCacheStats().hitRate() * 100);
+	}
+
+	private CacheStats getPeriodCacheStats() {
+		return this.periodCache.stats().minus(this.periodCacheStatsAtStart);
 	}
 
 	/**
@@ -215,9 +458,10 @@ public class Simulator {
 		}
 
 		// Build the Jenetics Engine
-		final var initialPopulation = generateInitialPopulation(this.gsc, codec, previousResult, isCurrentPeriodFixed);
+		final var initialPopulation = generateInitialPopulation(this.gsc, codec, previousResult, isCurrentPeriodFixed,
+				this.incrementalOptimization ? this.lastPopulation : List.of());
 		var engine = Engine //
-				.builder(this.cache::getUnchecked, codec) //
+				.builder(this::calculateCost, codec) //
 				.alterers(//
 						new SinglePointCrossover<IntegerGene, Double>(0.2), //
 						new Mutator<IntegerGene, Double>(0.15)) //
@@ -236,10 +480,22 @@ public class Simulator {
 		}
 
 		// Start the evaluation
-		var bestGt = stream //
-				.collect(toBestResult(codec));
+		var bestResult = stream //
+				.collect(toBestEvolutionResult());
+		if (bestResult == null) {
+			return EMPTY;
+		}
+
+		// Keep the best distinct schedules to warm-start the next optimization run
+		final var keys = new HashSet<ScheduleKey>();
+		this.lastPopulation = bestResult.population().stream() //
+				.sorted(comparingDouble(Phenotype::fitness)) //
+				.map(pt -> codec.decode(pt.genotype())) //
+				.filter(schedule -> keys.add(ScheduleKey.of(schedule))) //
+				.limit(MAX_LAST_POPULATION) //
+				.collect(toImmutableList());
 
-		return SimulationResult.fromQuarters(this.gsc, bestGt);
+		return SimulationResult.fromQuarters(this.gsc, codec.decode(bestResult.bestPhenotype().genotype()));
 	}
 
 	protected static record BestScheduleCollector(//
@@ -263,6 +519,7 @@ public class Simulator {
 		return prefix + toStringHelper(this) //
 				.addValue(this.gsc) //
 				.addValue(this.cache.stats()) //
+				.addValue(this.getPeriodCacheStats()) //
 				.toString();
 	}
 }
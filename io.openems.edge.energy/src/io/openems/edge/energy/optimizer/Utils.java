@@ -80,15 +80,23 @@ public final class Utils {
 	 * This will possibly run forever and call the callbacks multiple times before
 	 * returning.
 	 * 
-	 * @param simulator   a callback for a {@link GlobalSimulationsContext};
-	 *                    possibly null
-	 * @param gscSupplier a {@link Supplier} for {@link GlobalSimulationsContext}
-	 * @param error       a callback for a error string
+	 * @param gscSupplier             a {@link Supplier} for
+	 *                                {@link GlobalSimulationsContext}
+	 * @param previous                the {@link Simulator} of the previous
+	 *                                optimization run for incremental
+	 *                                optimization; or null
+	 * @param incrementalOptimization warm-start the initial population with the
+	 *                                last population
+	 * @param simulator               a callback for a
+	 *                                {@link GlobalSimulationsContext}; possibly
+	 *                                null
+	 * @param error                   a callback for a error string
 	 * @throws InterruptedException on interrupted sleep
 	 */
 	public static synchronized void createSimulator(
-			ThrowingSupplier<GlobalSimulationsContext, OpenemsException> gscSupplier, Consumer<Simulator> simulator,
-			Consumer<Supplier<String>> error) throws InterruptedException {
+			ThrowingSupplier<GlobalSimulationsContext, OpenemsException> gscSupplier, Simulator previous,
+			boolean incrementalOptimization, Consumer<Simulator> simulator, Consumer<Supplier<String>> error)
+			throws InterruptedException {
 		final GlobalSimulationsContext gsc;
 		try {
 			// Create GlobalSimulationsContext -> this might fail a few times during
@@ -105,7 +113,7 @@ public final class Utils {
 
 		// Are there any schedulable ESHs?
 		if (gsc.eshsWithDifferentStates().size() > 0) {
-			simulator.accept(new Simulator(gsc));
+			simulator.accept(new Simulator(gsc, previous, incrementalOptimization));
 			return;
 		}
 
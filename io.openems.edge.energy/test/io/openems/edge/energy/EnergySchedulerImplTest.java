@@ -6,6 +6,8 @@ import static io.openems.common.utils.ReflectionUtils.getValueViaReflection;
 import static io.openems.edge.energy.LogVerbosity.TRACE;
 import static io.openems.edge.energy.api.EnergyConstants.SUM_PRODUCTION;
 import static io.openems.edge.energy.api.EnergyConstants.SUM_UNMANAGED_CONSUMPTION;
+import static io.openems.edge.energy.api.EnergyFlowSolver.SIMPLEX;
+import static io.openems.edge.energy.api.EnergyFlowSolver.SPECIALIZED;
 import static io.openems.edge.energy.api.EnergyUtils.toEnergy;
 import static io.openems.edge.energy.api.RiskLevel.MEDIUM;
 import static io.openems.edge.energy.api.Version.V2_ENERGY_SCHEDULABLE;
@@ -32,6 +34,7 @@ import io.openems.edge.controller.ess.gridoptimizedcharge.ControllerEssGridOptim
 import io.openems.edge.controller.ess.limittotaldischarge.ControllerEssLimitTotalDischargeImpl;
 import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
 import io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImpl;
+import io.openems.edge.energy.api.EnergyFlowSolver;
 import io.openems.edge.energy.api.test.DummyEnergySchedulable;
 import io.openems.edge.energy.optimizer.Optimizer;
 import io.openems.edge.ess.test.DummyManagedSymmetricEss;
@@ -49,6 +52,16 @@ public class EnergySchedulerImplTest {
 		create(createDummyClock());
 	}
 
+	@Test
+	public void testSpecializedEnergyFlowSolver() throws Exception {
+		create(createDummyClock(), SPECIALIZED);
+	}
+
+	@Test
+	public void testIncrementalOptimization() throws Exception {
+		create(createDummyClock(), SIMPLEX, true);
+	}
+
 	/**
 	 * Creates a {@link EnergySchedulerImplTest} instance.
 	 * 
@@ -57,6 +70,34 @@ public class EnergySchedulerImplTest {
 	 * @throws Exception on error
 	 */
 	public static EnergySchedulerImpl create(Clock clock) throws Exception {
+		return create(clock, SIMPLEX);
+	}
+
+	/**
+	 * Creates a {@link EnergySchedulerImplTest} instance with the given
+	 * {@link EnergyFlowSolver}.
+	 * 
+	 * @param clock            a {@link Clock}
+	 * @param energyFlowSolver the {@link EnergyFlowSolver}
+	 * @return the object
+	 * @throws Exception on error
+	 */
+	public static EnergySchedulerImpl create(Clock clock, EnergyFlowSolver energyFlowSolver) throws Exception {
+		return create(clock, energyFlowSolver, false);
+	}
+
+	/**
+	 * Creates a {@link EnergySchedulerImplTest} instance with the given
+	 * {@link EnergyFlowSolver} and incremental optimization mode.
+	 * 
+	 * @param clock                   a {@link Clock}
+	 * @param energyFlowSolver        the {@link EnergyFlowSolver}
+	 * @param incrementalOptimization enable incremental optimization
+	 * @return the object
+	 * @throws Exception on error
+	 */
+	public static EnergySchedulerImpl create(Clock clock, EnergyFlowSolver energyFlowSolver,
+			boolean incrementalOptimization) throws Exception {
 		final var now = roundDownToQuarter(ZonedDateTime.now(clock));
 		final var midnight = now.truncatedTo(DAYS);
 		final var componentManager = new DummyComponentManager(clock);
@@ -111,6 +152,8 @@ public class EnergySchedulerImplTest {
 						.setLogVerbosity(TRACE) //
 						.setVersion(V2_ENERGY_SCHEDULABLE) //
 						.setRiskLevel(MEDIUM) //
+						.setEnergyFlowSolver(energyFlowSolver) //
+						.setIncrementalOptimization(incrementalOptimization) //
 						.build()) //
 				.next(new TestCase());
 		return sut;
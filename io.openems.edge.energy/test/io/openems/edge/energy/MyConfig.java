@@ -1,6 +1,7 @@
 package io.openems.edge.energy;
 
 import io.openems.common.test.AbstractComponentConfig;
+import io.openems.edge.energy.api.EnergyFlowSolver;
 import io.openems.edge.energy.api.RiskLevel;
 import io.openems.edge.energy.api.Version;
 
@@ -13,6 +14,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private LogVerbosity logVerbosity;
 		private Version version;
 		private RiskLevel riskLevel;
+		private EnergyFlowSolver energyFlowSolver = EnergyFlowSolver.SIMPLEX;
+		private boolean incrementalOptimization;
 
 		private Builder() {
 		}
@@ -42,6 +45,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setEnergyFlowSolver(EnergyFlowSolver energyFlowSolver) {
+			this.energyFlowSolver = energyFlowSolver;
+			return this;
+		}
+
+		public Builder setIncrementalOptimization(boolean incrementalOptimization) {
+			this.incrementalOptimization = incrementalOptimization;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -82,4 +95,14 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	public RiskLevel riskLevel() {
 		return this.builder.riskLevel;
 	}
+
+	@Override
+	public EnergyFlowSolver energyFlowSolver() {
+		return this.builder.energyFlowSolver;
+	}
+
+	@Override
+	public boolean incrementalOptimization() {
+		return this.builder.incrementalOptimization;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package io.openems.edge.energy.api.simulation;
+
+import static io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImpl.applyBalancing;
+import static io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImpl.applyChargeGrid;
+import static io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImpl.applyDelayDischarge;
+import static io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImpl.applyDischargeGrid;
+import static io.openems.edge.energy.api.EnergyFlowSolver.SIMPLEX;
+import static io.openems.edge.energy.api.EnergyFlowSolver.SPECIALIZED;
+import static org.apache.commons.math3.optim.nonlinear.scalar.GoalType.MAXIMIZE;
+import static org.apache.commons.math3.optim.nonlinear.scalar.GoalType.MINIMIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.junit.Test;
+
+import io.openems.edge.energy.api.EnergyFlowSolver;
+
+/**
+ * Differential tests of {@link EnergyFlowSolver#SPECIALIZED} against
+ * {@link EnergyFlowSolver#SIMPLEX}.
+ */
+public class EnergyFlowSolverTest {
+
+	private static final int[] PRODUCTIONS = { 0, 500, 2500, 5000 };
+	private static final int[] CONSUMPTIONS = { 0, 300, 2500, 6000 };
+	private static final int[] ESS_MAX_CHARGES = { 0, 900, 5000 };
+	private static final int[] ESS_MAX_DISCHARGES = { 0, 900, 5000 };
+	private static final int[] GRID_MAX_BUYS = { 0, 1600, 4000 };
+	private static final int GRID_MAX_SELL = 10000;
+
+	private static final List<Consumer<EnergyFlow.Model>> HANDLERS = List.of(//
+			m -> applyBalancing(m), //
+			m -> applyDelayDischarge(m), //
+			m -> applyChargeGrid(m, 500), //
+			m -> applyChargeGrid(m, 2500), //
+			m -> applyDischargeGrid(m, 500), //
+			m -> applyDischargeGrid(m, 2500));
+
+	private static interface Scenario {
+		public void accept(int[] params, int handlerIndex, Consumer<EnergyFlow.Model> handler);
+	}
+
+	private static void forEachScenario(Scenario scenario) {
+		for (var production : PRODUCTIONS) {
+			for (var consumption : CONSUMPTIONS) {
+				for (var essMaxCharge : ESS_MAX_CHARGES) {
+					for (var essMaxDischarge : ESS_MAX_DISCHARGES) {
+						for (var gridMaxBuy : GRID_MAX_BUYS) {
+							for (var i = 0; i < HANDLERS.size(); i++) {
+								scenario.accept(new int[] { production, consumption, essMaxCharge, essMaxDischarge,
+										gridMaxBuy, GRID_MAX_SELL }, i, HANDLERS.get(i));
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static EnergyFlow.Model createModel(EnergyFlowSolver solver, int[] params) {
+		return new EnergyFlow.Model(solver, params[0], params[1], params[2], params[3], params[4], params[5]);
+	}
+
+	@Test
+	public void testEnergyFlow() {
+		forEachScenario((params, handlerIndex, handler) -> {
+			final var message = Arrays.toString(params) + " Handler " + handlerIndex;
+			final var simplex = createModel(SIMPLEX, params);
+			final var specialized = createModel(SPECIALIZED, params);
+			handler.accept(simplex);
+			handler.accept(specialized);
+
+			assertSameEnergyFlow(message, simplex.solve(), specialized.solve());
+		});
+	}
+
+	@Test
+	public void testExtremeCoefficientValues() {
+		forEachScenario((params, handlerIndex, handler) -> {
+			final var message = Arrays.toString(params) + " Handler " + handlerIndex;
+			final var simplex = createModel(SIMPLEX, params);
+			final var specialized = createModel(SPECIALIZED, params);
+
+			// Managed consumption might allow more than one optimal EnergyFlow
+			simplex.addConsumption(700);
+			specialized.addConsumption(700);
+			handler.accept(simplex);
+			handler.accept(specialized);
+
+			for (var coefficient : Coefficient.values()) {
+				assertEquals(message + " Min " + coefficient, //
+						getExtremeCoefficientValue(simplex, coefficient, MINIMIZE), //
+						getExtremeCoefficientValue(specialized, coefficient, MINIMIZE), 0.5);
+				assertEquals(message + " Max " + coefficient, //
+						getExtremeCoefficientValue(simplex, coefficient, MAXIMIZE), //
+						getExtremeCoefficientValue(specialized, coefficient, MAXIMIZE), 0.5);
+			}
+
+			// The aggregated values are always unique
+			var expected = simplex.solve();
+			var actual = specialized.solve();
+			if (expected == null) {
+				assertNull(message, actual);
+				return;
+			}
+			assertEquals(message, expected.getProd(), actual.getProd());
+			assertEquals(message, expected.getCons(), actual.getCons());
+			assertEquals(message, expected.getManagedCons(), actual.getManagedCons());
+			assertEquals(message, expected.getEss(), actual.getEss());
+			assertEquals(message, expected.getGrid(), actual.getGrid());
+			assertEquals(message, expected.getEssToCons(), actual.getEssToCons());
+		});
+	}
+
+	@Test
+	public void testUnsolvable() {
+		// Consumption can not be covered
+		var m = new EnergyFlow.Model(SPECIALIZED, //
+				/* production */ 0, //
+				/* consumption */ 5000, //
+				/* essMaxCharge */ 0, //
+				/* essMaxDischarge */ 1000, //
+				/* gridMaxBuy */ 1000, //
+				/* gridMaxSell */ 10000);
+		assertNull(m.solve());
+	}
+
+	private static double getExtremeCoefficientValue(EnergyFlow.Model model, Coefficient coefficient,
+			GoalType goalType) {
+		try {
+			return model.getExtremeCoefficientValue(coefficient, goalType);
+		} catch (MathIllegalStateException e) {
+			return Double.NaN;
+		}
+	}
+
+	private static void assertSameEnergyFlow(String message, EnergyFlow expected, EnergyFlow actual) {
+		if (expected == null) {
+			assertNull(message, actual);
+			return;
+		}
+		assertEquals(message, expected.toString(), actual == null ? null : actual.toString());
+	}
+}
@@ -2,7 +2,9 @@ package io.openems.edge.energy.optimizer;
 
 import static io.jenetics.engine.Limits.byFixedGeneration;
 import static io.openems.edge.energy.api.EnergyUtils.socToEnergy;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.util.Random;
 
@@ -13,6 +15,7 @@ import io.jenetics.util.RandomRegistry;
 import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
 import io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImpl;
 import io.openems.edge.energy.api.EnergyScheduleHandler;
+import io.openems.edge.energy.api.simulation.GlobalSimulationsContext;
 import io.openems.edge.energy.api.test.DummyGlobalSimulationsContext;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.test.DummyManagedSymmetricEss;
@@ -90,4 +93,65 @@ public class SimulatorTest {
 
 		assertEquals("BALANCING", ESH_TIME_OF_USE_TARIFF_CTRL.getCurrentPeriod().state().toString());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testCalculateCostCache() {
+		var simulator = new Simulator(DUMMY_SIMULATOR.gsc);
+		var noOfPeriods = simulator.gsc.periods().size();
+		var noOfEshs = simulator.gsc.eshsWithDifferentStates().size();
+
+		var schedule = new int[noOfPeriods][noOfEshs];
+		var cost = simulator.calculateCost(schedule);
+		assertEquals(simulator.simulate(schedule, null), cost, 0.001);
+		assertEquals(0, simulator.getPeriodCacheHitRate());
+
+		// Equal Schedule in a new array -> Cache hit
+		assertEquals(cost, simulator.calculateCost(new int[noOfPeriods][noOfEshs]), 0.001);
+		assertEquals(1, simulator.cache.stats().hitCount());
+		assertEquals(1, simulator.cache.stats().loadCount());
+
+		// Only last period differs -> all other periods are taken from the memo
+		var schedule2 = new int[noOfPeriods][noOfEshs];
+		schedule2[noOfPeriods - 1][noOfEshs - 1] = 1;
+		assertEquals(simulator.simulate(schedule2, null), simulator.calculateCost(schedule2), 0.001);
+		assertEquals(noOfPeriods - 1, simulator.periodCache.stats().hitCount());
+	}
+
+	@Test
+	public void testIncremental() {
+		var gsc = DUMMY_SIMULATOR.gsc;
+		var simulator = new Simulator(gsc);
+		var noOfPeriods = gsc.periods().size();
+		var noOfEshs = gsc.eshsWithDifferentStates().size();
+
+		var schedule = new int[noOfPeriods][noOfEshs];
+		simulator.calculateCost(schedule);
+		simulator.getBestSchedule(SimulationResult.EMPTY, false, null, //
+				stream -> stream //
+						.limit(byFixedGeneration(1)));
+		assertFalse(simulator.getLastPopulation().isEmpty());
+
+		// Unchanged inputs -> all periods are taken from the memo
+		var next = new Simulator(gsc, simulator, true);
+		var hitCount = next.periodCache.stats().hitCount();
+		next.calculateCost(schedule);
+		assertEquals(hitCount + noOfPeriods, next.periodCache.stats().hitCount());
+		// Hit rate only considers requests of this Simulator
+		assertEquals(100, next.getPeriodCacheHitRate());
+
+		// Shifted by one period -> last population is shifted by period time
+		var shiftedGsc = new GlobalSimulationsContext(gsc.clock(), gsc.riskLevel(), gsc.energyFlowSolver(),
+				gsc.periods().get(1).time(), gsc.eshs(), gsc.eshsWithDifferentStates(), gsc.grid(), gsc.ess(),
+				gsc.evcss(), gsc.periods().subList(1, noOfPeriods));
+		var shifted = new Simulator(shiftedGsc, simulator, true);
+		assertEquals(simulator.getLastPopulation().size(), shifted.getLastPopulation().size());
+		for (var i = 0; i < shifted.getLastPopulation().size(); i++) {
+			var expected = simulator.getLastPopulation().get(i);
+			var actual = shifted.getLastPopulation().get(i);
+			assertEquals(noOfPeriods - 1, actual.length);
+			for (var period = 1; period < noOfPeriods; period++) {
+				assertArrayEquals(expected[period], actual[period - 1]);
+			}
+		}
+	}
+}
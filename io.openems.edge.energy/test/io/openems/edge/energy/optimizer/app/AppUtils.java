@@ -18,6 +18,7 @@ import java.util.regex.Pattern;
 import com.google.common.collect.ImmutableList;
 
 import io.openems.common.test.TimeLeapClock;
+import io.openems.edge.energy.api.EnergyFlowSolver;
 import io.openems.edge.energy.api.EnergyScheduleHandler;
 import io.openems.edge.energy.api.RiskLevel;
 import io.openems.edge.energy.api.simulation.GlobalSimulationsContext;
@@ -84,7 +85,7 @@ public class AppUtils {
 				}) //
 				.collect(toImmutableList());
 
-		return new GlobalSimulationsContext(clock, RiskLevel.MEDIUM, startDateTime, //
+		return new GlobalSimulationsContext(clock, RiskLevel.MEDIUM, EnergyFlowSolver.SIMPLEX, startDateTime, //
 				eshs, filterEshsWithDifferentStates(eshs).collect(toImmutableList()), //
 				grid, ess, evcss, periods);
 	}
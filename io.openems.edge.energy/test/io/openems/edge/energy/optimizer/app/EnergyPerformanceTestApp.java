@@ -1,34 +1,51 @@
 package io.openems.edge.energy.optimizer.app;
 
+import io.openems.edge.energy.api.EnergyFlowSolver;
+import io.openems.edge.energy.api.simulation.GlobalSimulationsContext;
 import io.openems.edge.energy.api.simulation.OneSimulationContext;
 import io.openems.edge.energy.optimizer.Simulator;
 import io.openems.edge.energy.optimizer.SimulatorTest;
 
 public class EnergyPerformanceTestApp {
 
+	private static final int ITERATIONS = 100000;
+
 	/**
-	 * Runs a performance test.
-	 * 
+	 * Runs a performance test for each {@link EnergyFlowSolver}.
+	 *
 	 * @param args the args
 	 */
 	public static void main(String[] args) {
 		// ~ 20s for 100000 EnergyFlow
 		// - 0.5s for 100000 Math.Random
 
-		long startTime = System.currentTimeMillis();
+		for (var solver : EnergyFlowSolver.values()) {
+			final var gsc = withEnergyFlowSolver(SimulatorTest.DUMMY_SIMULATOR.gsc, solver);
 
-		for (var i = 0; i < 100000; i++) {
-			simulatePeriod();
-		}
+			// Warm-up
+			for (var i = 0; i < ITERATIONS / 10; i++) {
+				simulatePeriod(gsc);
+			}
+
+			long startTime = System.currentTimeMillis();
 
-		long finishTime = System.currentTimeMillis();
-		System.out.println("That took: " + (finishTime - startTime) + " ms");
+			for (var i = 0; i < ITERATIONS; i++) {
+				simulatePeriod(gsc);
+			}
+
+			long finishTime = System.currentTimeMillis();
+			System.out.println(solver + ": " + ITERATIONS + " periods took " + (finishTime - startTime) + " ms");
+		}
 	}
 
-	private static void simulatePeriod() {
-		final var simulator = SimulatorTest.DUMMY_SIMULATOR;
+	private static GlobalSimulationsContext withEnergyFlowSolver(GlobalSimulationsContext gsc,
+			EnergyFlowSolver solver) {
+		return new GlobalSimulationsContext(gsc.clock(), gsc.riskLevel(), solver, gsc.startTime(), gsc.eshs(),
+				gsc.eshsWithDifferentStates(), gsc.grid(), gsc.ess(), gsc.evcss(), gsc.periods());
+	}
 
-		var osc = OneSimulationContext.from(simulator.gsc);
+	private static void simulatePeriod(GlobalSimulationsContext gsc) {
+		var osc = OneSimulationContext.from(gsc);
 		var schedule = new int[][] { //
 				// ESH1 (BALANCING, DELAY_DISCHARGE, CHARGE_GRID)
 				new int[] { 1 }, //
@@ -1,7 +1,11 @@
 package io.openems.edge.predictor.api.manager;
 
+import io.openems.common.channel.Unit;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.predictor.api.prediction.Prediction;
 import io.openems.edge.predictor.api.prediction.Predictor;
@@ -12,7 +16,29 @@ public interface PredictorManager extends OpenemsComponent {
 	public static final String SINGLETON_COMPONENT_ID = "_predictorManager";
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
-		;
+		/**
+		 * Duration of the last background refresh of all Predictions in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: PredictorManager
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		PREDICTION_REFRESH_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Age of the last complete set of Predictions in [s]; zero if all Predictions
+		 * were refreshed in the current quarter. Updated after every background
+		 * refresh.
+		 *
+		 * <ul>
+		 * <li>Interface: PredictorManager
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		PREDICTION_STALENESS(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.SECONDS));
+
 		private final Doc doc;
 
 		private ChannelId(Doc doc) {
@@ -34,4 +60,62 @@ public interface PredictorManager extends OpenemsComponent {
 	 *         Predictor matches the Channel-Address
 	 */
 	public Prediction getPrediction(ChannelAddress channelAddress);
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PREDICTION_REFRESH_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPredictionRefreshTimeChannel() {
+		return this.channel(ChannelId.PREDICTION_REFRESH_TIME);
+	}
+
+	/**
+	 * Gets the duration of the last background refresh in [ms]. See
+	 * {@link ChannelId#PREDICTION_REFRESH_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getPredictionRefreshTime() {
+		return this.getPredictionRefreshTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PREDICTION_REFRESH_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPredictionRefreshTime(long value) {
+		this.getPredictionRefreshTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PREDICTION_STALENESS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPredictionStalenessChannel() {
+		return this.channel(ChannelId.PREDICTION_STALENESS);
+	}
+
+	/**
+	 * Gets the age of the last complete set of Predictions in [s]. See
+	 * {@link ChannelId#PREDICTION_STALENESS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getPredictionStaleness() {
+		return this.getPredictionStalenessChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PREDICTION_STALENESS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPredictionStaleness(Long value) {
+		this.getPredictionStalenessChannel().setNextValue(value);
+	}
 }
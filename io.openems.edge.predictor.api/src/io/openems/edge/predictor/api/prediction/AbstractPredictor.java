@@ -5,8 +5,8 @@ import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTI
 
 import java.time.ZonedDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Optional;
 
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
@@ -20,9 +20,29 @@ import io.openems.edge.common.component.OpenemsComponent;
 
 public abstract class AbstractPredictor extends AbstractOpenemsComponent implements Predictor, OpenemsComponent {
 
+	/**
+	 * A {@link Prediction} and the quarter it was created in.
+	 */
+	private record Entry(ZonedDateTime quarter, Prediction prediction) {
+	}
+
 	private final Logger log = LoggerFactory.getLogger(AbstractPredictor.class);
 
-	private final Map<ChannelAddress, Prediction> predictions = new HashMap<>();
+	private final Object createLock = new Object();
+
+	/**
+	 * Immutable; replaced as a whole so that readers never wait for a running
+	 * {@link #createNewPrediction(ChannelAddress)}.
+	 */
+	private volatile Map<ChannelAddress, Entry> predictions = Map.of();
+
+	/**
+	 * True once {@link #refreshPredictions()} was called, i.e. a background
+	 * refresh takes care of outdated predictions.
+	 */
+	private volatile boolean refreshedInBackground = false;
+
+	private ChannelAddress[] channelAddresses = new ChannelAddress[0];
 
 	private LogVerbosity logVerbosity = LogVerbosity.NONE;
 
@@ -46,29 +66,38 @@ public abstract class AbstractPredictor extends AbstractOpenemsComponent impleme
 		super.activate(context, id, alias, enabled);
 		this.logVerbosity = logVerbosity;
 
+		this.channelAddresses = new ChannelAddress[channelAddresses.length];
 		for (var i = 0; i < channelAddresses.length; i++) {
-			this.predictions.put(ChannelAddress.fromString(channelAddresses[i]), EMPTY_PREDICTION);
+			this.channelAddresses[i] = ChannelAddress.fromString(channelAddresses[i]);
 		}
 	}
 
 	@Override
 	public ChannelAddress[] getChannelAddresses() {
-		return this.predictions.keySet().toArray(ChannelAddress[]::new);
+		var result = new LinkedHashSet<ChannelAddress>();
+		for (var channelAddress : this.channelAddresses) {
+			result.add(channelAddress);
+		}
+		result.addAll(this.predictions.keySet());
+		return result.toArray(ChannelAddress[]::new);
 	}
 
 	@Override
 	public Prediction getPrediction(ChannelAddress channelAddress) {
 		var now = roundDownToQuarter(ZonedDateTime.now(this.getClockProvider().getClock()));
-		var prediction = this.predictions.get(channelAddress);
-		if (Optional.ofNullable(prediction) //
-				.map(p -> p.getFirstTime()) //
-				.map(t -> now.isAfter(t)) //
-				.orElse(true /* any null? */)) {
-			// Create new prediction
-			prediction = this.createNewPrediction(channelAddress);
-			this.predictions.put(channelAddress, prediction);
-		} else {
+		var entry = this.predictions.get(channelAddress);
+		final Prediction prediction;
+		if (entry != null && entry.quarter().isEqual(now) && !entry.prediction().isEmpty()) {
 			// Reuse existing prediction
+			prediction = entry.prediction();
+
+		} else if (entry != null && this.refreshedInBackground) {
+			// Serve the last good prediction until the background refresh replaced it
+			prediction = Prediction.from(now, entry.prediction());
+
+		} else {
+			// Create new prediction
+			prediction = this.updatePrediction(channelAddress, now, false);
 		}
 		switch (this.logVerbosity) {
 		case NONE -> {
@@ -77,4 +106,64 @@ public abstract class AbstractPredictor extends AbstractOpenemsComponent impleme
 		}
 		return prediction;
 	}
+
+	@Override
+	public boolean refreshPredictions() {
+		this.refreshedInBackground = true;
+		var now = roundDownToQuarter(ZonedDateTime.now(this.getClockProvider().getClock()));
+
+		// Configured Channel-Addresses without wildcards and all requested ones
+		var channelAddresses = new LinkedHashSet<ChannelAddress>();
+		for (var channelAddress : this.channelAddresses) {
+			if (!channelAddress.toString().contains("*")) {
+				channelAddresses.add(channelAddress);
+			}
+		}
+		channelAddresses.addAll(this.predictions.keySet());
+
+		var result = true;
+		for (var channelAddress : channelAddresses) {
+			try {
+				this.updatePrediction(channelAddress, now, true);
+			} catch (RuntimeException e) {
+				this.logWarn(this.log, "Unable to refresh prediction for [" + channelAddress + "]: " + e.getMessage());
+			}
+			var entry = this.predictions.get(channelAddress);
+			if (entry == null || !entry.quarter().isEqual(now) || entry.prediction().isEmpty()) {
+				result = false;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a new {@link Prediction} and stores it.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param now            the current quarter
+	 * @param keepLastGood   keep the existing prediction if the new one is empty
+	 * @return the current {@link Prediction}
+	 */
+	private Prediction updatePrediction(ChannelAddress channelAddress, ZonedDateTime now, boolean keepLastGood) {
+		synchronized (this.createLock) {
+			var entry = this.predictions.get(channelAddress);
+			if (entry != null && entry.quarter().isEqual(now) && !entry.prediction().isEmpty()) {
+				// Created by a concurrent call
+				return entry.prediction();
+			}
+
+			var prediction = this.createNewPrediction(channelAddress);
+			if (prediction == null) {
+				prediction = EMPTY_PREDICTION;
+			}
+			if (prediction.isEmpty() && keepLastGood && entry != null) {
+				return Prediction.from(now, entry.prediction());
+			}
+
+			var predictions = new HashMap<>(this.predictions);
+			predictions.put(channelAddress, new Entry(now, prediction));
+			this.predictions = Map.copyOf(predictions);
+			return prediction;
+		}
+	}
 }
@@ -30,4 +30,19 @@ public interface Predictor extends OpenemsComponent {
 	 */
 	public Prediction getPrediction(ChannelAddress channelAddress);
 
+	/**
+	 * Creates new {@link Prediction}s for all known Channel-Addresses.
+	 *
+	 * <p>
+	 * Called by the PredictorManager on a background thread at the beginning of
+	 * every quarter, so that {@link #getPrediction(ChannelAddress)} can serve
+	 * precomputed {@link Prediction}s without blocking the caller. If creating a
+	 * new {@link Prediction} fails, the last good one is kept.
+	 *
+	 * @return true if all {@link Prediction}s are up-to-date and not empty
+	 */
+	public default boolean refreshPredictions() {
+		return true;
+	}
+
 }
@@ -0,0 +1,328 @@
+package io.openems.edge.timedata.columnar;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads and writes the append-only file format of {@link TimedataColumnar}.
+ *
+ * <pre>
+ * File:    MAGIC (int), VERSION (int), Block*
+ * Block:   Header, Payload
+ * Header:  fromTimestamp (long), toTimestamp (long), rows (int),
+ *          payloadLength (int), payloadCrc32 (int)
+ * Payload: deflate-compressed
+ *          rows (int), firstTimestamp (long), (rows - 1) x timestamp delta (int),
+ *          columns (int), columns x Channel-Address (UTF),
+ *          columns x rows x value
+ * </pre>
+ *
+ * <p>
+ * The uncompressed block headers form the index of a file: they can be read
+ * without decompressing any payload. Values are stored column by column; every
+ * value is stored as the XOR of its IEEE 754 bits with the bits of the
+ * previous value of the same column, so unchanged values compress to almost
+ * nothing. A missing value is stored as NaN.
+ *
+ * <p>
+ * An incompletely written block at the end of a file is ignored on read and
+ * overwritten by the next append.
+ */
+public final class ColumnarFile {
+
+	protected static final int MAGIC = 0x4F454354; // "OECT"
+	protected static final int VERSION = 1;
+	protected static final int FILE_HEADER_BYTES = Integer.BYTES * 2;
+	protected static final int BLOCK_HEADER_BYTES = Long.BYTES * 2 + Integer.BYTES * 3;
+
+	private ColumnarFile() {
+	}
+
+	/**
+	 * Consumes one row of values.
+	 */
+	@FunctionalInterface
+	public static interface RowConsumer {
+
+		/**
+		 * Consumes one row.
+		 *
+		 * @param timestamp the epoch seconds of the row
+		 * @param values    the values, in the order of the requested columns; NaN if
+		 *                  not available
+		 */
+		public void accept(long timestamp, double[] values);
+	}
+
+	/**
+	 * The index entry of one block.
+	 *
+	 * @param offset        the file offset of the payload
+	 * @param fromTimestamp the epoch seconds of the first row
+	 * @param toTimestamp   the epoch seconds of the last row
+	 * @param rows          the number of rows
+	 * @param length        the length of the compressed payload
+	 * @param crc           the CRC32 of the compressed payload
+	 */
+	public static record BlockIndex(long offset, long fromTimestamp, long toTimestamp, int rows, int length,
+			int crc) {
+
+		/**
+		 * Gets the file offset after this block.
+		 *
+		 * @return the offset
+		 */
+		public long end() {
+			return this.offset + this.length;
+		}
+
+		/**
+		 * Does this block contain rows in the given range?.
+		 *
+		 * @param fromInclusive start epoch seconds (inclusive)
+		 * @param toExclusive   end epoch seconds (exclusive)
+		 * @return true if it overlaps
+		 */
+		public boolean overlaps(long fromInclusive, long toExclusive) {
+			return this.fromTimestamp < toExclusive && this.toTimestamp >= fromInclusive;
+		}
+	}
+
+	/**
+	 * One row of values.
+	 *
+	 * @param timestamp the epoch seconds
+	 * @param values    Channel-Address to value
+	 */
+	public static record Row(long timestamp, Map<String, Double> values) {
+	}
+
+	/**
+	 * Reads the index of a file, i.e. all block headers up to the first incomplete
+	 * block.
+	 *
+	 * @param file the {@link Path}
+	 * @return the list of {@link BlockIndex BlockIndexes}; empty if the file does
+	 *         not exist or is not valid
+	 * @throws IOException on error
+	 */
+	public static List<BlockIndex> readIndex(Path file) throws IOException {
+		final var result = new ArrayList<BlockIndex>();
+		if (!Files.exists(file)) {
+			return result;
+		}
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final var size = channel.size();
+			final var fileHeader = ByteBuffer.allocate(FILE_HEADER_BYTES);
+			if (!readFully(channel, fileHeader, 0) //
+					|| fileHeader.getInt(0) != MAGIC //
+					|| fileHeader.getInt(Integer.BYTES) != VERSION) {
+				return result;
+			}
+			final var header = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+			var position = (long) FILE_HEADER_BYTES;
+			while (readFully(channel, header.clear(), position)) {
+				final var index = new BlockIndex(position + BLOCK_HEADER_BYTES, //
+						header.getLong(0), //
+						header.getLong(Long.BYTES), //
+						header.getInt(Long.BYTES * 2), //
+						header.getInt(Long.BYTES * 2 + Integer.BYTES), //
+						header.getInt(Long.BYTES * 2 + Integer.BYTES * 2));
+				if (index.length() < 0 || index.end() > size) {
+					// incomplete block
+					break;
+				}
+				result.add(index);
+				position = index.end();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Appends a block with the given rows.
+	 *
+	 * @param file     the {@link Path}; created if it does not exist
+	 * @param validEnd the file offset after the last valid block; 0 to (re)create
+	 *                 the file
+	 * @param rows     the {@link Row Rows}, sorted by timestamp; not empty
+	 * @return the {@link BlockIndex} of the new block
+	 * @throws IOException on error
+	 */
+	public static BlockIndex appendBlock(Path file, long validEnd, List<Row> rows) throws IOException {
+		final var payload = encode(rows);
+		final var crc = new CRC32();
+		crc.update(payload);
+
+		try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			var position = validEnd;
+			if (position == 0) {
+				channel.truncate(0);
+				writeFully(channel, ByteBuffer.allocate(FILE_HEADER_BYTES) //
+						.putInt(MAGIC) //
+						.putInt(VERSION) //
+						.flip(), 0);
+				position = FILE_HEADER_BYTES;
+			} else {
+				// drop an incompletely written block
+				channel.truncate(position);
+			}
+			final var index = new BlockIndex(position + BLOCK_HEADER_BYTES, //
+					rows.get(0).timestamp(), //
+					rows.get(rows.size() - 1).timestamp(), //
+					rows.size(), payload.length, (int) crc.getValue());
+			writeFully(channel, ByteBuffer.allocate(BLOCK_HEADER_BYTES + payload.length) //
+					.putLong(index.fromTimestamp()) //
+					.putLong(index.toTimestamp()) //
+					.putInt(index.rows()) //
+					.putInt(index.length()) //
+					.putInt(index.crc()) //
+					.put(payload) //
+					.flip(), position);
+			channel.force(false);
+			return index;
+		}
+	}
+
+	/**
+	 * Reads the rows of a block.
+	 *
+	 * @param channel  the open {@link FileChannel}
+	 * @param index    the {@link BlockIndex}
+	 * @param columns  the requested Channel-Addresses with their position in the
+	 *                 values array of the {@link RowConsumer}
+	 * @param consumer the {@link RowConsumer}
+	 * @throws IOException on error, e.g. on CRC mismatch
+	 */
+	public static void readBlock(FileChannel channel, BlockIndex index, Map<String, Integer> columns,
+			RowConsumer consumer) throws IOException {
+		final var buffer = ByteBuffer.allocate(index.length());
+		if (!readFully(channel, buffer, index.offset())) {
+			throw new IOException("Block at [" + index.offset() + "] is incomplete");
+		}
+		final var crc = new CRC32();
+		crc.update(buffer.array());
+		if ((int) crc.getValue() != index.crc()) {
+			throw new IOException("Block at [" + index.offset() + "] is corrupt");
+		}
+		decode(buffer.array(), columns, consumer);
+	}
+
+	protected static byte[] encode(List<Row> rows) throws IOException {
+		final var columns = new LinkedHashSet<String>();
+		for (var row : rows) {
+			columns.addAll(row.values().keySet());
+		}
+
+		final var bytes = new ByteArrayOutputStream();
+		final var deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try (var out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+			out.writeInt(rows.size());
+			var lastTimestamp = rows.get(0).timestamp();
+			out.writeLong(lastTimestamp);
+			for (var i = 1; i < rows.size(); i++) {
+				final var timestamp = rows.get(i).timestamp();
+				out.writeInt((int) (timestamp - lastTimestamp));
+				lastTimestamp = timestamp;
+			}
+			out.writeInt(columns.size());
+			for (var column : columns) {
+				out.writeUTF(column);
+			}
+			for (var column : columns) {
+				var lastBits = 0L;
+				for (var row : rows) {
+					final var value = row.values().get(column);
+					final var bits = Double.doubleToLongBits(value == null ? Double.NaN : value);
+					out.writeLong(bits ^ lastBits);
+					lastBits = bits;
+				}
+			}
+		} finally {
+			deflater.end();
+		}
+		return bytes.toByteArray();
+	}
+
+	protected static void decode(byte[] payload, Map<String, Integer> columns, RowConsumer consumer)
+			throws IOException {
+		try (var in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(payload)))) {
+			final var rows = in.readInt();
+			final var timestamps = new long[rows];
+			timestamps[0] = in.readLong();
+			for (var i = 1; i < rows; i++) {
+				timestamps[i] = timestamps[i - 1] + in.readInt();
+			}
+
+			final var columnCount = in.readInt();
+			final var slots = new int[columnCount];
+			var lastRequiredColumn = -1;
+			for (var i = 0; i < columnCount; i++) {
+				final var slot = columns.get(in.readUTF());
+				slots[i] = slot == null ? -1 : slot;
+				if (slot != null) {
+					lastRequiredColumn = i;
+				}
+			}
+
+			if (lastRequiredColumn == -1) {
+				// none of the requested columns is in this block
+				return;
+			}
+
+			final var values = new double[rows][columns.size()];
+			for (var row : values) {
+				Arrays.fill(row, Double.NaN);
+			}
+			for (var i = 0; i <= lastRequiredColumn; i++) {
+				if (slots[i] == -1) {
+					in.skipNBytes((long) rows * Long.BYTES);
+					continue;
+				}
+				var bits = 0L;
+				for (var row = 0; row < rows; row++) {
+					bits ^= in.readLong();
+					values[row][slots[i]] = Double.longBitsToDouble(bits);
+				}
+			}
+
+			for (var row = 0; row < rows; row++) {
+				consumer.accept(timestamps[row], values[row]);
+			}
+		}
+	}
+
+	private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			final var read = channel.read(buffer, position + buffer.position());
+			if (read < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer, position + buffer.position());
+		}
+	}
+
+}
@@ -0,0 +1,396 @@
+package io.openems.edge.timedata.columnar;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.timedata.api.Timeranges;
+
+/**
+ * Answers the queries of {@link TimedataColumnar} from a {@link ColumnarStore}.
+ *
+ * <p>
+ * Every query reads each involved file only once, independent of the number of
+ * requested Channels.
+ */
+public class ColumnarReadHandler {
+
+	private final ColumnarStore store;
+	private final Predicate<ChannelAddress> isCumulated;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param store       the {@link ColumnarStore}
+	 * @param isCumulated whether a Channel has a cumulated unit; cumulated
+	 *                    Channels are aggregated by maximum instead of average
+	 */
+	public ColumnarReadHandler(ColumnarStore store, Predicate<ChannelAddress> isCumulated) {
+		this.store = store;
+		this.isCumulated = isCumulated;
+	}
+
+	/**
+	 * Queries historic data.
+	 *
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @return the query result
+	 * @throws OpenemsNamedException on error
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(//
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution //
+	) throws OpenemsNamedException {
+		final var addresses = List.copyOf(channels);
+		final var fromTimestamp = fromDate.toEpochSecond();
+		final var step = resolution.toSeconds();
+		final var buckets = (int) Math.max(0, (toDate.toEpochSecond() - fromTimestamp) / step);
+
+		final var cumulated = new boolean[addresses.size()];
+		for (var i = 0; i < cumulated.length; i++) {
+			cumulated[i] = this.isCumulated.test(addresses.get(i));
+		}
+		// sum or maximum, count
+		final var sums = new double[buckets][addresses.size()];
+		final var counts = new int[buckets][addresses.size()];
+
+		this.read(addresses, fromTimestamp, fromTimestamp + buckets * step, (timestamp, values) -> {
+			final var bucket = (int) ((timestamp - fromTimestamp) / step);
+			for (var i = 0; i < values.length; i++) {
+				final var value = values[i];
+				if (Double.isNaN(value)) {
+					continue;
+				}
+				if (counts[bucket][i] == 0) {
+					sums[bucket][i] = value;
+				} else if (cumulated[i]) {
+					sums[bucket][i] = Math.max(sums[bucket][i], value);
+				} else {
+					sums[bucket][i] += value;
+				}
+				counts[bucket][i]++;
+			}
+		});
+
+		final var table = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		for (var bucket = 0; bucket < buckets; bucket++) {
+			final var dateTime = ZonedDateTime.ofInstant(Instant.ofEpochSecond(fromTimestamp + bucket * step),
+					fromDate.getZone());
+			final var row = new TreeMap<ChannelAddress, JsonElement>();
+			for (var i = 0; i < addresses.size(); i++) {
+				final var count = counts[bucket][i];
+				if (count == 0) {
+					row.put(addresses.get(i), JsonNull.INSTANCE);
+				} else {
+					row.put(addresses.get(i), new JsonPrimitive(cumulated[i] //
+							? sums[bucket][i]
+							: sums[bucket][i] / count));
+				}
+			}
+			table.put(dateTime, row);
+		}
+		return table;
+	}
+
+	/**
+	 * Queries historic energy, i.e. the last value in the period minus the last
+	 * value before the period. If there is no value before the period, the first
+	 * value in the period is used instead.
+	 *
+	 * @param fromDate the From-Date
+	 * @param toDate   the To-Date
+	 * @param channels the Channels
+	 * @return the query result
+	 * @throws OpenemsNamedException on error
+	 */
+	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(//
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels //
+	) throws OpenemsNamedException {
+		final var addresses = List.copyOf(channels);
+		final var energies = this.queryEnergyPerRange(addresses, List.of(new Range(fromDate, toDate)))[0];
+
+		final var result = new TreeMap<ChannelAddress, JsonElement>();
+		for (var i = 0; i < addresses.size(); i++) {
+			result.put(addresses.get(i), toJson(energies[i]));
+		}
+
+		// If no Channel can be read successfully: throw exception
+		if (result.values().stream().allMatch(JsonElement::isJsonNull)) {
+			throw new OpenemsException("Unable to read historic data: None of the requested Channels is available: "
+					+ channels.stream().map(c -> c.toString()).collect(Collectors.joining(", ")));
+		}
+		return result;
+	}
+
+	/**
+	 * Queries historic energy per period. See
+	 * {@link #queryHistoricEnergy(ZonedDateTime, ZonedDateTime, Set)} for the
+	 * calculation within one period.
+	 *
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @return the query result
+	 * @throws OpenemsNamedException on error
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(//
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution //
+	) throws OpenemsNamedException {
+		final var addresses = List.copyOf(channels);
+		final var ranges = streamRanges(fromDate, toDate, resolution).toList();
+		final var energies = this.queryEnergyPerRange(addresses, ranges);
+
+		final var table = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		for (var r = 0; r < ranges.size(); r++) {
+			final var row = new TreeMap<ChannelAddress, JsonElement>();
+			for (var i = 0; i < addresses.size(); i++) {
+				row.put(addresses.get(i), toJson(energies[r][i]));
+			}
+			table.put(ranges.get(r).from(), row);
+		}
+		return table;
+	}
+
+	/**
+	 * Gets the latest known value for the given {@link ChannelAddress}.
+	 *
+	 * @param channelAddress the ChannelAddress to be queried
+	 * @return the latest known value or Empty
+	 * @throws OpenemsNamedException on error
+	 */
+	public Optional<Object> getLatestValue(ChannelAddress channelAddress) throws OpenemsNamedException {
+		try {
+			final var value = this.store.readLastValuesBefore(List.of(channelAddress.toString()), Long.MAX_VALUE)[0];
+			return Double.isNaN(value) ? Optional.empty() : Optional.of(value);
+		} catch (IOException e) {
+			throw new OpenemsException("Unable to read latest value: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Gets the {@link Timeranges} of data which got not send, i.e. the timestamps
+	 * after the lastResendTimestamp where the notSendChannel has a value other
+	 * than 0.
+	 *
+	 * @param notSendChannel      the channel with the timestamps where the data got
+	 *                            not send
+	 * @param lastResendTimestamp the timestamp of the last resend; negative if
+	 *                            there is no lastResendTimestamp
+	 * @return the {@link Timeranges}
+	 * @throws OpenemsNamedException on error
+	 */
+	public Timeranges getResendTimeranges(ChannelAddress notSendChannel, long lastResendTimestamp)
+			throws OpenemsNamedException {
+		final var timeranges = new Timeranges();
+		this.read(List.of(notSendChannel), Math.max(0, lastResendTimestamp + 1), Long.MAX_VALUE,
+				(timestamp, values) -> {
+					// NaN => no data; 0.0 => data got send successfully
+					if (!Double.isNaN(values[0]) && values[0] != 0.0) {
+						timeranges.insert(timestamp);
+					}
+				});
+		return timeranges;
+	}
+
+	/**
+	 * Queries data to resend.
+	 *
+	 * @param fromDate the start date (inclusive)
+	 * @param toDate   the end date (inclusive)
+	 * @param channels the channels to resend
+	 * @return the query result with timestamps in milliseconds
+	 * @throws OpenemsNamedException on error
+	 */
+	public SortedMap<Long, SortedMap<ChannelAddress, JsonElement>> queryResendData(//
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels //
+	) throws OpenemsNamedException {
+		final var addresses = List.copyOf(channels);
+		final var result = new TreeMap<Long, SortedMap<ChannelAddress, JsonElement>>();
+		this.read(addresses, fromDate.toEpochSecond(), toDate.toEpochSecond() + 1, (timestamp, values) -> {
+			for (var i = 0; i < values.length; i++) {
+				if (Double.isNaN(values[i])) {
+					continue;
+				}
+				result.computeIfAbsent(timestamp * 1000, t -> new TreeMap<>()) //
+						.put(addresses.get(i), new JsonPrimitive(values[i]));
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Calculates the energy of each Channel for each {@link Range} in one pass.
+	 *
+	 * @param addresses the {@link ChannelAddress ChannelAddresses}
+	 * @param ranges    the ascending, non-overlapping {@link Range Ranges}
+	 * @return the energy per range and Channel; NaN if not available
+	 * @throws OpenemsNamedException on error
+	 */
+	private double[][] queryEnergyPerRange(List<ChannelAddress> addresses, List<Range> ranges)
+			throws OpenemsNamedException {
+		final var result = new double[ranges.size()][addresses.size()];
+		if (ranges.isEmpty()) {
+			return result;
+		}
+		final var columns = toColumns(addresses);
+		final var starts = ranges.stream().mapToLong(r -> r.from().toEpochSecond()).toArray();
+		final var ends = ranges.stream().mapToLong(r -> r.to().toEpochSecond()).toArray();
+
+		final double[] lastSeen;
+		try {
+			lastSeen = this.store.readLastValuesBefore(columns, starts[0]);
+		} catch (IOException e) {
+			throw new OpenemsException("Unable to read historic data: " + e.getMessage());
+		}
+
+		final var state = new Object() {
+			private int range = 0;
+			private double[] before = lastSeen.clone();
+			private final double[] first = nans(addresses.size());
+			private final double[] last = nans(addresses.size());
+
+			private void finish() {
+				for (var i = 0; i < addresses.size(); i++) {
+					final var base = Double.isNaN(this.before[i]) ? this.first[i] : this.before[i];
+					result[this.range][i] = this.last[i] - base;
+				}
+				this.range++;
+				this.before = lastSeen.clone();
+				Arrays.fill(this.first, Double.NaN);
+				Arrays.fill(this.last, Double.NaN);
+			}
+		};
+
+		this.read(addresses, starts[0], ends[ends.length - 1], (timestamp, values) -> {
+			while (state.range < ranges.size() && timestamp >= ends[state.range]) {
+				state.finish();
+			}
+			if (state.range >= ranges.size() || timestamp < starts[state.range]) {
+				return;
+			}
+			for (var i = 0; i < values.length; i++) {
+				final var value = values[i];
+				if (Double.isNaN(value)) {
+					continue;
+				}
+				if (Double.isNaN(state.first[i])) {
+					state.first[i] = value;
+				}
+				state.last[i] = value;
+				lastSeen[i] = value;
+			}
+		});
+		while (state.range < ranges.size()) {
+			state.finish();
+		}
+		return result;
+	}
+
+	private void read(List<ChannelAddress> addresses, long fromInclusive, long toExclusive,
+			ColumnarFile.RowConsumer consumer) throws OpenemsNamedException {
+		try {
+			this.store.read(toColumns(addresses), fromInclusive, toExclusive, consumer);
+		} catch (IOException e) {
+			throw new OpenemsException("Unable to read historic data: " + e.getMessage());
+		}
+	}
+
+	private static List<String> toColumns(List<ChannelAddress> addresses) {
+		return addresses.stream() //
+				.map(ChannelAddress::toString) //
+				.toList();
+	}
+
+	private static JsonElement toJson(double value) {
+		return Double.isNaN(value) //
+				? JsonNull.INSTANCE
+				: new JsonPrimitive(value);
+	}
+
+	private static double[] nans(int length) {
+		final var result = new double[length];
+		Arrays.fill(result, Double.NaN);
+		return result;
+	}
+
+	protected static record Range(ZonedDateTime from, ZonedDateTime to) {
+	}
+
+	protected static Stream<Range> streamRanges(//
+			final ZonedDateTime from, //
+			final ZonedDateTime to, //
+			final Resolution resolution //
+	) {
+		if (from.isAfter(to)) {
+			throw new IllegalArgumentException("'from' needs to be lower than 'to'!");
+		}
+		final var builder = Stream.<Range>builder();
+
+		var fromRange = from;
+
+		var toRange = truncate(increase(from, resolution), resolution);
+		if (toRange.isAfter(to)) {
+			toRange = to;
+		}
+
+		while (!fromRange.equals(toRange)) {
+			builder.accept(new Range(fromRange, toRange));
+			fromRange = toRange;
+			toRange = truncate(increase(fromRange, resolution), resolution);
+			if (toRange.isAfter(to)) {
+				toRange = to;
+			}
+		}
+
+		return builder.build();
+	}
+
+	private static ZonedDateTime truncate(ZonedDateTime date, Resolution resolution) {
+		return switch (resolution.getUnit()) {
+		case DAYS, HALF_DAYS, HOURS, SECONDS, MINUTES, MILLIS, NANOS, MICROS -> date.truncatedTo(resolution.getUnit());
+		case CENTURIES, DECADES, ERAS, FOREVER, MILLENNIA, YEARS, WEEKS -> throw new UnsupportedOperationException();
+		case MONTHS -> date.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+		};
+	}
+
+	private static ZonedDateTime increase(ZonedDateTime date, Resolution resolution) {
+		return switch (resolution.getUnit()) {
+		case DAYS, HALF_DAYS, HOURS, SECONDS, MINUTES, MILLIS, NANOS, MICROS ->
+			date.plus(resolution.getValue(), resolution.getUnit());
+		case CENTURIES, DECADES, ERAS, FOREVER, MILLENNIA, YEARS, WEEKS -> throw new UnsupportedOperationException();
+		case MONTHS -> date.plusMonths(resolution.getValue());
+		};
+	}
+
+}
@@ -0,0 +1,309 @@
+package io.openems.edge.timedata.columnar;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableList;
+
+import io.openems.edge.timedata.columnar.ColumnarFile.BlockIndex;
+import io.openems.edge.timedata.columnar.ColumnarFile.Row;
+import io.openems.edge.timedata.columnar.ColumnarFile.RowConsumer;
+
+/**
+ * Stores {@link Row Rows} in one {@link ColumnarFile} per day (UTC) within one
+ * directory.
+ *
+ * <p>
+ * Rows are buffered in memory and appended as one block once
+ * {@code rowsPerBlock} rows are collected, on change of day and on
+ * {@link #flush()}. Buffered rows are included in all reads. The block index of
+ * every file is read once and then kept in memory.
+ */
+public class ColumnarStore {
+
+	protected static final String FILE_SUFFIX = ".col";
+	private static final long SECONDS_PER_DAY = 86_400L;
+
+	private final Logger log = LoggerFactory.getLogger(ColumnarStore.class);
+
+	private final Path directory;
+	private final int rowsPerBlock;
+	private final int retentionDays;
+
+	// Day => index of the file; null if not yet read
+	private final TreeMap<LocalDate, ImmutableList<BlockIndex>> days = new TreeMap<>();
+	private final List<Row> pending = new ArrayList<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param directory     the directory; created on first write
+	 * @param rowsPerBlock  the number of rows per block
+	 * @param retentionDays files older than this number of days are deleted; 0 to
+	 *                      keep all files
+	 * @throws IOException on error
+	 */
+	public ColumnarStore(Path directory, int rowsPerBlock, int retentionDays) throws IOException {
+		this.directory = directory;
+		this.rowsPerBlock = Math.max(1, rowsPerBlock);
+		this.retentionDays = Math.max(0, retentionDays);
+		if (Files.isDirectory(directory)) {
+			try (var files = Files.list(directory)) {
+				files.map(ColumnarStore::parseDay) //
+						.filter(d -> d != null) //
+						.forEach(d -> this.days.put(d, null));
+			}
+		}
+	}
+
+	/**
+	 * Appends a {@link Row}. Rows have to be appended in ascending order of their
+	 * timestamps.
+	 *
+	 * @param row the {@link Row}
+	 * @throws IOException on error
+	 */
+	public synchronized void append(Row row) throws IOException {
+		if (!this.pending.isEmpty() && !toDay(row.timestamp()).equals(toDay(this.pending.get(0).timestamp()))) {
+			this.flush();
+			this.deleteExpiredFiles(toDay(row.timestamp()));
+		}
+		this.pending.add(row);
+		if (this.pending.size() >= this.rowsPerBlock) {
+			this.flush();
+		}
+	}
+
+	/**
+	 * Writes all buffered {@link Row Rows} to disk.
+	 *
+	 * @throws IOException on error
+	 */
+	public synchronized void flush() throws IOException {
+		if (this.pending.isEmpty()) {
+			return;
+		}
+		final var day = toDay(this.pending.get(0).timestamp());
+		final var index = this.getIndex(day);
+		final var validEnd = index.isEmpty() ? 0L : index.get(index.size() - 1).end();
+		Files.createDirectories(this.directory);
+		final var block = ColumnarFile.appendBlock(this.getFile(day), validEnd, this.pending);
+		this.days.put(day, ImmutableList.<BlockIndex>builder() //
+				.addAll(index) //
+				.add(block) //
+				.build());
+		this.pending.clear();
+	}
+
+	/**
+	 * Reads all rows in the given range, in ascending order of their timestamps.
+	 *
+	 * @param columns       the requested Channel-Addresses; their index in this
+	 *                      list is their position in the values array of the
+	 *                      {@link RowConsumer}
+	 * @param fromInclusive start epoch seconds (inclusive)
+	 * @param toExclusive   end epoch seconds (exclusive)
+	 * @param consumer      the {@link RowConsumer}
+	 * @throws IOException on error
+	 */
+	public void read(List<String> columns, long fromInclusive, long toExclusive, RowConsumer consumer)
+			throws IOException {
+		if (fromInclusive >= toExclusive) {
+			return;
+		}
+		final var slots = toSlots(columns);
+		final var filter = (RowConsumer) (timestamp, values) -> {
+			if (timestamp >= fromInclusive && timestamp < toExclusive) {
+				consumer.accept(timestamp, values);
+			}
+		};
+
+		final Map<LocalDate, ImmutableList<BlockIndex>> indexes;
+		final List<Row> pending;
+		synchronized (this) {
+			indexes = new TreeMap<>();
+			for (var day : this.days.subMap(toDay(fromInclusive), true, toDay(toExclusive - 1), true).keySet()) {
+				indexes.put(day, this.getIndex(day));
+			}
+			pending = List.copyOf(this.pending);
+		}
+
+		for (var entry : indexes.entrySet()) {
+			this.readFile(entry.getKey(), entry.getValue(), slots, fromInclusive, toExclusive, filter);
+		}
+		for (var row : pending) {
+			filter.accept(row.timestamp(), toValues(row, columns));
+		}
+	}
+
+	/**
+	 * Gets the last available value of each column before the given timestamp.
+	 *
+	 * @param columns     the requested Channel-Addresses
+	 * @param toExclusive end epoch seconds (exclusive)
+	 * @return the values in the order of the columns; NaN if not available
+	 * @throws IOException on error
+	 */
+	public double[] readLastValuesBefore(List<String> columns, long toExclusive) throws IOException {
+		final var result = new double[columns.size()];
+		Arrays.fill(result, Double.NaN);
+		final var slots = toSlots(columns);
+
+		final List<LocalDate> descendingDays;
+		final List<Row> pending;
+		synchronized (this) {
+			pending = List.copyOf(this.pending);
+			descendingDays = new ArrayList<>(this.days.headMap(toDay(toExclusive), true).descendingKeySet());
+		}
+
+		for (var i = pending.size() - 1; i >= 0; i--) {
+			final var row = pending.get(i);
+			if (row.timestamp() < toExclusive && fillMissing(result, toValues(row, columns))) {
+				return result;
+			}
+		}
+
+		for (var day : descendingDays) {
+			final List<BlockIndex> index;
+			synchronized (this) {
+				index = this.getIndex(day);
+			}
+			// latest values of this day
+			final var dayResult = new double[columns.size()];
+			Arrays.fill(dayResult, Double.NaN);
+			this.readFile(day, index, slots, Long.MIN_VALUE, toExclusive, (timestamp, values) -> {
+				if (timestamp >= toExclusive) {
+					return;
+				}
+				for (var i = 0; i < values.length; i++) {
+					if (!Double.isNaN(values[i])) {
+						dayResult[i] = values[i];
+					}
+				}
+			});
+			if (fillMissing(result, dayResult)) {
+				return result;
+			}
+		}
+		return result;
+	}
+
+	private void readFile(LocalDate day, List<BlockIndex> index, Map<String, Integer> slots, long fromInclusive,
+			long toExclusive, RowConsumer consumer) {
+		final var blocks = index.stream() //
+				.filter(b -> b.overlaps(fromInclusive, toExclusive)) //
+				.toList();
+		if (blocks.isEmpty()) {
+			return;
+		}
+		try (var channel = FileChannel.open(this.getFile(day), StandardOpenOption.READ)) {
+			for (var block : blocks) {
+				try {
+					ColumnarFile.readBlock(channel, block, slots, consumer);
+				} catch (IOException e) {
+					this.log.warn("Unable to read block of [" + day + "]: " + e.getMessage());
+				}
+			}
+		} catch (IOException e) {
+			this.log.warn("Unable to read [" + day + "]: " + e.getMessage());
+		}
+	}
+
+	// must be called while holding the monitor
+	private ImmutableList<BlockIndex> getIndex(LocalDate day) throws IOException {
+		var index = this.days.get(day);
+		if (index == null) {
+			index = ImmutableList.copyOf(ColumnarFile.readIndex(this.getFile(day)));
+			this.days.put(day, index);
+		}
+		return index;
+	}
+
+	// must be called while holding the monitor
+	private void deleteExpiredFiles(LocalDate today) {
+		if (this.retentionDays == 0) {
+			return;
+		}
+		final var expired = this.days.headMap(today.minusDays(this.retentionDays), false);
+		for (var day : List.copyOf(expired.keySet())) {
+			try {
+				Files.deleteIfExists(this.getFile(day));
+				expired.remove(day);
+			} catch (IOException e) {
+				this.log.warn("Unable to delete [" + day + "]: " + e.getMessage());
+			}
+		}
+	}
+
+	private Path getFile(LocalDate day) {
+		return this.directory.resolve(day + FILE_SUFFIX);
+	}
+
+	private static LocalDate parseDay(Path file) {
+		final var name = file.getFileName().toString();
+		if (!name.endsWith(FILE_SUFFIX)) {
+			return null;
+		}
+		try {
+			return LocalDate.parse(name.substring(0, name.length() - FILE_SUFFIX.length()));
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	protected static LocalDate toDay(long timestamp) {
+		final var epochDay = Math.floorDiv(timestamp, SECONDS_PER_DAY);
+		return LocalDate.ofEpochDay(
+				Math.max(LocalDate.MIN.toEpochDay(), Math.min(LocalDate.MAX.toEpochDay(), epochDay)));
+	}
+
+	private static Map<String, Integer> toSlots(List<String> columns) {
+		final var result = new HashMap<String, Integer>();
+		for (var i = 0; i < columns.size(); i++) {
+			result.put(columns.get(i), i);
+		}
+		return result;
+	}
+
+	private static double[] toValues(Row row, List<String> columns) {
+		final var result = new double[columns.size()];
+		for (var i = 0; i < result.length; i++) {
+			final var value = row.values().get(columns.get(i));
+			result[i] = value == null ? Double.NaN : value;
+		}
+		return result;
+	}
+
+	/**
+	 * Fills the NaN values of the target with the source.
+	 *
+	 * @param target the target
+	 * @param source the source
+	 * @return true if no NaN values are left in the target
+	 */
+	private static boolean fillMissing(double[] target, double[] source) {
+		var complete = true;
+		for (var i = 0; i < target.length; i++) {
+			if (Double.isNaN(target[i])) {
+				target[i] = source[i];
+				complete &= !Double.isNaN(target[i]);
+			}
+		}
+		return complete;
+	}
+
+}
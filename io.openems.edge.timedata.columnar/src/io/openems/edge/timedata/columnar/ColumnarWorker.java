@@ -0,0 +1,80 @@
+package io.openems.edge.timedata.columnar;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.edge.timedata.columnar.ColumnarFile.Row;
+
+/**
+ * Appends collected {@link Row Rows} to the {@link ColumnarStore}
+ * asynchronously.
+ */
+public class ColumnarWorker extends AbstractImmediateWorker {
+
+	// one day of 5-minute rows
+	private static final int MAX_QUEUE_SIZE = 288;
+	private static final long JOIN_TIMEOUT_MILLIS = 5_000;
+
+	private final Logger log = LoggerFactory.getLogger(ColumnarWorker.class);
+	private final BlockingQueue<Row> rows = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
+	private final ColumnarStore store;
+	private final Consumer<Boolean> onUnableToWrite;
+
+	public ColumnarWorker(ColumnarStore store, Consumer<Boolean> onUnableToWrite) {
+		this.store = store;
+		this.onUnableToWrite = onUnableToWrite;
+	}
+
+	/**
+	 * Adds a {@link Row} to the write queue.
+	 *
+	 * @param row the {@link Row}
+	 * @return false if the queue is full
+	 */
+	public boolean offer(Row row) {
+		return this.rows.offer(row);
+	}
+
+	/**
+	 * Stops the worker and writes all queued and buffered {@link Row Rows}.
+	 */
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		try {
+			this.thread.join(JOIN_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		final var remaining = new ArrayList<Row>();
+		this.rows.drainTo(remaining);
+		try {
+			for (var row : remaining) {
+				this.store.append(row);
+			}
+			this.store.flush();
+		} catch (IOException e) {
+			this.log.error("Unable to write rows: " + e.getMessage());
+		}
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		final var row = this.rows.take();
+		try {
+			this.store.append(row);
+			this.onUnableToWrite.accept(false);
+		} catch (IOException e) {
+			this.log.error("Unable to write row [" + row.timestamp() + "]: " + e.getMessage());
+			this.onUnableToWrite.accept(true);
+		}
+	}
+
+}
@@ -0,0 +1,38 @@
+package io.openems.edge.timedata.columnar;
+
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+import io.openems.common.channel.PersistencePriority;
+
+@ObjectClassDefinition(//
+		name = "Timedata Columnar", //
+		description = "This component persists data column-wise to one local file per day.")
+@interface Config {
+
+	@AttributeDefinition(name = "Component-ID", description = "Unique ID of this Component")
+	String id() default "columnar0";
+
+	@AttributeDefinition(name = "Alias", description = "Human-readable name of this Component; defaults to Component-ID")
+	String alias() default "";
+
+	@AttributeDefinition(name = "Is enabled?", description = "Is this Component enabled?")
+	boolean enabled() default true;
+
+	@AttributeDefinition(name = "Persistence Priority", description = "Store only Channels with a Persistence Priority above this. Be aware that too many writes can wear-out your flash storage.")
+	PersistencePriority persistencePriority() default PersistencePriority.HIGH;
+
+	@AttributeDefinition(name = "Read-Only mode", description = "Activates the read-only mode. Then no data is written.")
+	boolean isReadOnly() default false;
+
+	@AttributeDefinition(name = "Rows per Block", description = "Number of 5-minute rows that are buffered and written as one compressed block. Buffered rows are lost on power failure.")
+	int rowsPerBlock() default 12;
+
+	@AttributeDefinition(name = "Retention [days]", description = "Files older than this number of days are deleted; 0 keeps all files.")
+	int retentionDays() default 400;
+
+	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
+	boolean debugMode() default false;
+
+	String webconsole_configurationFactory_nameHint() default "Timedata Columnar [{id}]";
+}
@@ -0,0 +1,251 @@
+package io.openems.edge.timedata.columnar;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+import org.osgi.service.event.propertytypes.EventTopics;
+import org.osgi.service.metatype.annotations.Designate;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.OpenemsConstants;
+import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.timedata.DurationUnit;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.timedata.api.Timedata;
+import io.openems.edge.timedata.api.Timeranges;
+import io.openems.edge.timedata.columnar.ColumnarFile.Row;
+
+@Designate(ocd = Config.class, factory = true)
+@Component(//
+		name = "Timedata.Columnar", //
+		immediate = true, //
+		configurationPolicy = ConfigurationPolicy.REQUIRE //
+)
+@EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE //
+})
+public final class TimedataColumnarImpl extends AbstractOpenemsComponent
+		implements TimedataColumnar, Timedata, OpenemsComponent, EventHandler {
+
+	protected static final String DIRECTORY = "columnar";
+	protected static final int STEP_SECONDS = 300;
+
+	@Reference
+	private ComponentManager componentManager;
+
+	private ColumnarStore store;
+	private ColumnarReadHandler readHandler;
+	private ColumnarWorker worker;
+	private PersistencePriority persistencePriority;
+	private boolean readOnly;
+
+	// keeps the last recorded timestamp
+	private Instant lastTimestamp = Instant.MIN;
+
+	public TimedataColumnarImpl() {
+		super(//
+				OpenemsComponent.ChannelId.values(), //
+				Timedata.ChannelId.values(), //
+				TimedataColumnar.ChannelId.values() //
+		);
+	}
+
+	@Activate
+	private void activate(ComponentContext context, Config config) throws IOException {
+		super.activate(context, config.id(), config.alias(), config.enabled());
+		this.persistencePriority = config.persistencePriority();
+		this.readOnly = config.isReadOnly();
+
+		this.store = new ColumnarStore(//
+				Paths.get(OpenemsConstants.getOpenemsDataDir(), DIRECTORY, config.id()), //
+				config.rowsPerBlock(), //
+				config.retentionDays());
+		this.readHandler = new ColumnarReadHandler(this.store, this::isCumulated);
+		this.worker = new ColumnarWorker(this.store, this::_setUnableToWrite);
+		if (config.enabled() && !config.isReadOnly()) {
+			this.worker.activate(this.id());
+		}
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		super.deactivate();
+		this.worker.deactivate();
+	}
+
+	@Override
+	public void handleEvent(Event event) {
+		if (!this.isEnabled()) {
+			return;
+		}
+		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
+			this.collectData();
+			break;
+		}
+	}
+
+	/**
+	 * Collects one {@link Row} with the values of the last 5 minutes of all
+	 * persisted Channels, once per 5 minutes.
+	 */
+	private void collectData() {
+		if (this.readOnly) {
+			return;
+		}
+		final var clock = this.componentManager.getClock();
+		final var timestamp = Instant.now(clock) //
+				.truncatedTo(DurationUnit.ofSeconds(STEP_SECONDS)) //
+				.minusSeconds(STEP_SECONDS);
+		if (timestamp.equals(this.lastTimestamp)) {
+			return;
+		}
+		this.lastTimestamp = timestamp;
+
+		final var to = LocalDateTime.now(clock).truncatedTo(DurationUnit.ofSeconds(STEP_SECONDS));
+		final var from = to.minusSeconds(STEP_SECONDS);
+
+		final var values = new HashMap<String, Double>();
+		this.componentManager.getEnabledComponents().stream() //
+				.flatMap(component -> component.channels().stream()) //
+				.filter(channel -> {
+					final var doc = channel.channelDoc();
+					return doc.getPersistencePriority().isAtLeast(this.persistencePriority) //
+							&& doc.getAccessMode() != AccessMode.WRITE_ONLY //
+							&& doc.getType() != OpenemsType.STRING;
+				}) //
+				.forEach(channel -> {
+					final var value = aggregate(channel, from, to);
+					if (value.isPresent()) {
+						values.put(channel.address().toString(), value.getAsDouble());
+					}
+				});
+		if (values.isEmpty()) {
+			return;
+		}
+		this._setQueueIsFull(!this.worker.offer(new Row(timestamp.getEpochSecond(), values)));
+	}
+
+	/**
+	 * Aggregates the values of a {@link Channel} time-weighted from its history.
+	 *
+	 * @param channel the {@link Channel}
+	 * @param from    the start time (inclusive)
+	 * @param to      the end time (exclusive)
+	 * @return the aggregated value; empty if there are no defined values
+	 */
+	protected static OptionalDouble aggregate(Channel<?> channel, LocalDateTime from, LocalDateTime to) {
+		final var history = channel.getHistory();
+		if (channel.channelDoc() instanceof EnumDoc) {
+			return history.getDominantValue(from, to);
+		}
+		if (channel.channelDoc().getUnit().isCumulated()) {
+			return history.getMax(from, to);
+		}
+		return history.getTimeWeightedAverage(from, to);
+	}
+
+	private boolean isCumulated(ChannelAddress channelAddress) {
+		try {
+			return this.componentManager.getChannel(channelAddress).channelDoc().getUnit().isCumulated();
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	@Override
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(//
+			final String edgeId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution //
+	) throws OpenemsNamedException {
+		return this.readHandler.queryHistoricData(fromDate, toDate, channels, resolution);
+	}
+
+	@Override
+	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(//
+			final String edgeId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels //
+	) throws OpenemsNamedException {
+		return this.readHandler.queryHistoricEnergy(fromDate, toDate, channels);
+	}
+
+	@Override
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(//
+			final String edgeId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution //
+	) throws OpenemsNamedException {
+		return this.readHandler.queryHistoricEnergyPerPeriod(fromDate, toDate, channels, resolution);
+	}
+
+	@Override
+	public Timeranges getResendTimeranges(//
+			final ChannelAddress notSendChannel, //
+			final long lastResendTimestamp //
+	) throws OpenemsNamedException {
+		return this.readHandler.getResendTimeranges(notSendChannel, lastResendTimestamp);
+	}
+
+	@Override
+	public SortedMap<Long, SortedMap<ChannelAddress, JsonElement>> queryResendData(//
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels //
+	) throws OpenemsNamedException {
+		return this.readHandler.queryResendData(fromDate, toDate, channels);
+	}
+
+	@Override
+	public CompletableFuture<Optional<Object>> getLatestValue(ChannelAddress channelAddress) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return this.readHandler.getLatestValue(channelAddress);
+			} catch (OpenemsNamedException e) {
+				return Optional.empty();
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Optional<Object>> getLatestValueOfNotExistingChannel(ChannelAddress channelAddress,
+			Unit unit) {
+		return this.getLatestValue(channelAddress);
+	}
+
+}
@@ -0,0 +1,136 @@
+package io.openems.edge.timedata.columnar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.timedata.columnar.ColumnarFile.Row;
+
+public class ColumnarReadHandlerTest {
+
+	// starts at 1. January 2020 00:00:00
+	private static final Instant START = Instant.ofEpochSecond(1577836800L);
+	private static final ZonedDateTime START_DATE = START.atZone(ZoneOffset.UTC);
+	private static final int ROWS_PER_DAY = 288;
+
+	private static final ChannelAddress POWER = new ChannelAddress("comp0", "Power");
+	private static final ChannelAddress ENERGY = new ChannelAddress("comp0", "Energy");
+	private static final ChannelAddress NOT_SEND = new ChannelAddress("comp0", "NotSend");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path directory;
+
+	@Before
+	public void before() throws IOException {
+		this.directory = this.folder.getRoot().toPath();
+		final var store = new ColumnarStore(this.directory, 12, 0);
+		for (var i = 0; i < ROWS_PER_DAY * 2; i++) {
+			store.append(new Row(START.plusSeconds(300L * i).getEpochSecond(), Map.of(//
+					POWER.toString(), (double) (i % 100), //
+					ENERGY.toString(), i * 25.0, //
+					NOT_SEND.toString(), i >= 300 && i < 310 ? 1.0 : 0.0)));
+		}
+		store.flush();
+	}
+
+	private ColumnarReadHandler createReadHandler() throws IOException {
+		final var store = new ColumnarStore(this.directory, 12, 0);
+		return new ColumnarReadHandler(store, ENERGY::equals);
+	}
+
+	@Test
+	public void testFiles() throws IOException {
+		try (var files = Files.list(this.directory)) {
+			assertEquals(2, files.count());
+		}
+		assertEquals(ROWS_PER_DAY / 12,
+				ColumnarFile.readIndex(this.directory.resolve("2020-01-01" + ColumnarStore.FILE_SUFFIX)).size());
+	}
+
+	@Test
+	public void testQueryHistoricData() throws Exception {
+		final var result = this.createReadHandler().queryHistoricData(START_DATE, START_DATE.plusDays(1),
+				Set.of(POWER, ENERGY), new Resolution(1, ChronoUnit.HOURS));
+		assertEquals(24, result.size());
+		final var first = result.get(START_DATE);
+		assertEquals(5.5, first.get(POWER).getAsDouble(), 0.001);
+		assertEquals(11 * 25.0, first.get(ENERGY).getAsDouble(), 0.001);
+	}
+
+	@Test
+	public void testQueryHistoricEnergy() throws Exception {
+		final var readHandler = this.createReadHandler();
+		assertEquals((ROWS_PER_DAY - 1) * 25.0, readHandler
+				.queryHistoricEnergy(START_DATE, START_DATE.plusDays(1), Set.of(ENERGY)).get(ENERGY).getAsDouble(),
+				0.001);
+
+		final var perPeriod = readHandler.queryHistoricEnergyPerPeriod(START_DATE, START_DATE.plusDays(2),
+				Set.of(ENERGY), new Resolution(1, ChronoUnit.DAYS));
+		assertEquals((ROWS_PER_DAY - 1) * 25.0, perPeriod.get(START_DATE).get(ENERGY).getAsDouble(), 0.001);
+		assertEquals(ROWS_PER_DAY * 25.0, perPeriod.get(START_DATE.plusDays(1)).get(ENERGY).getAsDouble(), 0.001);
+
+		// same result as one query per period
+		for (var entry : readHandler.queryHistoricEnergyPerPeriod(START_DATE, START_DATE.plusDays(2),
+				Set.of(ENERGY), new Resolution(3, ChronoUnit.HOURS)).entrySet()) {
+			assertEquals(readHandler.queryHistoricEnergy(entry.getKey(), entry.getKey().plusHours(3), Set.of(ENERGY)),
+					entry.getValue());
+		}
+	}
+
+	@Test
+	public void testGetLatestValue() throws Exception {
+		assertEquals((ROWS_PER_DAY * 2 - 1) % 100, (double) this.createReadHandler().getLatestValue(POWER).get(),
+				0.001);
+		assertFalse(this.createReadHandler().getLatestValue(new ChannelAddress("comp1", "Power")).isPresent());
+	}
+
+	@Test
+	public void testResend() throws Exception {
+		final var readHandler = this.createReadHandler();
+		final var timeranges = readHandler.getResendTimeranges(NOT_SEND, -1).getTimerangeAscending();
+		assertEquals(10, timeranges.size());
+		assertEquals(START.plusSeconds(300L * 300).getEpochSecond(), timeranges.get(0).getMinTimestamp());
+		assertEquals(START.plusSeconds(300L * 309).getEpochSecond(), timeranges.get(9).getMaxTimestamp());
+
+		final var data = readHandler.queryResendData(START_DATE, START_DATE.plusHours(1), Set.of(POWER));
+		assertEquals(13, data.size());
+		assertEquals(12.0, data.get(START_DATE.plusHours(1).toEpochSecond() * 1000).get(POWER).getAsDouble(),
+				0.001);
+	}
+
+	@Test
+	public void testIncompleteBlock() throws Exception {
+		final var file = this.directory.resolve("2020-01-02" + ColumnarStore.FILE_SUFFIX);
+		final var blocks = ColumnarFile.readIndex(file).size();
+		Files.write(file, new byte[] { 1, 2, 3 }, StandardOpenOption.APPEND);
+		assertEquals(blocks, ColumnarFile.readIndex(file).size());
+
+		final var store = new ColumnarStore(this.directory, 12, 0);
+		store.append(new Row(START.plusSeconds(300L * ROWS_PER_DAY * 2).getEpochSecond() - 1,
+				Map.of(POWER.toString(), 1000.0)));
+		store.flush();
+		assertEquals(blocks + 1, ColumnarFile.readIndex(file).size());
+		assertEquals(1000.0, (double) new ColumnarReadHandler(store, ENERGY::equals).getLatestValue(POWER).get(),
+				0.001);
+	}
+
+}
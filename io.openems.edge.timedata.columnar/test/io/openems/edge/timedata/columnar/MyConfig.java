@@ -0,0 +1,96 @@
+package io.openems.edge.timedata.columnar;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.test.AbstractComponentConfig;
+
+@SuppressWarnings("all")
+public class MyConfig extends AbstractComponentConfig implements Config {
+
+	protected static class Builder {
+		private String id;
+		private PersistencePriority persistencePriority;
+		private boolean readOnly;
+		private int rowsPerBlock;
+		private int retentionDays;
+		private boolean debugMode;
+
+		private Builder() {
+		}
+
+		public Builder setId(String id) {
+			this.id = id;
+			return this;
+		}
+
+		public Builder setPersistencePriority(PersistencePriority persistencePriority) {
+			this.persistencePriority = persistencePriority;
+			return this;
+		}
+
+		public Builder setReadOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return this;
+		}
+
+		public Builder setRowsPerBlock(int rowsPerBlock) {
+			this.rowsPerBlock = rowsPerBlock;
+			return this;
+		}
+
+		public Builder setRetentionDays(int retentionDays) {
+			this.retentionDays = retentionDays;
+			return this;
+		}
+
+		public Builder setDebugMode(boolean debugMode) {
+			this.debugMode = debugMode;
+			return this;
+		}
+
+		public MyConfig build() {
+			return new MyConfig(this);
+		}
+	}
+
+	/**
+	 * Create a Config builder.
+	 *
+	 * @return a {@link Builder}
+	 */
+	public static Builder create() {
+		return new Builder();
+	}
+
+	private final Builder builder;
+
+	private MyConfig(Builder builder) {
+		super(Config.class, builder.id);
+		this.builder = builder;
+	}
+
+	@Override
+	public PersistencePriority persistencePriority() {
+		return this.builder.persistencePriority;
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return this.builder.readOnly;
+	}
+
+	@Override
+	public int rowsPerBlock() {
+		return this.builder.rowsPerBlock;
+	}
+
+	@Override
+	public int retentionDays() {
+		return this.builder.retentionDays;
+	}
+
+	@Override
+	public boolean debugMode() {
+		return this.builder.debugMode;
+	}
+
+}
@@ -0,0 +1,28 @@
+package io.openems.edge.timedata.columnar;
+
+import static io.openems.common.channel.PersistencePriority.MEDIUM;
+
+import org.junit.Test;
+
+import io.openems.edge.common.test.AbstractComponentTest.TestCase;
+import io.openems.edge.common.test.ComponentTest;
+import io.openems.edge.common.test.DummyComponentManager;
+
+public class TimedataColumnarImplTest {
+
+	@Test
+	public void test() throws Exception {
+		new ComponentTest(new TimedataColumnarImpl()) //
+				.addReference("componentManager", new DummyComponentManager()) //
+				.activate(MyConfig.create() //
+						.setId("columnar0") //
+						.setPersistencePriority(MEDIUM) //
+						.setReadOnly(true) //
+						.setRowsPerBlock(12) //
+						.setRetentionDays(400) //
+						.build()) //
+				.next(new TestCase()) //
+				.deactivate();
+	}
+
+}
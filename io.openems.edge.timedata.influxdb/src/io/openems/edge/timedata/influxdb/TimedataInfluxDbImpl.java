@@ -27,7 +27,6 @@ import com.google.gson.JsonElement;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 
-import io.openems.common.channel.AccessMode;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.oem.OpenemsEdgeOem;
 import io.openems.common.timedata.Resolution;
@@ -128,38 +127,34 @@ public class TimedataInfluxDbImpl extends AbstractOpenemsComponent
 			final var point = Point.measurement(this.config.measurement()).time(timestamp, WritePrecision.MS);
 			final var addedAtLeastOneChannelValue = new AtomicBoolean(false);
 
-			this.componentManager.getEnabledComponents().stream() //
-					.flatMap(component -> component.channels().stream()) //
-					.filter(channel -> {
-						final var doc = channel.channelDoc();
-						return doc.getPersistencePriority().isAtLeast(this.config.persistencePriority())
-								&& doc.getAccessMode() != AccessMode.WRITE_ONLY; //
-					}) //
-					.forEach(channel -> {
-						Optional<?> valueOpt = channel.value().asOptional();
-						if (!valueOpt.isPresent()) {
-							// ignore not available channels
-							return;
-						}
-						Object value = valueOpt.get();
-						var address = channel.address().toString();
-						try {
-							switch (channel.getType()) {
-							case BOOLEAN -> point.addField(address, (Boolean) value ? 1 : 0);
-							case SHORT -> point.addField(address, (Short) value);
-							case INTEGER -> point.addField(address, (Integer) value);
-							case LONG -> point.addField(address, (Long) value);
-							case FLOAT -> point.addField(address, (Float) value);
-							case DOUBLE -> point.addField(address, (Double) value);
-							case STRING -> point.addField(address, (String) value);
-							}
-						} catch (IllegalArgumentException e) {
-							this.log.warn(
-									"Unable to add Channel [" + address + "] value [" + value + "]: " + e.getMessage());
-							return;
-						}
-						addedAtLeastOneChannelValue.set(true);
-					});
+			// Values of the Cycle snapshot; WRITE_ONLY Channels are not part of it
+			this.cycle.getChannelSnapshot().forEach((channel, channelValue) -> {
+				if (!channel.channelDoc().getPersistencePriority().isAtLeast(this.config.persistencePriority())) {
+					return;
+				}
+				Optional<?> valueOpt = channelValue.asOptional();
+				if (!valueOpt.isPresent()) {
+					// ignore not available channels
+					return;
+				}
+				Object value = valueOpt.get();
+				var address = channel.address().toString();
+				try {
+					switch (channel.getType()) {
+					case BOOLEAN -> point.addField(address, (Boolean) value ? 1 : 0);
+					case SHORT -> point.addField(address, (Short) value);
+					case INTEGER -> point.addField(address, (Integer) value);
+					case LONG -> point.addField(address, (Long) value);
+					case FLOAT -> point.addField(address, (Float) value);
+					case DOUBLE -> point.addField(address, (Double) value);
+					case STRING -> point.addField(address, (String) value);
+					}
+				} catch (IllegalArgumentException e) {
+					this.log.warn("Unable to add Channel [" + address + "] value [" + value + "]: " + e.getMessage());
+					return;
+				}
+				addedAtLeastOneChannelValue.set(true);
+			});
 
 			if (addedAtLeastOneChannelValue.get()) {
 				this.influxConnector.write(point);
@@ -25,6 +25,12 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Read-Only mode", description = "Activates the read-only mode. Then no data is written to rrd4j.")
 	boolean isReadOnly() default false;
 
+	@AttributeDefinition(name = "Backend", description = "Memory-mapped files (NIO) avoid a read/write system call per access; changes are synchronized to disk periodically.")
+	Rrd4jBackend backend() default Rrd4jBackend.RANDOM_ACCESS_FILE;
+
+	@AttributeDefinition(name = "Open-Handle Cache Size", description = "Maximum number of RRD4j files that are kept open between accesses; 0 disables the cache.")
+	int openHandleCacheSize() default 0;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
@@ -7,7 +7,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
@@ -29,7 +28,6 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
-import io.openems.common.channel.AccessMode;
 import io.openems.common.channel.PersistencePriority;
 import io.openems.common.channel.Unit;
 import io.openems.common.timedata.DurationUnit;
@@ -38,8 +36,10 @@ import io.openems.common.types.OpenemsType;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.channel.history.ChannelHistoryMode;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.cycle.ChannelSnapshot;
 
 @Component(//
 		scope = ServiceScope.PROTOTYPE, //
@@ -97,9 +97,9 @@ public class RecordWorker extends AbstractImmediateWorker {
 	}
 
 	/**
-	 * Collects the data from Channels. This is called synchronously by the main
-	 * OpenEMS cycle. On finish it triggers a next async task to write the data to
-	 * RRD4J.
+	 * Collects the data from the Channels of the {@link ChannelSnapshot}. This is
+	 * called synchronously by the main OpenEMS cycle. On finish it triggers a next
+	 * async task to write the data to RRD4J.
 	 * 
 	 * <p>
 	 * Cumulated Channels are collected with a timestamp rounded to the current
@@ -111,8 +111,10 @@ public class RecordWorker extends AbstractImmediateWorker {
 	 * 08:00 -> timestamp of the data
 	 * 08:35 -> timestamp the data gets collected
 	 * </pre>
+	 *
+	 * @param snapshot the {@link ChannelSnapshot} of the current Cycle
 	 */
-	public void collectData() {
+	public void collectData(ChannelSnapshot snapshot) {
 		final var timestamp = Instant.now(this.componentManager.getClock()) //
 				.truncatedTo(DurationUnit.ofSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS)) //
 				.minusSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS);
@@ -135,13 +137,11 @@ public class RecordWorker extends AbstractImmediateWorker {
 
 		this.lastTimestamp = timestamp;
 
-		this.componentManager.getEnabledComponents().stream() //
-				.flatMap(component -> component.channels().stream()) //
+		snapshot.channels() //
 				.filter(channel -> {
 					final var doc = channel.channelDoc();
 					return Optional.of(this.config.persistencePriority) //
-							.map(p -> doc.getPersistencePriority().isAtLeast(p)
-									&& doc.getAccessMode() != AccessMode.WRITE_ONLY) //
+							.map(p -> doc.getPersistencePriority().isAtLeast(p)) //
 							.orElse(false);
 				}).map(channel -> {
 					final var channelMapFunction = getChannelMapFunction(channel.channelDoc().getType());
@@ -155,28 +155,33 @@ public class RecordWorker extends AbstractImmediateWorker {
 						writeSeconds = timestamp.getEpochSecond();
 					}
 
-					// This is the highest timestamp before `startTime`. If existing it is used for
-					// the tailMap to make sure we get a Value even for Channels where the value has
-					// not changed within the last 5 minutes.
-					var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(from)) //
-							.orElse(from);
-
-					var value = channelAggregateFunction.apply(//
-							channel.getPastValues() //
-									.tailMap(channelStartTime, true) //
-									.entrySet().stream() //
-									.filter(e -> e.getKey().isBefore(to)) //
-									.map(Entry::getValue) //
-									.map(Value::get) //
-									.filter(Objects::nonNull) //
-									.mapToDouble(channelMapFunction) // convert to double
-					);
+					final OptionalDouble value;
+					if (channel.getHistory().getMode() == ChannelHistoryMode.CHANGES_ONLY) {
+						// Calculate time-weighted from runs
+						value = aggregateHistoryRuns(channel, from, to);
 
-					if (channel.channelDoc() instanceof EnumDoc) {
-						final var enumChannelValue = aggregateEnumChannel(channel, channelStartTime, to);
-						if (!enumChannelValue.isJsonNull()) {
-							value = OptionalDouble.of(enumChannelValue.getAsDouble());
+					} else {
+						// This is the highest timestamp before `startTime`. If existing it is used for
+						// the tailMap to make sure we get a Value even for Channels where the value has
+						// not changed within the last 5 minutes.
+						var channelStartTime = Optional.ofNullable(channel.getHistory().floorTimestamp(from)) //
+								.orElse(from);
+
+						var aggregatedValue = channelAggregateFunction.apply(//
+								channel.getPastValues(channelStartTime).stream() //
+										.filter(v -> v.getTimestamp().isBefore(to)) //
+										.map(Value::get) //
+										.filter(Objects::nonNull) //
+										.mapToDouble(channelMapFunction) // convert to double
+						);
+
+						if (channel.channelDoc() instanceof EnumDoc) {
+							final var enumChannelValue = aggregateEnumChannel(channel, channelStartTime, to);
+							if (!enumChannelValue.isJsonNull()) {
+								aggregatedValue = OptionalDouble.of(enumChannelValue.getAsDouble());
+							}
 						}
+						value = aggregatedValue;
 					}
 
 					if (!value.isPresent()) {
@@ -209,8 +214,9 @@ public class RecordWorker extends AbstractImmediateWorker {
 			return;
 		}
 
-		try (var database = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
+		try (var handle = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
 				record.timestamp - 1)) {
+			final var database = handle.db();
 			if (database.getLastUpdateTime() == record.timestamp()) {
 				// overwrite last value if same time stamp
 				final var robin = database.getArchive(0).getRobin(0);
@@ -262,6 +268,26 @@ public class RecordWorker extends AbstractImmediateWorker {
 		};
 	}
 
+	/**
+	 * Aggregates the values of a {@link Channel} with
+	 * {@link ChannelHistoryMode#CHANGES_ONLY} time-weighted from its runs.
+	 *
+	 * @param channel the {@link Channel}
+	 * @param from    the start time (inclusive)
+	 * @param to      the end time (exclusive)
+	 * @return the aggregated value; empty if there are no defined values
+	 */
+	protected static OptionalDouble aggregateHistoryRuns(Channel<?> channel, LocalDateTime from, LocalDateTime to) {
+		final var history = channel.getHistory();
+		if (channel.channelDoc() instanceof EnumDoc) {
+			return history.getDominantValue(from, to);
+		}
+		if (channel.channelDoc().getUnit().isCumulated()) {
+			return history.getMax(from, to);
+		}
+		return history.getTimeWeightedAverage(from, to);
+	}
+
 	protected static JsonElement aggregateEnumChannel(//
 			Channel<?> channel, //
 			LocalDateTime channelStartTime, //
@@ -271,13 +297,12 @@ public class RecordWorker extends AbstractImmediateWorker {
 		if (!(doc instanceof EnumDoc)) {
 			return JsonNull.INSTANCE;
 		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
-				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
+		final var pastValues = channel.getPastValues(channelStartTime).stream() //
+				.filter(v -> v.getTimestamp().isBefore(endTime)) //
+				.filter(Value::isDefined) //
+				.toList();
+		final var numberOfValuesPerOption = pastValues.stream() //
+				.map(v -> (Integer) v.get()) //
 				.collect(groupingBy(Function.identity(), counting()));
 
 		final var values = numberOfValuesPerOption.entrySet().stream() //
@@ -300,13 +325,10 @@ public class RecordWorker extends AbstractImmediateWorker {
 		}
 
 		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
+		for (var i = pastValues.size() - 1; i >= 0; i--) {
+			final var entryValue = ((Integer) pastValues.get(i).get()).intValue();
 			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
-					continue;
-				}
-				final var entryValue = entry.getValue().get();
-				if (((Integer) entryValue).intValue() == optionValue) {
+				if (entryValue == optionValue) {
 					return new JsonPrimitive(optionValue);
 				}
 			}
@@ -0,0 +1,30 @@
+package io.openems.edge.timedata.rrd4j;
+
+import org.rrd4j.core.RrdBackendFactory;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
+
+public enum Rrd4jBackend {
+
+	/**
+	 * Reads and writes the RRD4j files via {@link java.io.RandomAccessFile}.
+	 */
+	RANDOM_ACCESS_FILE, //
+
+	/**
+	 * Memory-maps the RRD4j files; changes are synchronized to disk periodically.
+	 */
+	NIO;
+
+	/**
+	 * Creates a new {@link RrdBackendFactory} for this backend.
+	 *
+	 * @return the {@link RrdBackendFactory}
+	 */
+	public RrdBackendFactory createFactory() {
+		return switch (this) {
+		case RANDOM_ACCESS_FILE -> new RrdRandomAccessFileBackendFactory();
+		case NIO -> new RrdNioBackendFactory();
+		};
+	}
+}
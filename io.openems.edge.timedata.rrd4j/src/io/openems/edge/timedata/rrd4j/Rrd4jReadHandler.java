@@ -168,12 +168,12 @@ public class Rrd4jReadHandler {
 			// unable to get channel
 			throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 		}
-		try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+		try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 				rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-			if (database == null) {
+			if (handle == null) {
 				throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 			}
-			return getTimerangesOfNotSendData(database, lastResendTimestamp);
+			return getTimerangesOfNotSendData(handle.db(), lastResendTimestamp);
 		} catch (IOException e) {
 			throw new OpenemsException("Unable to query database.", e);
 		}
@@ -213,15 +213,16 @@ public class Rrd4jReadHandler {
 				}
 				continue;
 			}
-			try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+			try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 					rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (handle == null) {
 					if (debugMode) {
 						this.log.warn("Unable to query RRD4j: " //
 								+ "RRD4j Database for " + channelAddress + " is missing");
 					}
 					continue;
 				}
+				final var database = handle.db();
 
 				for (int i = 0; i < database.getArcCount(); i++) {
 					final var archive = database.getArchive(i);
@@ -311,9 +312,9 @@ public class Rrd4jReadHandler {
 				}
 				final var chDef = Rrd4jSupplier.getDsDefForChannel(channel.channelDoc().getUnit());
 				final double[] result;
-				try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
+				try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
 						channel.channelDoc().getUnit())) {
-					if (database == null) {
+					if (handle == null) {
 						if (debugMode) {
 							this.log.warn(
 									"Unable to query RRD4j" + "RRD4j Database for " + channelAddress + " is missing");
@@ -321,6 +322,7 @@ public class Rrd4jReadHandler {
 						errorCounter++;
 						continue;
 					}
+					final var database = handle.db();
 
 					final var fetchedData = database
 							.createFetchRequest(chDef.consolFun(), fromTimestamp, toTimeStamp, resolution.toSeconds())
@@ -403,15 +405,16 @@ public class Rrd4jReadHandler {
 						}
 						return JsonNull.INSTANCE;
 					}
-					try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+					try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 							rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-						if (database == null) {
+						if (handle == null) {
 							if (debugMode) {
 								this.log.warn("Unable to query RRD4j: " //
 										+ "RRD4j Database for " + channelAddress + " is missing");
 							}
 							return JsonNull.INSTANCE;
 						}
+						final var database = handle.db();
 
 						var first = getFirstValueBefore(database, fromTimestamp);
 
@@ -452,6 +455,11 @@ public class Rrd4jReadHandler {
 	 * {@link Resolution}) per Channel, e.g. to visualize energy in a histogram
 	 * chart. For each period the energy is calculated by subtracting first value of
 	 * the period from the last value of the period.
+	 * 
+	 * <p>
+	 * The result is the same as calling
+	 * {@link #queryHistoricEnergy(String, ZonedDateTime, ZonedDateTime, Set, boolean)}
+	 * for every period, but every {@link RrdDb} is opened and read only once.
 	 *
 	 * @param rrdDbId    the id of the rrdb
 	 * @param fromDate   the From-Date
@@ -469,15 +477,132 @@ public class Rrd4jReadHandler {
 			final Resolution resolution, //
 			final boolean debugMode //
 	) throws OpenemsNamedException {
-		return streamRanges(fromDate, toDate, resolution) //
-				.collect(Collectors.toMap(Range::from, range -> {
-					try {
-						return this.queryHistoricEnergy(rrdDbId, range.from(), range.to(), channels, debugMode);
-					} catch (OpenemsNamedException e) {
-						return channels.stream().collect(Collectors.toMap(Function.identity(),
-								channel -> JsonNull.INSTANCE, (t, u) -> t, TreeMap::new));
-					}
-				}, (t, u) -> t, TreeMap::new));
+		final var ranges = streamRanges(fromDate, toDate, resolution).toList();
+		final var table = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		for (var range : ranges) {
+			table.put(range.from(), new TreeMap<>());
+		}
+
+		for (var channelAddress : channels) {
+			final var energies = this.queryEnergyPerRange(rrdDbId, channelAddress, ranges, debugMode);
+			for (var i = 0; i < ranges.size(); i++) {
+				final var energy = energies == null ? Double.NaN : energies[i];
+				table.get(ranges.get(i).from()).put(channelAddress, Double.isNaN(energy) //
+						? JsonNull.INSTANCE
+						: new JsonPrimitive(energy));
+			}
+		}
+		return table;
+	}
+
+	private double[] queryEnergyPerRange(String rrdDbId, ChannelAddress channelAddress, List<Range> ranges,
+			boolean debugMode) {
+		final Channel<?> channel;
+		try {
+			channel = this.componentManager.getChannel(channelAddress);
+		} catch (Exception e) {
+			// unable to get channel
+			if (debugMode) {
+				this.log.warn("Unable to query RRD4j", e);
+			}
+			return null;
+		}
+		try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+				rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
+			if (handle == null) {
+				if (debugMode) {
+					this.log.warn("Unable to query RRD4j: " //
+							+ "RRD4j Database for " + channelAddress + " is missing");
+				}
+				return null;
+			}
+			return calculateEnergyPerRange(handle.db(), ranges);
+		} catch (Exception e) {
+			if (debugMode) {
+				this.log.warn("Unable to query RRD4j", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Calculates the energy of each {@link Range} from the first {@link Archive} of
+	 * the given database in a single pass.
+	 * 
+	 * <p>
+	 * Uses the same rules as {@link #getFirstValueBefore(RrdDb, long)} and
+	 * {@link #getLastValue(RrdDb, long, long)}.
+	 * 
+	 * @param database the {@link RrdDb}
+	 * @param ranges   the {@link Range}s, sorted ascending
+	 * @return the energy per {@link Range}; {@link Double#NaN} if not available
+	 * @throws IOException on I/O error
+	 */
+	protected static double[] calculateEnergyPerRange(RrdDb database, List<Range> ranges) throws IOException {
+		final var result = new double[ranges.size()];
+		if (ranges.isEmpty()) {
+			return result;
+		}
+
+		final var archive = database.getArchive(0);
+		final var start = archive.getStartTime();
+		final var end = archive.getEndTime();
+		final var step = archive.getArcStep();
+		final var robin = archive.getRobin(0);
+
+		// Only read values up to the end of the last Range
+		final var lastTo = ranges.get(ranges.size() - 1).to().toEpochSecond();
+		final var count = lastTo < start ? 0 : Math.min((int) ((lastTo - start) / step), robin.getSize());
+		final var values = count > 0 ? robin.getValues(0, count) : new double[0];
+
+		// Index of the last valid value at or before each index; the value at index 0
+		// is never used
+		final var lastValidIndex = new int[values.length];
+		var lastValid = -1;
+		for (var i = 0; i < values.length; i++) {
+			if (i > 0 && !Double.isNaN(values[i])) {
+				lastValid = i;
+			}
+			lastValidIndex[i] = lastValid;
+		}
+
+		for (var r = 0; r < result.length; r++) {
+			final var from = ranges.get(r).from().toEpochSecond();
+			final var to = ranges.get(r).to().toEpochSecond();
+
+			// First value before the Range
+			var first = Double.NaN;
+			if (start <= from) {
+				final var index = lastValidIndex(lastValidIndex, (int) ((from - start) / step) - 1);
+				if (index > 0) {
+					first = values[index];
+				}
+			}
+
+			// Last value in the Range
+			var last = Double.NaN;
+			if (end >= from && start <= to) {
+				final var startIndex = Math.max(0, (int) ((from - start) / step));
+				final var index = lastValidIndex(lastValidIndex, (int) ((to - start) / step) - 1);
+				if (index > startIndex) {
+					last = values[index];
+				}
+			}
+
+			if (Double.isNaN(first)) {
+				result[r] = last;
+			} else if (Double.isNaN(last)) {
+				result[r] = Double.NaN;
+			} else {
+				result[r] = last - first;
+			}
+		}
+		return result;
+	}
+
+	private static int lastValidIndex(int[] lastValidIndex, int endIndex) {
+		final var index = Math.min(endIndex, lastValidIndex.length - 1);
+		return index < 0 ? -1 : lastValidIndex[index];
 	}
 
 	protected static record Range(ZonedDateTime from, ZonedDateTime to) {
@@ -556,11 +681,12 @@ public class Rrd4jReadHandler {
 				return Optional.empty();
 			}
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
+			try (var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
 					channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (handle == null) {
 					return Optional.empty();
 				}
+				final var database = handle.db();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
@@ -599,10 +725,11 @@ public class Rrd4jReadHandler {
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress, unit)) {
-				if (database == null) {
+			try (var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress, unit)) {
+				if (handle == null) {
 					return Optional.empty();
 				}
+				final var database = handle.db();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
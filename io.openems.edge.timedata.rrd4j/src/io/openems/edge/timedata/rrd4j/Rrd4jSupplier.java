@@ -10,10 +10,13 @@ import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.rrd4j.ConsolFun;
@@ -47,7 +50,10 @@ public class Rrd4jSupplier {
 	private VersionHandler versionHandler;
 
 	private final KeyLock keyLock = new KeyLock();
-	private final RrdBackendFactory factory;
+	private final RrdDbCache cache = new RrdDbCache(this.keyLock);
+	// null if created with a custom factory
+	private volatile Rrd4jBackend backend = null;
+	private volatile RrdBackendFactory factory;
 
 	// channelAddress, rrdDbId => file path
 	private final BiFunction<ChannelAddress, String, String> fileValidator;
@@ -72,6 +78,59 @@ public class Rrd4jSupplier {
 					return file.toURI().toString();
 				} //
 		);
+		this.backend = Rrd4jBackend.RANDOM_ACCESS_FILE;
+	}
+
+	@Deactivate
+	private void deactivate() {
+		try {
+			this.cache.clear();
+		} catch (IOException e) {
+			this.log.warn("Unable to close cached RrdDbs: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Configures the {@link Rrd4jBackend} and the size of the cache of open
+	 * {@link RrdDb RrdDbs}.
+	 *
+	 * <p>
+	 * Switching the backend closes all cached {@link RrdDb RrdDbs}.
+	 *
+	 * <p>
+	 * The backend of a {@link Rrd4jSupplier} created with a custom
+	 * {@link RrdBackendFactory} is never switched.
+	 *
+	 * @param backend             the {@link Rrd4jBackend}
+	 * @param openHandleCacheSize the maximum number of cached {@link RrdDb
+	 *                            RrdDbs}; 0 disables the cache
+	 * @throws IOException on error while closing cached {@link RrdDb RrdDbs}
+	 */
+	public synchronized void configure(Rrd4jBackend backend, int openHandleCacheSize) throws IOException {
+		if (this.backend != null && backend != this.backend) {
+			this.cache.clear();
+			this.factory = backend.createFactory();
+			this.backend = backend;
+		}
+		this.cache.setMaxSize(openHandleCacheSize);
+	}
+
+	/**
+	 * Gets the number of currently cached open {@link RrdDb RrdDbs}.
+	 *
+	 * @return the number of open handles
+	 */
+	public int getOpenHandles() {
+		return this.cache.getOpenHandles();
+	}
+
+	/**
+	 * Gets the hit rate of the cache of open {@link RrdDb RrdDbs}.
+	 *
+	 * @return the hit rate in [%]; null if nothing was requested yet
+	 */
+	public Integer getOpenHandleCacheHitRate() {
+		return this.cache.getHitRate();
 	}
 
 	/**
@@ -85,16 +144,16 @@ public class Rrd4jSupplier {
 	 * @param channelUnit    the {@link Unit}
 	 * @param startTime      the starttime for newly created RrdDbs
 	 * @param rrdDbId        the id of the rrd4j database
-	 * @return the RrdDb
+	 * @return the {@link RrdDbHandle}; to be closed after usage
 	 * @throws IOException on error
 	 */
-	public RrdDb getRrdDb(//
+	public RrdDbHandle getRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit, //
 			final long startTime //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		return this.cache.get(rrdDbId + "/" + channelAddress.toString(), () -> {
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb != null) {
 				// Database exists
@@ -112,15 +171,16 @@ public class Rrd4jSupplier {
 	 * @param rrdDbId        the id of the RrdDb
 	 * @param channelAddress the address of the {@link RrdDb}
 	 * @param channelUnit    the unit of the channel
-	 * @return the {@link RrdDb} or null if not existing
+	 * @return the {@link RrdDbHandle} or null if not existing; to be closed after
+	 *         usage
 	 * @throws IOException on IO-Error
 	 */
-	public RrdDb getExistingUpdatedRrdDb(//
+	public RrdDbHandle getExistingUpdatedRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		return this.cache.get(rrdDbId + "/" + channelAddress.toString(), () -> {
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb == null) {
 				return null;
@@ -140,9 +200,9 @@ public class Rrd4jSupplier {
 		return switch (channelUnit) {
 		case AMPERE, AMPERE_HOURS, DEGREE_CELSIUS, DEZIDEGREE_CELSIUS, MONEY_PER_MEGAWATT_HOUR, HERTZ, HOUR,
 				KILOAMPERE_HOURS, KILOOHM, KILOVOLT_AMPERE, KILOVOLT_AMPERE_REACTIVE, KILOWATT, MICROOHM, MICROAMPERE,
-				MICROVOLT, MILLIAMPERE_HOURS, MILLIAMPERE, MILLIHERTZ, MILLIOHM, MILLISECONDS, MILLIVOLT, MILLIWATT,
-				MINUTE, NONE, WATT, VOLT, VOLT_AMPERE, VOLT_AMPERE_REACTIVE, WATT_HOURS_BY_WATT_PEAK, OHM, SECONDS,
-				THOUSANDTH, WATT_HOURS, KILOWATT_HOURS, VOLT_AMPERE_HOURS, VOLT_AMPERE_REACTIVE_HOURS,
+				MICROVOLT, MILLIAMPERE_HOURS, MILLIAMPERE, MILLIHERTZ, MILLIOHM, MILLISECONDS, MICROSECONDS, MILLIVOLT,
+				MILLIWATT, MINUTE, NONE, WATT, VOLT, VOLT_AMPERE, VOLT_AMPERE_REACTIVE, WATT_HOURS_BY_WATT_PEAK, OHM,
+				SECONDS, THOUSANDTH, WATT_HOURS, KILOWATT_HOURS, VOLT_AMPERE_HOURS, VOLT_AMPERE_REACTIVE_HOURS,
 				KILOVOLT_AMPERE_REACTIVE_HOURS, BAR, MILLIBAR, TENTHOUSANDTH, DEZIAMPERE, DEZIVOLT ->
 			new ChannelDef(DsType.GAUGE, Double.NaN, Double.NaN, ConsolFun.AVERAGE);
 		case PERCENT -> new ChannelDef(DsType.GAUGE, 0, 100, ConsolFun.AVERAGE);
@@ -378,16 +438,45 @@ public class Rrd4jSupplier {
 		return result;
 	}
 
-	private class KeyLock {
+	static class KeyLock {
 
-		private final Map<String, Object> locks = new ConcurrentHashMap<>();
+		private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
 
 		public <T, E extends Exception> T lock(String key, ThrowingSupplier<T, E> supplier) throws E {
-			synchronized (this.locks.computeIfAbsent(key, t -> new Object())) {
+			final var lock = this.acquire(key);
+			try {
 				return supplier.get();
+			} finally {
+				lock.unlock();
 			}
 		}
 
+		/**
+		 * Acquires the lock of the given key. The lock has to be released by the same
+		 * thread via {@link Lock#unlock()}.
+		 *
+		 * @param key the key
+		 * @return the acquired {@link Lock}
+		 */
+		public Lock acquire(String key) {
+			final var lock = this.locks.computeIfAbsent(key, t -> new ReentrantLock());
+			lock.lock();
+			return lock;
+		}
+
+		/**
+		 * Acquires the lock of the given key only if it is not held by another
+		 * thread.
+		 *
+		 * @param key the key
+		 * @return the acquired {@link Lock}; null if the lock is held by another
+		 *         thread
+		 */
+		public Lock tryAcquire(String key) {
+			final var lock = this.locks.computeIfAbsent(key, t -> new ReentrantLock());
+			return lock.tryLock() ? lock : null;
+		}
+
 	}
 
 }
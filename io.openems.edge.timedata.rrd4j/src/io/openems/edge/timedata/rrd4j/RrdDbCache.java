@@ -0,0 +1,243 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+
+import org.rrd4j.core.RrdDb;
+
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.edge.timedata.rrd4j.Rrd4jSupplier.KeyLock;
+
+/**
+ * Bounded LRU-Cache of open {@link RrdDb RrdDbs}.
+ *
+ * <p>
+ * Every {@link RrdDbHandle} provided by this cache holds an exclusive lease on
+ * its {@link RrdDb}: the {@link KeyLock} of its key is held until the
+ * {@link RrdDbHandle} is closed, so a {@link RrdDb} is never read and written
+ * by different threads at the same time, and a file is never opened while it
+ * is being closed. Only {@link RrdDb RrdDbs} without active leases get evicted;
+ * if all entries are leased the cache may temporarily exceed its maximum size.
+ */
+class RrdDbCache {
+
+	private static final class Entry {
+
+		private final String key;
+		private final RrdDb db;
+		private int leases = 0;
+		private boolean isEvicted = false;
+
+		private Entry(String key, RrdDb db) {
+			this.key = key;
+			this.db = db;
+		}
+
+	}
+
+	private final KeyLock keyLock;
+	// access-ordered: first entry is the least recently used one
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private volatile int maxSize = 0;
+
+	protected RrdDbCache(KeyLock keyLock) {
+		this.keyLock = keyLock;
+	}
+
+	/**
+	 * Sets the maximum number of cached {@link RrdDb RrdDbs}; 0 disables the
+	 * cache. Surplus entries are evicted.
+	 *
+	 * @param maxSize the maximum size
+	 * @throws IOException on error while closing an evicted {@link RrdDb}
+	 */
+	public void setMaxSize(int maxSize) throws IOException {
+		this.maxSize = Math.max(0, maxSize);
+		this.evict();
+	}
+
+	/**
+	 * Gets a {@link RrdDbHandle} for the given key; opens the {@link RrdDb} using
+	 * the opener if it is not cached.
+	 *
+	 * <p>
+	 * Blocks while another thread holds a {@link RrdDbHandle} for the same key.
+	 * The {@link RrdDbHandle} has to be closed by the calling thread.
+	 *
+	 * @param key    the key, i.e. "rrdDbId/channelAddress"
+	 * @param opener opens the {@link RrdDb}; may return null
+	 * @return the {@link RrdDbHandle} or null if the opener returned null
+	 * @throws IOException on error
+	 */
+	public RrdDbHandle get(String key, ThrowingSupplier<RrdDb, IOException> opener) throws IOException {
+		final var lock = this.keyLock.acquire(key);
+		final RrdDbHandle handle;
+		try {
+			handle = this.getLocked(key, opener, lock);
+		} catch (IOException | RuntimeException e) {
+			lock.unlock();
+			throw e;
+		}
+		if (handle == null) {
+			lock.unlock();
+			return null;
+		}
+		this.evict();
+		return handle;
+	}
+
+	// must be called while holding the KeyLock of the key
+	private RrdDbHandle getLocked(String key, ThrowingSupplier<RrdDb, IOException> opener, Lock lock)
+			throws IOException {
+		synchronized (this) {
+			final var entry = this.entries.get(key);
+			if (entry != null) {
+				this.hits.increment();
+				return this.lease(entry, lock);
+			}
+		}
+		this.misses.increment();
+		final var db = opener.get();
+		if (db == null) {
+			return null;
+		}
+		if (this.maxSize == 0) {
+			return new RrdDbHandle(db, () -> {
+				try {
+					db.close();
+				} finally {
+					lock.unlock();
+				}
+			});
+		}
+		final var entry = new Entry(key, db);
+		synchronized (this) {
+			this.entries.put(key, entry);
+			return this.lease(entry, lock);
+		}
+	}
+
+	/**
+	 * Closes all cached {@link RrdDb RrdDbs}. Leased {@link RrdDb RrdDbs} are
+	 * closed as soon as their last {@link RrdDbHandle} is closed.
+	 *
+	 * @throws IOException on error
+	 */
+	public void clear() throws IOException {
+		final var unleased = new ArrayList<Entry>();
+		synchronized (this) {
+			for (var entry : this.entries.values()) {
+				entry.isEvicted = true;
+				if (entry.leases == 0) {
+					unleased.add(entry);
+				}
+			}
+			this.entries.clear();
+		}
+		for (var entry : unleased) {
+			this.close(entry);
+		}
+	}
+
+	/**
+	 * Gets the number of currently cached {@link RrdDb RrdDbs}.
+	 *
+	 * @return the number of open handles
+	 */
+	public synchronized int getOpenHandles() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Gets the cache hit rate since start.
+	 *
+	 * @return the hit rate in [%]; null if nothing was requested yet
+	 */
+	public Integer getHitRate() {
+		final var hits = this.hits.sum();
+		final var total = hits + this.misses.sum();
+		if (total == 0) {
+			return null;
+		}
+		return (int) Math.round(hits * 100.0 / total);
+	}
+
+	// must be called while holding the monitor and the KeyLock of the entry
+	private RrdDbHandle lease(Entry entry, Lock lock) {
+		entry.leases++;
+		return new RrdDbHandle(entry.db, () -> {
+			try {
+				this.release(entry);
+			} finally {
+				lock.unlock();
+			}
+		});
+	}
+
+	private void release(Entry entry) throws IOException {
+		final boolean close;
+		final boolean evict;
+		synchronized (this) {
+			entry.leases--;
+			close = entry.isEvicted && entry.leases == 0;
+			evict = this.entries.size() > this.maxSize;
+		}
+		if (close) {
+			this.close(entry);
+		} else if (evict) {
+			// cache exceeded its maximum size while all entries were in use
+			this.evict();
+		}
+	}
+
+	private void evict() throws IOException {
+		final List<Entry> candidates;
+		synchronized (this) {
+			if (this.entries.size() <= this.maxSize) {
+				return;
+			}
+			candidates = this.entries.values().stream() //
+					.filter(e -> e.leases == 0) //
+					.toList();
+		}
+		for (var candidate : candidates) {
+			// Never wait for a KeyLock here: the caller might hold the KeyLock of another
+			// key, while the owner of this KeyLock waits for that one.
+			final var lock = this.keyLock.tryAcquire(candidate.key);
+			if (lock == null) {
+				// currently in use
+				continue;
+			}
+			try {
+				synchronized (this) {
+					if (this.entries.size() <= this.maxSize) {
+						return;
+					}
+					if (candidate.isEvicted || candidate.leases != 0) {
+						continue;
+					}
+					candidate.isEvicted = true;
+					this.entries.remove(candidate.key);
+				}
+				candidate.db.close();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void close(Entry entry) throws IOException {
+		this.keyLock.lock(entry.key, () -> {
+			entry.db.close();
+			return null;
+		});
+	}
+
+}
@@ -0,0 +1,47 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.rrd4j.core.RrdDb;
+
+import io.openems.common.function.ThrowingRunnable;
+
+/**
+ * A handle to a {@link RrdDb} provided by the {@link Rrd4jSupplier}.
+ *
+ * <p>
+ * The handle grants exclusive access to the {@link RrdDb} and has to be closed
+ * by the thread that acquired it. Closing the handle releases the
+ * {@link RrdDb}; it is only actually closed if it is not kept open by the
+ * {@link RrdDbCache}. Never close the {@link RrdDb} directly.
+ */
+public final class RrdDbHandle implements Closeable {
+
+	private final RrdDb db;
+	private final ThrowingRunnable<IOException> onClose;
+	private boolean isClosed = false;
+
+	protected RrdDbHandle(RrdDb db, ThrowingRunnable<IOException> onClose) {
+		this.db = db;
+		this.onClose = onClose;
+	}
+
+	/**
+	 * Gets the {@link RrdDb}.
+	 *
+	 * @return the {@link RrdDb}
+	 */
+	public RrdDb db() {
+		return this.db;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (this.isClosed) {
+			return;
+		}
+		this.isClosed = true;
+		this.onClose.run();
+	}
+}
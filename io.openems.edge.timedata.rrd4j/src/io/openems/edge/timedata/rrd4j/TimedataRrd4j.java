@@ -1,7 +1,10 @@
 package io.openems.edge.timedata.rrd4j;
 
 import io.openems.common.channel.Level;
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -11,7 +14,12 @@ public interface TimedataRrd4j extends Timedata, OpenemsComponent {
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		QUEUE_IS_FULL(Doc.of(Level.WARNING)), //
-		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING));
+		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING)), //
+		OPEN_HANDLES(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of RRD4j files kept open by the Open-Handle Cache")), //
+		OPEN_HANDLE_CACHE_HIT_RATE(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.PERCENT) //
+				.text("Hit rate of the Open-Handle Cache"));
 
 		private final Doc doc;
 
@@ -80,4 +88,61 @@ public interface TimedataRrd4j extends Timedata, OpenemsComponent {
 	public default void _setUnableToInsertSample(Boolean value) {
 		this.getUnableToInsertSampleChannel().setNextValue(value);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPEN_HANDLES}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getOpenHandlesChannel() {
+		return this.channel(ChannelId.OPEN_HANDLES);
+	}
+
+	/**
+	 * Gets the number of open handles. See {@link ChannelId#OPEN_HANDLES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getOpenHandles() {
+		return this.getOpenHandlesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#OPEN_HANDLES}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOpenHandles(Integer value) {
+		this.getOpenHandlesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPEN_HANDLE_CACHE_HIT_RATE}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getOpenHandleCacheHitRateChannel() {
+		return this.channel(ChannelId.OPEN_HANDLE_CACHE_HIT_RATE);
+	}
+
+	/**
+	 * Gets the hit rate of the Open-Handle Cache in [%]. See
+	 * {@link ChannelId#OPEN_HANDLE_CACHE_HIT_RATE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getOpenHandleCacheHitRate() {
+		return this.getOpenHandleCacheHitRateChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#OPEN_HANDLE_CACHE_HIT_RATE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOpenHandleCacheHitRate(Integer value) {
+		this.getOpenHandleCacheHitRateChannel().setNextValue(value);
+	}
 }
@@ -25,6 +25,7 @@ import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.Cycle;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.timedata.api.Timedata;
 import io.openems.edge.timedata.api.Timeranges;
@@ -48,6 +49,12 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 	@Reference
 	private Rrd4jReadHandler readHandler;
 
+	@Reference
+	private Rrd4jSupplier rrd4jSupplier;
+
+	@Reference
+	private Cycle cycle;
+
 	private boolean debugMode = false;
 
 	public TimedataRrd4jImpl() {
@@ -62,6 +69,8 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 	private void activate(ComponentContext context, Config config) throws Exception {
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.debugMode = config.debugMode();
+		// Rrd4jSupplier is a singleton; the last activated configuration applies
+		this.rrd4jSupplier.configure(config.backend(), config.openHandleCacheSize());
 
 		this.worker = this.workerFactory.get();
 		this.worker.setConfig(new RecordWorker.Config(//
@@ -152,7 +161,9 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 		}
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
-			this.worker.collectData();
+			this.worker.collectData(this.cycle.getChannelSnapshot());
+			this._setOpenHandles(this.rrd4jSupplier.getOpenHandles());
+			this._setOpenHandleCacheHitRate(this.rrd4jSupplier.getOpenHandleCacheHitRate());
 			break;
 		}
 	}
@@ -11,6 +11,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private boolean readOnly;
 		private boolean debugMode;
+		private Rrd4jBackend backend = Rrd4jBackend.RANDOM_ACCESS_FILE;
+		private int openHandleCacheSize = 0;
 
 		private Builder() {
 		}
@@ -35,6 +37,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setBackend(Rrd4jBackend backend) {
+			this.backend = backend;
+			return this;
+		}
+
+		public Builder setOpenHandleCacheSize(int openHandleCacheSize) {
+			this.openHandleCacheSize = openHandleCacheSize;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -66,6 +78,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.readOnly;
 	}
 
+	@Override
+	public Rrd4jBackend backend() {
+		return this.builder.backend;
+	}
+
+	@Override
+	public int openHandleCacheSize() {
+		return this.builder.openHandleCacheSize;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
@@ -0,0 +1,124 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static io.openems.common.utils.ReflectionUtils.setAttributeViaReflection;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.timedata.rrd4j.Rrd4jReadHandlerTest.DummyComponent;
+import io.openems.edge.timedata.rrd4j.version.Version.CreateDatabaseConfig;
+import io.openems.edge.timedata.rrd4j.version.Version3Test;
+import io.openems.edge.timedata.rrd4j.version.VersionHandler;
+
+/**
+ * Compares the runtime of
+ * {@link Rrd4jReadHandler#queryHistoricEnergyPerPeriod(String, ZonedDateTime, ZonedDateTime, Set, Resolution, boolean)}
+ * with one
+ * {@link Rrd4jReadHandler#queryHistoricEnergy(String, ZonedDateTime, ZonedDateTime, Set, boolean)}
+ * per period over a synthetic year of data.
+ */
+public class Rrd4jReadHandlerPerformanceTestApp {
+
+	// starts at 1. January 2020 00:00:00
+	private static final Instant START = Instant.ofEpochSecond(1577836800L);
+	private static final int DAYS = 365;
+	private static final int ITERATIONS = 20;
+	private static final String RRD_DB_ID = "rrdbId";
+
+	/**
+	 * Runs the performance test.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		final var factory = new RrdMemoryBackendFactory();
+		final var version3 = Version3Test.createDummyVersion3(//
+				10_800, // 1 step (60 minutes), 10800 rows (450 days)
+				129_600 // 1 step (5 minutes), 129600 rows (450 days)
+		);
+		final var component = new DummyComponent("comp0");
+		final var power = component.channel(DummyComponent.ChannelId.DUMMY_CHANNEL).address();
+		final var energy = component.channel(DummyComponent.ChannelId.DUMMY_ENERGY).address();
+
+		// Fill a year of 5-minute values
+		final var powerDb = version3.createNewDb(new CreateDatabaseConfig(RRD_DB_ID, Unit.NONE, power.toString(),
+				START.getEpochSecond() - 1, factory, null));
+		final var energyDb = version3.createNewDb(new CreateDatabaseConfig(RRD_DB_ID, Unit.CUMULATED_WATT_HOURS,
+				energy.toString(), START.getEpochSecond() - 1, factory, null));
+		for (var i = 0; i < DAYS * 24 * 12; i++) {
+			final var timestamp = START.plus(5 * i, ChronoUnit.MINUTES).getEpochSecond();
+			powerDb.createSample(timestamp).setValues(i % 100 * 30).update();
+			energyDb.createSample(timestamp).setValues(i * 25).update();
+		}
+
+		final var readHandler = new Rrd4jReadHandler();
+		final var dcm = new DummyComponentManager();
+		dcm.addComponent(component);
+		final var rrd4jSupplier = new Rrd4jSupplier(factory, (t, u) -> t.toString());
+		final var versionHandler = new VersionHandler();
+		versionHandler.bindVersion(version3);
+		setAttributeViaReflection(readHandler, "componentManager", dcm);
+		setAttributeViaReflection(readHandler, "rrd4jSupplier", rrd4jSupplier);
+		setAttributeViaReflection(rrd4jSupplier, "versionHandler", versionHandler);
+
+		final var channels = Set.of(power, energy);
+		final var from = START.atZone(ZoneId.of("UTC"));
+		final var to = from.plusDays(DAYS);
+		final var resolution = new Resolution(1, ChronoUnit.DAYS);
+
+		// Warm-up
+		for (var i = 0; i < ITERATIONS / 2; i++) {
+			queryPerRange(readHandler, from, to, channels, resolution);
+			readHandler.queryHistoricEnergyPerPeriod(RRD_DB_ID, from, to, channels, resolution, false);
+		}
+
+		var startTime = System.currentTimeMillis();
+		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> expected = null;
+		for (var i = 0; i < ITERATIONS; i++) {
+			expected = queryPerRange(readHandler, from, to, channels, resolution);
+		}
+		System.out.println("Query per period: " + ITERATIONS + " queries took "
+				+ (System.currentTimeMillis() - startTime) + " ms");
+
+		startTime = System.currentTimeMillis();
+		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> actual = null;
+		for (var i = 0; i < ITERATIONS; i++) {
+			actual = readHandler.queryHistoricEnergyPerPeriod(RRD_DB_ID, from, to, channels, resolution, false);
+		}
+		System.out.println("Single-pass query: " + ITERATIONS + " queries took "
+				+ (System.currentTimeMillis() - startTime) + " ms");
+
+		System.out.println("Identical results: " + expected.equals(actual));
+	}
+
+	private static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryPerRange(
+			Rrd4jReadHandler readHandler, ZonedDateTime from, ZonedDateTime to, Set<ChannelAddress> channels,
+			Resolution resolution) {
+		final var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		Rrd4jReadHandler.streamRanges(from, to, resolution).forEach(range -> {
+			try {
+				result.put(range.from(),
+						readHandler.queryHistoricEnergy(RRD_DB_ID, range.from(), range.to(), channels, false));
+			} catch (OpenemsNamedException e) {
+				result.put(range.from(), new TreeMap<>());
+			}
+		});
+		return result;
+	}
+
+}
@@ -10,6 +10,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -21,6 +22,7 @@ import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdMemoryBackendFactory;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.channel.Unit;
@@ -178,6 +180,43 @@ public class Rrd4jReadHandlerTest {
 		assertEquals(new Rrd4jReadHandler.Range(ZonedDateTime.of(2024, 3, 1, 0, 0, 0, 0, utc), to), result.get(3));
 	}
 
+	@Test
+	public void testQueryHistoricEnergyPerPeriod() throws Exception {
+		final var utc = ZoneId.of("UTC");
+		final var channels = Set.of(this.dummyComponent.channel(DummyComponent.ChannelId.DUMMY_CHANNEL).address(),
+				new ChannelAddress("comp0", "NotExisting"));
+		for (var resolution : List.of(new Resolution(5, ChronoUnit.MINUTES), new Resolution(15, ChronoUnit.MINUTES),
+				new Resolution(1, ChronoUnit.HOURS), new Resolution(1, ChronoUnit.DAYS))) {
+			// Range starts before and ends after the available data
+			final var from = START.minus(2, ChronoUnit.HOURS).atZone(utc);
+			final var to = START.plus(14, ChronoUnit.HOURS).atZone(utc);
+
+			final var expected = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+			Rrd4jReadHandler.streamRanges(from, to, resolution).forEach(range -> {
+				SortedMap<ChannelAddress, JsonElement> energy;
+				try {
+					energy = this.readHandler.queryHistoricEnergy(this.rrdbId, range.from(), range.to(), channels,
+							false);
+				} catch (OpenemsNamedException e) {
+					energy = new TreeMap<>();
+					for (var channel : channels) {
+						energy.put(channel, JsonNull.INSTANCE);
+					}
+				}
+				expected.put(range.from(), energy);
+			});
+
+			assertEquals(resolution.toString(), expected,
+					this.readHandler.queryHistoricEnergyPerPeriod(this.rrdbId, from, to, channels, resolution, false));
+		}
+
+		final var result = this.readHandler.queryHistoricEnergyPerPeriod(this.rrdbId, START.atZone(utc),
+				START.plus(3, ChronoUnit.HOURS).atZone(utc), channels, new Resolution(1, ChronoUnit.HOURS), false);
+		final var address = this.dummyComponent.channel(DummyComponent.ChannelId.DUMMY_CHANNEL).address();
+		assertEquals(new JsonPrimitive(1100.0), result.get(START.atZone(utc)).get(address));
+		assertEquals(new JsonPrimitive(1200.0), result.get(START.plus(1, ChronoUnit.HOURS).atZone(utc)).get(address));
+	}
+
 	private SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> query(Resolution resolution)
 			throws IllegalArgumentException, OpenemsNamedException {
 		return this.readHandler.queryHistoricData(this.rrdbId, //
@@ -199,10 +238,12 @@ public class Rrd4jReadHandlerTest {
 				}, (t, u) -> u, TreeMap::new));
 	}
 
-	private class DummyComponent extends AbstractDummyOpenemsComponent<DummyComponent> implements OpenemsComponent {
+	static class DummyComponent extends AbstractDummyOpenemsComponent<DummyComponent> implements OpenemsComponent {
 
 		public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
-			DUMMY_CHANNEL(Doc.of(OpenemsType.INTEGER)); //
+			DUMMY_CHANNEL(Doc.of(OpenemsType.INTEGER)), //
+			DUMMY_ENERGY(Doc.of(OpenemsType.LONG) //
+					.unit(Unit.CUMULATED_WATT_HOURS)); //
 
 			private final Doc doc;
 
@@ -0,0 +1,129 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.DsDef;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import io.openems.edge.timedata.rrd4j.Rrd4jSupplier.KeyLock;
+
+public class RrdDbCacheTest {
+
+	private static RrdDb createRrdDb(String path) throws IOException {
+		final var rrdDef = new RrdDef(path, 0, Rrd4jConstants.DEFAULT_STEP_SECONDS);
+		rrdDef.addDatasource(new DsDef(Rrd4jConstants.DEFAULT_DATASOURCE_NAME, DsType.GAUGE,
+				Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS, Double.NaN, Double.NaN));
+		rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 10);
+		return RrdDb.getBuilder() //
+				.setBackendFactory(new RrdMemoryBackendFactory()) //
+				.setRrdDef(rrdDef) //
+				.build();
+	}
+
+	@Test
+	public void testDisabled() throws IOException {
+		final var cache = new RrdDbCache(new KeyLock());
+		final var db = createRrdDb("a");
+		try (var handle = cache.get("a", () -> db)) {
+			assertSame(db, handle.db());
+		}
+		assertTrue(db.isClosed());
+		assertEquals(0, cache.getOpenHandles());
+		assertNull(cache.get("b", () -> null));
+	}
+
+	@Test
+	public void testEviction() throws IOException {
+		final var cache = new RrdDbCache(new KeyLock());
+		cache.setMaxSize(1);
+		assertNull(cache.getHitRate());
+
+		final var a = createRrdDb("a");
+		final var b = createRrdDb("b");
+		cache.get("a", () -> a).close();
+		assertFalse(a.isClosed());
+
+		// Hit
+		final var handleA = cache.get("a", () -> {
+			throw new IOException("must not be opened again");
+		});
+		assertSame(a, handleA.db());
+		assertEquals(50, (int) cache.getHitRate());
+
+		// Leased entries are not evicted
+		final var handleB = cache.get("b", () -> b);
+		assertEquals(2, cache.getOpenHandles());
+		assertFalse(a.isClosed());
+		handleB.close();
+		handleB.close(); // closing twice is ignored
+		assertEquals(1, cache.getOpenHandles());
+		assertTrue(b.isClosed());
+
+		// Evicted on clear after last lease is released
+		cache.clear();
+		assertFalse(a.isClosed());
+		handleA.close();
+		assertTrue(a.isClosed());
+		assertEquals(0, cache.getOpenHandles());
+	}
+
+	@Test
+	public void testConcurrentReadWrite() throws Exception {
+		final var cache = new RrdDbCache(new KeyLock());
+		cache.setMaxSize(1);
+		final var db = createRrdDb("a");
+		final var active = new AtomicInteger();
+		final var maxActive = new AtomicInteger();
+		final var errors = new ConcurrentLinkedQueue<Throwable>();
+
+		final var writer = new Thread(() -> {
+			for (var i = 1; i <= 200; i++) {
+				try (var handle = cache.get("a", () -> db)) {
+					maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+					handle.db().createSample(i * Rrd4jConstants.DEFAULT_STEP_SECONDS).setValue(0, i).update();
+					active.decrementAndGet();
+				} catch (Throwable e) {
+					errors.add(e);
+				}
+			}
+		});
+		final var reader = new Thread(() -> {
+			for (var i = 0; i < 200; i++) {
+				try (var handle = cache.get("a", () -> db)) {
+					maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+					handle.db().getDatasource(0).getLastValue();
+					handle.db().getLastUpdateTime();
+					active.decrementAndGet();
+				} catch (Throwable e) {
+					errors.add(e);
+				}
+			}
+		});
+		writer.start();
+		reader.start();
+		writer.join();
+		reader.join();
+
+		assertTrue(errors.isEmpty());
+		// Leases are exclusive
+		assertEquals(1, maxActive.get());
+		assertFalse(db.isClosed());
+		try (var handle = cache.get("a", () -> db)) {
+			assertEquals(200, handle.db().getDatasource(0).getLastValue(), 0.001);
+		}
+	}
+
+}
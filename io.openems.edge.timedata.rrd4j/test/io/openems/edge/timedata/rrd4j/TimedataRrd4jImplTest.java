@@ -19,6 +19,7 @@ import org.rrd4j.core.RrdMemoryBackendFactory;
 import io.openems.edge.common.test.AbstractComponentTest.TestCase;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyCycle;
 
 public class TimedataRrd4jImplTest {
 
@@ -28,9 +29,12 @@ public class TimedataRrd4jImplTest {
 		new ComponentTest(new TimedataRrd4jImpl()) //
 				.addReference("workerFactory", new DummyRecordWorkerFactory(componentManager)) //
 				.addReference("readHandler", new Rrd4jReadHandler()) //
+				.addReference("rrd4jSupplier", new Rrd4jSupplier(new RrdMemoryBackendFactory(), (t, u) -> null)) //
+				.addReference("cycle", new DummyCycle(1000)) //
 				.activate(MyConfig.create() //
 						.setId("rrd4j0") //
 						.setPersistencePriority(MEDIUM) //
+						.setOpenHandleCacheSize(10) //
 						.build()) //
 				.next(new TestCase()) //
 		;
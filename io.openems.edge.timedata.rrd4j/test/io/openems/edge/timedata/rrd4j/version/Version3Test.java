@@ -43,11 +43,27 @@ public class Version3Test {
 	 * @return the dummy version
 	 */
 	public static Version3 createDummyVersion3() {
+		return createDummyVersion3(//
+				24, // 1 steps (60 minutes), 24 rows (1 day)
+				144 // 1 step (5 minutes), 144 rows (1/2 day)
+		);
+	}
+
+	/**
+	 * Creates a dummy {@link Version3} with the given number of rows.
+	 * 
+	 * @param numberOfRowsCumulatedValues     the number of rows for cumulated
+	 *                                        values
+	 * @param numberOfRowsAverageMinuteValues the number of rows for average
+	 *                                        values
+	 * @return the dummy version
+	 */
+	public static Version3 createDummyVersion3(int numberOfRowsCumulatedValues,
+			int numberOfRowsAverageMinuteValues) {
 		return new Version3(VersionTest.createDummyVersionComponentContext(3), //
-				new Version3.StaticConfigurationConstants(// s
-						24, // 1 steps (60 minutes), 24 rows (1 day)
-						144 // 1 step (5 minutes), 144 rows (1/2 day)
-				));
+				new Version3.StaticConfigurationConstants(//
+						numberOfRowsCumulatedValues, //
+						numberOfRowsAverageMinuteValues));
 	}
 
 	private RrdBackendFactory factory;